@@ -66,3 +66,25 @@ tasks.withType<Test> {
 	useJUnitPlatform()
 	systemProperty("user.timezone", "UTC")
 }
+
+// 벤치마크는 일반 테스트에서 제외하고 별도 태스크로 실행 (./gradlew benchmark)
+tasks.test {
+	useJUnitPlatform {
+		excludeTags("benchmark")
+	}
+}
+
+tasks.register<Test>("benchmark") {
+	description = "Runs @Tag(\"benchmark\") performance benchmarks."
+	group = "verification"
+	testClassesDirs = sourceSets["test"].output.classesDirs
+	classpath = sourceSets["test"].runtimeClasspath
+	useJUnitPlatform {
+		includeTags("benchmark")
+	}
+	systemProperties(System.getProperties().filterKeys { it.toString().startsWith("benchmark.") }
+		.mapKeys { it.key.toString() })
+	testLogging {
+		showStandardStreams = true
+	}
+}
@@ -0,0 +1,32 @@
+-- 플랫폼 잔액 집계 샤드 테이블 (MySQL 8)
+--
+-- 잔액을 바꾸는 트랜잭션이 같은 트랜잭션에서 (metric, 임의 shard_id) 행에 변화량을 더한다.
+-- 지표: total_amount, account_count, min_balance:<기준 금액>
+-- 조회는 지표별 SUM(metric_value)만 읽고, balance.aggregate 재계산이 잔액 테이블과의 오차를 보정한다.
+
+CREATE TABLE balance_aggregate_shards (
+    metric       VARCHAR(40)    NOT NULL,
+    shard_id     INT            NOT NULL,
+    metric_value DECIMAL(20, 2) NOT NULL,
+    PRIMARY KEY (metric, shard_id)
+) ENGINE = InnoDB;
+
+-- 기존 데이터 초기 적재 (선택)
+-- 애플리케이션은 시작 직후 재계산으로 모든 지표를 채우고 완료 표시('recomputed')를 남기며,
+-- 그 전까지는 잔액 테이블을 직접 집계한다. 이 적재는 첫 재계산의 보정 폭을 줄이는 용도이므로 완료 표시는 넣지 않는다.
+-- 기준 금액은 balance.aggregate.min-balance-thresholds 기본값 기준 (분할 모드 하위 행 포함)
+-- 분할 모드 계정(하위 행이 있는 계정)은 기준 금액별 계정 수를 조회 시점에 세므로 기준 금액 지표에서 제외한다
+INSERT INTO balance_aggregate_shards (metric, shard_id, metric_value)
+WITH totals AS (
+    SELECT b.amount + COALESCE(s.amount, 0) AS amount, s.user_id IS NOT NULL AS striped
+    FROM balance b
+    LEFT JOIN (SELECT user_id, SUM(amount) AS amount FROM balance_stripes GROUP BY user_id) s
+        ON s.user_id = b.user_id
+)
+SELECT 'total_amount', 0, COALESCE(SUM(amount), 0) FROM totals
+UNION ALL SELECT 'account_count', 0, COUNT(*) FROM totals
+UNION ALL SELECT 'min_balance:10000', 0, COUNT(*) FROM totals WHERE NOT striped AND amount >= 10000
+UNION ALL SELECT 'min_balance:50000', 0, COUNT(*) FROM totals WHERE NOT striped AND amount >= 50000
+UNION ALL SELECT 'min_balance:100000', 0, COUNT(*) FROM totals WHERE NOT striped AND amount >= 100000
+UNION ALL SELECT 'min_balance:500000', 0, COUNT(*) FROM totals WHERE NOT striped AND amount >= 500000
+UNION ALL SELECT 'min_balance:1000000', 0, COUNT(*) FROM totals WHERE NOT striped AND amount >= 1000000;
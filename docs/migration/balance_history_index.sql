@@ -0,0 +1,8 @@
+-- 잔액 거래 내역 키셋 조회 인덱스 (MySQL 8)
+--
+-- GET /api/users/{userId}/balance/transactions 는 (created_at, transaction_id) 커서 이후의 내역을
+-- 최신순으로 limit 건만 읽는다. 거래 ID까지 같은 방향으로 포함해야 같은 시각의 거래도 파일 정렬 없이
+-- 인덱스 순서 그대로 읽는다. (InnoDB 보조 인덱스에 암묵적으로 붙는 PK는 오름차순이므로 명시)
+
+CREATE INDEX idx_balance_tx_user_created
+    ON balance_transactions (user_id, created_at DESC, transaction_id DESC);
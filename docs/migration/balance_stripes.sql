@@ -0,0 +1,21 @@
+-- 분할 잔액 하위 행 테이블 (MySQL 8)
+--
+-- balance.striping.accounts에 설정한 계정만 사용한다. 사용자 잔액 = balance.amount + SUM(balance_stripes.amount)
+-- 충전/환불: 하위 행 하나에 INSERT ... ON DUPLICATE KEY UPDATE (해당 행만 잠금)
+-- 차감: 하위 행 하나에 UPDATE ... WHERE amount >= ?, 부족하면 잔액 행 → 하위 행(stripe_id 순) 잠금 후 병합
+
+CREATE TABLE balance_stripes (
+    user_id    VARCHAR(50)    NOT NULL,
+    stripe_id  INT            NOT NULL,
+    amount     DECIMAL(15, 2) NOT NULL,
+    updated_at DATETIME(6)    NOT NULL,
+    PRIMARY KEY (user_id, stripe_id)
+) ENGINE = InnoDB;
+
+-- 분할 모드에서 빼는 계정의 하위 행 잔액을 잔액 행으로 옮기기 (설정에서 빼기 전 실행)
+-- START TRANSACTION;
+-- SELECT amount FROM balance WHERE user_id = ? FOR UPDATE;
+-- UPDATE balance SET amount = amount + (SELECT COALESCE(SUM(amount), 0) FROM balance_stripes WHERE user_id = ?),
+--        version = version + 1, updated_at = NOW(6) WHERE user_id = ?;
+-- DELETE FROM balance_stripes WHERE user_id = ?;
+-- COMMIT;
@@ -0,0 +1,18 @@
+-- 잔액 거래 내역 스테이징 테이블 (MySQL 8)
+--
+-- 충전/결제/환불 트랜잭션은 거래 내역을 이 테이블에 추가하고 커밋한다. (잔액 변경과 같은 트랜잭션)
+-- 압축기(balance.ledger.compaction)가 staging_id 순서로 배치를 잠그고(SKIP LOCKED)
+-- balance_transactions로 INSERT ... SELECT 한 뒤 같은 트랜잭션에서 삭제한다.
+-- 사용자별 거래 내역 조회는 원장과 이 테이블을 함께 읽는다.
+
+CREATE TABLE balance_transaction_staging (
+    staging_id       BIGINT         NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    transaction_id   BINARY(16)     NOT NULL,
+    user_id          VARCHAR(50)    NOT NULL,
+    transaction_type VARCHAR(20)    NOT NULL,
+    amount           DECIMAL(15, 2) NOT NULL,
+    balance_after    DECIMAL(15, 2) NOT NULL,
+    description      VARCHAR(500)   NULL,
+    created_at       DATETIME(6)    NOT NULL,
+    INDEX idx_balance_staging_user (user_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,8 @@
+-- 잔액 버전 컬럼 (MySQL 8)
+--
+-- 잔액이 바뀔 때마다 1씩 증가한다. (엔티티 변경, 원자적 차감/추가 UPDATE 모두)
+-- Redis 잔액 캐시(balance:cache:{userId})는 이 값이 저장된 값보다 클 때만 기록하여,
+-- 늦게 도착한 이전 커밋의 값이 최신 값을 덮어쓰지 않도록 한다.
+
+ALTER TABLE balance
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+-- 예약 가능 콘서트 목록 키셋 페이지네이션용 인덱스 (MySQL 8)
+--
+-- 목록 조회는 (concert_date, concert_time, concert_id) 순서로 커서 이후 행만 읽으므로
+-- 정렬 키와 같은 순서의 복합 인덱스로 범위 스캔 후 LIMIT 건에서 멈춘다. (filesort, COUNT 없음)
+
+CREATE INDEX idx_concert_date_time_id ON concerts (concert_date, concert_time, concert_id);
@@ -0,0 +1,6 @@
+-- 만료 예약 일괄 해제용 인덱스 (MySQL 8)
+--
+-- 만료 스케줄러는 status = 'TEMPORARILY_ASSIGNED' AND expires_at < UTC_TIMESTAMP(6) 조건으로
+-- 만료 시각 순 청크를 잠그므로(FOR UPDATE SKIP LOCKED) 인덱스 범위 스캔으로 필요한 행만 읽는다.
+
+CREATE INDEX idx_reservation_status_expires_at ON reservations (status, expires_at);
@@ -0,0 +1,22 @@
+-- 종료 예약 보관 테이블 (MySQL 8, InnoDB 압축 행 형식)
+--
+-- 만료/취소 후 보관 기간(reservation.archive.retention-days)이 지난 예약은 아카이버가 배치 단위로
+-- 이 테이블로 옮기고 운영 테이블(reservations)에서 삭제한다.
+-- 조회(findById, 사용자별 목록, 콘서트별 상태 집계, 첫 예약 시각)는 운영 테이블에 없으면 이 테이블을 함께 조회한다.
+-- 좌석 번호는 보관 시점에 기록하므로 좌석 테이블 조인 없이 예약 상태를 조회할 수 있다.
+
+CREATE TABLE reservations_archive (
+    reservation_id BINARY(16)     NOT NULL PRIMARY KEY,
+    user_id        VARCHAR(50)    NOT NULL,
+    concert_id     BIGINT         NOT NULL,
+    seat_id        BIGINT         NOT NULL,
+    seat_number    INT            NULL,
+    status         VARCHAR(20)    NOT NULL,
+    price          DECIMAL(10, 2) NOT NULL,
+    created_at     DATETIME(6)    NOT NULL,
+    expires_at     DATETIME(6)    NOT NULL,
+    confirmed_at   DATETIME(6)    NULL,
+    archived_at    DATETIME(6)    NOT NULL,
+    INDEX idx_reservation_archive_user (user_id),
+    INDEX idx_reservation_archive_concert_status (concert_id, status)
+) ENGINE = InnoDB ROW_FORMAT = COMPRESSED KEY_BLOCK_SIZE = 8;
@@ -0,0 +1,6 @@
+-- 구역 좌석 배치도 페이지 조회 인덱스 (MySQL 8)
+--
+-- 구역 좌석을 좌석 번호 키셋(seat_number >= ? ORDER BY seat_number LIMIT ?)으로 한 페이지씩 읽는다.
+-- 기본 구역 하나에 모든 좌석이 들어가는 공연장도 페이지 크기만큼만 인덱스 범위를 읽는다.
+
+CREATE INDEX idx_seat_concert_section_number ON seats (concert_id, section, seat_number);
@@ -0,0 +1,10 @@
+-- 좌석 구역(section)/열(seat_row) 추가 마이그레이션 (MySQL 8)
+--
+-- 기존 좌석은 기본 구역 'GENERAL'로 편입되며 좌석 번호(콘서트 내 유일)는 그대로 유지된다.
+-- 대규모 공연장은 구역 단위로 좌석 배치도/잔여석 집계/좌석 추천을 조회한다.
+
+ALTER TABLE seats
+    ADD COLUMN section VARCHAR(20) NOT NULL DEFAULT 'GENERAL' AFTER concert_id,
+    ADD COLUMN seat_row INT NULL AFTER section;
+
+CREATE INDEX idx_seat_concert_section_status ON seats (concert_id, section, status);
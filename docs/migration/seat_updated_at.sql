@@ -0,0 +1,9 @@
+-- 좌석 마지막 변경 시각(updated_at) 추가 마이그레이션 (MySQL 8)
+--
+-- Redis 잔여석 카운터 정합성 보정의 콘서트별 워터마크로 사용한다.
+-- 애플리케이션이 아닌 DB 시계로 기록되므로 벌크/조건부 UPDATE와 노드 간 시계 차이에도 안전하다.
+
+ALTER TABLE seats
+    ADD COLUMN updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+
+CREATE INDEX idx_seat_concert_updated_at ON seats (concert_id, updated_at);
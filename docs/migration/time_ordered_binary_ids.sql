@@ -0,0 +1,48 @@
+-- 예약/결제/잔액 거래 ID: VARCHAR(36) → BINARY(16) 마이그레이션 (MySQL 8)
+--
+-- 애플리케이션은 새 ID를 UUIDv7(시간 순서)로 생성하고 BINARY(16)으로 저장한다.
+-- 기존 랜덤 UUID(v4)는 같은 16바이트로 변환되어 그대로 조회 가능하며, API 문자열 형식도 동일하다.
+-- UUID_TO_BIN(x)는 swap 플래그 없이 사용한다 (애플리케이션의 바이트 순서와 동일: 상위 비트 → 하위 비트).
+--
+-- 순서: 1) 점검 창 또는 쓰기 중지 → 2) 아래 스크립트 실행 → 3) 새 버전 배포
+-- 대용량 테이블은 pt-online-schema-change / gh-ost 로 2~3단계를 온라인 수행하는 것을 권장한다.
+
+-- 1. 형식 검증 (0건이어야 함)
+SELECT COUNT(*) FROM reservations WHERE IS_UUID(reservation_id) = 0;
+SELECT COUNT(*) FROM payments WHERE IS_UUID(payment_id) = 0 OR IS_UUID(reservation_id) = 0;
+SELECT COUNT(*) FROM balance_transactions WHERE IS_UUID(transaction_id) = 0;
+
+-- 2. 예약
+ALTER TABLE reservations ADD COLUMN reservation_id_bin BINARY(16) NULL;
+UPDATE reservations SET reservation_id_bin = UUID_TO_BIN(reservation_id);
+ALTER TABLE reservations
+    DROP PRIMARY KEY,
+    DROP COLUMN reservation_id,
+    CHANGE COLUMN reservation_id_bin reservation_id BINARY(16) NOT NULL,
+    ADD PRIMARY KEY (reservation_id);
+
+-- 3. 결제 (PK + 예약 참조 컬럼)
+ALTER TABLE payments
+    ADD COLUMN payment_id_bin BINARY(16) NULL,
+    ADD COLUMN reservation_id_bin BINARY(16) NULL;
+UPDATE payments
+SET payment_id_bin     = UUID_TO_BIN(payment_id),
+    reservation_id_bin = UUID_TO_BIN(reservation_id);
+ALTER TABLE payments
+    DROP PRIMARY KEY,
+    DROP COLUMN payment_id,
+    DROP COLUMN reservation_id,
+    CHANGE COLUMN payment_id_bin payment_id BINARY(16) NOT NULL,
+    CHANGE COLUMN reservation_id_bin reservation_id BINARY(16) NOT NULL,
+    ADD PRIMARY KEY (payment_id);
+
+-- 4. 잔액 거래
+ALTER TABLE balance_transactions ADD COLUMN transaction_id_bin BINARY(16) NULL;
+UPDATE balance_transactions SET transaction_id_bin = UUID_TO_BIN(transaction_id);
+ALTER TABLE balance_transactions
+    DROP PRIMARY KEY,
+    DROP COLUMN transaction_id,
+    CHANGE COLUMN transaction_id_bin transaction_id BINARY(16) NOT NULL,
+    ADD PRIMARY KEY (transaction_id);
+
+-- 수동 조회 시: SELECT BIN_TO_UUID(reservation_id) AS reservation_id, ... FROM reservations;
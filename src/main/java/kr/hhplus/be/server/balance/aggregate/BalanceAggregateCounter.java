@@ -0,0 +1,213 @@
+package kr.hhplus.be.server.balance.aggregate;
+
+import kr.hhplus.be.server.balance.repository.BalanceAggregateRepository;
+import kr.hhplus.be.server.balance.stripe.StripedBalanceAccounts;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 플랫폼 잔액 집계 카운터 (총 잔액, 계정 수, 기준 금액 이상 계정 수)
+ *
+ * 잔액을 바꾸는 트랜잭션 안에서 변화량을 임의의 샤드 행에 더하므로, 집계는 잔액 변경과 함께 커밋/롤백되고
+ * 한 행에 쓰기가 몰리지 않는다. 조회는 샤드 합계만 읽으므로 잔액 테이블 크기와 무관하다.
+ * 기준 금액 이상 계정 수는 설정한 기준 금액에 대해서만 유지하며, 그 밖의 금액은 호출자가 직접 센다.
+ * 분할 모드 계정은 총 잔액 변화량만 기록하고, 기준 금액 이상 여부는 조회 시점에 설정 계정을 직접 세어 더한다.
+ * (하위 행별 동시 변경은 서로의 변경을 보지 못해 기준 금액 통과를 중복 기록할 수 있음)
+ *
+ * 잔액을 이 경로 밖에서 바꾼 경우(직접 SQL, 테스트 데이터 등)의 오차는 주기적 재계산으로 보정한다.
+ *
+ * 집계 테이블은 비어 있는 상태로 만들어지므로(기존 잔액 미반영) 재계산이 한 번 성공해 완료 표시를 남기기 전까지는
+ * 조회가 empty를 반환해 호출자가 잔액 테이블을 직접 집계하도록 한다. 변화량 기록은 그 전에도 계속한다.
+ */
+@Component
+public class BalanceAggregateCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceAggregateCounter.class);
+
+    static final String TOTAL_AMOUNT = "total_amount";
+    static final String ACCOUNT_COUNT = "account_count";
+    private static final String MIN_BALANCE_PREFIX = "min_balance:";
+
+    private final BalanceAggregateRepository balanceAggregateRepository;
+    private final StripedBalanceAccounts stripedBalanceAccounts;
+    private final TransactionTemplate snapshotTransaction;
+    private final boolean enabled;
+    private final int shards;
+    private final List<BigDecimal> thresholds;
+
+    // 재계산 완료 표시를 확인한 뒤에는 다시 조회하지 않음
+    private volatile boolean seeded;
+
+    public BalanceAggregateCounter(BalanceAggregateRepository balanceAggregateRepository,
+                                   StripedBalanceAccounts stripedBalanceAccounts,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${balance.aggregate.enabled:true}") boolean enabled,
+                                   @Value("${balance.aggregate.shards:16}") int shards,
+                                   @Value("${balance.aggregate.min-balance-thresholds:10000,50000,100000,500000,1000000}")
+                                   List<BigDecimal> thresholds) {
+        this.balanceAggregateRepository = balanceAggregateRepository;
+        this.stripedBalanceAccounts = stripedBalanceAccounts;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.enabled = enabled;
+        this.shards = Math.max(1, shards);
+        this.thresholds = thresholds.stream().distinct().sorted().toList();
+    }
+
+    /**
+     * 새 잔액 계정 반영 (잔액 변경 트랜잭션 안에서 호출)
+     */
+    public void recordCreated(BigDecimal amount) {
+        if (!enabled) {
+            return;
+        }
+        Map<String, BigDecimal> deltas = new HashMap<>();
+        deltas.put(ACCOUNT_COUNT, BigDecimal.ONE);
+        addIfNonZero(deltas, TOTAL_AMOUNT, amount);
+        for (BigDecimal threshold : thresholds) {
+            if (amount.compareTo(threshold) >= 0) {
+                deltas.put(metricFor(threshold), BigDecimal.ONE);
+            }
+        }
+        balanceAggregateRepository.increment(pickShard(), deltas);
+    }
+
+    /**
+     * 기존 계정의 잔액 변경 반영 (잔액 변경 트랜잭션 안에서 호출)
+     */
+    public void recordChange(BigDecimal before, BigDecimal after) {
+        if (!enabled) {
+            return;
+        }
+        Map<String, BigDecimal> deltas = new HashMap<>();
+        addIfNonZero(deltas, TOTAL_AMOUNT, after.subtract(before));
+        for (BigDecimal threshold : thresholds) {
+            boolean wasAbove = before.compareTo(threshold) >= 0;
+            boolean isAbove = after.compareTo(threshold) >= 0;
+            if (wasAbove != isAbove) {
+                deltas.put(metricFor(threshold), isAbove ? BigDecimal.ONE : BigDecimal.ONE.negate());
+            }
+        }
+        balanceAggregateRepository.increment(pickShard(), deltas);
+    }
+
+    /**
+     * 분할 모드 계정의 잔액 변경 반영 - 총 잔액 변화량만 기록 (잔액 변경 트랜잭션 안에서 호출)
+     */
+    public void recordAmountChange(BigDecimal delta) {
+        if (!enabled || delta.signum() == 0) {
+            return;
+        }
+        balanceAggregateRepository.increment(pickShard(), Map.of(TOTAL_AMOUNT, delta));
+    }
+
+    /**
+     * @return 전체 잔액 합계 (집계 비활성화/재계산 전이면 empty)
+     */
+    public Optional<BigDecimal> getTotalAmount() {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        return Optional.of(balanceAggregateRepository.sum(TOTAL_AMOUNT));
+    }
+
+    /**
+     * @return 기준 금액 이상 계정 수 (유지하지 않는 기준 금액이거나 집계 비활성화/재계산 전이면 empty)
+     */
+    public Optional<Long> countAccountsWithMin(BigDecimal minAmount) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        if (minAmount.compareTo(BigDecimal.ZERO) <= 0) {
+            return Optional.of(balanceAggregateRepository.sum(ACCOUNT_COUNT).longValue());
+        }
+        return thresholds.stream()
+                .filter(threshold -> threshold.compareTo(minAmount) == 0)
+                .findFirst()
+                .map(threshold -> balanceAggregateRepository.sum(metricFor(threshold)).longValue()
+                        + stripedBalanceAccounts.countWithMin(threshold));
+    }
+
+    /**
+     * 잔액 테이블 기준으로 재계산해 오차를 보정
+     *
+     * 잔액과 집계는 같은 트랜잭션에서 바뀌므로, 한 스냅샷(REPEATABLE READ)에서 함께 읽으면 진행 중인 변경과
+     * 무관하게 정확히 비교할 수 있다. 보정은 차이만큼 더하는 방식이라 그사이 커밋된 변경과 충돌하지 않는다.
+     * 여러 노드가 동시에 보정하면 차이가 중복 반영되므로 호출자가 리더 락을 잡고 한 노드에서만 실행해야 한다.
+     * 보정 후 완료 표시를 남겨 모든 노드가 집계 조회를 시작한다.
+     *
+     * @return 보정한 지표 수
+     */
+    public int recompute() {
+        if (!enabled) {
+            return 0;
+        }
+
+        Map<String, BigDecimal> drift = snapshotTransaction.execute(status -> {
+            Map<String, BigDecimal> counted = balanceAggregateRepository.sumByMetric();
+            List<BigDecimal> actual = balanceAggregateRepository.computeFromBalances(
+                    thresholds, stripedBalanceAccounts.stripedAccounts());
+
+            Map<String, BigDecimal> expected = new HashMap<>();
+            expected.put(TOTAL_AMOUNT, actual.get(0));
+            expected.put(ACCOUNT_COUNT, actual.get(1));
+            for (int i = 0; i < thresholds.size(); i++) {
+                expected.put(metricFor(thresholds.get(i)), actual.get(i + 2));
+            }
+
+            Map<String, BigDecimal> differences = new HashMap<>();
+            expected.forEach((metric, value) ->
+                    addIfNonZero(differences, metric, value.subtract(counted.getOrDefault(metric, BigDecimal.ZERO))));
+            return differences;
+        });
+
+        int corrected = 0;
+        if (drift != null && !drift.isEmpty()) {
+            log.warn("잔액 집계 오차 보정: drift={}", drift);
+            balanceAggregateRepository.increment(0, drift);
+            corrected = drift.size();
+        }
+        if (!seeded) {
+            balanceAggregateRepository.markRecomputed();
+            seeded = true;
+        }
+        return corrected;
+    }
+
+    private boolean isReady() {
+        if (!enabled) {
+            return false;
+        }
+        if (!seeded && balanceAggregateRepository.isRecomputed()) {
+            seeded = true;
+        }
+        return seeded;
+    }
+
+    private int pickShard() {
+        return ThreadLocalRandom.current().nextInt(shards);
+    }
+
+    private static String metricFor(BigDecimal threshold) {
+        return MIN_BALANCE_PREFIX + threshold.stripTrailingZeros().toPlainString();
+    }
+
+    private static void addIfNonZero(Map<String, BigDecimal> deltas, String metric, BigDecimal delta) {
+        if (delta.signum() != 0) {
+            deltas.put(metric, delta);
+        }
+    }
+}
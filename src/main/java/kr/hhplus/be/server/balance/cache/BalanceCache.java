@@ -0,0 +1,130 @@
+package kr.hhplus.be.server.balance.cache;
+
+import kr.hhplus.be.server.balance.dto.BalanceSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis 잔액 캐시 (write-through, 버전 기준)
+ *
+ * - balance:cache:{userId} = Hash { amount, version, updatedAt }
+ * - 충전/차감/환불은 커밋 직후 새 잔액을 기록하고, 조회 미스는 DB 스냅샷으로 채운다
+ * - 기록은 저장된 버전보다 클 때만 반영(Lua)하므로, 늦게 도착한 이전 커밋이나 미스 채우기가 최신 값을 덮어쓰지 않는다
+ *
+ * 캐시는 조회/사전 확인 전용이며 실제 차감 판단은 항상 DB 조건부 UPDATE가 한다.
+ * Redis 장애 시 조회는 DB로 대체되고, 기록에 실패한 항목은 TTL 안에서만 이전 값으로 남는다.
+ */
+@Component
+public class BalanceCache {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceCache.class);
+
+    private static final String KEY_PREFIX = "balance:cache:";
+    private static final String AMOUNT = "amount";
+    private static final String VERSION = "version";
+    private static final String UPDATED_AT = "updatedAt";
+
+    // 저장된 버전보다 클 때만 기록
+    private static final RedisScript<Long> PUT_IF_NEWER_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('hget', KEYS[1], 'version') " +
+                    "if current and tonumber(current) >= tonumber(ARGV[1]) then return 0 end " +
+                    "redis.call('hset', KEYS[1], 'version', ARGV[1], 'amount', ARGV[2], 'updatedAt', ARGV[3]) " +
+                    "redis.call('pexpire', KEYS[1], ARGV[4]) return 1", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final Duration ttl;
+
+    public BalanceCache(RedisTemplate<String, String> redisTemplate,
+                        @Value("${balance.cache.enabled:true}") boolean enabled,
+                        @Value("${balance.cache.ttl-seconds:3600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * @return 캐시된 잔액 (없거나 Redis 장애, 캐시 비활성화 시 empty)
+     */
+    public Optional<BalanceSnapshot> get(String userId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            List<String> values = redisTemplate.<String, String>opsForHash()
+                    .multiGet(key(userId), List.of(AMOUNT, VERSION, UPDATED_AT));
+            if (values == null || values.contains(null)) {
+                return Optional.empty();
+            }
+            return Optional.of(new BalanceSnapshot(userId, new BigDecimal(values.get(0)),
+                    Long.parseLong(values.get(1)), LocalDateTime.parse(values.get(2))));
+        } catch (RuntimeException e) {
+            log.warn("잔액 캐시 조회 실패, DB 조회로 대체: userId={}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 잔액 기록 (저장된 버전보다 새로울 때만)
+     */
+    public void put(BalanceSnapshot snapshot) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.execute(PUT_IF_NEWER_SCRIPT, List.of(key(snapshot.userId())),
+                    String.valueOf(snapshot.version()),
+                    snapshot.amount().toPlainString(),
+                    String.valueOf(snapshot.updatedAt()),
+                    String.valueOf(ttl.toMillis()));
+        } catch (RuntimeException e) {
+            log.warn("잔액 캐시 기록 실패: userId={}, version={}", snapshot.userId(), snapshot.version(), e);
+            evict(snapshot.userId());
+        }
+    }
+
+    /**
+     * 잔액 변경 반영 - 트랜잭션 중이면 커밋 직후 기록 (롤백되면 기록하지 않음)
+     */
+    public void putAfterCommit(BalanceSnapshot snapshot) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(snapshot);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(snapshot);
+            }
+        });
+    }
+
+    private void evict(String userId) {
+        try {
+            redisTemplate.delete(key(userId));
+        } catch (RuntimeException e) {
+            // 삭제도 실패하면 TTL 경과 후 자연 만료됨
+            log.warn("잔액 캐시 삭제 실패: userId={}", userId, e);
+        }
+    }
+
+    private static String key(String userId) {
+        return KEY_PREFIX + userId;
+    }
+}
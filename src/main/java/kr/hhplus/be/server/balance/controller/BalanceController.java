@@ -1,19 +1,32 @@
 package kr.hhplus.be.server.balance.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import kr.hhplus.be.server.balance.command.BalanceChargeCommand;
 import kr.hhplus.be.server.balance.dto.BalanceChargeRequestDto;
+import kr.hhplus.be.server.balance.dto.BalanceHistoryPage;
 import kr.hhplus.be.server.balance.dto.BalanceResult;
 import kr.hhplus.be.server.balance.service.BalanceUseCase;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
 public class BalanceController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final BalanceUseCase balanceUseCase;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/{userId}/balance")
     public ResponseEntity<BalanceResult> chargeBalance(
@@ -31,4 +44,43 @@ public class BalanceController {
         BalanceResult result = balanceUseCase.getBalance(userId);
         return ResponseEntity.ok(result);
     }
+
+    /**
+     * 거래 내역 조회 (최신순 키셋 페이지)
+     * GET /api/users/{userId}/balance/transactions?cursor={nextCursor}&size=20
+     */
+    @GetMapping("/{userId}/balance/transactions")
+    public ResponseEntity<BalanceHistoryPage> getTransactionHistory(
+            @PathVariable String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(balanceUseCase.getTransactionHistory(userId, cursor, size));
+    }
+
+    /**
+     * 전체 거래 내역 내보내기 (NDJSON, 한 줄에 거래 한 건)
+     * 배치 단위로 읽으면서 바로 응답에 쓰므로 내역 전체를 메모리에 올리지 않는다.
+     */
+    @GetMapping("/{userId}/balance/transactions/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactionHistory(@PathVariable String userId) {
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(outputStream)) {
+                balanceUseCase.exportTransactionHistory(userId, transaction -> {
+                    try {
+                        writer.write(transaction);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("balance-transactions-" + userId + ".ndjson")
+                        .build()
+                        .toString())
+                .body(body);
+    }
 }
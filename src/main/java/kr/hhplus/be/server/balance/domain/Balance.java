@@ -25,6 +25,10 @@ public class Balance {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // 잔액이 바뀔 때마다 1씩 증가 (잔액 캐시가 늦게 도착한 이전 값으로 덮어쓰지 않도록 비교하는 기준)
+    @Column(nullable = false)
+    private long version;
+
     // 생성자
     public Balance(String userId, BigDecimal amount) {
         this.userId = userId;
@@ -43,6 +47,7 @@ public class Balance {
         validateChargeAmount(chargeAmount);
         this.amount = this.amount.add(chargeAmount);
         this.updatedAt = LocalDateTime.now();
+        this.version++;
     }
 
     /**
@@ -66,6 +71,7 @@ public class Balance {
         validateDeductAmount(deductAmount);
         this.amount = this.amount.subtract(deductAmount);
         this.updatedAt = LocalDateTime.now();
+        this.version++;
     }
 
 
@@ -105,7 +111,7 @@ public class Balance {
      *                                  최소/최대 충전 금액을 벗어나는 경우,
      *                                  1,000원 단위가 아닌 경우
      */
-    private void validateChargeAmount(BigDecimal amount) {
+    public static void validateChargeAmount(BigDecimal amount) {
         if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다.");
         }
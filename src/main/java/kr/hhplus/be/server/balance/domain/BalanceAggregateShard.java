@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.balance.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * 플랫폼 잔액 집계 샤드 (총 잔액, 계정 수, 기준 금액 이상 계정 수)
+ *
+ * 잔액 변경 트랜잭션이 임의의 샤드 행 하나에 변화량을 더하고, 조회는 지표별 샤드 합계로 계산한다.
+ * 행은 BalanceAggregateRepository가 SQL로만 갱신하며, 엔티티는 테이블 정의용이다.
+ */
+@Entity
+@Table(name = "balance_aggregate_shards")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BalanceAggregateShard {
+
+    @EmbeddedId
+    private ShardKey id;
+
+    @Column(name = "metric_value", nullable = false, precision = 20, scale = 2)
+    private BigDecimal metricValue;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class ShardKey implements Serializable {
+
+        @Column(name = "metric", length = 40)
+        private String metric;
+
+        @Column(name = "shard_id")
+        private Integer shardId;
+    }
+}
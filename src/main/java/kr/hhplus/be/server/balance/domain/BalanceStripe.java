@@ -0,0 +1,49 @@
+package kr.hhplus.be.server.balance.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 분할 잔액 하위 행 (분할 모드 계정 전용)
+ *
+ * 충전/환불은 임의로 고른 하위 행 하나에만 더하고, 차감은 하위 행 하나에서 조건부로 빼므로
+ * 한 사용자의 잔액 변경이 잔액 행 하나의 락에 몰리지 않는다. 사용자 잔액은 잔액 행과 하위 행의 합이다.
+ * 행은 BalanceStripeRepository가 SQL로만 갱신하며, 엔티티는 테이블 정의용이다.
+ */
+@Entity
+@Table(name = "balance_stripes")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BalanceStripe {
+
+    @EmbeddedId
+    private StripeKey id;
+
+    @Column(name = "amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class StripeKey implements Serializable {
+
+        @Column(name = "user_id", length = 50)
+        private String userId;
+
+        @Column(name = "stripe_id")
+        private Integer stripeId;
+    }
+}
@@ -1,5 +1,8 @@
 package kr.hhplus.be.server.balance.domain;
 
+import kr.hhplus.be.server.common.id.TimeOrderedIds;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -9,14 +12,19 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "balance_transactions")
+// 사용자별 최신순 키셋 조회 인덱스 (거래 ID까지 같은 방향으로 포함해야 동시각 거래도 파일 정렬 없이 인덱스 순서로 읽음)
+@Table(name = "balance_transactions",
+        indexes = @Index(name = "idx_balance_tx_user_created",
+                columnList = "user_id, created_at DESC, transaction_id DESC"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BalanceTransaction {
 
+    // 시간 순서 UUIDv7, BINARY(16) 저장 (API 경계에서는 문자열)
     @Id
-    @Column(name = "transaction_id", length = 36)
-    private String transactionId;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "transaction_id", columnDefinition = "BINARY(16)")
+    private UUID transactionId;
 
     @Column(name = "user_id", nullable = false, length = 50)
     private String userId;
@@ -41,9 +49,13 @@ public class BalanceTransaction {
         CHARGE, PAYMENT, REFUND
     }
 
+    public String getTransactionId() {
+        return transactionId == null ? null : transactionId.toString();
+    }
+
     /**
      * 잔액 거래 내역을 생성
-     * 거래 ID는 자동으로 UUID로 생성되며, 생성 시간은 현재 시간으로 설정
+     * 거래 ID는 자동으로 시간 순서 UUID(v7)로 생성되며, 생성 시간은 현재 시간으로 설정
      *
      * @param userId 사용자 ID (필수, 50자 이하)
      * @param transactionType 거래 유형 (필수)
@@ -56,7 +68,7 @@ public class BalanceTransaction {
                               BigDecimal balanceAfter, String description) {
         validateTransactionData(userId, transactionType, amount, balanceAfter, description);
 
-        this.transactionId = UUID.randomUUID().toString();
+        this.transactionId = TimeOrderedIds.newUuid();
         this.userId = userId;
         this.transactionType = transactionType;
         this.amount = amount;
@@ -65,6 +77,18 @@ public class BalanceTransaction {
         this.createdAt = LocalDateTime.now();
     }
 
+    // 스테이징에서 옮겨 오기 전 거래 내역 복원 (이미 검증된 값)
+    BalanceTransaction(UUID transactionId, String userId, TransactionType transactionType, BigDecimal amount,
+                       BigDecimal balanceAfter, String description, LocalDateTime createdAt) {
+        this.transactionId = transactionId;
+        this.userId = userId;
+        this.transactionType = transactionType;
+        this.amount = amount;
+        this.balanceAfter = balanceAfter;
+        this.description = description;
+        this.createdAt = createdAt;
+    }
+
     /**
      * 잔액 충전 거래를 생성
      *
@@ -0,0 +1,75 @@
+package kr.hhplus.be.server.balance.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 반영 대기 중인 잔액 거래 내역 (원장 스테이징)
+ *
+ * 충전/결제/환불 트랜잭션은 거래 내역을 이 테이블에 추가만 하고 커밋한다. (잔액 변경과 같은 트랜잭션이므로 내구성은 동일)
+ * 자동 증가 키에 순서대로 붙고 보조 인덱스는 사용자 ID 하나뿐이라, 요청마다 원장 테이블의 인덱스를 갱신하지 않는다.
+ * 압축기가 주기적으로 여러 건을 모아 원장(balance_transactions)으로 multi-row INSERT 후 삭제한다.
+ */
+@Entity
+@Table(name = "balance_transaction_staging",
+        indexes = @Index(name = "idx_balance_staging_user", columnList = "user_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BalanceTransactionStaging {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "staging_id")
+    private Long stagingId;
+
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "transaction_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID transactionId;
+
+    @Column(name = "user_id", nullable = false, length = 50)
+    private String userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false)
+    private BalanceTransaction.TransactionType transactionType;
+
+    @Column(name = "amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "balance_after", nullable = false, precision = 15, scale = 2)
+    private BigDecimal balanceAfter;
+
+    @Column(name = "description", length = 500)
+    private String description;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static BalanceTransactionStaging from(BalanceTransaction transaction) {
+        BalanceTransactionStaging staging = new BalanceTransactionStaging();
+        staging.transactionId = UUID.fromString(transaction.getTransactionId());
+        staging.userId = transaction.getUserId();
+        staging.transactionType = transaction.getTransactionType();
+        staging.amount = transaction.getAmount();
+        staging.balanceAfter = transaction.getBalanceAfter();
+        staging.description = transaction.getDescription();
+        staging.createdAt = transaction.getCreatedAt();
+        return staging;
+    }
+
+    /**
+     * 조회 API와의 호환을 위한 변환 (영속 상태가 아니므로 저장하지 않음)
+     */
+    public BalanceTransaction toTransaction() {
+        return new BalanceTransaction(transactionId, userId, transactionType, amount, balanceAfter,
+                description, createdAt);
+    }
+}
@@ -0,0 +1,59 @@
+package kr.hhplus.be.server.balance.dto;
+
+import kr.hhplus.be.server.balance.domain.BalanceTransaction;
+import kr.hhplus.be.server.common.id.TimeOrderedIds;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 잔액 거래 내역 키셋 커서 (정렬 키: 거래 시각, 거래 ID - 모두 내림차순)
+ *
+ * 클라이언트에는 Base64URL로 인코딩한 불투명 문자열로 전달하며, 다음 페이지는 이 위치보다 오래된 내역만 읽는다.
+ */
+public record BalanceHistoryCursor(LocalDateTime createdAt, String transactionId) {
+
+    private static final String DELIMITER = "|";
+
+    public static BalanceHistoryCursor of(BalanceTransaction transaction) {
+        return new BalanceHistoryCursor(transaction.getCreatedAt(), transaction.getTransactionId());
+    }
+
+    /**
+     * 정렬 순서상 이 커서 이후(더 오래된)의 내역인지 여부
+     * 거래 ID는 시간 순서 UUID이므로 문자열 비교가 저장 순서(BINARY(16))와 같다.
+     */
+    public boolean precedes(BalanceTransaction transaction) {
+        int byTime = transaction.getCreatedAt().compareTo(createdAt);
+        if (byTime != 0) {
+            return byTime < 0;
+        }
+        return transaction.getTransactionId().compareTo(transactionId) < 0;
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + transactionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서인 경우
+     */
+    public static BalanceHistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            UUID transactionId = TimeOrderedIds.parse(parts[1])
+                    .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 커서입니다."));
+            return new BalanceHistoryCursor(LocalDateTime.parse(parts[0]), transactionId.toString());
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package kr.hhplus.be.server.balance.dto;
+
+import java.util.List;
+
+/**
+ * 잔액 거래 내역 키셋 페이지 (최신순)
+ *
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record BalanceHistoryPage(List<BalanceTransactionResult> transactions, String nextCursor, boolean hasNext) {
+
+    public static BalanceHistoryPage of(List<BalanceTransactionResult> transactions, String nextCursor) {
+        return new BalanceHistoryPage(transactions, nextCursor, nextCursor != null);
+    }
+}
@@ -17,4 +17,11 @@ public class BalanceResult {
         this.currentBalance = balance.getAmount();  // getBalance() → getAmount()
         this.lastUpdatedAt = balance.getUpdatedAt();
     }
+
+    // 잔액 캐시/스냅샷으로부터 생성
+    public BalanceResult(BalanceSnapshot snapshot) {
+        this.userId = snapshot.userId();
+        this.currentBalance = snapshot.amount();
+        this.lastUpdatedAt = snapshot.updatedAt();
+    }
 }
\ No newline at end of file
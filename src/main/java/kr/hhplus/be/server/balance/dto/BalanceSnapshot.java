@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.balance.dto;
+
+import kr.hhplus.be.server.balance.domain.Balance;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 잔액 스냅샷 (잔액 캐시 항목)
+ *
+ * @param version 잔액 행의 버전 - 같은 사용자의 두 스냅샷 중 큰 쪽이 최신
+ */
+public record BalanceSnapshot(String userId, BigDecimal amount, long version, LocalDateTime updatedAt) {
+
+    public static BalanceSnapshot from(Balance balance) {
+        return new BalanceSnapshot(balance.getUserId(), balance.getAmount(), balance.getVersion(), balance.getUpdatedAt());
+    }
+
+    public boolean hasEnough(BigDecimal requiredAmount) {
+        return amount.compareTo(requiredAmount) >= 0;
+    }
+}
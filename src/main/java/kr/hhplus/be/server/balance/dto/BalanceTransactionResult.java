@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.balance.dto;
+
+import kr.hhplus.be.server.balance.domain.BalanceTransaction;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+public class BalanceTransactionResult {
+    private final String transactionId;
+    private final String transactionType;
+    private final BigDecimal amount;
+    private final BigDecimal balanceAfter;
+    private final String description;
+    private final LocalDateTime createdAt;
+
+    public BalanceTransactionResult(BalanceTransaction transaction) {
+        this.transactionId = transaction.getTransactionId();
+        this.transactionType = transaction.getTransactionType().name();
+        this.amount = transaction.getAmount();
+        this.balanceAfter = transaction.getBalanceAfter();
+        this.description = transaction.getDescription();
+        this.createdAt = transaction.getCreatedAt();
+    }
+}
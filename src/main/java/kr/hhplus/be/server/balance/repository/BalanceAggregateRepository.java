@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.balance.repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface BalanceAggregateRepository {
+
+    /**
+     * 샤드 하나에 지표별 변화량을 더한다 (행이 없으면 생성, 호출자의 트랜잭션 안에서 실행)
+     */
+    void increment(int shardId, Map<String, BigDecimal> deltas);
+
+    /**
+     * 지표별 샤드 합계
+     */
+    Map<String, BigDecimal> sumByMetric();
+
+    BigDecimal sum(String metric);
+
+    /**
+     * 잔액 테이블 전체를 한 번 스캔해 총 잔액, 계정 수, 기준 금액별 계정 수를 계산 (분할 모드 하위 행 포함)
+     *
+     * @param stripedUserIds 분할 모드 계정 - 기준 금액별 계정 수에서 제외 (조회 시점에 따로 셈)
+     * @return 총 잔액, 계정 수, 기준 금액별(인자 순서) 계정 수
+     */
+    List<BigDecimal> computeFromBalances(List<BigDecimal> thresholds, Collection<String> stripedUserIds);
+
+    /**
+     * 재계산이 한 번이라도 성공했는지 (재계산 완료 표시 행 존재 여부)
+     */
+    boolean isRecomputed();
+
+    /**
+     * 재계산 완료 표시 (이미 있으면 무시)
+     */
+    void markRecomputed();
+}
@@ -0,0 +1,111 @@
+package kr.hhplus.be.server.balance.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class BalanceAggregateRepositoryImpl implements BalanceAggregateRepository {
+
+    // 지표 순서대로 한 문장에 갱신하므로 같은 샤드를 고른 트랜잭션끼리도 잠금 순서가 같다
+    private static final String INCREMENT_SQL =
+            "INSERT INTO balance_aggregate_shards (metric, shard_id, metric_value) VALUES %s AS delta " +
+            "ON DUPLICATE KEY UPDATE metric_value = balance_aggregate_shards.metric_value + delta.metric_value";
+
+    private static final String SUM_BY_METRIC_SQL =
+            "SELECT metric, SUM(metric_value) AS total FROM balance_aggregate_shards GROUP BY metric";
+
+    private static final String SUM_SQL =
+            "SELECT COALESCE(SUM(metric_value), 0) FROM balance_aggregate_shards WHERE metric = ?";
+
+    // 분할 모드 계정은 잔액 행 + 하위 행 합계를 사용자 잔액으로 보고, 기준 금액별 계정 수에서는 제외한다
+    private static final String COMPUTE_SQL =
+            "SELECT COALESCE(SUM(amount), 0), COUNT(*)%s FROM (" +
+            "SELECT b.amount + COALESCE(s.amount, 0) AS amount, %s AS striped FROM balance b " +
+            "LEFT JOIN (SELECT user_id, SUM(amount) AS amount FROM balance_stripes GROUP BY user_id) s " +
+            "ON s.user_id = b.user_id) totals";
+
+    // 재계산 완료 표시 행 (지표 합계 조회 대상이 아님)
+    private static final String RECOMPUTED_MARKER = "recomputed";
+
+    private static final String MARK_RECOMPUTED_SQL =
+            "INSERT IGNORE INTO balance_aggregate_shards (metric, shard_id, metric_value) VALUES (?, 0, 1)";
+
+    private static final String EXISTS_SQL =
+            "SELECT COUNT(*) FROM balance_aggregate_shards WHERE metric = ? AND shard_id = 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void increment(int shardId, Map<String, BigDecimal> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<String> metrics = new ArrayList<>(deltas.keySet());
+        Collections.sort(metrics);
+
+        List<Object> args = new ArrayList<>(metrics.size() * 3);
+        for (String metric : metrics) {
+            args.add(metric);
+            args.add(shardId);
+            args.add(deltas.get(metric));
+        }
+        String values = String.join(", ", Collections.nCopies(metrics.size(), "(?, ?, ?)"));
+        jdbcTemplate.update(String.format(INCREMENT_SQL, values), args.toArray());
+    }
+
+    @Override
+    public Map<String, BigDecimal> sumByMetric() {
+        Map<String, BigDecimal> sums = new HashMap<>();
+        jdbcTemplate.query(SUM_BY_METRIC_SQL, rs -> {
+            sums.put(rs.getString("metric"), rs.getBigDecimal("total"));
+        });
+        return sums;
+    }
+
+    @Override
+    public BigDecimal sum(String metric) {
+        return jdbcTemplate.queryForObject(SUM_SQL, BigDecimal.class, metric);
+    }
+
+    @Override
+    public List<BigDecimal> computeFromBalances(List<BigDecimal> thresholds, Collection<String> stripedUserIds) {
+        String thresholdColumns = String.join("",
+                Collections.nCopies(thresholds.size(), ", SUM(NOT striped AND amount >= ?)"));
+        String striped = stripedUserIds.isEmpty()
+                ? "FALSE"
+                : "b.user_id IN (" + String.join(", ", Collections.nCopies(stripedUserIds.size(), "?")) + ")";
+
+        // 기준 금액(SELECT 목록) → 분할 모드 계정(하위 쿼리) 순으로 바인딩
+        List<Object> args = new ArrayList<>(thresholds);
+        args.addAll(stripedUserIds);
+        return jdbcTemplate.queryForObject(String.format(COMPUTE_SQL, thresholdColumns, striped), (rs, rowNum) -> {
+            List<BigDecimal> values = new ArrayList<>(thresholds.size() + 2);
+            for (int column = 1; column <= thresholds.size() + 2; column++) {
+                BigDecimal value = rs.getBigDecimal(column);
+                values.add(value == null ? BigDecimal.ZERO : value);
+            }
+            return values;
+        }, args.toArray());
+    }
+
+    @Override
+    public boolean isRecomputed() {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, RECOMPUTED_MARKER);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public void markRecomputed() {
+        jdbcTemplate.update(MARK_RECOMPUTED_SQL, RECOMPUTED_MARKER);
+    }
+}
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.balance.repository;
 
 import kr.hhplus.be.server.balance.domain.Balance;
+import kr.hhplus.be.server.balance.dto.BalanceSnapshot;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
@@ -43,36 +44,39 @@ public interface BalanceRepository extends JpaRepository<Balance, String> {
     boolean existsByUserId(String userId);
 
     /**
-     * 특정 금액 이상의 잔액을 가진 사용자 수를 조회
+     * 특정 금액 이상의 잔액을 가진 사용자 수를 조회 (분할 모드 계정은 하위 행 합계 포함)
      *
      * @param minAmount 최소 잔액 기준
      * @return 조건에 해당하는 사용자 수
      */
-    @Query("SELECT COUNT(b) FROM Balance b WHERE b.amount >= :minAmount")
+    @Query("SELECT COUNT(b) FROM Balance b WHERE b.amount + " +
+            "COALESCE((SELECT SUM(s.amount) FROM BalanceStripe s WHERE s.id.userId = b.userId), 0) >= :minAmount")
     long countByAmountGreaterThanEqual(@Param("minAmount") BigDecimal minAmount);
 
     /**
      * 사용자 잔액에 금액을 추가
-     * 업데이트 시간도 함께 현재 시간으로 갱신
+     * 업데이트 시간과 버전도 함께 갱신
      *
      * @param userId 잔액을 업데이트할 사용자 ID
      * @param amount 추가할 금액 (양수/음수 모두 가능)
      * @return 업데이트된 레코드 수 (성공 시 1, 실패 시 0)
      */
     @Modifying
-    @Query("UPDATE Balance b SET b.amount = b.amount + :amount, b.updatedAt = CURRENT_TIMESTAMP WHERE b.userId = :userId")
+    @Query("UPDATE Balance b SET b.amount = b.amount + :amount, b.updatedAt = CURRENT_TIMESTAMP, " +
+            "b.version = b.version + 1 WHERE b.userId = :userId")
     int addAmountByUserId(@Param("userId") String userId, @Param("amount") BigDecimal amount);
 
     /**
      * 사용자 잔액에서 금액을 차감
-     * 충분한 잔액이 있는 경우에만 차감이 실행되며, 업데이트 시간도 함께 갱신
+     * 충분한 잔액이 있는 경우에만 차감이 실행되며, 업데이트 시간과 버전도 함께 갱신
      *
      * @param userId 잔액을 차감할 사용자 ID
      * @param amount 차감할 금액
      * @return 업데이트된 레코드 수 (성공 시 1, 잔액 부족 시 0)
      */
     @Modifying
-    @Query("UPDATE Balance b SET b.amount = b.amount - :amount, b.updatedAt = CURRENT_TIMESTAMP " +
+    @Query("UPDATE Balance b SET b.amount = b.amount - :amount, b.updatedAt = CURRENT_TIMESTAMP, " +
+            "b.version = b.version + 1 " +
             "WHERE b.userId = :userId AND b.amount >= :amount")
     int deductAmountByUserId(@Param("userId") String userId, @Param("amount") BigDecimal amount);
 
@@ -88,11 +92,11 @@ public interface BalanceRepository extends JpaRepository<Balance, String> {
     Optional<Boolean> hasEnoughAmount(@Param("userId") String userId, @Param("requiredAmount") BigDecimal requiredAmount);
 
     /**
-     * 모든 사용자의 총 잔액 합계를 조회
+     * 모든 사용자의 총 잔액 합계를 조회 (분할 모드 하위 행 포함)
      *
      * @return 전체 사용자의 잔액 합계 (데이터가 없으면 0)
      */
-    @Query("SELECT COALESCE(SUM(b.amount), 0) FROM Balance b")
+    @Query("SELECT COALESCE(SUM(b.amount), 0) + (SELECT COALESCE(SUM(s.amount), 0) FROM BalanceStripe s) FROM Balance b")
     BigDecimal getTotalBalance();
 
     /**
@@ -112,4 +116,15 @@ public interface BalanceRepository extends JpaRepository<Balance, String> {
      */
     @Query("SELECT COALESCE(b.amount, 0) FROM Balance b WHERE b.userId = :userId")
     BigDecimal getAmountByUserId(@Param("userId") String userId);
-}
\ No newline at end of file
+
+    /**
+     * 잔액 스냅샷(금액, 버전, 갱신 시간) 조회
+     * 엔티티가 아닌 값으로 읽으므로 영속성 컨텍스트와 무관하게 DB의 현재 값을 반환한다. (원자적 UPDATE 직후 조회용)
+     *
+     * @param userId 조회할 사용자 ID
+     * @return 잔액 스냅샷 (존재하지 않으면 Optional.empty())
+     */
+    @Query("SELECT new kr.hhplus.be.server.balance.dto.BalanceSnapshot(b.userId, b.amount, b.version, b.updatedAt) " +
+            "FROM Balance b WHERE b.userId = :userId")
+    Optional<BalanceSnapshot> findSnapshotByUserId(@Param("userId") String userId);
+}
@@ -0,0 +1,51 @@
+package kr.hhplus.be.server.balance.repository;
+
+import kr.hhplus.be.server.balance.dto.BalanceSnapshot;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+
+public interface BalanceStripeRepository {
+
+    /**
+     * 하위 행 하나에 금액을 더한다 (행이 없으면 생성, 해당 하위 행만 잠금)
+     */
+    void credit(String userId, int stripeId, BigDecimal amount);
+
+    /**
+     * 하위 행 하나에서 잔액이 충분할 때만 금액을 뺀다
+     *
+     * @return 차감했으면 true, 하위 행 잔액이 부족하거나 행이 없으면 false
+     */
+    boolean debit(String userId, int stripeId, BigDecimal amount);
+
+    /**
+     * 사용자의 하위 행 전체 조회 (잠그지 않음)
+     *
+     * @return 하위 행 ID → 금액
+     */
+    Map<Integer, BigDecimal> findAll(String userId);
+
+    /**
+     * 사용자의 하위 행 전체를 하위 행 ID 순서로 잠그고 조회 (병합용)
+     *
+     * @return 하위 행 ID → 금액
+     */
+    Map<Integer, BigDecimal> lockAll(String userId);
+
+    /**
+     * 병합 결과 반영 (lockAll로 잠근 트랜잭션 안에서 호출)
+     */
+    void replaceAmounts(String userId, Map<Integer, BigDecimal> amounts);
+
+    /**
+     * 잔액 행과 하위 행을 합한 잔액 (잔액 계정이 없으면 empty)
+     */
+    Optional<BalanceSnapshot> findTotalSnapshot(String userId);
+
+    /**
+     * 전체 하위 행 합계
+     */
+    BigDecimal getTotalAmount();
+}
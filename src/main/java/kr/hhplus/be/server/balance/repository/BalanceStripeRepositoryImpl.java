@@ -0,0 +1,100 @@
+package kr.hhplus.be.server.balance.repository;
+
+import kr.hhplus.be.server.balance.dto.BalanceSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+@Repository
+@RequiredArgsConstructor
+public class BalanceStripeRepositoryImpl implements BalanceStripeRepository {
+
+    private static final String CREDIT_SQL =
+            "INSERT INTO balance_stripes (user_id, stripe_id, amount, updated_at) VALUES (?, ?, ?, NOW(6)) AS delta " +
+            "ON DUPLICATE KEY UPDATE amount = balance_stripes.amount + delta.amount, updated_at = delta.updated_at";
+
+    private static final String DEBIT_SQL =
+            "UPDATE balance_stripes SET amount = amount - ?, updated_at = NOW(6) " +
+            "WHERE user_id = ? AND stripe_id = ? AND amount >= ?";
+
+    private static final String FIND_ALL_SQL =
+            "SELECT stripe_id, amount FROM balance_stripes WHERE user_id = ?";
+
+    private static final String LOCK_ALL_SQL =
+            "SELECT stripe_id, amount FROM balance_stripes WHERE user_id = ? ORDER BY stripe_id FOR UPDATE";
+
+    private static final String REPLACE_SQL =
+            "UPDATE balance_stripes SET amount = ?, updated_at = NOW(6) WHERE user_id = ? AND stripe_id = ?";
+
+    private static final String TOTAL_SNAPSHOT_SQL =
+            "SELECT b.amount + COALESCE(s.amount, 0) AS total, b.version, " +
+            "GREATEST(b.updated_at, COALESCE(s.updated_at, b.updated_at)) AS updated_at " +
+            "FROM balance b LEFT JOIN (SELECT user_id, SUM(amount) AS amount, MAX(updated_at) AS updated_at " +
+            "FROM balance_stripes WHERE user_id = ? GROUP BY user_id) s ON s.user_id = b.user_id " +
+            "WHERE b.user_id = ?";
+
+    private static final String TOTAL_SQL = "SELECT COALESCE(SUM(amount), 0) FROM balance_stripes";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void credit(String userId, int stripeId, BigDecimal amount) {
+        jdbcTemplate.update(CREDIT_SQL, userId, stripeId, amount);
+    }
+
+    @Override
+    public boolean debit(String userId, int stripeId, BigDecimal amount) {
+        return jdbcTemplate.update(DEBIT_SQL, amount, userId, stripeId, amount) > 0;
+    }
+
+    @Override
+    public Map<Integer, BigDecimal> findAll(String userId) {
+        return queryAmounts(FIND_ALL_SQL, userId);
+    }
+
+    @Override
+    public Map<Integer, BigDecimal> lockAll(String userId) {
+        return queryAmounts(LOCK_ALL_SQL, userId);
+    }
+
+    @Override
+    public void replaceAmounts(String userId, Map<Integer, BigDecimal> amounts) {
+        if (amounts.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(amounts.size());
+        new TreeMap<>(amounts).forEach((stripeId, amount) -> args.add(new Object[]{amount, userId, stripeId}));
+        jdbcTemplate.batchUpdate(REPLACE_SQL, args);
+    }
+
+    @Override
+    public Optional<BalanceSnapshot> findTotalSnapshot(String userId) {
+        List<BalanceSnapshot> rows = jdbcTemplate.query(TOTAL_SNAPSHOT_SQL, (rs, rowNum) -> new BalanceSnapshot(
+                userId,
+                rs.getBigDecimal("total"),
+                rs.getLong("version"),
+                rs.getTimestamp("updated_at").toLocalDateTime()
+        ), userId, userId);
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public BigDecimal getTotalAmount() {
+        return jdbcTemplate.queryForObject(TOTAL_SQL, BigDecimal.class);
+    }
+
+    private Map<Integer, BigDecimal> queryAmounts(String sql, String userId) {
+        Map<Integer, BigDecimal> amounts = new TreeMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            amounts.put(rs.getInt("stripe_id"), rs.getBigDecimal("amount"));
+        }, userId);
+        return amounts;
+    }
+}
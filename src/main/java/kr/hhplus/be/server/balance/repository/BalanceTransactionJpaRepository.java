@@ -2,11 +2,32 @@ package kr.hhplus.be.server.balance.repository;
 
 import kr.hhplus.be.server.balance.domain.BalanceTransaction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 @Repository
-public interface BalanceTransactionJpaRepository extends JpaRepository<BalanceTransaction, String> {
-    List<BalanceTransaction> findByUserIdOrderByCreatedAtDesc(String userId);
+public interface BalanceTransactionJpaRepository extends JpaRepository<BalanceTransaction, UUID> {
+
+    /**
+     * 사용자 최신 거래 내역 (idx_balance_tx_user_created 순방향 스캔, 정렬 없이 limit 건만 읽음)
+     */
+    @Query(value = "SELECT * FROM balance_transactions WHERE user_id = :userId " +
+            "ORDER BY created_at DESC, transaction_id DESC LIMIT :limit", nativeQuery = true)
+    List<BalanceTransaction> findLatestByUserId(@Param("userId") String userId, @Param("limit") int limit);
+
+    /**
+     * 커서(거래 시각, 거래 ID)보다 오래된 거래 내역 - 인덱스에서 커서 위치로 바로 이동하므로 페이지 깊이와 무관
+     */
+    @Query(value = "SELECT * FROM balance_transactions WHERE user_id = :userId " +
+            "AND (created_at < :createdAt OR (created_at = :createdAt AND transaction_id < :transactionId)) " +
+            "ORDER BY created_at DESC, transaction_id DESC LIMIT :limit", nativeQuery = true)
+    List<BalanceTransaction> findByUserIdBefore(@Param("userId") String userId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("transactionId") byte[] transactionId,
+                                                @Param("limit") int limit);
 }
@@ -1,9 +1,26 @@
 package kr.hhplus.be.server.balance.repository;
 
 import kr.hhplus.be.server.balance.domain.BalanceTransaction;
+import kr.hhplus.be.server.balance.dto.BalanceHistoryCursor;
+
 import java.util.List;
 
 public interface BalanceTransactionRepository {
     BalanceTransaction save(BalanceTransaction transaction);
-    List<BalanceTransaction> findByUserId(String userId);
-}
\ No newline at end of file
+
+    /**
+     * 사용자 거래 내역 키셋 조회 (최신순: 거래 시각, 거래 ID 내림차순)
+     *
+     * @param cursor 이 위치보다 오래된 내역부터 조회 (null이면 최신부터)
+     * @param limit 최대 건수
+     */
+    List<BalanceTransaction> findByUserIdBefore(String userId, BalanceHistoryCursor cursor, int limit);
+
+    /**
+     * 스테이징된 거래 내역을 원장으로 옮긴다 (호출자의 트랜잭션 안에서 실행)
+     *
+     * @param limit 최대 이동 건수
+     * @return 옮긴 건수
+     */
+    int compactStaged(int limit);
+}
@@ -1,24 +1,101 @@
 package kr.hhplus.be.server.balance.repository;
 
 import kr.hhplus.be.server.balance.domain.BalanceTransaction;
-import lombok.RequiredArgsConstructor;
+import kr.hhplus.be.server.balance.domain.BalanceTransactionStaging;
+import kr.hhplus.be.server.balance.dto.BalanceHistoryCursor;
+import kr.hhplus.be.server.common.id.TimeOrderedIds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.UUID;
 
 @Repository
-@RequiredArgsConstructor
 public class BalanceTransactionRepositoryImpl implements BalanceTransactionRepository {
 
+    // 스테이징 순서대로 잠금 (여러 노드의 압축기가 같은 행을 중복 처리하지 않도록 SKIP LOCKED)
+    private static final String LOCK_STAGED_SQL =
+            "SELECT staging_id FROM balance_transaction_staging ORDER BY staging_id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String COMPACT_INSERT_SQL =
+            "INSERT INTO balance_transactions (transaction_id, user_id, transaction_type, amount, balance_after, " +
+            "description, created_at) " +
+            "SELECT transaction_id, user_id, transaction_type, amount, balance_after, description, created_at " +
+            "FROM balance_transaction_staging WHERE staging_id IN (%s) ORDER BY staging_id";
+
+    private static final String DELETE_STAGED_SQL = "DELETE FROM balance_transaction_staging WHERE staging_id IN (%s)";
+
+    // 원장 인덱스와 같은 순서 (거래 ID는 시간 순서 UUID라 문자열 비교가 BINARY(16) 비교와 같음)
+    private static final Comparator<BalanceTransaction> LATEST_FIRST =
+            Comparator.comparing(BalanceTransaction::getCreatedAt)
+                    .thenComparing(BalanceTransaction::getTransactionId)
+                    .reversed();
+
     private final BalanceTransactionJpaRepository balanceTransactionJpaRepository;
+    private final BalanceTransactionStagingJpaRepository balanceTransactionStagingJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean stagingEnabled;
+
+    public BalanceTransactionRepositoryImpl(BalanceTransactionJpaRepository balanceTransactionJpaRepository,
+                                            BalanceTransactionStagingJpaRepository balanceTransactionStagingJpaRepository,
+                                            JdbcTemplate jdbcTemplate,
+                                            @Value("${balance.ledger.staging-enabled:true}") boolean stagingEnabled) {
+        this.balanceTransactionJpaRepository = balanceTransactionJpaRepository;
+        this.balanceTransactionStagingJpaRepository = balanceTransactionStagingJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.stagingEnabled = stagingEnabled;
+    }
 
     @Override
     public BalanceTransaction save(BalanceTransaction transaction) {
-        return balanceTransactionJpaRepository.save(transaction);
+        if (!stagingEnabled) {
+            return balanceTransactionJpaRepository.save(transaction);
+        }
+        balanceTransactionStagingJpaRepository.save(BalanceTransactionStaging.from(transaction));
+        return transaction;
     }
 
+    /**
+     * 원장과 스테이징을 한 스냅샷에서 읽는다.
+     * 두 조회 사이에 압축이 커밋되면 옮겨진 행이 어느 쪽에서도 보이지 않으므로, 트랜잭션 밖에서 호출되어도
+     * 짧은 읽기 전용 트랜잭션(REPEATABLE READ 일관 읽기)으로 묶는다.
+     */
     @Override
-    public List<BalanceTransaction> findByUserId(String userId) {
-        return balanceTransactionJpaRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public List<BalanceTransaction> findByUserIdBefore(String userId, BalanceHistoryCursor cursor, int limit) {
+        List<BalanceTransaction> transactions = new ArrayList<>(cursor == null
+                ? balanceTransactionJpaRepository.findLatestByUserId(userId, limit)
+                : balanceTransactionJpaRepository.findByUserIdBefore(userId, cursor.createdAt(),
+                        TimeOrderedIds.toBytes(UUID.fromString(cursor.transactionId())), limit));
+
+        // 아직 원장으로 옮겨지지 않은 거래 내역 포함 (스테이징은 압축 주기만큼의 최근 내역만 있으므로 작음)
+        List<BalanceTransaction> staged = balanceTransactionStagingJpaRepository.findByUserId(userId).stream()
+                .map(BalanceTransactionStaging::toTransaction)
+                .filter(transaction -> cursor == null || cursor.precedes(transaction))
+                .toList();
+        if (staged.isEmpty()) {
+            return transactions;
+        }
+        transactions.addAll(staged);
+        transactions.sort(LATEST_FIRST);
+        return transactions.size() > limit ? new ArrayList<>(transactions.subList(0, limit)) : transactions;
+    }
+
+    @Override
+    public int compactStaged(int limit) {
+        List<Long> ids = jdbcTemplate.query(LOCK_STAGED_SQL, (rs, rowNum) -> rs.getLong("staging_id"), limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.update(String.format(COMPACT_INSERT_SQL, placeholders), ids.toArray());
+        return jdbcTemplate.update(String.format(DELETE_STAGED_SQL, placeholders), ids.toArray());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+package kr.hhplus.be.server.balance.repository;
+
+import kr.hhplus.be.server.balance.domain.BalanceTransactionStaging;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BalanceTransactionStagingJpaRepository extends JpaRepository<BalanceTransactionStaging, Long> {
+
+    List<BalanceTransactionStaging> findByUserId(String userId);
+}
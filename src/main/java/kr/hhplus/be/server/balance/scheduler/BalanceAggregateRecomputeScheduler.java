@@ -0,0 +1,57 @@
+package kr.hhplus.be.server.balance.scheduler;
+
+import kr.hhplus.be.server.balance.aggregate.BalanceAggregateCounter;
+import kr.hhplus.be.server.common.lock.DistributedLockService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 잔액 집계 재계산 스케줄러
+ * 보정은 차이만큼 더하는 방식이라 여러 노드 중 분산 락을 획득한 한 노드만 실행한다.
+ * 시작 직후 한 번 실행해 비어 있는 집계를 채우며, 그 전까지 집계 조회는 잔액 테이블 직접 집계로 대체된다.
+ */
+@Component
+public class BalanceAggregateRecomputeScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceAggregateRecomputeScheduler.class);
+
+    private static final String LEADER_LOCK_KEY = "balance:aggregate:recompute:leader";
+    private static final long LEADER_LEASE_SECONDS = 60;
+
+    private final BalanceAggregateCounter balanceAggregateCounter;
+    private final DistributedLockService distributedLockService;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public BalanceAggregateRecomputeScheduler(BalanceAggregateCounter balanceAggregateCounter,
+                                              DistributedLockService distributedLockService,
+                                              @Value("${balance.aggregate.recompute-enabled:true}") boolean enabled) {
+        this.balanceAggregateCounter = balanceAggregateCounter;
+        this.distributedLockService = distributedLockService;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(fixedDelayString = "${balance.aggregate.recompute-interval-ms:600000}",
+            initialDelayString = "${balance.aggregate.recompute-initial-delay-ms:0}")
+    public void recomputeAggregates() {
+        if (!enabled || !distributedLockService.tryLock(LEADER_LOCK_KEY, nodeId, LEADER_LEASE_SECONDS)) {
+            return;
+        }
+
+        try {
+            int corrected = balanceAggregateCounter.recompute();
+            if (corrected > 0) {
+                logger.info("잔액 집계 재계산 완료: 보정 지표 {}개", corrected);
+            }
+        } catch (Exception e) {
+            logger.error("잔액 집계 재계산 중 오류 발생", e);
+        } finally {
+            distributedLockService.unlock(LEADER_LOCK_KEY, nodeId);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package kr.hhplus.be.server.balance.scheduler;
+
+import kr.hhplus.be.server.balance.service.BalanceLedgerCompactionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잔액 원장 압축 스케줄러
+ * 대상 행을 SKIP LOCKED로 잠그므로 여러 노드가 동시에 실행해도 같은 행을 중복 처리하지 않는다.
+ */
+@Component
+public class BalanceLedgerCompactionScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceLedgerCompactionScheduler.class);
+
+    private final BalanceLedgerCompactionService balanceLedgerCompactionService;
+    private final boolean enabled;
+
+    public BalanceLedgerCompactionScheduler(BalanceLedgerCompactionService balanceLedgerCompactionService,
+                                            @Value("${balance.ledger.compaction.enabled:true}") boolean enabled) {
+        this.balanceLedgerCompactionService = balanceLedgerCompactionService;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(fixedDelayString = "${balance.ledger.compaction.interval-ms:500}")
+    public void compactLedger() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            balanceLedgerCompactionService.compact();
+        } catch (Exception e) {
+            logger.error("잔액 원장 압축 중 오류 발생", e);
+        }
+    }
+}
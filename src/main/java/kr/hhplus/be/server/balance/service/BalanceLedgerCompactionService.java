@@ -0,0 +1,60 @@
+package kr.hhplus.be.server.balance.service;
+
+import kr.hhplus.be.server.balance.repository.BalanceTransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 잔액 원장 압축 (스테이징 → balance_transactions)
+ *
+ * 요청 트랜잭션이 스테이징에 쌓은 거래 내역을 배치 단위로 원장에 multi-row INSERT 하고 스테이징에서 삭제한다.
+ * 이동과 삭제는 배치마다 한 트랜잭션이므로 중간에 실패해도 내역이 사라지거나 중복되지 않으며,
+ * 실행당 최대 배치 수로 한 번의 실행 시간을 제한한다. (남은 행은 다음 실행에서 이어서 처리)
+ */
+@Service
+public class BalanceLedgerCompactionService {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceLedgerCompactionService.class);
+
+    private final BalanceTransactionRepository balanceTransactionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public BalanceLedgerCompactionService(BalanceTransactionRepository balanceTransactionRepository,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${balance.ledger.compaction.batch-size:1000}") int batchSize,
+                                          @Value("${balance.ledger.compaction.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.balanceTransactionRepository = balanceTransactionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * @return 이번 실행에서 원장으로 옮긴 거래 내역 수
+     */
+    public int compact() {
+        int compacted = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer moved = transactionTemplate.execute(
+                    status -> balanceTransactionRepository.compactStaged(batchSize));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            compacted += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+
+        if (compacted > 0) {
+            log.debug("잔액 원장 압축 완료: compacted={}", compacted);
+        }
+        return compacted;
+    }
+}
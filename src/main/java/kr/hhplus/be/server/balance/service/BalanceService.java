@@ -1,17 +1,29 @@
 package kr.hhplus.be.server.balance.service;
 
+import kr.hhplus.be.server.balance.aggregate.BalanceAggregateCounter;
+import kr.hhplus.be.server.balance.cache.BalanceCache;
 import kr.hhplus.be.server.balance.command.BalanceChargeCommand;
 import kr.hhplus.be.server.balance.domain.Balance;
 import kr.hhplus.be.server.balance.domain.BalanceTransaction;
 import kr.hhplus.be.server.balance.repository.BalanceRepository;
 import kr.hhplus.be.server.balance.repository.BalanceTransactionRepository;
+import kr.hhplus.be.server.balance.stripe.StripedBalanceAccounts;
+import kr.hhplus.be.server.balance.dto.BalanceHistoryCursor;
+import kr.hhplus.be.server.balance.dto.BalanceHistoryPage;
 import kr.hhplus.be.server.balance.dto.BalanceResult;
+import kr.hhplus.be.server.balance.dto.BalanceSnapshot;
+import kr.hhplus.be.server.balance.dto.BalanceTransactionResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -19,17 +31,30 @@ import java.math.BigDecimal;
 @Transactional(readOnly = true)
 public class BalanceService implements BalanceUseCase {
 
+    static final int MAX_HISTORY_PAGE_SIZE = 100;
+    static final int EXPORT_BATCH_SIZE = 1000;
+
     private final BalanceRepository balanceRepository;
     private final BalanceTransactionRepository balanceTransactionRepository;
+    private final BalanceAggregateCounter balanceAggregateCounter;
+    private final BalanceCache balanceCache;
+    private final StripedBalanceAccounts stripedBalanceAccounts;
 
     @Override
     @Transactional
     public BalanceResult chargeBalance(BalanceChargeCommand command) {
         log.info("잔액 충전 요청: userId={}, amount={}", command.getUserId(), command.getAmount());
 
+        if (stripedBalanceAccounts.isStriped(command.getUserId())) {
+            BigDecimal chargeAmount = BigDecimal.valueOf(command.getAmount());
+            Balance.validateChargeAmount(chargeAmount);
+            return new BalanceResult(creditStriped(command.getUserId(), chargeAmount,
+                    balanceAfter -> BalanceTransaction.charge(command.getUserId(), chargeAmount, balanceAfter)));
+        }
+
         // 1. 비관적 락으로 잔액 조회 또는 생성
-        Balance balance = balanceRepository.findByUserIdWithLock(command.getUserId())
-                .orElse(new Balance(command.getUserId(), BigDecimal.ZERO));
+        Optional<Balance> existing = balanceRepository.findByUserIdWithLock(command.getUserId());
+        Balance balance = existing.orElse(new Balance(command.getUserId(), BigDecimal.ZERO));
 
         BigDecimal previousAmount = balance.getAmount();
 
@@ -47,6 +72,8 @@ public class BalanceService implements BalanceUseCase {
                 savedBalance.getAmount()
         );
         balanceTransactionRepository.save(transaction);
+        recordAggregate(existing.isEmpty(), previousAmount, savedBalance.getAmount());
+        balanceCache.putAfterCommit(BalanceSnapshot.from(savedBalance));
 
         log.info("잔액 충전 완료: userId={}, 이전잔액={}, 충전금액={}, 현재잔액={}",
                 command.getUserId(), previousAmount, chargeAmount, savedBalance.getAmount());
@@ -54,35 +81,99 @@ public class BalanceService implements BalanceUseCase {
         return new BalanceResult(savedBalance);
     }
 
+    /**
+     * 잔액 조회 - 잔액 캐시를 먼저 읽고, 미스일 때만 DB 조회 후 캐시를 채운다
+     */
     @Override
     @Transactional(readOnly = true)
     public BalanceResult getBalance(String userId) {
         log.debug("잔액 조회: userId={}", userId);
 
-        Balance balance = balanceRepository.findByUserId(userId)
-                .orElse(new Balance(userId, BigDecimal.ZERO));
+        return findSnapshot(userId)
+                .map(BalanceResult::new)
+                .orElseGet(() -> new BalanceResult(new Balance(userId, BigDecimal.ZERO)));
+    }
+
+    /**
+     * 거래 내역 키셋 페이지 조회 (최신순)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1~{@value #MAX_HISTORY_PAGE_SIZE})
+     * @throws IllegalArgumentException 형식이 잘못된 커서인 경우
+     */
+    @Override
+    public BalanceHistoryPage getTransactionHistory(String userId, String cursor, int size) {
+        int boundedSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        BalanceHistoryCursor position = cursor == null || cursor.isBlank() ? null : BalanceHistoryCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<BalanceTransaction> rows = balanceTransactionRepository.findByUserIdBefore(userId, position, boundedSize + 1);
+        boolean hasNext = rows.size() > boundedSize;
+        List<BalanceTransaction> content = hasNext ? rows.subList(0, boundedSize) : rows;
+        String nextCursor = hasNext ? BalanceHistoryCursor.of(content.get(content.size() - 1)).encode() : null;
+
+        return BalanceHistoryPage.of(content.stream().map(BalanceTransactionResult::new).toList(), nextCursor);
+    }
 
-        return new BalanceResult(balance);
+    /**
+     * 전체 거래 내역 내보내기 (최신순)
+     *
+     * 키셋 배치 단위로 읽어 바로 전달하므로 메모리에는 한 배치만 올라간다.
+     * 전체를 하나의 트랜잭션으로 감싸지 않고 배치마다 짧은 읽기 전용 트랜잭션으로 읽어(저장소 조회 단위),
+     * 내보내는 동안 커넥션과 스냅샷을 붙잡지 않으면서도 배치 안의 원장/스테이징 조회는 같은 스냅샷을 본다.
+     *
+     * @return 내보낸 건수
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long exportTransactionHistory(String userId, Consumer<BalanceTransactionResult> sink) {
+        BalanceHistoryCursor position = null;
+        long exported = 0;
+        while (true) {
+            List<BalanceTransaction> batch =
+                    balanceTransactionRepository.findByUserIdBefore(userId, position, EXPORT_BATCH_SIZE);
+            batch.forEach(transaction -> sink.accept(new BalanceTransactionResult(transaction)));
+            exported += batch.size();
+            if (batch.size() < EXPORT_BATCH_SIZE) {
+                return exported;
+            }
+            position = BalanceHistoryCursor.of(batch.get(batch.size() - 1));
+        }
     }
 
     /**
-     * 사용자 잔액 조회 (BigDecimal 반환) - Repository 메서드 활용
+     * 사용자 잔액 조회 (BigDecimal 반환) - 잔액 캐시 우선
+     *
+     * @return 잔액 (계정이 없으면 null)
      */
     public BigDecimal getBalanceAmount(String userId) {
         log.debug("잔액 금액 조회: userId={}", userId);
 
-        // Repository의 getAmountByUserId 메서드 활용
-        return balanceRepository.getAmountByUserId(userId);
+        return findSnapshot(userId)
+                .map(BalanceSnapshot::amount)
+                .orElse(null);
     }
 
     /**
-     * 잔액 충분 여부 확인 - Repository 메서드 활용
+     * 캐시된 잔액만 조회 (DB를 조회하지 않음) - 결제 사전 확인용
+     *
+     * @return 캐시된 잔액 (캐시 미스면 empty)
+     */
+    public Optional<BigDecimal> getCachedBalanceAmount(String userId) {
+        if (stripedBalanceAccounts.isStriped(userId)) {
+            return Optional.empty();
+        }
+        return balanceCache.get(userId).map(BalanceSnapshot::amount);
+    }
+
+    /**
+     * 잔액 충분 여부 확인 - 잔액 캐시 우선
      */
     public boolean hasEnoughBalance(String userId, BigDecimal requiredAmount) {
         log.debug("잔액 충분 여부 확인: userId={}, requiredAmount={}", userId, requiredAmount);
 
-        // Repository의 hasEnoughAmount 메서드 활용
-        boolean hasEnough = balanceRepository.hasEnoughAmount(userId, requiredAmount)
+        boolean hasEnough = findSnapshot(userId)
+                .map(snapshot -> snapshot.hasEnough(requiredAmount))
                 .orElse(false);
 
         log.debug("잔액 확인 결과: requiredAmount={}, hasEnough={}", requiredAmount, hasEnough);
@@ -91,12 +182,20 @@ public class BalanceService implements BalanceUseCase {
     }
 
     /**
-     * 잔액 차감 (결제용) - 비관적 락 사용
+     * 잔액 차감 - 비관적 락 사용 (결제는 deductBalanceWithCondition 사용)
+     * 분할 모드 계정은 하위 행에서 차감하고, 합계를 담은 비영속 객체를 반환한다.
      */
     @Transactional
     public Balance deductBalance(String userId, BigDecimal amount, String reservationId) {
         log.info("잔액 차감 요청: userId={}, amount={}, reservationId={}", userId, amount, reservationId);
 
+        if (stripedBalanceAccounts.isStriped(userId)) {
+            BigDecimal balanceAfter = debitStriped(userId, amount, reservationId)
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            String.format("잔액이 부족합니다. 필요 금액: %s원", amount)));
+            return new Balance(userId, balanceAfter);
+        }
+
         // 1. 비관적 락으로 잔액 조회
         Balance balance = balanceRepository.findByUserIdWithLock(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자 잔액 정보가 없습니다: " + userId));
@@ -125,6 +224,8 @@ public class BalanceService implements BalanceUseCase {
                 reservationId
         );
         balanceTransactionRepository.save(transaction);
+        balanceAggregateCounter.recordChange(previousAmount, savedBalance.getAmount());
+        balanceCache.putAfterCommit(BalanceSnapshot.from(savedBalance));
 
         log.info("잔액 차감 완료: userId={}, 이전잔액={}, 차감금액={}, 현재잔액={}",
                 userId, previousAmount, amount, savedBalance.getAmount());
@@ -133,47 +234,70 @@ public class BalanceService implements BalanceUseCase {
     }
 
     /**
-     * 잔액 차감 (Repository의 원자적 업데이트 메서드 활용) - 대안 방식
+     * 잔액 차감 (결제 기본 경로) - 조건부 원자적 업데이트
+     *
+     * UPDATE ... WHERE amount >= ? 한 문장으로 잔액 확인과 차감을 함께 처리하므로
+     * 사전 잔액 조회, 비관적 락, 사용자 단위 분산락이 필요 없다.
+     * 차감 후 잔액은 같은 트랜잭션에서 읽으며, 이 트랜잭션이 행 락을 쥐고 있어 다른 차감이 끼어들 수 없다.
+     * 읽은 스냅샷(잔액, 버전)은 커밋 직후 잔액 캐시에 기록한다.
+     *
+     * @return 차감 후 잔액 (잔액 부족 또는 계정 없음이면 empty)
      */
     @Transactional
-    public boolean deductBalanceWithCondition(String userId, BigDecimal amount, String reservationId) {
+    public Optional<BigDecimal> deductBalanceWithCondition(String userId, BigDecimal amount, String reservationId) {
         log.info("원자적 잔액 차감 요청: userId={}, amount={}, reservationId={}", userId, amount, reservationId);
 
-        // Repository의 deductAmountByUserId 메서드 활용 (원자적 업데이트)
-        int updatedRows = balanceRepository.deductAmountByUserId(userId, amount);
-
-        if (updatedRows > 0) {
-            // 차감 성공 시 거래 내역 기록
-            BigDecimal balanceAfter = balanceRepository.getAmountByUserId(userId);
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("차감 금액은 0보다 커야 합니다.");
+        }
 
-            BalanceTransaction transaction = BalanceTransaction.payment(
-                    userId,
-                    amount,
-                    balanceAfter,
-                    reservationId
-            );
-            balanceTransactionRepository.save(transaction);
+        if (stripedBalanceAccounts.isStriped(userId)) {
+            return debitStriped(userId, amount, reservationId);
+        }
 
-            log.info("원자적 잔액 차감 완료: userId={}, 차감금액={}, 현재잔액={}",
-                    userId, amount, balanceAfter);
+        int updatedRows = balanceRepository.deductAmountByUserId(userId, amount);
 
-            return true;
-        } else {
+        if (updatedRows == 0) {
             log.warn("잔액 차감 실패 (잔액 부족 또는 사용자 없음): userId={}, amount={}", userId, amount);
-            return false;
+            return Optional.empty();
         }
+
+        BalanceSnapshot snapshot = balanceRepository.findSnapshotByUserId(userId)
+                .orElseThrow(() -> new IllegalStateException("차감한 잔액 정보를 찾을 수 없습니다: " + userId));
+        BigDecimal balanceAfter = snapshot.amount();
+
+        BalanceTransaction transaction = BalanceTransaction.payment(
+                userId,
+                amount,
+                balanceAfter,
+                reservationId
+        );
+        balanceTransactionRepository.save(transaction);
+        balanceAggregateCounter.recordChange(balanceAfter.add(amount), balanceAfter);
+        balanceCache.putAfterCommit(snapshot);
+
+        log.info("원자적 잔액 차감 완료: userId={}, 차감금액={}, 현재잔액={}",
+                userId, amount, balanceAfter);
+
+        return Optional.of(balanceAfter);
     }
 
     /**
      * 환불 처리
+     * 분할 모드 계정은 하위 행에 더하고, 합계를 담은 비영속 객체를 반환한다.
      */
     @Transactional
     public Balance refundBalance(String userId, BigDecimal amount, String reason) {
         log.info("환불 처리 요청: userId={}, amount={}, reason={}", userId, amount, reason);
 
+        if (stripedBalanceAccounts.isStriped(userId)) {
+            BalanceSnapshot snapshot = refundStriped(userId, amount, reason);
+            return new Balance(userId, snapshot.amount());
+        }
+
         // 1. 비관적 락으로 잔액 조회 또는 생성
-        Balance balance = balanceRepository.findByUserIdWithLock(userId)
-                .orElse(new Balance(userId, BigDecimal.ZERO));
+        Optional<Balance> existing = balanceRepository.findByUserIdWithLock(userId);
+        Balance balance = existing.orElse(new Balance(userId, BigDecimal.ZERO));
 
         BigDecimal previousAmount = balance.getAmount();
 
@@ -191,6 +315,8 @@ public class BalanceService implements BalanceUseCase {
                 reason
         );
         balanceTransactionRepository.save(transaction);
+        recordAggregate(existing.isEmpty(), previousAmount, savedBalance.getAmount());
+        balanceCache.putAfterCommit(BalanceSnapshot.from(savedBalance));
 
         log.info("환불 처리 완료: userId={}, 이전잔액={}, 환불금액={}, 현재잔액={}",
                 userId, previousAmount, amount, savedBalance.getAmount());
@@ -205,12 +331,19 @@ public class BalanceService implements BalanceUseCase {
     public boolean refundBalanceWithAdd(String userId, BigDecimal amount, String reason) {
         log.info("원자적 환불 처리 요청: userId={}, amount={}, reason={}", userId, amount, reason);
 
+        if (stripedBalanceAccounts.isStriped(userId)) {
+            refundStriped(userId, amount, reason);
+            return true;
+        }
+
         // Repository의 addAmountByUserId 메서드 활용
         int updatedRows = balanceRepository.addAmountByUserId(userId, amount);
 
         if (updatedRows > 0) {
             // 환불 성공 시 거래 내역 기록
-            BigDecimal balanceAfter = balanceRepository.getAmountByUserId(userId);
+            BalanceSnapshot snapshot = balanceRepository.findSnapshotByUserId(userId)
+                    .orElseThrow(() -> new IllegalStateException("환불한 잔액 정보를 찾을 수 없습니다: " + userId));
+            BigDecimal balanceAfter = snapshot.amount();
 
             BalanceTransaction transaction = BalanceTransaction.refund(
                     userId,
@@ -219,6 +352,8 @@ public class BalanceService implements BalanceUseCase {
                     reason
             );
             balanceTransactionRepository.save(transaction);
+            balanceAggregateCounter.recordChange(balanceAfter.subtract(amount), balanceAfter);
+            balanceCache.putAfterCommit(snapshot);
 
             log.info("원자적 환불 처리 완료: userId={}, 환불금액={}, 현재잔액={}",
                     userId, amount, balanceAfter);
@@ -248,7 +383,10 @@ public class BalanceService implements BalanceUseCase {
         }
 
         Balance balance = new Balance(userId, BigDecimal.ZERO);
-        return balanceRepository.save(balance);
+        Balance savedBalance = balanceRepository.save(balance);
+        balanceAggregateCounter.recordCreated(savedBalance.getAmount());
+        balanceCache.putAfterCommit(BalanceSnapshot.from(savedBalance));
+        return savedBalance;
     }
 
     /**
@@ -259,16 +397,75 @@ public class BalanceService implements BalanceUseCase {
     }
 
     /**
-     * 전체 사용자 잔액 합계 조회 - Repository 메서드 활용
+     * 전체 사용자 잔액 합계 조회 - 유지 중인 집계(샤드 합계)를 읽고, 집계가 꺼져 있으면 전체 합산
      */
     public BigDecimal getTotalBalance() {
-        return balanceRepository.getTotalBalance();
+        return balanceAggregateCounter.getTotalAmount()
+                .orElseGet(balanceRepository::getTotalBalance);
     }
 
     /**
-     * 특정 금액 이상 잔액 보유 사용자 수 조회 - Repository 메서드 활용
+     * 특정 금액 이상 잔액 보유 사용자 수 조회 - 유지 중인 기준 금액이면 집계를, 아니면 직접 센다
      */
     public long countUsersWithMinBalance(BigDecimal minAmount) {
-        return balanceRepository.countByAmountGreaterThanEqual(minAmount);
+        return balanceAggregateCounter.countAccountsWithMin(minAmount)
+                .orElseGet(() -> balanceRepository.countByAmountGreaterThanEqual(minAmount));
+    }
+
+    // 분할 모드 차감 - 하위 행에서 빼고 거래 내역/집계 반영 (잔액 캐시는 쓰지 않음)
+    private Optional<BigDecimal> debitStriped(String userId, BigDecimal amount, String reservationId) {
+        Optional<BigDecimal> balanceAfter = stripedBalanceAccounts.debit(userId, amount);
+        if (balanceAfter.isEmpty()) {
+            log.warn("분할 잔액 차감 실패 (잔액 부족 또는 사용자 없음): userId={}, amount={}", userId, amount);
+            return Optional.empty();
+        }
+
+        balanceTransactionRepository.save(BalanceTransaction.payment(userId, amount, balanceAfter.get(), reservationId));
+        balanceAggregateCounter.recordAmountChange(amount.negate());
+
+        log.info("분할 잔액 차감 완료: userId={}, 차감금액={}, 현재잔액={}", userId, amount, balanceAfter.get());
+        return balanceAfter;
+    }
+
+    private BalanceSnapshot refundStriped(String userId, BigDecimal amount, String reason) {
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("환불 금액은 0보다 커야 합니다.");
+        }
+        return creditStriped(userId, amount, balanceAfter -> BalanceTransaction.refund(userId, amount, balanceAfter, reason));
+    }
+
+    // 분할 모드 충전/환불 - 잔액 행을 잠그지 않고 하위 행 하나에 더한 뒤 거래 내역/집계 반영
+    private BalanceSnapshot creditStriped(String userId, BigDecimal amount,
+                                          Function<BigDecimal, BalanceTransaction> transactionFactory) {
+        BalanceSnapshot snapshot = stripedBalanceAccounts.credit(userId, amount);
+
+        balanceTransactionRepository.save(transactionFactory.apply(snapshot.amount()));
+        balanceAggregateCounter.recordAmountChange(amount);
+
+        log.info("분할 잔액 반영 완료: userId={}, 금액={}, 현재잔액={}", userId, amount, snapshot.amount());
+        return snapshot;
+    }
+
+    // 잔액 캐시 조회, 미스면 DB 스냅샷으로 채운다 (버전 비교로 더 새로운 캐시 값을 덮어쓰지 않음)
+    private Optional<BalanceSnapshot> findSnapshot(String userId) {
+        if (stripedBalanceAccounts.isStriped(userId)) {
+            return stripedBalanceAccounts.findSnapshot(userId);
+        }
+        Optional<BalanceSnapshot> cached = balanceCache.get(userId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<BalanceSnapshot> snapshot = balanceRepository.findSnapshotByUserId(userId);
+        snapshot.ifPresent(balanceCache::put);
+        return snapshot;
+    }
+
+    // 잔액 변경과 같은 트랜잭션에서 플랫폼 집계 반영
+    private void recordAggregate(boolean created, BigDecimal before, BigDecimal after) {
+        if (created) {
+            balanceAggregateCounter.recordCreated(after);
+        } else {
+            balanceAggregateCounter.recordChange(before, after);
+        }
     }
 }
\ No newline at end of file
@@ -1,9 +1,15 @@
 package kr.hhplus.be.server.balance.service;
 
 import kr.hhplus.be.server.balance.command.BalanceChargeCommand;
+import kr.hhplus.be.server.balance.dto.BalanceHistoryPage;
 import kr.hhplus.be.server.balance.dto.BalanceResult;
+import kr.hhplus.be.server.balance.dto.BalanceTransactionResult;
+
+import java.util.function.Consumer;
 
 public interface BalanceUseCase {
     BalanceResult chargeBalance(BalanceChargeCommand command);
     BalanceResult getBalance(String userId);
+    BalanceHistoryPage getTransactionHistory(String userId, String cursor, int size);
+    long exportTransactionHistory(String userId, Consumer<BalanceTransactionResult> sink);
 }
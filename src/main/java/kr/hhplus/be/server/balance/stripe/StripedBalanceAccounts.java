@@ -0,0 +1,197 @@
+package kr.hhplus.be.server.balance.stripe;
+
+import kr.hhplus.be.server.balance.domain.Balance;
+import kr.hhplus.be.server.balance.dto.BalanceSnapshot;
+import kr.hhplus.be.server.balance.repository.BalanceRepository;
+import kr.hhplus.be.server.balance.repository.BalanceStripeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 분할 잔액 계정 (충전/결제가 잦은 법인/리셀러 계정용, 선택 기능)
+ *
+ * 설정한 계정은 잔액을 하위 행 N개(balance_stripes)에 나눠 보관한다.
+ * - 충전/환불: 임의로 고른 하위 행 하나에 더한다 (잔액 행은 잠그지 않음)
+ * - 차감: 잠금 없이 읽은 하위 행 중 잔액이 충분해 보이는 행 하나에서 조건부로 뺀다.
+ *   그런 행이 없으면 잔액 행과 하위 행 전체를 잠그고 병합해 뺀다
+ * - 잔액: 잔액 행 + 하위 행 합계 (조회 한 번이 조금 비싸지는 대신 쓰기 동시성이 N배가 된다)
+ *
+ * 잠금 순서: 병합만 여러 행을 잠그며 항상 잔액 행 → 하위 행(ID 순)으로 잡고, 빠른 경로는 하위 행 하나만 잠근다.
+ * 실패한 조건부 UPDATE도 REPEATABLE READ에서는 행 락을 유지하므로, 그 상태로 병합하면 잔액 행을 나중에 잡게 되어
+ * 동시 병합과 교착할 수 있다. 그래서 빠른 경로가 다른 차감에 밀리면 병합하지 않고 {@link CannotAcquireLockException}을
+ * 던져 호출자 트랜잭션을 롤백(하위 행 락 해제)시키고, 해당 계정의 다음 차감은 빠른 경로 없이 바로 병합하도록 표시한다.
+ * 호출자는 트랜잭션 전체를 새로 시작해 재시도한다. (PaymentService)
+ * 분할 모드 계정은 잔액 캐시를 쓰지 않는다. (하위 행 변경에는 잔액 행 버전이 오르지 않음)
+ * 설정에서 계정을 빼기 전에는 하위 행 잔액을 잔액 행으로 옮겨야 한다.
+ */
+@Component
+public class StripedBalanceAccounts {
+
+    private static final Logger log = LoggerFactory.getLogger(StripedBalanceAccounts.class);
+
+    private final BalanceStripeRepository balanceStripeRepository;
+    private final BalanceRepository balanceRepository;
+    private final boolean enabled;
+    private final int stripes;
+    private final Set<String> accounts;
+    // 빠른 경로가 경합으로 실패한 계정 - 다음 차감(재시도)은 하위 행 락 없이 바로 병합
+    private final Set<String> mergeFirst = ConcurrentHashMap.newKeySet();
+
+    public StripedBalanceAccounts(BalanceStripeRepository balanceStripeRepository,
+                                  BalanceRepository balanceRepository,
+                                  @Value("${balance.striping.enabled:false}") boolean enabled,
+                                  @Value("${balance.striping.stripes:8}") int stripes,
+                                  @Value("${balance.striping.accounts:}") List<String> accounts) {
+        this.balanceStripeRepository = balanceStripeRepository;
+        this.balanceRepository = balanceRepository;
+        this.enabled = enabled;
+        this.stripes = Math.max(1, stripes);
+        this.accounts = accounts.stream()
+                .map(String::trim)
+                .filter(account -> !account.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public boolean isStriped(String userId) {
+        return enabled && accounts.contains(userId);
+    }
+
+    /**
+     * 분할 모드 계정 목록 (비활성화면 비어 있음)
+     */
+    public Set<String> stripedAccounts() {
+        return enabled ? accounts : Set.of();
+    }
+
+    /**
+     * 잔액(잔액 행 + 하위 행)이 기준 금액 이상인 분할 모드 계정 수
+     * 분할 모드 계정은 서로 다른 하위 행의 동시 변경이 기준 금액 통과를 각자 관측할 수 없으므로
+     * 플랫폼 집계에 기준 금액별 계정 수를 기록하지 않고, 소수의 설정 계정을 조회 시점에 센다.
+     */
+    public long countWithMin(BigDecimal minAmount) {
+        return stripedAccounts().stream()
+                .map(balanceStripeRepository::findTotalSnapshot)
+                .flatMap(Optional::stream)
+                .filter(snapshot -> snapshot.amount().compareTo(minAmount) >= 0)
+                .count();
+    }
+
+    /**
+     * 하위 행 하나에 금액을 더한다 (호출자의 트랜잭션 안에서 실행)
+     *
+     * @return 이 트랜잭션에서 본 충전 후 잔액
+     * @throws IllegalArgumentException 잔액 계정이 없는 경우 (트랜잭션이 롤백되어 하위 행 변경도 취소됨)
+     */
+    public BalanceSnapshot credit(String userId, BigDecimal amount) {
+        balanceStripeRepository.credit(userId, pickStripe(), amount);
+        return snapshotOrThrow(userId);
+    }
+
+    /**
+     * 하위 행에서 금액을 뺀다 (호출자의 트랜잭션 안에서 실행)
+     *
+     * @return 이 트랜잭션에서 본 차감 후 잔액 (전체 잔액이 부족하거나 계정이 없으면 empty, 아무것도 변경되지 않음)
+     * @throws CannotAcquireLockException 빠른 경로가 다른 차감에 밀린 경우 (트랜잭션을 롤백하고 재시도해야 함)
+     */
+    public Optional<BigDecimal> debit(String userId, BigDecimal amount) {
+        if (mergeFirst.remove(userId)) {
+            return debitWithMerge(userId, amount);
+        }
+
+        List<Integer> candidates = balanceStripeRepository.findAll(userId).entrySet().stream()
+                .filter(stripe -> stripe.getValue().compareTo(amount) >= 0)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (candidates.isEmpty()) {
+            return debitWithMerge(userId, amount);
+        }
+
+        int stripeId = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+        if (balanceStripeRepository.debit(userId, stripeId, amount)) {
+            return Optional.of(snapshotOrThrow(userId).amount());
+        }
+
+        // 실패한 UPDATE가 하위 행 락을 쥐고 있으므로 여기서 병합(잔액 행 잠금)하지 않는다
+        mergeFirst.add(userId);
+        throw new CannotAcquireLockException("분할 잔액 하위 행 경합: userId=" + userId + ", stripeId=" + stripeId);
+    }
+
+    /**
+     * 잔액 행과 하위 행을 합한 잔액 (잔액 계정이 없으면 empty)
+     */
+    public Optional<BalanceSnapshot> findSnapshot(String userId) {
+        return balanceStripeRepository.findTotalSnapshot(userId);
+    }
+
+    /**
+     * 빠른 경로 실패 시 병합 차감
+     * 잔액 행과 하위 행 전체를 잠근 뒤, 잔액 행에 남은 금액(분할 모드 전환 전 잔액)을 하위 행으로 옮기고
+     * 잔액이 큰 하위 행부터 차감한다.
+     */
+    private Optional<BigDecimal> debitWithMerge(String userId, BigDecimal amount) {
+        Optional<Balance> locked = balanceRepository.findByUserIdWithLock(userId);
+        if (locked.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Balance balance = locked.get();
+        BigDecimal legacyAmount = balance.getAmount();
+        if (legacyAmount.signum() > 0) {
+            balance.deductAmount(legacyAmount);
+            // 이후 하위 행 조회는 JDBC로 실행되므로 잔액 행 변경을 먼저 반영
+            balanceRepository.saveAndFlush(balance);
+            balanceStripeRepository.credit(userId, pickStripe(), legacyAmount);
+        }
+
+        Map<Integer, BigDecimal> amounts = balanceStripeRepository.lockAll(userId);
+        BigDecimal total = amounts.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (total.compareTo(amount) < 0) {
+            // 옮긴 잔액은 그대로 두어도 합계는 같다
+            return Optional.empty();
+        }
+
+        List<Map.Entry<Integer, BigDecimal>> byAmount = new ArrayList<>(amounts.entrySet());
+        byAmount.sort(Map.Entry.<Integer, BigDecimal>comparingByValue(Comparator.reverseOrder()));
+
+        Map<Integer, BigDecimal> changed = new HashMap<>();
+        BigDecimal remaining = amount;
+        for (Map.Entry<Integer, BigDecimal> stripe : byAmount) {
+            if (remaining.signum() == 0) {
+                break;
+            }
+            BigDecimal taken = stripe.getValue().min(remaining);
+            if (taken.signum() > 0) {
+                changed.put(stripe.getKey(), stripe.getValue().subtract(taken));
+                remaining = remaining.subtract(taken);
+            }
+        }
+        balanceStripeRepository.replaceAmounts(userId, changed);
+
+        log.info("분할 잔액 병합 차감: userId={}, amount={}, 병합 하위 행 수={}", userId, amount, changed.size());
+        return Optional.of(total.subtract(amount));
+    }
+
+    private BalanceSnapshot snapshotOrThrow(String userId) {
+        return balanceStripeRepository.findTotalSnapshot(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자 잔액 정보가 없습니다: " + userId));
+    }
+
+    private int pickStripe() {
+        return ThreadLocalRandom.current().nextInt(stripes);
+    }
+}
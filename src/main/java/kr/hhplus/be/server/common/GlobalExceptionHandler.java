@@ -5,6 +5,7 @@ import kr.hhplus.be.server.concert.exception.ConcertNotFoundException;
 import kr.hhplus.be.server.reservation.exception.ConcurrentReservationException;
 import kr.hhplus.be.server.reservation.exception.ReservationExpiredException;
 import kr.hhplus.be.server.reservation.exception.ReservationNotFoundException;
+import kr.hhplus.be.server.seat.exception.SeatAlreadyAssignedException;
 import kr.hhplus.be.server.seat.exception.SeatNotAvailableException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -79,6 +80,24 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(409, error));
     }
 
+    @ExceptionHandler(SeatAlreadyAssignedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleSeatAlreadyAssigned(SeatAlreadyAssignedException e) {
+        logger.warn("이미 선점된 좌석: concertId={}, seatNumber={}", e.getConcertId(), e.getSeatNumber());
+
+        Map<String, Object> details = new HashMap<>();
+        details.put("concertId", e.getConcertId());
+        details.put("seatNumber", e.getSeatNumber());
+
+        ErrorResponse error = new ErrorResponse(
+                "SEAT_ALREADY_ASSIGNED",
+                e.getMessage(),
+                details
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(409, error));
+    }
+
     @ExceptionHandler(ConcurrentReservationException.class)
     public ResponseEntity<ApiResponse<Void>> handleConcurrentReservation(ConcurrentReservationException e) {
         logger.warn("동시 예약 충돌: {}", e.getMessage());
@@ -0,0 +1,25 @@
+package kr.hhplus.be.server.common.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+
+/**
+ * 미리 직렬화된 JSON 조각
+ * 응답 본문에 다시 직렬화하지 않고 그대로 기록한다. (예: ApiResponse&lt;RawJson&gt;의 data)
+ */
+@JsonSerialize(using = RawJson.Serializer.class)
+public record RawJson(String json) {
+
+    public static final RawJson EMPTY_ARRAY = new RawJson("[]");
+
+    static class Serializer extends JsonSerializer<RawJson> {
+        @Override
+        public void serialize(RawJson value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeRawValue(value.json());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package kr.hhplus.be.server.common.id;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순서 식별자(UUIDv7) 생성 및 변환
+ *
+ * 상위 48비트가 밀리초 타임스탬프이므로 BINARY(16)으로 저장하면 삽입이 클러스터드 인덱스의
+ * 끝부분에 몰려 페이지 분할과 보조 인덱스 비대화를 줄인다.
+ * 같은 밀리초 안에서는 12비트 카운터(rand_a)로 단조 증가를 보장한다.
+ *
+ * 저장은 BINARY(16), API 경계에서는 표준 UUID 문자열(36자)을 사용한다.
+ */
+public final class TimeOrderedIds {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    // (타임스탬프 << 12) | 카운터
+    private static final AtomicLong lastState = new AtomicLong();
+
+    private TimeOrderedIds() {
+    }
+
+    /**
+     * 새 UUIDv7 생성
+     */
+    public static UUID newUuid() {
+        long state = lastState.updateAndGet(previous -> {
+            long candidate = System.currentTimeMillis() << COUNTER_BITS;
+            // 같은 밀리초(또는 시계 역행) → 카운터 증가, 카운터 소진 시 다음 밀리초로 넘어감
+            return candidate > previous ? candidate : previous + 1;
+        });
+
+        long timestamp = state >>> COUNTER_BITS;
+        long counter = state & COUNTER_MASK;
+
+        long mostSigBits = (timestamp << 16) | (0x7L << 12) | counter;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * 새 UUIDv7 문자열 생성
+     */
+    public static String newId() {
+        return newUuid().toString();
+    }
+
+    /**
+     * API 경계에서 받은 문자열 ID 파싱
+     *
+     * @return 표준 UUID 형식이 아니면 empty
+     */
+    public static Optional<UUID> parse(String id) {
+        if (id == null || id.length() != 36) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(UUID.fromString(id));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * 문자열 ID 목록을 BINARY(16) 바인딩 값으로 변환 (형식이 잘못된 ID는 제외)
+     */
+    public static List<byte[]> toBytes(Collection<String> ids) {
+        return ids.stream()
+                .map(TimeOrderedIds::parse)
+                .flatMap(Optional::stream)
+                .map(TimeOrderedIds::toBytes)
+                .toList();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,27 @@
+package kr.hhplus.be.server.common.id;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 문자열 UUID ↔ BINARY(16) 변환기
+ * 다른 테이블의 ID를 참조하는 컬럼(예: payments.reservation_id)에 사용한다.
+ */
+@Converter
+public class UuidBinaryConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        return TimeOrderedIds.parse(attribute)
+                .map(TimeOrderedIds::toBytes)
+                .orElseThrow(() -> new IllegalArgumentException("UUID 형식의 ID가 아닙니다: " + attribute));
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return dbData == null ? null : TimeOrderedIds.fromBytes(dbData).toString();
+    }
+}
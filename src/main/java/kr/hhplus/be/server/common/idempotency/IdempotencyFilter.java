@@ -0,0 +1,268 @@
+package kr.hhplus.be.server.common.idempotency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.hhplus.be.server.common.ApiResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Idempotency-Key 헤더 처리 필터
+ *
+ * 타임아웃 후 재시도하는 클라이언트가 같은 키로 다시 요청하면 락/DB 작업을 재실행하지 않고
+ * 첫 요청의 응답을 그대로 돌려준다.
+ * - 첫 요청: 처리 중 표시 후 실행, 확정된 결과(2xx, 재시도해도 같은 4xx)만 응답(상태/본문)을 저장
+ * - 처리 중 재시도: 409 (Retry-After)
+ * - 완료 후 재시도: 저장된 응답 + Idempotent-Replayed 헤더
+ * - 같은 키에 다른 본문: 422 (이전 결과를 재사용하지 않음)
+ *
+ * 키는 메서드/경로/요청자 범위로 저장된다. 대상 API는 Authorization이 아닌 본문 userId(잔액 충전은 경로)로
+ * 요청자를 받으므로 본문 userId를 범위에 넣어 다른 사용자의 같은 키와 섞이지 않게 한다.
+ * 5xx와 락 경합/속도 제한 같은 일시적 실패(408, 409, 423, 425, 429)는 저장하지 않아 재시도가 다시 실행된다.
+ * Redis 장애로 처리 중 표시를 잡지 못하면 멱등 처리 없이 그대로 실행한다. (중복 방지는 각 API의 락/조건부 갱신이 담당)
+ * 헤더가 없는 요청은 기존과 동일하게 처리한다.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    // 재시도하면 결과가 달라질 수 있는 일시적 실패 (저장하지 않음)
+    private static final Set<Integer> TRANSIENT_STATUSES = Set.of(408, 409, 423, 425, 429);
+
+    // 멱등 키를 지원하는 쓰기 API
+    private static final List<String> IDEMPOTENT_PATHS = List.of(
+            "/api/reservations",
+            "/api/payments",
+            "/api/users/*/balance"
+    );
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration inFlightTtl;
+    private final Duration responseTtl;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore,
+                             ObjectMapper objectMapper,
+                             @Value("${idempotency.enabled:true}") boolean enabled,
+                             @Value("${idempotency.in-flight-ttl-seconds:30}") long inFlightTtlSeconds,
+                             @Value("${idempotency.response-ttl-hours:24}") long responseTtlHours) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.inFlightTtl = Duration.ofSeconds(inFlightTtlSeconds);
+        this.responseTtl = Duration.ofHours(responseTtlHours);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"POST".equalsIgnoreCase(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return IDEMPOTENT_PATHS.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "INVALID_IDEMPOTENCY_KEY",
+                    "Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+            return;
+        }
+
+        // 본문은 한 번만 읽을 수 있으므로 캐시해 지문 계산과 실제 처리에 함께 사용
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, request.getInputStream().readAllBytes());
+        String scope = scope(request, callerId(cachedRequest.body), idempotencyKey);
+        String fingerprint = sha256(cachedRequest.body);
+        String owner = UUID.randomUUID().toString();
+
+        boolean began;
+        try {
+            began = idempotencyStore.tryBegin(scope, fingerprint, owner, inFlightTtl);
+        } catch (RuntimeException e) {
+            log.warn("멱등 키 저장소 오류, 멱등 처리 없이 실행: path={}", request.getRequestURI(), e);
+            filterChain.doFilter(cachedRequest, response);
+            return;
+        }
+        if (!began) {
+            replayOrReject(scope, fingerprint, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(cachedRequest, wrapper);
+        } catch (IOException | ServletException | RuntimeException e) {
+            idempotencyStore.abandon(scope, fingerprint, owner);
+            throw e;
+        }
+
+        // 서버 오류/일시적 실패는 저장하지 않고 재시도가 다시 실행되도록 함
+        if (!isFinal(wrapper.getStatus())) {
+            idempotencyStore.abandon(scope, fingerprint, owner);
+        } else {
+            String body = new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8);
+            idempotencyStore.complete(scope, fingerprint, owner,
+                    new StoredResponse(wrapper.getStatus(), wrapper.getContentType(), body, fingerprint),
+                    responseTtl);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void replayOrReject(String scope, String fingerprint, HttpServletResponse response) throws IOException {
+        IdempotencyRecord record = idempotencyStore.find(scope).orElse(null);
+        if (record != null && !Objects.equals(record.fingerprint(), fingerprint)) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+                    "같은 Idempotency-Key가 다른 요청 본문으로 사용되었습니다.");
+            return;
+        }
+        if (record == null || !record.isCompleted()) {
+            response.setHeader("Retry-After", "1");
+            writeError(response, HttpStatus.CONFLICT, "IDEMPOTENCY_IN_PROGRESS",
+                    "같은 Idempotency-Key의 요청이 처리 중입니다.");
+            return;
+        }
+
+        StoredResponse stored = record.response();
+
+        log.debug("멱등 응답 재사용: status={}", stored.status());
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(stored.body());
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String type, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString(ApiResponse.error(status.value(), type, message)));
+    }
+
+    private static boolean isFinal(int status) {
+        return status < 500 && !TRANSIENT_STATUSES.contains(status);
+    }
+
+    /**
+     * 본문의 userId (대상 API의 요청자, 없거나 JSON이 아니면 빈 값 - 잔액 충전은 경로에 포함됨)
+     */
+    private String callerId(byte[] body) {
+        try {
+            JsonNode userId = objectMapper.readTree(body).path("userId");
+            return userId.isTextual() ? userId.asText() : "";
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    /**
+     * 메서드 + 경로 + 요청자 + 키의 해시 (사용자 ID/키 원문을 Redis 키에 남기지 않음)
+     */
+    static String scope(HttpServletRequest request, String callerId, String idempotencyKey) {
+        String raw = String.join("\n", request.getMethod(), request.getRequestURI(), callerId, idempotencyKey);
+        return sha256(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(byte[] value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 미리 읽어 둔 본문을 다시 제공하는 요청 래퍼
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.common.idempotency;
+
+/**
+ * 멱등 키의 현재 상태
+ *
+ * @param fingerprint 첫 요청 본문의 해시
+ * @param response    저장된 응답 (첫 요청이 처리 중이면 null)
+ */
+public record IdempotencyRecord(String fingerprint, StoredResponse response) {
+
+    public boolean isCompleted() {
+        return response != null;
+    }
+}
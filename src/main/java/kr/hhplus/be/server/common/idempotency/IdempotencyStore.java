@@ -0,0 +1,119 @@
+package kr.hhplus.be.server.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis 멱등 키 저장소
+ *
+ * - idempotency:{scope} = "IN_FLIGHT:{fingerprint}:{owner}" : 첫 요청 처리 중 (짧은 TTL, 처리 노드가 죽어도 풀림)
+ * - idempotency:{scope} = 응답 JSON (본문 지문 포함)              : 처리 완료, 재시도에는 저장된 응답을 그대로 반환
+ *
+ * 두 상태 모두 첫 요청 본문의 지문을 담고 있어, 같은 키로 다른 본문이 오면 필터가 거절할 수 있다.
+ * 완료/포기는 처리 중 표시의 소유자만 할 수 있도록 Lua 스크립트로 비교 후 변경한다.
+ * 완료/포기는 응답 이후의 부가 작업이므로 Redis 오류를 삼키고, 남은 처리 중 표시는 TTL로 풀린다.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String IN_FLIGHT_PREFIX = "IN_FLIGHT:";
+
+    // 소유자가 일치할 때만 응답 저장
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 end return 0", Long.class);
+
+    // 소유자가 일치할 때만 처리 중 표시 삭제
+    private static final RedisScript<Long> ABANDON_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end return 0",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyStore(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 처리 중 표시 선점
+     *
+     * @return 이 요청이 첫 요청이면 true
+     */
+    public boolean tryBegin(String scope, String fingerprint, String owner, Duration inFlightTtl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(key(scope), inFlightMarker(fingerprint, owner), inFlightTtl));
+    }
+
+    /**
+     * 저장된 상태 조회
+     *
+     * @return 처리 중이면 응답 없는 기록, 처리 완료면 저장된 응답을 담은 기록, 없으면 empty
+     */
+    public Optional<IdempotencyRecord> find(String scope) {
+        String value = redisTemplate.opsForValue().get(key(scope));
+        if (value == null) {
+            return Optional.empty();
+        }
+        if (value.startsWith(IN_FLIGHT_PREFIX)) {
+            String marker = value.substring(IN_FLIGHT_PREFIX.length());
+            int separator = marker.indexOf(':');
+            return Optional.of(new IdempotencyRecord(
+                    separator < 0 ? null : marker.substring(0, separator), null));
+        }
+        try {
+            StoredResponse response = objectMapper.readValue(value, StoredResponse.class);
+            return Optional.of(new IdempotencyRecord(response.fingerprint(), response));
+        } catch (JsonProcessingException e) {
+            log.warn("저장된 멱등 응답 파싱 실패: scope={}", scope, e);
+            return Optional.empty();
+        }
+    }
+
+    public void complete(String scope, String fingerprint, String owner, StoredResponse response,
+                         Duration responseTtl) {
+        try {
+            redisTemplate.execute(COMPLETE_SCRIPT, List.of(key(scope)),
+                    inFlightMarker(fingerprint, owner), objectMapper.writeValueAsString(response),
+                    String.valueOf(responseTtl.toMillis()));
+        } catch (JsonProcessingException e) {
+            log.warn("멱등 응답 직렬화 실패: scope={}", scope, e);
+            abandon(scope, fingerprint, owner);
+        } catch (RuntimeException e) {
+            log.warn("멱등 응답 저장 실패 (처리 중 표시는 TTL 후 해제): scope={}", scope, e);
+        }
+    }
+
+    /**
+     * 처리 중 표시 해제 (재시도가 다시 실행될 수 있도록)
+     */
+    public void abandon(String scope, String fingerprint, String owner) {
+        try {
+            redisTemplate.execute(ABANDON_SCRIPT, List.of(key(scope)), inFlightMarker(fingerprint, owner));
+        } catch (RuntimeException e) {
+            log.warn("멱등 처리 중 표시 해제 실패 (TTL 후 해제): scope={}", scope, e);
+        }
+    }
+
+    private static String inFlightMarker(String fingerprint, String owner) {
+        return IN_FLIGHT_PREFIX + fingerprint + ":" + owner;
+    }
+
+    private static String key(String scope) {
+        return KEY_PREFIX + scope;
+    }
+}
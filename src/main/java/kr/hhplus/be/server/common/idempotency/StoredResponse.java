@@ -0,0 +1,7 @@
+package kr.hhplus.be.server.common.idempotency;
+
+/**
+ * 멱등 키로 저장된 첫 요청의 응답 (fingerprint: 첫 요청 본문의 해시)
+ */
+public record StoredResponse(int status, String contentType, String body, String fingerprint) {
+}
@@ -4,6 +4,30 @@ import org.springframework.stereotype.Service;
 
 @Service
 public interface DistributedLockService {
+    /**
+     * 즉시 락 획득 시도 (대기 없음)
+     */
     boolean tryLock(String key, String value, long timeoutSeconds);
+
+    /**
+     * 최대 waitMillis 동안 락 해제 알림을 기다리며 락 획득 시도
+     * 획득한 락은 해제 전까지 워치독이 임대 시간을 연장한다.
+     *
+     * @param key 락 키
+     * @param value 락 소유자 식별값
+     * @param leaseSeconds 임대 시간 (워치독 갱신 주기의 기준)
+     * @param waitMillis 최대 대기 시간 (0이면 즉시 실패)
+     * @return 획득 성공 여부
+     */
+    boolean tryLock(String key, String value, long leaseSeconds, long waitMillis);
+
     void unlock(String key, String value);
-}
\ No newline at end of file
+
+    /**
+     * 이 노드가 보유 중인 락의 펜싱 토큰
+     * 락 획득마다 키별로 단조 증가하며, DB 쓰기 시 더 작은 토큰의 쓰기를 거부하는 데 사용한다.
+     *
+     * @return 보유 중인 락의 토큰, 보유하고 있지 않으면 null
+     */
+    Long getFencingToken(String key, String value);
+}
@@ -1,49 +1,170 @@
 package kr.hhplus.be.server.common.lock;
 
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Redis 분산 락
+ *
+ * - 획득: SET NX PX와 펜싱 토큰 INCR을 하나의 Lua 스크립트로 수행
+ * - 대기: 스핀 대신 해제 시 발행되는 Pub/Sub 알림을 기다림 (알림 유실 대비 남은 TTL만큼만 대기 후 재시도)
+ * - 워치독: 보유 중인 락의 임대 시간을 주기적으로 연장 (최대 보유 시간 초과 시 중단)
+ * - 스크립트는 한 번만 생성하여 SHA1을 재사용 (EVALSHA)
+ * - 같은 노드의 같은 키 경쟁자는 {@link LocalLockCoalescer}로 병합하여 하나만 Redis에 접근
+ */
 @Service
-public class RedisDistributedLockService implements DistributedLockService {
+public class RedisDistributedLockService implements DistributedLockService, MessageListener {
 
     private static final Logger logger = LoggerFactory.getLogger(RedisDistributedLockService.class);
 
-    private final RedisTemplate<String, String> redisTemplate;
+    static final String RELEASE_CHANNEL = "lock:released";
+    private static final String FENCING_SUFFIX = ":fencing";
 
-    // Lua 스크립트로 원자적 unlock 보장
-    private static final String UNLOCK_SCRIPT =
+    // 락 획득 + 펜싱 토큰 발급 (실패 시 0)
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+                    "    return redis.call('incr', KEYS[2]) " +
+                    "else " +
+                    "    return 0 " +
+                    "end", Long.class);
+
+    // Lua 스크립트로 원자적 unlock 보장 + 대기자에게 해제 알림
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
             "if redis.call('get', KEYS[1]) == ARGV[1] then " +
-                    "    return redis.call('del', KEYS[1]) " +
+                    "    redis.call('del', KEYS[1]) " +
+                    "    redis.call('publish', ARGV[2], KEYS[1]) " +
+                    "    return 1 " +
                     "else " +
                     "    return 0 " +
-                    "end";
+                    "end", Long.class);
+
+    // 소유자가 일치할 때만 임대 시간 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "    return redis.call('pexpire', KEYS[1], ARGV[2]) " +
+                    "else " +
+                    "    return 0 " +
+                    "end", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LocalLockCoalescer localLockCoalescer;
+    private final long maxHoldMillis;
+    private final ScheduledExecutorService watchdog;
+
+    private final Map<String, HeldLock> heldLocks = new ConcurrentHashMap<>();
+    private final Map<String, LockWaiters> waiters = new ConcurrentHashMap<>();
 
-    public RedisDistributedLockService(RedisTemplate<String, String> redisTemplate) {
+    public RedisDistributedLockService(RedisTemplate<String, String> redisTemplate,
+                                       RedisMessageListenerContainer listenerContainer,
+                                       LocalLockCoalescer localLockCoalescer,
+                                       @Value("${lock.watchdog.max-hold-seconds:60}") long maxHoldSeconds) {
         this.redisTemplate = redisTemplate;
+        this.localLockCoalescer = localLockCoalescer;
+        this.maxHoldMillis = TimeUnit.SECONDS.toMillis(maxHoldSeconds);
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lock-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        listenerContainer.addMessageListener(this, new ChannelTopic(RELEASE_CHANNEL));
     }
 
     @Override
     public boolean tryLock(String key, String value, long timeoutSeconds) {
+        return tryLock(key, value, timeoutSeconds, 0);
+    }
+
+    @Override
+    public boolean tryLock(String key, String value, long leaseSeconds, long waitMillis) {
+        long deadline = System.currentTimeMillis() + waitMillis;
+
+        try {
+            if (!localLockCoalescer.acquire(key, value, waitMillis)) {
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        boolean acquired = false;
         try {
-            Boolean acquired = redisTemplate.opsForValue()
-                    .setIfAbsent(key, value, timeoutSeconds, TimeUnit.SECONDS);
+            long remaining = Math.max(0, deadline - System.currentTimeMillis());
+            acquired = tryLockRemote(key, value, leaseSeconds, remaining);
+            return acquired;
+        } finally {
+            if (!acquired) {
+                localLockCoalescer.release(key, value);
+            }
+        }
+    }
 
-            boolean result = Boolean.TRUE.equals(acquired);
+    private boolean tryLockRemote(String key, String value, long leaseSeconds, long waitMillis) {
+        long leaseMillis = TimeUnit.SECONDS.toMillis(leaseSeconds);
+        long deadline = System.currentTimeMillis() + waitMillis;
 
-            if (result) {
-                logger.debug("분산 락 획득 성공: key={}, value={}", key, value);
-            } else {
+        try {
+            Long token = acquire(key, value, leaseMillis);
+            if (token > 0) {
+                onAcquired(key, value, token, leaseMillis);
+                return true;
+            }
+            if (waitMillis <= 0) {
                 logger.debug("분산 락 획득 실패: key={}, value={}", key, value);
+                return false;
             }
 
-            return result;
+            LockWaiters lockWaiters = registerWaiter(key);
+            try {
+                while (true) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        logger.debug("분산 락 대기 시간 초과: key={}, value={}, waitMillis={}", key, value, waitMillis);
+                        return false;
+                    }
+
+                    // 해제 알림을 기다리되, 알림 유실(만료에 의한 해제 등)에 대비해 남은 TTL 이상은 기다리지 않음
+                    Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                    long waitFor = (ttl != null && ttl > 0) ? Math.min(remaining, ttl) : 0;
+                    if (waitFor > 0) {
+                        lockWaiters.permits.tryAcquire(waitFor, TimeUnit.MILLISECONDS);
+                    }
 
+                    token = acquire(key, value, leaseMillis);
+                    if (token > 0) {
+                        onAcquired(key, value, token, leaseMillis);
+                        return true;
+                    }
+                }
+            } finally {
+                deregisterWaiter(key);
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("분산 락 대기 중 인터럽트: key={}, value={}", key, value);
+            return false;
         } catch (Exception e) {
             logger.error("분산 락 획득 중 오류 발생: key={}, value={}", key, value, e);
             return false;
@@ -52,12 +173,13 @@ public class RedisDistributedLockService implements DistributedLockService {
 
     @Override
     public void unlock(String key, String value) {
-        try {
-            DefaultRedisScript<Long> script = new DefaultRedisScript<>();
-            script.setScriptText(UNLOCK_SCRIPT);
-            script.setResultType(Long.class);
+        HeldLock held = heldLocks.get(key);
+        if (held != null && held.value.equals(value) && heldLocks.remove(key, held)) {
+            held.renewal.cancel(false);
+        }
 
-            Long result = redisTemplate.execute(script, Collections.singletonList(key), value);
+        try {
+            Long result = redisTemplate.execute(UNLOCK_SCRIPT, Collections.singletonList(key), value, RELEASE_CHANNEL);
 
             if (result != null && result == 1) {
                 logger.debug("분산 락 해제 성공: key={}, value={}", key, value);
@@ -67,6 +189,117 @@ public class RedisDistributedLockService implements DistributedLockService {
 
         } catch (Exception e) {
             logger.error("분산 락 해제 중 오류 발생: key={}, value={}", key, value, e);
+        } finally {
+            localLockCoalescer.release(key, value);
         }
     }
+
+    @Override
+    public Long getFencingToken(String key, String value) {
+        HeldLock held = heldLocks.get(key);
+        return held != null && held.value.equals(value) ? held.fencingToken : null;
+    }
+
+    /**
+     * 다른 노드(또는 자신)의 락 해제 알림 수신 → 해당 키의 로컬 대기자 하나를 깨움
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", "");
+        LockWaiters lockWaiters = waiters.get(key);
+        if (lockWaiters != null) {
+            lockWaiters.permits.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+    }
+
+    private Long acquire(String key, String value, long leaseMillis) {
+        Long token = redisTemplate.execute(ACQUIRE_SCRIPT,
+                Arrays.asList(key, key + FENCING_SUFFIX), value, String.valueOf(leaseMillis));
+        return token == null ? 0L : token;
+    }
+
+    private void onAcquired(String key, String value, long token, long leaseMillis) {
+        long period = Math.max(leaseMillis / 3, 1);
+        long acquiredAt = System.currentTimeMillis();
+
+        ScheduledFuture<?> renewal = watchdog.scheduleAtFixedRate(
+                () -> renew(key, value, leaseMillis, acquiredAt), period, period, TimeUnit.MILLISECONDS);
+
+        HeldLock previous = heldLocks.put(key, new HeldLock(value, token, renewal));
+        if (previous != null) {
+            // 이전 보유자의 임대가 만료된 뒤 재획득된 경우
+            previous.renewal.cancel(false);
+        }
+        logger.debug("분산 락 획득 성공: key={}, value={}, fencingToken={}", key, value, token);
+    }
+
+    private void renew(String key, String value, long leaseMillis, long acquiredAt) {
+        HeldLock held = heldLocks.get(key);
+        if (held == null || !held.value.equals(value)) {
+            return;
+        }
+
+        if (System.currentTimeMillis() - acquiredAt > maxHoldMillis) {
+            logger.warn("분산 락 최대 보유 시간 초과로 임대 연장 중단: key={}, value={}", key, value);
+            stopRenewal(key, held);
+            return;
+        }
+
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, Collections.singletonList(key),
+                    value, String.valueOf(leaseMillis));
+            if (renewed == null || renewed == 0) {
+                logger.warn("분산 락을 잃어 임대 연장 중단: key={}, value={}", key, value);
+                stopRenewal(key, held);
+            }
+        } catch (Exception e) {
+            logger.warn("분산 락 임대 연장 실패: key={}, value={}", key, value, e);
+        }
+    }
+
+    private void stopRenewal(String key, HeldLock held) {
+        heldLocks.remove(key, held);
+        held.renewal.cancel(false);
+    }
+
+    private LockWaiters registerWaiter(String key) {
+        return waiters.compute(key, (k, existing) -> {
+            LockWaiters lockWaiters = existing != null ? existing : new LockWaiters();
+            lockWaiters.count++;
+            return lockWaiters;
+        });
+    }
+
+    private void deregisterWaiter(String key) {
+        waiters.computeIfPresent(key, (k, lockWaiters) -> --lockWaiters.count == 0 ? null : lockWaiters);
+    }
+
+    /**
+     * 이 노드가 보유 중인 락 정보
+     */
+    private static final class HeldLock {
+        private final String value;
+        private final long fencingToken;
+        private final ScheduledFuture<?> renewal;
+
+        private HeldLock(String value, long fencingToken, ScheduledFuture<?> renewal) {
+            this.value = value;
+            this.fencingToken = fencingToken;
+            this.renewal = renewal;
+        }
+    }
+
+    /**
+     * 키별 로컬 대기자 (해제 알림 1건당 대기자 1명을 깨움)
+     * count는 waiters.compute 안에서만 변경된다.
+     */
+    private static final class LockWaiters {
+        private final Semaphore permits = new Semaphore(0);
+        private int count;
+    }
 }
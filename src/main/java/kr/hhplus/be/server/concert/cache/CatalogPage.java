@@ -0,0 +1,11 @@
+package kr.hhplus.be.server.concert.cache;
+
+import kr.hhplus.be.server.concert.dto.ConcertResponseDto;
+
+import java.util.List;
+
+/**
+ * 캐시에 보관하는 콘서트 목록 한 페이지 (Page 대신 직렬화 가능한 형태)
+ */
+public record CatalogPage(List<ConcertResponseDto> content, long totalElements) {
+}
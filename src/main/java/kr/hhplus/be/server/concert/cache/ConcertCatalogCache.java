@@ -0,0 +1,294 @@
+package kr.hhplus.be.server.concert.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.dto.ConcertCursor;
+import kr.hhplus.be.server.concert.dto.ConcertResponseDto;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 콘서트 카탈로그 2단계 캐시 (노드 로컬 → Redis → DB)
+ *
+ * 하루에 몇 번 바뀌지 않는 콘서트 메타데이터와 목록 페이지를 보관한다.
+ * - 무효화: 콘서트 변경 이벤트 커밋 후 로컬/Redis 항목 삭제 + Pub/Sub으로 다른 노드 로컬 항목 삭제
+ * - Redis 기록: 무효화마다 Redis 세대 번호를 올리고, 로딩 시작 시 읽은 세대가 그대로일 때만 기록(Lua)하므로
+ *   무효화 이전에 DB를 읽은 다른 노드가 이전 값을 Redis에 다시 쓰지 못한다
+ * - 단일 로딩: 같은 키의 동시 미스는 한 요청만 Redis/DB를 조회하고 나머지는 그 결과를 기다린다
+ *   (판매 시작 직후 캐시 미스에도 노드당 DB 조회 1회)
+ *
+ * 매진 여부는 변경 이벤트로 무효화되지만, 실시간 매진은 호출 측에서 잔여석 카운터로 덮어쓴다.
+ * Redis 장애 시에는 로컬 캐시와 DB로만 동작한다.
+ */
+@Component
+public class ConcertCatalogCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcertCatalogCache.class);
+
+    private static final String KEY_PREFIX = "concert:catalog:";
+    // 목록 키는 어떤 콘서트가 포함됐는지 알 수 없으므로 변경 시 전부 삭제할 수 있도록 따로 모아 둔다
+    private static final String LISTING_KEYS = KEY_PREFIX + "listing-keys";
+    // 무효화 세대 (Redis 전체 노드 공통)
+    private static final String GENERATION_KEY = KEY_PREFIX + "generation";
+    private static final String CONCERT = "concert:";
+    private static final String AVAILABLE = "available:";
+    private static final String AVAILABLE_AFTER = "available-after:";
+    private static final String DATE = "date:";
+
+    // 세대가 로딩 시작 시점과 같을 때만 기록 (목록 키는 삭제 대상 모음에도 추가)
+    private static final RedisScript<Long> PUT_IF_CURRENT_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('get', KEYS[2]) or '0' " +
+                    "if current ~= ARGV[1] then return 0 end " +
+                    "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+                    "if ARGV[4] == '1' then " +
+                    "redis.call('sadd', KEYS[3], KEYS[1]) redis.call('pexpire', KEYS[3], ARGV[3]) end " +
+                    "return 1", Long.class);
+
+    private final ConcertRepository concertRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long localTtlMillis;
+    private final Duration redisTtl;
+    private final int maxLocalEntries;
+
+    private final Map<String, Entry> localEntries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    // 무효화 세대 - 무효화 이전에 시작된 로딩 결과는 캐시하지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    private final JavaType concertType;
+    private final JavaType pageType;
+    private final JavaType listType;
+
+    public ConcertCatalogCache(ConcertRepository concertRepository,
+                               RedisTemplate<String, String> redisTemplate,
+                               ObjectMapper objectMapper,
+                               @Value("${concert.catalog-cache.enabled:true}") boolean enabled,
+                               @Value("${concert.catalog-cache.local-ttl-ms:30000}") long localTtlMillis,
+                               @Value("${concert.catalog-cache.redis-ttl-seconds:300}") long redisTtlSeconds,
+                               @Value("${concert.catalog-cache.max-local-entries:10000}") int maxLocalEntries) {
+        this.concertRepository = concertRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.localTtlMillis = localTtlMillis;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.maxLocalEntries = maxLocalEntries;
+        this.concertType = objectMapper.constructType(ConcertResponseDto.class);
+        this.pageType = objectMapper.constructType(CatalogPage.class);
+        this.listType = objectMapper.getTypeFactory().constructCollectionType(List.class, ConcertResponseDto.class);
+    }
+
+    /**
+     * 콘서트 단건 조회
+     *
+     * @return 콘서트가 없으면 empty (없는 콘서트는 캐시하지 않음)
+     */
+    public Optional<ConcertResponseDto> findConcert(Long concertId) {
+        return Optional.ofNullable(load(CONCERT + concertId, concertType, () ->
+                concertRepository.findById(concertId).map(ConcertResponseDto::from).orElse(null)));
+    }
+
+    /**
+     * 예약 가능한 콘서트 목록 페이지 조회
+     */
+    public CatalogPage findAvailablePage(int page, int size) {
+        return load(AVAILABLE + page + ":" + size, pageType, () -> {
+            Page<Concert> concerts = concertRepository.findAvailableConcerts(PageRequest.of(page, size));
+            return new CatalogPage(concerts.getContent().stream().map(ConcertResponseDto::from).toList(),
+                    concerts.getTotalElements());
+        });
+    }
+
+    /**
+     * 예약 가능한 콘서트 키셋 조회 (커서 이후 최대 limit개)
+     * 커서는 클라이언트가 임의로 만들 수 있어 키가 끝없이 늘어나므로 오늘 기준 첫 페이지만 캐시한다.
+     */
+    public List<ConcertResponseDto> findAvailableAfter(ConcertCursor cursor, int limit) {
+        Supplier<List<ConcertResponseDto>> loader = () ->
+                concertRepository.findAvailableConcertsAfter(cursor, limit).stream()
+                        .map(ConcertResponseDto::from).toList();
+        if (!cursor.equals(ConcertCursor.first(LocalDate.now()))) {
+            return loader.get();
+        }
+        return load(AVAILABLE_AFTER + cursor.encode() + ":" + limit, listType, loader);
+    }
+
+    /**
+     * 특정 날짜의 콘서트 목록 조회
+     */
+    public List<ConcertResponseDto> findByDate(LocalDate date) {
+        return load(DATE + date, listType, () ->
+                concertRepository.findByConcertDate(date).stream().map(ConcertResponseDto::from).toList());
+    }
+
+    /**
+     * 콘서트 변경 반영 (변경이 커밋된 노드에서 호출)
+     * 로컬 항목과 Redis의 단건/목록 항목을 삭제한다. 다른 노드의 로컬 항목은 Pub/Sub으로 {@link #evictLocal} 한다.
+     * 삭제 전에 세대를 올리므로, 그 전에 로딩을 시작한 노드의 기록은 삭제되거나(세대 증가 전 기록) 거부된다(이후 기록).
+     */
+    public void invalidate(Long concertId) {
+        evictLocal(concertId);
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().increment(GENERATION_KEY);
+            List<String> keys = new ArrayList<>();
+            keys.add(KEY_PREFIX + CONCERT + concertId);
+            keys.add(LISTING_KEYS);
+            Set<String> listingKeys = redisTemplate.opsForSet().members(LISTING_KEYS);
+            if (listingKeys != null) {
+                keys.addAll(listingKeys);
+            }
+            redisTemplate.delete(keys);
+        } catch (RuntimeException e) {
+            // Redis 항목은 TTL 경과 후 자연 만료됨
+            log.warn("콘서트 카탈로그 Redis 캐시 무효화 실패: concertId={}", concertId, e);
+        }
+    }
+
+    /**
+     * 노드 로컬 항목 삭제 (해당 콘서트 단건 + 모든 목록)
+     * 진행 중인 로딩은 이전 데이터일 수 있으므로 이후 요청은 새로 로딩한다.
+     */
+    public void evictLocal(Long concertId) {
+        generation.incrementAndGet();
+        inFlight.clear();
+        localEntries.remove(CONCERT + concertId);
+        localEntries.keySet().removeIf(key -> !key.startsWith(CONCERT));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T load(String key, JavaType type, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Entry entry = localEntries.get(key);
+        if (entry != null) {
+            if (entry.expiresAtMillis() >= System.currentTimeMillis()) {
+                return (T) entry.value();
+            }
+            localEntries.remove(key, entry);
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return (T) await(existing);
+        }
+
+        long startedGeneration = generation.get();
+        try {
+            RedisRead cached = readRedis(key, type);
+            T value = (T) cached.value();
+            if (value == null) {
+                value = loader.get();
+                if (value != null && cached.generation() != null && startedGeneration == generation.get()) {
+                    writeRedis(key, value, cached.generation());
+                }
+            }
+            if (value != null && startedGeneration == generation.get()) {
+                putLocal(key, value);
+            }
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 항목과 현재 세대를 MGET 한 번으로 조회 (Redis 장애 시 세대가 null이며 기록하지 않음)
+     */
+    private RedisRead readRedis(String key, JavaType type) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(KEY_PREFIX + key, GENERATION_KEY));
+            if (values == null || values.size() < 2) {
+                return RedisRead.UNAVAILABLE;
+            }
+            String json = values.get(0);
+            String redisGeneration = values.get(1) == null ? "0" : values.get(1);
+            return new RedisRead(json == null ? null : objectMapper.readValue(json, type), redisGeneration);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("콘서트 카탈로그 Redis 캐시 조회 실패: key={}", key, e);
+            return RedisRead.UNAVAILABLE;
+        }
+    }
+
+    private void writeRedis(String key, Object value, String redisGeneration) {
+        try {
+            String redisKey = KEY_PREFIX + key;
+            Long written = redisTemplate.execute(PUT_IF_CURRENT_SCRIPT, List.of(redisKey, GENERATION_KEY, LISTING_KEYS),
+                    redisGeneration,
+                    objectMapper.writeValueAsString(value),
+                    String.valueOf(redisTtl.toMillis()),
+                    key.startsWith(CONCERT) ? "0" : "1");
+            if (written == null || written == 0) {
+                log.debug("로딩 중 무효화되어 Redis 기록 생략: key={}", key);
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("콘서트 카탈로그 Redis 캐시 저장 실패: key={}", key, e);
+        }
+    }
+
+    private void putLocal(String key, Object value) {
+        if (localTtlMillis <= 0) {
+            return;
+        }
+        if (localEntries.size() >= maxLocalEntries) {
+            long now = System.currentTimeMillis();
+            localEntries.values().removeIf(entry -> entry.expiresAtMillis() < now);
+            if (localEntries.size() >= maxLocalEntries) {
+                return;
+            }
+        }
+        localEntries.put(key, new Entry(value, System.currentTimeMillis() + localTtlMillis));
+    }
+
+    private record Entry(Object value, long expiresAtMillis) {
+    }
+
+    private record RedisRead(Object value, String generation) {
+        static final RedisRead UNAVAILABLE = new RedisRead(null, null);
+    }
+}
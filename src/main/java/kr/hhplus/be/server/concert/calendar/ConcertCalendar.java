@@ -0,0 +1,253 @@
+package kr.hhplus.be.server.concert.calendar;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.common.dto.RawJson;
+import kr.hhplus.be.server.concert.dto.ConcertCursor;
+import kr.hhplus.be.server.concert.dto.ConcertResponseDto;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 날짜별 콘서트 캘린더 (노드 로컬, 미리 직렬화된 JSON)
+ *
+ * 오늘 이후 콘서트를 공연 날짜 버킷으로 묶고, 버킷마다 잔여석을 반영한 응답 JSON을 미리 만들어 둔다.
+ * 날짜별 조회와 예약 가능 목록(키셋)은 DB/직렬화 없이 이 구조에서 바로 응답한다.
+ * - 갱신은 변경된 콘서트가 속한 날짜 버킷만 다시 만든다 (콘서트 변경, 매진, 잔여석 카운터 변화)
+ * - 쓰기는 이 객체에서 직렬화되고, 조회는 불변 버킷 참조만 읽으므로 잠금이 없다
+ * - 콘서트 단위 변경에는 순번을 매겨, 재구성 시작 이후의 변경은 재구성 결과(스냅샷)로 덮어쓰지 않는다
+ */
+@Component
+public class ConcertCalendar {
+
+    private static final Comparator<ConcertResponseDto> CALENDAR_ORDER =
+            Comparator.comparing(ConcertResponseDto::getConcertTime)
+                    .thenComparing(ConcertResponseDto::getConcertId);
+
+    private final ObjectMapper objectMapper;
+
+    // 쓰기 전용 상태 (synchronized)
+    private final Map<Long, CalendarEntry> entries = new HashMap<>();
+    private final Map<LocalDate, Set<Long>> concertIdsByDate = new HashMap<>();
+    // 콘서트별 마지막 변경(추가/변경/제거) 순번
+    private final Map<Long, Long> changeSequences = new HashMap<>();
+    private final AtomicLong changeSequence = new AtomicLong();
+
+    // 조회용 불변 버킷
+    private final ConcurrentSkipListMap<LocalDate, DateBucket> buckets = new ConcurrentSkipListMap<>();
+    private volatile boolean ready;
+
+    public ConcertCalendar(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 캘린더 항목
+     *
+     * @param concert 콘서트 정보 (DB 기준)
+     * @param sections 잔여석 카운터 합산 대상 구역
+     * @param remainingSeats 잔여석 카운터 합계 (카운터 초기화 전이면 null)
+     */
+    public record CalendarEntry(ConcertResponseDto concert, List<String> sections, Long remainingSeats) {
+
+        ConcertResponseDto render() {
+            return remainingSeats == null ? concert : concert.withAvailableSeats(remainingSeats.intValue());
+        }
+
+        CalendarEntry withRemainingSeats(Long remainingSeats) {
+            return new CalendarEntry(concert, sections, remainingSeats);
+        }
+    }
+
+    private record DateBucket(List<ConcertResponseDto> concerts, RawJson json) {
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 재구성 시작 시점 (이 시점 이후의 콘서트 변경은 교체 후에도 유지)
+     */
+    public long markRebuildStart() {
+        return changeSequence.get();
+    }
+
+    /**
+     * 전체 교체 (재구성)
+     *
+     * @param calendarEntries 재구성 시점의 전체 항목
+     * @param rebuildStart {@link #markRebuildStart()} 값 - 이후에 추가/변경/제거된 콘서트는 현재 상태를 유지
+     */
+    public synchronized void replaceAll(Collection<CalendarEntry> calendarEntries, long rebuildStart) {
+        Map<Long, CalendarEntry> changedSinceStart = new HashMap<>();
+        changeSequences.forEach((concertId, sequence) -> {
+            if (sequence > rebuildStart) {
+                changedSinceStart.put(concertId, entries.get(concertId));
+            }
+        });
+        changeSequences.values().removeIf(sequence -> sequence <= rebuildStart);
+
+        entries.clear();
+        concertIdsByDate.clear();
+        for (CalendarEntry entry : calendarEntries) {
+            if (!changedSinceStart.containsKey(entry.concert().getConcertId())) {
+                put(entry);
+            }
+        }
+        // 제거된 콘서트는 null이므로 다시 넣지 않는다
+        changedSinceStart.values().stream().filter(Objects::nonNull).forEach(this::put);
+        buckets.keySet().removeIf(date -> !concertIdsByDate.containsKey(date));
+        concertIdsByDate.keySet().forEach(this::renderBucket);
+        ready = true;
+    }
+
+    /**
+     * 콘서트 한 건 추가/변경 (날짜가 바뀌면 이전 날짜 버킷도 다시 만든다)
+     */
+    public synchronized void upsert(CalendarEntry entry) {
+        changeSequences.put(entry.concert().getConcertId(), changeSequence.incrementAndGet());
+        CalendarEntry previous = removeEntry(entry.concert().getConcertId());
+        put(entry);
+        if (previous != null) {
+            renderBucket(previous.concert().getConcertDate());
+        }
+        renderBucket(entry.concert().getConcertDate());
+    }
+
+    public synchronized void remove(Long concertId) {
+        changeSequences.put(concertId, changeSequence.incrementAndGet());
+        CalendarEntry previous = removeEntry(concertId);
+        if (previous != null) {
+            renderBucket(previous.concert().getConcertDate());
+        }
+    }
+
+    /**
+     * 잔여석 갱신 대상 (콘서트 ID → 구역 목록)
+     */
+    public synchronized Map<Long, List<String>> sectionsByConcert() {
+        Map<Long, List<String>> sections = new HashMap<>();
+        entries.forEach((concertId, entry) -> {
+            if (!entry.sections().isEmpty()) {
+                sections.put(concertId, entry.sections());
+            }
+        });
+        return sections;
+    }
+
+    /**
+     * 잔여석 카운터 합계 반영 - 값이 바뀐 콘서트의 날짜 버킷만 다시 직렬화
+     *
+     * @return 다시 만든 날짜 버킷 수
+     */
+    public synchronized int applyRemaining(Map<Long, Long> remainingByConcert) {
+        Set<LocalDate> changedDates = new HashSet<>();
+        remainingByConcert.forEach((concertId, remaining) -> {
+            CalendarEntry entry = entries.get(concertId);
+            if (entry != null && !Objects.equals(entry.remainingSeats(), remaining)) {
+                entries.put(concertId, entry.withRemainingSeats(remaining));
+                changedDates.add(entry.concert().getConcertDate());
+            }
+        });
+        changedDates.forEach(this::renderBucket);
+        return changedDates.size();
+    }
+
+    /**
+     * 날짜별 콘서트 (미리 직렬화된 JSON 배열)
+     *
+     * @return 캘린더 범위(오늘 이후)의 날짜면 결과, 준비 전이거나 지난 날짜면 empty
+     */
+    public Optional<RawJson> findByDate(LocalDate date) {
+        if (!ready || date.isBefore(LocalDate.now())) {
+            return Optional.empty();
+        }
+        DateBucket bucket = buckets.get(date);
+        return Optional.of(bucket == null ? RawJson.EMPTY_ARRAY : bucket.json());
+    }
+
+    /**
+     * 커서 이후의 예약 가능 콘서트 (공연 날짜, 시간, ID 순)
+     *
+     * @return 준비 전이면 empty
+     */
+    public Optional<List<ConcertResponseDto>> findAfter(ConcertCursor cursor, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate from = cursor.concertDate().isBefore(today) ? today : cursor.concertDate();
+
+        List<ConcertResponseDto> result = new ArrayList<>(limit);
+        for (DateBucket bucket : buckets.tailMap(from, true).values()) {
+            for (ConcertResponseDto concert : bucket.concerts()) {
+                if (cursor.precedes(concert)) {
+                    result.add(concert);
+                    if (result.size() >= limit) {
+                        return Optional.of(result);
+                    }
+                }
+            }
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * 캘린더 밖(지난 날짜 등) 조회 결과를 같은 형식으로 직렬화
+     */
+    public RawJson serialize(List<ConcertResponseDto> concerts) {
+        try {
+            return new RawJson(objectMapper.writeValueAsString(concerts));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("콘서트 캘린더 직렬화 실패", e);
+        }
+    }
+
+    private void put(CalendarEntry entry) {
+        Long concertId = entry.concert().getConcertId();
+        entries.put(concertId, entry);
+        concertIdsByDate.computeIfAbsent(entry.concert().getConcertDate(), date -> new HashSet<>()).add(concertId);
+    }
+
+    private CalendarEntry removeEntry(Long concertId) {
+        CalendarEntry previous = entries.remove(concertId);
+        if (previous != null) {
+            Set<Long> ids = concertIdsByDate.get(previous.concert().getConcertDate());
+            if (ids != null) {
+                ids.remove(concertId);
+                if (ids.isEmpty()) {
+                    concertIdsByDate.remove(previous.concert().getConcertDate());
+                }
+            }
+        }
+        return previous;
+    }
+
+    private void renderBucket(LocalDate date) {
+        Set<Long> ids = concertIdsByDate.get(date);
+        if (ids == null || ids.isEmpty()) {
+            buckets.remove(date);
+            return;
+        }
+        List<ConcertResponseDto> concerts = ids.stream()
+                .map(entries::get)
+                .map(CalendarEntry::render)
+                .sorted(CALENDAR_ORDER)
+                .toList();
+        buckets.put(date, new DateBucket(concerts, serialize(concerts)));
+    }
+}
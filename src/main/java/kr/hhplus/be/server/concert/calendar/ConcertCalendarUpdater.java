@@ -0,0 +1,132 @@
+package kr.hhplus.be.server.concert.calendar;
+
+import kr.hhplus.be.server.concert.calendar.ConcertCalendar.CalendarEntry;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.dto.ConcertCursor;
+import kr.hhplus.be.server.concert.dto.ConcertResponseDto;
+import kr.hhplus.be.server.concert.listener.ConcertCatalogCacheListener;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.seat.inventory.SeatInventoryCounter;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 콘서트 캘린더 갱신
+ *
+ * - 재구성: 오늘 이후 콘서트를 키셋 배치로 읽어 전체 교체 (외부에서 추가된 콘서트 반영)
+ * - 콘서트 변경/매진: 카탈로그 캐시와 같은 Pub/Sub 채널을 받아 해당 콘서트만 다시 읽음
+ * - 잔여석: Redis 잔여석 카운터를 주기적으로 MGET 하여 바뀐 날짜 버킷만 갱신 (DB 조회 없음)
+ */
+@Component
+@Slf4j
+public class ConcertCalendarUpdater implements MessageListener {
+
+    private final ConcertRepository concertRepository;
+    private final SeatRepository seatRepository;
+    private final SeatInventoryCounter seatInventoryCounter;
+    private final ConcertCalendar concertCalendar;
+    private final int batchSize;
+
+    public ConcertCalendarUpdater(ConcertRepository concertRepository,
+                                  SeatRepository seatRepository,
+                                  SeatInventoryCounter seatInventoryCounter,
+                                  ConcertCalendar concertCalendar,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  @Value("${concert.calendar.rebuild-batch-size:1000}") int batchSize) {
+        this.concertRepository = concertRepository;
+        this.seatRepository = seatRepository;
+        this.seatInventoryCounter = seatInventoryCounter;
+        this.concertCalendar = concertCalendar;
+        this.batchSize = batchSize;
+        listenerContainer.addMessageListener(this, new ChannelTopic(ConcertCatalogCacheListener.CHANNEL));
+    }
+
+    /**
+     * 전체 재구성
+     *
+     * @return 캘린더에 담긴 콘서트 수
+     */
+    public int rebuild() {
+        long rebuildStart = concertCalendar.markRebuildStart();
+        List<CalendarEntry> entries = new ArrayList<>();
+        ConcertCursor cursor = ConcertCursor.first(LocalDate.now());
+        while (true) {
+            List<Concert> batch = concertRepository.findAvailableConcertsAfter(cursor, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            entries.addAll(toEntries(batch));
+            if (batch.size() < batchSize) {
+                break;
+            }
+            Concert last = batch.get(batch.size() - 1);
+            cursor = new ConcertCursor(last.getConcertDate(), last.getConcertTime(), last.getConcertId());
+        }
+        concertCalendar.replaceAll(entries, rebuildStart);
+        return entries.size();
+    }
+
+    /**
+     * 잔여석 카운터 반영
+     *
+     * @return 다시 만든 날짜 버킷 수
+     */
+    public int refreshRemaining() {
+        if (!concertCalendar.isReady()) {
+            return 0;
+        }
+        return concertCalendar.applyRemaining(
+                seatInventoryCounter.getTotalRemaining(concertCalendar.sectionsByConcert()));
+    }
+
+    /**
+     * 콘서트 한 건 다시 읽기 (없어졌거나 지난 콘서트는 제거)
+     */
+    public void reload(Long concertId) {
+        Optional<Concert> concert = concertRepository.findById(concertId)
+                .filter(found -> !found.getConcertDate().isBefore(LocalDate.now()));
+        if (concert.isEmpty()) {
+            concertCalendar.remove(concertId);
+            return;
+        }
+        toEntries(List.of(concert.get())).forEach(concertCalendar::upsert);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        // 첫 재구성 중에 받은 변경도 순번으로 보존되므로 준비 전에도 반영한다
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", "");
+        try {
+            reload(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("콘서트 변경 메시지 파싱 실패: {}", body);
+        } catch (Exception e) {
+            // 다음 재구성에서 반영됨
+            log.warn("콘서트 캘린더 갱신 실패: {}", body, e);
+        }
+    }
+
+    private List<CalendarEntry> toEntries(List<Concert> concerts) {
+        List<Long> concertIds = concerts.stream().map(Concert::getConcertId).toList();
+        Map<Long, List<String>> sections = seatRepository.findSectionsByConcertIds(concertIds);
+        Map<Long, Long> remaining = seatInventoryCounter.getTotalRemaining(sections);
+        return concerts.stream()
+                .map(concert -> new CalendarEntry(ConcertResponseDto.from(concert),
+                        sections.getOrDefault(concert.getConcertId(), List.of()),
+                        remaining.get(concert.getConcertId())))
+                .toList();
+    }
+}
@@ -3,7 +3,9 @@ package kr.hhplus.be.server.concert.controller;
 import kr.hhplus.be.server.common.ApiResponse;
 import kr.hhplus.be.server.concert.dto.ConcertPageResponse;
 import kr.hhplus.be.server.common.dto.PaginationResponse;
+import kr.hhplus.be.server.common.dto.RawJson;
 import kr.hhplus.be.server.concert.dto.ConcertResponseDto;
+import kr.hhplus.be.server.concert.dto.ConcertSlice;
 import kr.hhplus.be.server.concert.service.ConcertService;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -25,13 +27,28 @@ public class ConcertController {
 
     /**
      * 예약 가능한 콘서트 날짜 목록 조회
-     * GET /api/concerts/available-dates
+     * GET /api/concerts/available-dates?page=0&size=20
+     * GET /api/concerts/available-dates?cursor={nextCursor}&size=20
+     *
+     * 기본은 오프셋 방식(전체 개수 포함)이며, cursor를 지정한 경우에만 커서 방식으로 조회한다. (첫 페이지는 cursor=)
      */
     @GetMapping("/available-dates")
     public ResponseEntity<ApiResponse<ConcertPageResponse>> getAvailableConcerts(
             @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size) {
 
+        if (cursor != null) {
+            ConcertSlice slice = concertService.getAvailableConcertsAfter(cursor, size);
+            ConcertPageResponse response = ConcertPageResponse.builder()
+                    .concerts(slice.concerts())
+                    .nextCursor(slice.nextCursor())
+                    .build();
+            return ResponseEntity.ok(
+                    ApiResponse.success(response, "콘서트 목록 조회 성공")
+            );
+        }
+
         Page<ConcertResponseDto> concerts = concertService.getAvailableConcerts(page, size);
 
         ConcertPageResponse response = ConcertPageResponse.builder()
@@ -63,26 +80,34 @@ public class ConcertController {
      * GET /api/concerts/by-date?date=2025-06-01
      */
     @GetMapping("/by-date")
-    public ResponseEntity<ApiResponse<List<ConcertResponseDto>>> getConcertsByDate(
+    public ResponseEntity<ApiResponse<RawJson>> getConcertsByDate(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
-        List<ConcertResponseDto> concerts = concertService.getConcertsByDate(date);
+        RawJson concerts = concertService.getConcertsByDateJson(date);
         return ResponseEntity.ok(
                 ApiResponse.success(concerts, "날짜별 콘서트 조회 성공")
         );
     }
 
     /**
-     * 아티스트명으로 콘서트 검색
-     * GET /api/concerts/search?artist=IU
+     * 콘서트 검색 (아티스트, 제목, 공연장)
+     * GET /api/concerts/search?q=아이유&limit=20
+     * (기존 artist 파라미터도 검색어로 사용)
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<ConcertResponseDto>>> searchConcertsByArtist(
-            @RequestParam String artist) {
+    public ResponseEntity<ApiResponse<List<ConcertResponseDto>>> searchConcerts(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String artist,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        String query = q != null ? q : artist;
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어(q)는 필수입니다.");
+        }
 
-        List<ConcertResponseDto> concerts = concertService.searchConcertsByArtist(artist);
+        List<ConcertResponseDto> concerts = concertService.searchConcerts(query, limit);
         return ResponseEntity.ok(
-                ApiResponse.success(concerts, "아티스트별 콘서트 검색 성공")
+                ApiResponse.success(concerts, "콘서트 검색 성공")
         );
     }
 }
\ No newline at end of file
@@ -11,11 +11,17 @@ import java.time.LocalTime;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "concerts")
+@Table(name = "concerts", indexes = {
+        // 예약 가능 목록 키셋 페이지네이션 정렬 키
+        @Index(name = "idx_concert_date_time_id", columnList = "concert_date, concert_time, concert_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Concert {
 
+    // 스타디움 공연(구역 분할 좌석) 기준 최대 좌석 수
+    public static final int MAX_TOTAL_SEATS = 100_000;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "concert_id")
@@ -65,7 +71,7 @@ public class Concert {
      * @param venue 공연장명 (필수, 200자 이하)
      * @param concertDate 공연 날짜 (필수, 현재 날짜 이후)
      * @param concertTime 공연 시간 (필수)
-     * @param totalSeats 총 좌석 수 (1~100 사이, null인 경우 기본값 50)
+     * @param totalSeats 총 좌석 수 (1~MAX_TOTAL_SEATS 사이, null인 경우 기본값 50)
      * @throws IllegalArgumentException 입력 데이터가 유효하지 않은 경우
      */
     public Concert(String title, String artist, String venue,
@@ -136,12 +142,12 @@ public class Concert {
 
     /**
      * 총 좌석 수가 유효한 범위인지 확인
-     * 유효 범위: 1~100석
+     * 유효 범위: 1~MAX_TOTAL_SEATS석
      *
      * @return 유효한 좌석 수이면 true, 아니면 false
      */
     public boolean hasValidSeatCount() {
-        return totalSeats != null && totalSeats > 0 && totalSeats <= 100;
+        return totalSeats != null && totalSeats > 0 && totalSeats <= MAX_TOTAL_SEATS;
     }
 
     // ========== 배치용 메소드 추가 ==========
@@ -238,7 +244,7 @@ public class Concert {
      * - 공연장: 필수, 200자 이하
      * - 공연 날짜: 필수, 현재 날짜 이후
      * - 공연 시간: 필수
-     * - 총 좌석 수: 선택, 1~100 사이
+     * - 총 좌석 수: 선택, 1~MAX_TOTAL_SEATS 사이
      *
      * @param title 콘서트 제목
      * @param artist 아티스트명
@@ -288,8 +294,8 @@ public class Concert {
             throw new IllegalArgumentException("공연 시간은 필수입니다.");
         }
 
-        if (totalSeats != null && (totalSeats <= 0 || totalSeats > 100)) {
-            throw new IllegalArgumentException("총 좌석 수는 1~100 사이여야 합니다.");
+        if (totalSeats != null && (totalSeats <= 0 || totalSeats > MAX_TOTAL_SEATS)) {
+            throw new IllegalArgumentException("총 좌석 수는 1~" + MAX_TOTAL_SEATS + " 사이여야 합니다.");
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package kr.hhplus.be.server.concert.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 콘서트 목록 키셋 커서 (정렬 키: 공연 날짜, 공연 시간, 콘서트 ID)
+ *
+ * 클라이언트에는 Base64URL로 인코딩한 불투명 문자열로 전달하며, 다음 페이지는 이 위치 이후의 행만 읽는다.
+ */
+public record ConcertCursor(LocalDate concertDate, LocalTime concertTime, Long concertId) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 첫 페이지 커서 (해당 날짜의 가장 이른 위치)
+     */
+    public static ConcertCursor first(LocalDate date) {
+        return new ConcertCursor(date, LocalTime.MIN, 0L);
+    }
+
+    public static ConcertCursor of(ConcertResponseDto concert) {
+        return new ConcertCursor(concert.getConcertDate(), concert.getConcertTime(), concert.getConcertId());
+    }
+
+    /**
+     * 정렬 순서상 이 커서 이후의 콘서트인지 여부
+     */
+    public boolean precedes(ConcertResponseDto concert) {
+        int byDate = concert.getConcertDate().compareTo(concertDate);
+        if (byDate != 0) {
+            return byDate > 0;
+        }
+        int byTime = concert.getConcertTime().compareTo(concertTime);
+        if (byTime != 0) {
+            return byTime > 0;
+        }
+        return concert.getConcertId() > concertId;
+    }
+
+    public String encode() {
+        String raw = concertDate + DELIMITER + concertTime + DELIMITER + concertId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서인 경우
+     */
+    public static ConcertCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new ConcertCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
@@ -8,6 +8,9 @@ import java.util.List;
 public class ConcertPageResponse {
     private List<ConcertResponseDto> concerts;
     private PaginationResponse pagination;
+    // 키셋 조회 시 다음 페이지 커서 (마지막 페이지면 null)
+    private String nextCursor;
+    private Boolean hasNext;
 
     private ConcertPageResponse() {}
 
@@ -28,6 +31,12 @@ public class ConcertPageResponse {
             return this;
         }
 
+        public Builder nextCursor(String nextCursor) {
+            response.nextCursor = nextCursor;
+            response.hasNext = nextCursor != null;
+            return this;
+        }
+
         public ConcertPageResponse build() {
             return response;
         }
@@ -35,4 +44,6 @@ public class ConcertPageResponse {
 
     public List<ConcertResponseDto> getConcerts() { return concerts; }
     public PaginationResponse getPagination() { return pagination; }
+    public String getNextCursor() { return nextCursor; }
+    public Boolean getHasNext() { return hasNext; }
 }
\ No newline at end of file
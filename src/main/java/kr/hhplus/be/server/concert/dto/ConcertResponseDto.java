@@ -19,12 +19,18 @@ public class ConcertResponseDto {
     private Integer availableSeats;
     private Integer minPrice;
     private Integer maxPrice;
+    private boolean soldOut;
 
     // 기본 생성자
     public ConcertResponseDto() {}
 
     // 콘서트 엔티티로부터 생성하는 정적 팩토리 메서드
     public static ConcertResponseDto from(Concert concert) {
+        return from(concert, concert.isSoldOut());
+    }
+
+    // 잔여석 카운터 등 외부에서 판단한 매진 여부를 반영
+    public static ConcertResponseDto from(Concert concert, boolean soldOut) {
         ConcertResponseDto dto = new ConcertResponseDto();
         dto.concertId = concert.getConcertId();
         dto.title = concert.getTitle();
@@ -34,10 +40,41 @@ public class ConcertResponseDto {
         dto.concertTime = concert.getConcertTime();
         dto.totalSeats = concert.getTotalSeats();
         // TODO: 실제로는 좌석 조회해서 계산해야 함
-        dto.availableSeats = concert.getTotalSeats();
+        dto.availableSeats = soldOut ? 0 : concert.getTotalSeats();
+        dto.soldOut = soldOut;
         dto.minPrice = 50000; // TODO: 실제 좌석 가격에서 계산
         dto.maxPrice = 150000;
         return dto;
     }
 
+    // 캐시된 응답에 잔여석 카운터의 매진 여부를 덮어쓴 사본 (캐시 항목은 변경하지 않음)
+    public ConcertResponseDto withSoldOut(boolean soldOut) {
+        if (soldOut == this.soldOut) {
+            return this;
+        }
+        return copy(soldOut ? 0 : totalSeats, soldOut);
+    }
+
+    // 잔여석 카운터 합계를 반영한 사본 (잔여석이 없으면 매진)
+    public ConcertResponseDto withAvailableSeats(int availableSeats) {
+        boolean soldOut = this.soldOut || availableSeats <= 0;
+        return copy(soldOut ? 0 : availableSeats, soldOut);
+    }
+
+    private ConcertResponseDto copy(Integer availableSeats, boolean soldOut) {
+        ConcertResponseDto dto = new ConcertResponseDto();
+        dto.concertId = concertId;
+        dto.title = title;
+        dto.artist = artist;
+        dto.venue = venue;
+        dto.concertDate = concertDate;
+        dto.concertTime = concertTime;
+        dto.totalSeats = totalSeats;
+        dto.availableSeats = availableSeats;
+        dto.soldOut = soldOut;
+        dto.minPrice = minPrice;
+        dto.maxPrice = maxPrice;
+        return dto;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package kr.hhplus.be.server.concert.dto;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지 조회 결과
+ *
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record ConcertSlice(List<ConcertResponseDto> concerts, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,15 @@
+package kr.hhplus.be.server.concert.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 콘서트 정보 변경 이벤트
+ * 콘서트 메타데이터(매진 여부 포함)가 바뀌었을 때 발행하며, 카탈로그 캐시 무효화에 사용한다.
+ * 매진 전이는 {@link ConcertSoldOutEvent}로 대신한다.
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class ConcertChangedEvent {
+    private final Long concertId;
+}
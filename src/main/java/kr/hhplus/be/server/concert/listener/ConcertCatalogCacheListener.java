@@ -0,0 +1,79 @@
+package kr.hhplus.be.server.concert.listener;
+
+import kr.hhplus.be.server.concert.cache.ConcertCatalogCache;
+import kr.hhplus.be.server.concert.event.ConcertChangedEvent;
+import kr.hhplus.be.server.concert.event.ConcertSoldOutEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 콘서트 변경 이벤트를 카탈로그 캐시에 반영하는 리스너
+ *
+ * 커밋 후 이 노드의 로컬/Redis 캐시를 무효화하고, Redis Pub/Sub으로 다른 노드의 로컬 캐시도 비운다.
+ * 메시지 형식: {concertId}
+ */
+@Component
+@Slf4j
+public class ConcertCatalogCacheListener implements MessageListener {
+
+    public static final String CHANNEL = "concert:catalog:invalidate";
+
+    private final ConcertCatalogCache concertCatalogCache;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public ConcertCatalogCacheListener(ConcertCatalogCache concertCatalogCache,
+                                       RedisTemplate<String, String> redisTemplate,
+                                       RedisMessageListenerContainer listenerContainer) {
+        this.concertCatalogCache = concertCatalogCache;
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 콘서트 정보 변경 (매진 해제 등)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleConcertChanged(ConcertChangedEvent event) {
+        invalidate(event.getConcertId());
+    }
+
+    /**
+     * 매진 전이 → 캐시된 매진 여부 갱신
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleConcertSoldOut(ConcertSoldOutEvent event) {
+        invalidate(event.getConcertId());
+    }
+
+    /**
+     * 다른 노드에서 전파된 콘서트 변경 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", "");
+        try {
+            concertCatalogCache.evictLocal(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("콘서트 변경 메시지 파싱 실패: {}", body);
+        }
+    }
+
+    private void invalidate(Long concertId) {
+        concertCatalogCache.invalidate(concertId);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(concertId));
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드의 로컬 캐시는 로컬 TTL 경과 후 갱신됨
+            log.warn("콘서트 변경 전파 실패: concertId={}", concertId, e);
+        }
+    }
+}
@@ -5,11 +5,14 @@ import kr.hhplus.be.server.concert.domain.Concert;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 
 @Repository
@@ -18,8 +21,27 @@ public interface ConcertJpaRepository extends JpaRepository<Concert, Long> {
     @Query("SELECT c FROM Concert c WHERE c.concertDate >= :currentDate ORDER BY c.concertDate, c.concertTime")
     Page<Concert> findAvailableConcerts(@Param("currentDate") LocalDate currentDate, Pageable pageable);
 
+    /**
+     * 예약 가능한 콘서트 키셋 조회 (커서 이후 행만 인덱스 순서로 읽음, COUNT 없음)
+     * idx_concert_date_time_id (concert_date, concert_time, concert_id) 범위 스캔
+     */
+    @Query("SELECT c FROM Concert c WHERE c.concertDate >= :currentDate " +
+            "AND c.concertDate >= :cursorDate " +
+            "AND (c.concertDate > :cursorDate " +
+            "  OR (c.concertDate = :cursorDate AND (c.concertTime > :cursorTime " +
+            "    OR (c.concertTime = :cursorTime AND c.concertId > :cursorId)))) " +
+            "ORDER BY c.concertDate, c.concertTime, c.concertId")
+    List<Concert> findAvailableConcertsAfter(@Param("currentDate") LocalDate currentDate,
+                                             @Param("cursorDate") LocalDate cursorDate,
+                                             @Param("cursorTime") LocalTime cursorTime,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+
     List<Concert> findByConcertDate(LocalDate date);
 
+    @Query("SELECT c FROM Concert c WHERE c.concertId > :lastConcertId ORDER BY c.concertId")
+    List<Concert> findAllAfterId(@Param("lastConcertId") Long lastConcertId, Pageable pageable);
+
     List<Concert> findByArtistContaining(String artist);
 
     /**
@@ -40,5 +62,26 @@ public interface ConcertJpaRepository extends JpaRepository<Concert, Long> {
             "AND c.bookingEndTime >= CURRENT_TIMESTAMP " +
             "ORDER BY c.bookingStartTime ASC")
     List<Concert> findAvailableConcertsForBatch();
-}
 
+    /**
+     * 판매 중인 콘서트만 매진 처리 (조건부 UPDATE로 매진 전이를 한 번만 허용)
+     *
+     * @return 변경된 행 수 (이미 매진이면 0)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Concert c SET c.soldOut = true, c.soldOutTime = :soldOutTime " +
+            "WHERE c.concertId = :concertId AND (c.soldOut = false OR c.soldOut IS NULL)")
+    int markSoldOutIfOnSale(@Param("concertId") Long concertId, @Param("soldOutTime") LocalDateTime soldOutTime);
+
+    /**
+     * 매진된 콘서트만 매진 해제
+     *
+     * @return 변경된 행 수 (매진 상태가 아니면 0)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Concert c SET c.soldOut = false, c.soldOutTime = NULL " +
+            "WHERE c.concertId = :concertId AND c.soldOut = true")
+    int cancelSoldOutIfSoldOut(@Param("concertId") Long concertId);
+
+    List<Concert> findByBookingStartTimeBetween(LocalDateTime from, LocalDateTime to);
+}
@@ -1,10 +1,12 @@
 package kr.hhplus.be.server.concert.repository;
 
 import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.dto.ConcertCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +18,12 @@ public interface ConcertRepository {
      */
     Page<Concert> findAvailableConcerts(Pageable pageable);
 
+    /**
+     * 예약 가능한 콘서트 키셋 조회
+     * (공연 날짜, 공연 시간, 콘서트 ID) 순서로 커서 이후의 콘서트를 최대 limit개 조회한다.
+     */
+    List<Concert> findAvailableConcertsAfter(ConcertCursor cursor, int limit);
+
     /**
      * 콘서트 ID로 조회
      */
@@ -26,6 +34,11 @@ public interface ConcertRepository {
      */
     List<Concert> findByConcertDate(LocalDate date);
 
+    /**
+     * ID 순으로 lastConcertId 이후의 콘서트를 최대 limit개 조회 (전체 순회용)
+     */
+    List<Concert> findAllAfterId(Long lastConcertId, int limit);
+
     /**
      * 아티스트명으로 콘서트 검색
      */
@@ -54,4 +67,23 @@ public interface ConcertRepository {
      * @return 예약 가능한 콘서트 목록 (매진되지 않고 예약 기간 내)
      */
     List<Concert> findAvailableConcertsForBatch();
-}
\ No newline at end of file
+
+    /**
+     * 판매 중인 콘서트만 매진 처리
+     *
+     * @return 매진 전이에 성공하면 1, 이미 매진이면 0
+     */
+    int markSoldOutIfOnSale(Long concertId, LocalDateTime soldOutTime);
+
+    /**
+     * 매진된 콘서트만 매진 해제
+     *
+     * @return 매진 해제 전이에 성공하면 1, 매진 상태가 아니면 0
+     */
+    int cancelSoldOutIfSoldOut(Long concertId);
+
+    /**
+     * 예약 시작 시각이 주어진 구간에 있는 콘서트 조회 (판매 전 예열 대상)
+     */
+    List<Concert> findByBookingStartTimeBetween(LocalDateTime from, LocalDateTime to);
+}
@@ -2,11 +2,14 @@ package kr.hhplus.be.server.concert.repository;
 
 
 import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.dto.ConcertCursor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +28,12 @@ public class ConcertRepositoryImpl implements ConcertRepository {
         return jpaRepository.findAvailableConcerts(LocalDate.now(), pageable);
     }
 
+    @Override
+    public List<Concert> findAvailableConcertsAfter(ConcertCursor cursor, int limit) {
+        return jpaRepository.findAvailableConcertsAfter(LocalDate.now(), cursor.concertDate(),
+                cursor.concertTime(), cursor.concertId(), PageRequest.of(0, limit));
+    }
+
     @Override
     public Optional<Concert> findById(Long concertId) {
         return jpaRepository.findById(concertId);
@@ -35,6 +44,11 @@ public class ConcertRepositoryImpl implements ConcertRepository {
         return jpaRepository.findByConcertDate(date);
     }
 
+    @Override
+    public List<Concert> findAllAfterId(Long lastConcertId, int limit) {
+        return jpaRepository.findAllAfterId(lastConcertId, PageRequest.of(0, limit));
+    }
+
     @Override
     public List<Concert> findByArtistContaining(String artist) {
         return jpaRepository.findByArtistContaining(artist);
@@ -59,4 +73,19 @@ public class ConcertRepositoryImpl implements ConcertRepository {
     public List<Concert> findAvailableConcertsForBatch() {
         return jpaRepository.findAvailableConcertsForBatch();
     }
-}
\ No newline at end of file
+
+    @Override
+    public int markSoldOutIfOnSale(Long concertId, LocalDateTime soldOutTime) {
+        return jpaRepository.markSoldOutIfOnSale(concertId, soldOutTime);
+    }
+
+    @Override
+    public int cancelSoldOutIfSoldOut(Long concertId) {
+        return jpaRepository.cancelSoldOutIfSoldOut(concertId);
+    }
+
+    @Override
+    public List<Concert> findByBookingStartTimeBetween(LocalDateTime from, LocalDateTime to) {
+        return jpaRepository.findByBookingStartTimeBetween(from, to);
+    }
+}
@@ -0,0 +1,55 @@
+package kr.hhplus.be.server.concert.scheduler;
+
+import kr.hhplus.be.server.concert.calendar.ConcertCalendarUpdater;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 콘서트 캘린더 스케줄러
+ * - 재구성: 긴 주기로 DB에서 전체 교체
+ * - 잔여석 반영: 짧은 주기로 Redis 카운터만 읽어 바뀐 날짜만 갱신
+ */
+@Component
+public class ConcertCalendarScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcertCalendarScheduler.class);
+
+    private final ConcertCalendarUpdater concertCalendarUpdater;
+    private final boolean enabled;
+
+    public ConcertCalendarScheduler(ConcertCalendarUpdater concertCalendarUpdater,
+                                    @Value("${concert.calendar.enabled:true}") boolean enabled) {
+        this.concertCalendarUpdater = concertCalendarUpdater;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(fixedDelayString = "${concert.calendar.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            int concerts = concertCalendarUpdater.rebuild();
+            logger.info("콘서트 캘린더 재구성 완료: concerts={}", concerts);
+        } catch (Exception e) {
+            logger.error("콘서트 캘린더 재구성 중 오류 발생", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${concert.calendar.remaining-refresh-ms:1000}")
+    public void refreshRemaining() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            concertCalendarUpdater.refreshRemaining();
+        } catch (Exception e) {
+            logger.warn("콘서트 캘린더 잔여석 반영 실패", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package kr.hhplus.be.server.concert.scheduler;
+
+import kr.hhplus.be.server.concert.search.ConcertSearchIndexer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 콘서트 검색 색인 전체 재색인 스케줄러
+ * 노드마다 자신의 로컬 색인을 만들며, 기동 직후 첫 실행 전까지는 검색이 DB 조회로 대체된다.
+ */
+@Component
+public class ConcertSearchIndexScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcertSearchIndexScheduler.class);
+
+    private final ConcertSearchIndexer concertSearchIndexer;
+    private final boolean enabled;
+
+    public ConcertSearchIndexScheduler(ConcertSearchIndexer concertSearchIndexer,
+                                       @Value("${concert.search.enabled:true}") boolean enabled) {
+        this.concertSearchIndexer = concertSearchIndexer;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(fixedDelayString = "${concert.search.rebuild-interval-ms:300000}")
+    public void rebuildIndex() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            int indexed = concertSearchIndexer.rebuild();
+            logger.info("콘서트 검색 재색인 완료: concerts={}, elapsedMs={}", indexed, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            logger.error("콘서트 검색 재색인 중 오류 발생", e);
+        }
+    }
+}
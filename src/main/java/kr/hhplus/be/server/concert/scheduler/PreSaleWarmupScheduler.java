@@ -0,0 +1,51 @@
+package kr.hhplus.be.server.concert.scheduler;
+
+import kr.hhplus.be.server.concert.warmup.PreSaleWarmupService;
+import kr.hhplus.be.server.concert.warmup.WarmupReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 판매 전 예열 스케줄러
+ * 예약 시작까지 설정된 시간(window) 이내로 남은 콘서트를 주기적으로 찾아 예열한다.
+ */
+@Component
+public class PreSaleWarmupScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(PreSaleWarmupScheduler.class);
+
+    private final PreSaleWarmupService preSaleWarmupService;
+    private final boolean enabled;
+    private final Duration window;
+
+    public PreSaleWarmupScheduler(PreSaleWarmupService preSaleWarmupService,
+                                  @Value("${presale.warmup.enabled:true}") boolean enabled,
+                                  @Value("${presale.warmup.window-minutes:10}") long windowMinutes) {
+        this.preSaleWarmupService = preSaleWarmupService;
+        this.enabled = enabled;
+        this.window = Duration.ofMinutes(windowMinutes);
+    }
+
+    @Scheduled(fixedDelayString = "${presale.warmup.check-interval-ms:60000}")
+    public void warmupUpcomingConcerts() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            List<WarmupReport> reports = preSaleWarmupService.warmupUpcoming(window);
+            if (!reports.isEmpty()) {
+                long notReady = reports.stream().filter(report -> !report.isReady()).count();
+                logger.info("판매 전 예열 실행: 대상={}건, 미준비={}건", reports.size(), notReady);
+            }
+        } catch (Exception e) {
+            logger.error("판매 전 예열 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package kr.hhplus.be.server.concert.search;
+
+import kr.hhplus.be.server.concert.dto.ConcertResponseDto;
+import org.apache.commons.text.StringEscapeUtils;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 콘서트 검색용 노드 로컬 n-gram 역색인 (아티스트, 제목, 공연장)
+ *
+ * LIKE '%x%' 전체 스캔 대신 1-gram/2-gram 포스팅 목록의 교집합으로 후보를 좁힌 뒤 실제 포함 여부를 확인한다.
+ * - 전체 색인: 불변 스냅샷으로 만들어 참조만 교체 (조회는 잠금 없음)
+ * - 증분 반영: 변경된 콘서트는 델타에 보관하고 스냅샷의 같은 콘서트는 무시, 다음 재색인 때 스냅샷에 합쳐진다
+ *
+ * 순위: 아티스트 > 제목 > 공연장, 같은 필드에서는 일치 > 접두 > 중간 포함, 이후 공연일/ID 순.
+ * 색인은 검색어와 같은 규칙(HTML 이스케이프 해제, NFKC, 소문자, 공백 제거)으로 정규화한다.
+ *
+ * 스냅샷 문서 번호를 공연일/ID 순으로 매기므로 포스팅 목록도 그 순서다. 조회는 순위 구간(필드 × 일치/접두/포함)을
+ * 높은 순서대로 훑으며 limit개가 차면 멈추므로, 흔한 글자 한 자 검색도 전체 후보를 점수 매기지 않는다.
+ */
+@Component
+public class ConcertSearchIndex {
+
+    private static final int ARTIST = 0;
+    private static final int TITLE = 1;
+    private static final int VENUE = 2;
+    private static final int[] FIELD_WEIGHTS = {30, 20, 10};
+
+    private static final int EXACT_BONUS = 5;
+    private static final int PREFIX_BONUS = 3;
+    private static final int NO_TIER = -1;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::score).reversed()
+            .thenComparing(hit -> hit.concert().getConcertDate(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(hit -> hit.concert().getConcertId(), Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private volatile Snapshot snapshot;
+    private final Map<Long, DeltaEntry> delta = new ConcurrentHashMap<>();
+    private final AtomicLong deltaSequence = new AtomicLong();
+
+    /**
+     * 전체 색인이 한 번이라도 만들어졌는지 여부 (그 전에는 호출 측이 DB 조회로 대체)
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 재색인 시작 시점 (이 시점 이후의 증분 반영은 교체 후에도 유지)
+     */
+    public long markRebuildStart() {
+        return deltaSequence.get();
+    }
+
+    /**
+     * 전체 색인 교체
+     *
+     * @param concerts 전체 콘서트
+     * @param rebuildStart {@link #markRebuildStart()} 값 - 이전에 반영된 델타는 새 스냅샷에 포함됐으므로 제거
+     */
+    public void replace(List<ConcertResponseDto> concerts, long rebuildStart) {
+        snapshot = Snapshot.build(concerts);
+        delta.values().removeIf(entry -> entry.sequence() <= rebuildStart);
+    }
+
+    /**
+     * 콘서트 한 건 증분 반영 (추가/변경)
+     */
+    public void upsert(ConcertResponseDto concert) {
+        delta.put(concert.getConcertId(), new DeltaEntry(concert, fieldsOf(concert), deltaSequence.incrementAndGet()));
+    }
+
+    /**
+     * 콘서트 한 건 제거
+     */
+    public void remove(Long concertId) {
+        delta.put(concertId, new DeltaEntry(null, null, deltaSequence.incrementAndGet()));
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.docs.length;
+    }
+
+    /**
+     * 검색
+     *
+     * @param query 검색어 (접두/중간 포함 검색)
+     * @param limit 최대 결과 수
+     * @return 순위순 결과, 색인이 아직 준비되지 않았으면 empty
+     */
+    public Optional<List<ConcertResponseDto>> search(String query, int limit) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return Optional.of(List.of());
+        }
+
+        List<Hit> hits = new ArrayList<>(current.top(normalized, limit, delta.keySet()));
+        for (DeltaEntry entry : delta.values()) {
+            if (entry.concert() != null) {
+                int score = score(entry.fields(), normalized);
+                if (score > 0) {
+                    hits.add(new Hit(entry.concert(), score));
+                }
+            }
+        }
+
+        hits.sort(RANKING);
+        return Optional.of(hits.stream().limit(limit).map(Hit::concert).toList());
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String unescaped = StringEscapeUtils.unescapeHtml4(text);
+        String folded = Normalizer.normalize(unescaped, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(folded.length());
+        folded.codePoints()
+                .filter(codePoint -> !Character.isWhitespace(codePoint))
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    private static String[] fieldsOf(ConcertResponseDto concert) {
+        return new String[]{normalize(concert.getArtist()), normalize(concert.getTitle()), normalize(concert.getVenue())};
+    }
+
+    /**
+     * 검색어가 1자면 1-gram, 2자 이상이면 2-gram (중복 제거)
+     */
+    private static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (normalized.length() == 1) {
+            grams.add(normalized);
+            return grams;
+        }
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static int score(String[] fields, String normalized) {
+        int best = 0;
+        for (int field = ARTIST; field <= VENUE; field++) {
+            best = Math.max(best, fieldScore(field, fields[field], normalized));
+        }
+        return best;
+    }
+
+    private static int fieldScore(int field, String value, String normalized) {
+        if (value.equals(normalized)) {
+            return FIELD_WEIGHTS[field] + EXACT_BONUS;
+        }
+        if (value.startsWith(normalized)) {
+            return FIELD_WEIGHTS[field] + PREFIX_BONUS;
+        }
+        return value.contains(normalized) ? FIELD_WEIGHTS[field] : 0;
+    }
+
+    private record Hit(ConcertResponseDto concert, int score) {
+    }
+
+    private record DeltaEntry(ConcertResponseDto concert, String[] fields, long sequence) {
+    }
+
+    /**
+     * 불변 색인 스냅샷 (문서 번호는 공연일/ID 순)
+     * 필드별로 n-gram, 접두(앞 1~2자), 전체 값 → 정렬된 문서 번호 목록을 둔다.
+     */
+    private static final class Snapshot {
+
+        private static final Comparator<ConcertResponseDto> DOC_ORDER =
+                Comparator.comparing(ConcertResponseDto::getConcertDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(ConcertResponseDto::getConcertId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+        private final ConcertResponseDto[] docs;
+        private final String[][] fields;
+        private final List<Map<String, int[]>> postings;
+        private final List<Map<String, int[]>> prefixes;
+        private final List<Map<String, int[]>> values;
+
+        private Snapshot(ConcertResponseDto[] docs, String[][] fields, List<Map<String, int[]>> postings,
+                         List<Map<String, int[]>> prefixes, List<Map<String, int[]>> values) {
+            this.docs = docs;
+            this.fields = fields;
+            this.postings = postings;
+            this.prefixes = prefixes;
+            this.values = values;
+        }
+
+        static Snapshot build(List<ConcertResponseDto> concerts) {
+            ConcertResponseDto[] docs = concerts.toArray(new ConcertResponseDto[0]);
+            Arrays.sort(docs, DOC_ORDER);
+            String[][] fields = new String[docs.length][];
+            List<Map<String, IntList>> building = List.of(new HashMap<>(), new HashMap<>(), new HashMap<>());
+            List<Map<String, IntList>> buildingPrefixes = List.of(new HashMap<>(), new HashMap<>(), new HashMap<>());
+            List<Map<String, IntList>> buildingValues = List.of(new HashMap<>(), new HashMap<>(), new HashMap<>());
+
+            for (int doc = 0; doc < docs.length; doc++) {
+                fields[doc] = fieldsOf(docs[doc]);
+                for (int field = ARTIST; field <= VENUE; field++) {
+                    String value = fields[doc][field];
+                    if (value.isEmpty()) {
+                        continue;
+                    }
+                    Set<String> grams = new LinkedHashSet<>();
+                    for (int i = 0; i < value.length(); i++) {
+                        grams.add(value.substring(i, i + 1));
+                        if (i + 2 <= value.length()) {
+                            grams.add(value.substring(i, i + 2));
+                        }
+                    }
+                    // 문서 번호 순으로 추가하므로 목록은 항상 정렬 상태
+                    Map<String, IntList> fieldPostings = building.get(field);
+                    for (String gram : grams) {
+                        fieldPostings.computeIfAbsent(gram, key -> new IntList()).add(doc);
+                    }
+                    Map<String, IntList> fieldPrefixes = buildingPrefixes.get(field);
+                    fieldPrefixes.computeIfAbsent(value.substring(0, 1), key -> new IntList()).add(doc);
+                    if (value.length() >= 2) {
+                        fieldPrefixes.computeIfAbsent(value.substring(0, 2), key -> new IntList()).add(doc);
+                    }
+                    buildingValues.get(field).computeIfAbsent(value, key -> new IntList()).add(doc);
+                }
+            }
+            return new Snapshot(docs, fields, compact(building), compact(buildingPrefixes), compact(buildingValues));
+        }
+
+        /**
+         * 순위 상위 limit개 (excluded: 델타에 있어 스냅샷 항목을 무시할 콘서트 ID)
+         *
+         * 필드 가중치 차이가 보너스보다 커서 (필드, 일치/접두/포함) 구간의 점수는 겹치지 않는다.
+         * 구간을 높은 순서대로 문서 번호(공연일/ID) 순으로 훑으면 결과가 순위 순서대로 나오므로 limit개에서 멈춘다.
+         * 더 높은 구간에 속한 문서는 그 구간을 끝까지 훑으며 이미 담았으므로 낮은 구간에서는 건너뛴다.
+         */
+        List<Hit> top(String normalized, int limit, Set<Long> excluded) {
+            Set<String> grams = grams(normalized);
+            List<Hit> hits = new ArrayList<>(limit);
+            Set<Integer> taken = new HashSet<>();
+
+            for (int field = ARTIST; field <= VENUE && hits.size() < limit; field++) {
+                int exact = FIELD_WEIGHTS[field] + EXACT_BONUS;
+                int prefix = FIELD_WEIGHTS[field] + PREFIX_BONUS;
+                int contains = FIELD_WEIGHTS[field];
+                int[][] containing = lists(postings.get(field), grams);
+
+                collect(field, lists(values.get(field), Set.of(normalized)), exact, NO_TIER,
+                        normalized, limit, excluded, taken, hits);
+                if (normalized.length() <= 2) {
+                    collect(field, lists(prefixes.get(field), Set.of(normalized)), prefix, NO_TIER,
+                            normalized, limit, excluded, taken, hits);
+                    collect(field, containing, contains, NO_TIER, normalized, limit, excluded, taken, hits);
+                } else {
+                    // 접두 일치 문서도 모든 n-gram을 가지므로 교집합을 한 번만 훑으며 두 구간으로 나눠 담는다
+                    collect(field, containing, prefix, contains, normalized, limit, excluded, taken, hits);
+                }
+            }
+            return hits;
+        }
+
+        /**
+         * 목록들의 교집합을 문서 번호 순으로 따라가며 tierScore인 문서를 limit까지 담는다
+         * 교집합을 미리 만들지 않고 목록을 번갈아 건너뛰며(leapfrog) 모든 목록에 있는 다음 문서를 찾는다.
+         * nextTierScore인 문서는 따로 모았다가 이 구간을 다 훑은 뒤 남은 자리만큼 이어 담는다.
+         */
+        private void collect(int field, int[][] lists, int tierScore, int nextTierScore, String normalized,
+                             int limit, Set<Long> excluded, Set<Integer> taken, List<Hit> hits) {
+            if (lists == null || hits.size() >= limit) {
+                return;
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+            List<Integer> next = new ArrayList<>();
+            int[] positions = new int[lists.length];
+            int target = 0;
+            while (true) {
+                // 연속으로 모든 목록이 target을 가질 때까지 각 목록의 target 이상 첫 문서로 target을 올린다
+                int agreed = 0;
+                for (int i = 0; agreed < lists.length; i = (i + 1) % lists.length) {
+                    positions[i] = lowerBound(lists[i], positions[i], target);
+                    if (positions[i] >= lists[i].length) {
+                        target = -1;
+                        break;
+                    }
+                    int doc = lists[i][positions[i]];
+                    agreed = doc == target ? agreed + 1 : 1;
+                    target = doc;
+                }
+                if (target < 0) {
+                    break;
+                }
+
+                int doc = target++;
+                if (taken.contains(doc) || excluded.contains(docs[doc].getConcertId())) {
+                    continue;
+                }
+                int score = fieldScore(field, fields[doc][field], normalized);
+                if (score == tierScore) {
+                    taken.add(doc);
+                    hits.add(new Hit(docs[doc], tierScore));
+                    if (hits.size() >= limit) {
+                        return;
+                    }
+                } else if (score == nextTierScore && next.size() < limit) {
+                    next.add(doc);
+                }
+            }
+            for (int doc : next.subList(0, Math.min(next.size(), limit - hits.size()))) {
+                taken.add(doc);
+                hits.add(new Hit(docs[doc], nextTierScore));
+            }
+        }
+
+        /**
+         * from부터 target 이상인 첫 위치. 건너뛰는 거리가 대개 짧아 간격을 두 배씩 늘려 구간을 좁힌 뒤 이진 탐색한다
+         */
+        private static int lowerBound(int[] list, int from, int target) {
+            if (from >= list.length || list[from] >= target) {
+                return from;
+            }
+            int low = from;
+            int step = 1;
+            while (low + step < list.length && list[low + step] < target) {
+                low += step;
+                step <<= 1;
+            }
+            int found = Arrays.binarySearch(list, low + 1, Math.min(low + step + 1, list.length), target);
+            return found >= 0 ? found : -found - 1;
+        }
+
+        /**
+         * 키별 목록 (하나라도 없으면 일치 문서가 없으므로 null)
+         */
+        private static int[][] lists(Map<String, int[]> index, Set<String> keys) {
+            int[][] lists = new int[keys.size()][];
+            int i = 0;
+            for (String key : keys) {
+                int[] list = index.get(key);
+                if (list == null) {
+                    return null;
+                }
+                lists[i++] = list;
+            }
+            return lists;
+        }
+
+        private static List<Map<String, int[]>> compact(List<Map<String, IntList>> building) {
+            List<Map<String, int[]>> compacted = new ArrayList<>(building.size());
+            for (Map<String, IntList> index : building) {
+                Map<String, int[]> arrays = new HashMap<>(index.size() * 2);
+                index.forEach((key, list) -> arrays.put(key, list.toArray()));
+                compacted.add(arrays);
+            }
+            return compacted;
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package kr.hhplus.be.server.concert.search;
+
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.dto.ConcertResponseDto;
+import kr.hhplus.be.server.concert.listener.ConcertCatalogCacheListener;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 콘서트 검색 색인 갱신
+ *
+ * - 전체 재색인: ID 순 배치 조회로 새 스냅샷을 만들어 교체 (스케줄러에서 주기 실행, 외부에서 추가된 콘서트 반영)
+ * - 증분 반영: 콘서트 변경 Pub/Sub 메시지(카탈로그 캐시 무효화와 같은 채널)를 받아 해당 콘서트만 다시 색인
+ *   변경을 커밋한 노드도 자신이 보낸 메시지를 받으므로 모든 노드가 같은 경로로 갱신된다.
+ */
+@Component
+@Slf4j
+public class ConcertSearchIndexer implements MessageListener {
+
+    private final ConcertRepository concertRepository;
+    private final ConcertSearchIndex concertSearchIndex;
+    private final int batchSize;
+
+    public ConcertSearchIndexer(ConcertRepository concertRepository,
+                                ConcertSearchIndex concertSearchIndex,
+                                RedisMessageListenerContainer listenerContainer,
+                                @Value("${concert.search.rebuild-batch-size:5000}") int batchSize) {
+        this.concertRepository = concertRepository;
+        this.concertSearchIndex = concertSearchIndex;
+        this.batchSize = batchSize;
+        listenerContainer.addMessageListener(this, new ChannelTopic(ConcertCatalogCacheListener.CHANNEL));
+    }
+
+    /**
+     * 전체 재색인
+     *
+     * @return 색인된 콘서트 수
+     */
+    public int rebuild() {
+        long rebuildStart = concertSearchIndex.markRebuildStart();
+        List<ConcertResponseDto> concerts = new ArrayList<>();
+        long lastConcertId = 0L;
+        while (true) {
+            List<Concert> batch = concertRepository.findAllAfterId(lastConcertId, batchSize);
+            batch.forEach(concert -> concerts.add(ConcertResponseDto.from(concert)));
+            if (batch.size() < batchSize) {
+                break;
+            }
+            lastConcertId = batch.get(batch.size() - 1).getConcertId();
+        }
+        concertSearchIndex.replace(concerts, rebuildStart);
+        return concerts.size();
+    }
+
+    /**
+     * 콘서트 한 건 다시 색인 (없어진 콘서트는 색인에서 제거)
+     */
+    public void reindex(Long concertId) {
+        concertRepository.findById(concertId)
+                .map(ConcertResponseDto::from)
+                .ifPresentOrElse(concertSearchIndex::upsert, () -> concertSearchIndex.remove(concertId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", "");
+        try {
+            reindex(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("콘서트 변경 메시지 파싱 실패: {}", body);
+        } catch (Exception e) {
+            // 다음 전체 재색인에서 반영됨
+            log.warn("콘서트 검색 색인 증분 반영 실패: {}", body, e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package kr.hhplus.be.server.concert.service;
+
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.event.ConcertChangedEvent;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.seat.domain.VenueLayout;
+import kr.hhplus.be.server.seat.service.SeatProvisioningService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 콘서트 등록
+ *
+ * 콘서트 저장과 좌석 일괄 생성을 한 트랜잭션으로 묶어, 좌석 없는 콘서트가 노출되지 않게 한다.
+ * 커밋 후 {@link ConcertChangedEvent}로 카탈로그 캐시(목록 포함)를 무효화한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ConcertRegistrationService {
+
+    private final ConcertRepository concertRepository;
+    private final SeatProvisioningService seatProvisioningService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 콘서트 등록 및 좌석 생성
+     *
+     * @param concert 등록할 콘서트 (totalSeats는 배치의 좌석 수와 같아야 함)
+     * @param layout 공연장 좌석 배치
+     * @return 저장된 콘서트
+     * @throws IllegalArgumentException 배치의 좌석 수가 콘서트 총 좌석 수와 다른 경우
+     */
+    @Transactional
+    public Concert registerConcert(Concert concert, VenueLayout layout) {
+        Concert saved = concertRepository.save(concert);
+        int created = seatProvisioningService.provisionSeats(saved.getConcertId(), layout);
+
+        eventPublisher.publishEvent(ConcertChangedEvent.of(saved.getConcertId()));
+        log.info("콘서트 등록: concertId={}, seats={}", saved.getConcertId(), created);
+        return saved;
+    }
+}
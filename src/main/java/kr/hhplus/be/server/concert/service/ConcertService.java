@@ -1,40 +1,92 @@
 package kr.hhplus.be.server.concert.service;
 
 
+import kr.hhplus.be.server.common.dto.RawJson;
+import kr.hhplus.be.server.concert.cache.CatalogPage;
+import kr.hhplus.be.server.concert.cache.ConcertCatalogCache;
+import kr.hhplus.be.server.concert.calendar.ConcertCalendar;
 import kr.hhplus.be.server.concert.exception.ConcertNotFoundException;
-import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.dto.ConcertCursor;
 import kr.hhplus.be.server.concert.dto.ConcertResponseDto;
+import kr.hhplus.be.server.concert.dto.ConcertSlice;
 import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.concert.search.ConcertSearchIndex;
+import kr.hhplus.be.server.seat.inventory.SeatInventoryCounter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @Transactional(readOnly = true)
 public class ConcertService {
 
+    static final int MAX_SEARCH_LIMIT = 100;
+    static final int MAX_PAGE_SIZE = 100;
+
     private final ConcertRepository concertRepository;
+    private final SeatInventoryCounter seatInventoryCounter;
+    private final ConcertCatalogCache concertCatalogCache;
+    private final ConcertSearchIndex concertSearchIndex;
+    private final ConcertCalendar concertCalendar;
 
-    public ConcertService(ConcertRepository concertRepository) {
+    public ConcertService(ConcertRepository concertRepository,
+                          SeatInventoryCounter seatInventoryCounter,
+                          ConcertCatalogCache concertCatalogCache,
+                          ConcertSearchIndex concertSearchIndex,
+                          ConcertCalendar concertCalendar) {
         this.concertRepository = concertRepository;
+        this.seatInventoryCounter = seatInventoryCounter;
+        this.concertCatalogCache = concertCatalogCache;
+        this.concertSearchIndex = concertSearchIndex;
+        this.concertCalendar = concertCalendar;
     }
 
     /**
-     * 예약 가능한 콘서트 목록 조회
-     * @param page 페이지 번호 (0부터 시작)
-     * @param size 페이지 크기
+     * 예약 가능한 콘서트 목록 조회 (매진 여부 포함)
+     * @param page 페이지 번호 (0부터 시작, 음수는 0)
+     * @param size 페이지 크기 (1~{@value #MAX_PAGE_SIZE})
      * @return 콘서트 목록과 페이징 정보
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<ConcertResponseDto> getAvailableConcerts(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Concert> concerts = concertRepository.findAvailableConcerts(pageable);
-        return concerts.map(ConcertResponseDto::from);
+        int boundedPage = Math.max(0, page);
+        int boundedSize = boundSize(size);
+        CatalogPage concerts = concertCatalogCache.findAvailablePage(boundedPage, boundedSize);
+        return new PageImpl<>(withLiveSoldOut(concerts.content()), PageRequest.of(boundedPage, boundedSize),
+                concerts.totalElements());
+    }
+
+    /**
+     * 예약 가능한 콘서트 목록 키셋 조회 (매진 여부 포함)
+     * 커서 이후 행만 인덱스 순서로 읽고 COUNT를 하지 않으므로 몇 번째 페이지든 비용이 같다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1~{@value #MAX_PAGE_SIZE})
+     * @return 콘서트 목록과 다음 페이지 커서
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ConcertSlice getAvailableConcertsAfter(String cursor, int requestedSize) {
+        int size = boundSize(requestedSize);
+        ConcertCursor position = cursor == null || cursor.isBlank()
+                ? ConcertCursor.first(LocalDate.now())
+                : ConcertCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        // 캘린더(잔여석 반영 완료)가 준비되어 있으면 DB/캐시 없이 응답
+        List<ConcertResponseDto> rows = concertCalendar.findAfter(position, size + 1)
+                .orElseGet(() -> withLiveSoldOut(concertCatalogCache.findAvailableAfter(position, size + 1)));
+        boolean hasNext = rows.size() > size;
+        List<ConcertResponseDto> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? ConcertCursor.of(content.get(content.size() - 1)).encode() : null;
+        return new ConcertSlice(content, nextCursor);
     }
 
     /**
@@ -43,10 +95,10 @@ public class ConcertService {
      * @return 콘서트 상세 정보
      * @throws ConcertNotFoundException 콘서트가 존재하지 않는 경우
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public ConcertResponseDto getConcertById(Long concertId) {
-        Concert concert = concertRepository.findById(concertId)
+        return concertCatalogCache.findConcert(concertId)
                 .orElseThrow(() -> new ConcertNotFoundException("콘서트를 찾을 수 없습니다: " + concertId));
-        return ConcertResponseDto.from(concert);
     }
 
     /**
@@ -54,22 +106,55 @@ public class ConcertService {
      * @param date 조회할 날짜
      * @return 해당 날짜의 콘서트 목록
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<ConcertResponseDto> getConcertsByDate(LocalDate date) {
-        List<Concert> concerts = concertRepository.findByConcertDate(date);
-        return concerts.stream()
-                .map(ConcertResponseDto::from)
-                .collect(Collectors.toList());
+        return concertCatalogCache.findByDate(date);
+    }
+
+    /**
+     * 특정 날짜의 콘서트 목록 (미리 직렬화된 JSON)
+     * 오늘 이후 날짜는 캘린더의 잔여석 반영 JSON을 그대로 반환하고, 그 외에는 조회 후 직렬화한다.
+     *
+     * @param date 조회할 날짜
+     * @return 콘서트 목록 JSON 배열
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public RawJson getConcertsByDateJson(LocalDate date) {
+        return concertCalendar.findByDate(date)
+                .orElseGet(() -> concertCalendar.serialize(getConcertsByDate(date)));
+    }
+
+    /**
+     * 콘서트 검색 (아티스트, 제목, 공연장의 접두/중간 포함 검색)
+     * 노드 로컬 n-gram 색인에서 순위순으로 조회하며, 기동 직후 색인이 준비되기 전에는 아티스트 LIKE 조회로 대체한다.
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수 (1~{@value #MAX_SEARCH_LIMIT})
+     * @return 순위순 검색 결과
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<ConcertResponseDto> searchConcerts(String query, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        List<ConcertResponseDto> concerts = concertSearchIndex.search(query, boundedLimit)
+                .orElseGet(() -> concertRepository.findByArtistContaining(query).stream()
+                        .limit(boundedLimit)
+                        .map(ConcertResponseDto::from)
+                        .toList());
+        return withLiveSoldOut(concerts);
+    }
+
+    private static int boundSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
     }
 
     /**
-     * 아티스트명으로 콘서트 검색
-     * @param artistName 아티스트명 (부분 검색 가능)
-     * @return 검색된 콘서트 목록
+     * 캐시/색인의 매진 여부에 잔여석 카운터상 매진을 덮어씀 (MGET 한 번, 좌석 COUNT 쿼리 없음)
      */
-    public List<ConcertResponseDto> searchConcertsByArtist(String artistName) {
-        List<Concert> concerts = concertRepository.findByArtistContaining(artistName);
+    private List<ConcertResponseDto> withLiveSoldOut(List<ConcertResponseDto> concerts) {
+        Set<Long> soldOut = seatInventoryCounter.findSoldOut(
+                concerts.stream().map(ConcertResponseDto::getConcertId).toList());
         return concerts.stream()
-                .map(ConcertResponseDto::from)
-                .collect(Collectors.toList());
+                .map(concert -> concert.withSoldOut(concert.isSoldOut() || soldOut.contains(concert.getConcertId())))
+                .toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package kr.hhplus.be.server.concert.service;
+
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.event.ConcertChangedEvent;
+import kr.hhplus.be.server.concert.event.ConcertSoldOutEvent;
+import kr.hhplus.be.server.concert.exception.ConcertNotFoundException;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.reservation.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 콘서트 매진/매진 해제 전이
+ *
+ * 잔여석 카운터가 매진(또는 재오픈) 후보를 감지하면 호출되며,
+ * DB 조건부 UPDATE로 전이를 콘서트당 한 번만 허용한다. (카운터 재계산 등으로 중복 호출되어도 안전)
+ * 커밋 후 리스너에서 호출되므로 항상 새 트랜잭션에서 실행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ConcertSoldOutService {
+
+    private final ConcertRepository concertRepository;
+    private final ReservationRepository reservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 매진 전이 및 {@link ConcertSoldOutEvent} 발행
+     *
+     * @param concertId 콘서트 ID
+     * @return 이번 호출이 매진 전이를 수행했으면 true
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean markSoldOut(Long concertId) {
+        LocalDateTime soldOutTime = LocalDateTime.now();
+        if (concertRepository.markSoldOutIfOnSale(concertId, soldOutTime) == 0) {
+            log.debug("이미 매진 처리된 콘서트: concertId={}", concertId);
+            return false;
+        }
+
+        Concert concert = concertRepository.findById(concertId)
+                .orElseThrow(() -> new ConcertNotFoundException("콘서트를 찾을 수 없습니다: " + concertId));
+        LocalDateTime bookingStartTime = resolveBookingStartTime(concert, soldOutTime);
+
+        eventPublisher.publishEvent(ConcertSoldOutEvent.createWithDuration(
+                concertId, concert.getTitle(), bookingStartTime, soldOutTime, concert.getTotalSeats()));
+
+        log.info("콘서트 매진: concertId={}, bookingStartTime={}, soldOutTime={}",
+                concertId, bookingStartTime, soldOutTime);
+        return true;
+    }
+
+    /**
+     * 매진 해제 전이 (확정 좌석 환불 등으로 잔여석 발생)
+     *
+     * @param concertId 콘서트 ID
+     * @return 이번 호출이 매진 해제 전이를 수행했으면 true
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean cancelSoldOut(Long concertId) {
+        boolean reopened = concertRepository.cancelSoldOutIfSoldOut(concertId) > 0;
+        if (reopened) {
+            eventPublisher.publishEvent(ConcertChangedEvent.of(concertId));
+            log.info("콘서트 매진 해제: concertId={}", concertId);
+        }
+        return reopened;
+    }
+
+    /**
+     * 매진 소요 시간의 기준 시각
+     *
+     * 설정된 예약 시작 시각이 매진 시각 이전이면 그대로 사용하고,
+     * 없거나 이후인 경우(예약 시작 전 선판매 등) 실제 첫 예약 시각을 사용한다.
+     */
+    private LocalDateTime resolveBookingStartTime(Concert concert, LocalDateTime soldOutTime) {
+        LocalDateTime configured = concert.getBookingStartTime();
+        if (configured != null && !configured.isAfter(soldOutTime)) {
+            return configured;
+        }
+        return reservationRepository.findFirstCreatedAtByConcertId(concert.getConcertId())
+                .orElse(concert.getCreatedAt());
+    }
+}
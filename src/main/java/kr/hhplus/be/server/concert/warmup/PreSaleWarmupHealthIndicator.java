@@ -0,0 +1,37 @@
+package kr.hhplus.be.server.concert.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 판매 임박 콘서트의 예열 준비 상태
+ * GET /actuator/health/presale 그룹으로 노출되며, 준비되지 않은 콘서트가 있으면 WARMING_UP (503)
+ *
+ * 예열 실패가 노드 전체 상태를 DOWN으로 만들지 않도록 DOWN 대신 별도 상태를 쓴다.
+ * 기본 /actuator/health 에서는 WARMING_UP이 UP보다 낮은 우선순위라 전체 상태에 영향을 주지 않는다. (application.yml)
+ */
+@Component("presaleWarmup")
+public class PreSaleWarmupHealthIndicator implements HealthIndicator {
+
+    static final Status WARMING_UP = new Status("WARMING_UP", "판매 전 예열 미완료");
+
+    private final PreSaleWarmupService preSaleWarmupService;
+
+    public PreSaleWarmupHealthIndicator(PreSaleWarmupService preSaleWarmupService) {
+        this.preSaleWarmupService = preSaleWarmupService;
+    }
+
+    @Override
+    public Health health() {
+        Collection<WarmupReport> reports = preSaleWarmupService.getReports();
+        boolean ready = reports.stream().allMatch(WarmupReport::isReady);
+
+        Health.Builder builder = ready ? Health.up() : Health.status(WARMING_UP);
+        reports.forEach(report -> builder.withDetail("concert-" + report.concertId(), report));
+        return builder.build();
+    }
+}
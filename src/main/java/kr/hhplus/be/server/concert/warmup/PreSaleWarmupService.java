@@ -0,0 +1,190 @@
+package kr.hhplus.be.server.concert.warmup;
+
+import com.zaxxer.hikari.HikariDataSource;
+import kr.hhplus.be.server.concert.cache.ConcertCatalogCache;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import kr.hhplus.be.server.seat.service.SeatInventoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 판매 전 예열
+ *
+ * 예약 시작 직전의 콘서트에 대해 판매 첫 순간에 몰리는 콜드 스타트 비용을 미리 치른다.
+ * - 잔여석 카운터 초기화 (구역/상태 집계로 좌석 인덱스 페이지도 함께 적재)
+ * - 예약 경로의 좌석 조회 쿼리 1회 실행 (Hibernate 쿼리 플랜 캐시, InnoDB 버퍼 풀)
+ * - 콘서트 단건/목록 첫 페이지 카탈로그 캐시 적재
+ * - 최소 유휴 커넥션 수만큼 커넥션을 동시에 빌려 검증 (만료/끊긴 커넥션을 판매 전에 교체)
+ *   요청 처리용 커넥션이 남도록 풀 최대 크기보다 하나 적게 빌린다.
+ * - Redis 응답 확인
+ *
+ * 좌석 상태, DB 커넥션, Redis 중 하나라도 실패하면 준비 실패로 기록하여 다음 실행에서 다시 예열한다.
+ *
+ * Redis 상태는 SET NX로 초기화되므로 여러 노드가 동시에 예열해도 안전하며,
+ * 커넥션 풀 등 노드 로컬 자원을 위해 각 노드가 독립적으로 예열한다.
+ */
+@Service
+public class PreSaleWarmupService {
+
+    private static final Logger log = LoggerFactory.getLogger(PreSaleWarmupService.class);
+
+    private static final int CONNECTION_VALIDATION_TIMEOUT_SECONDS = 1;
+    // 콘서트 목록 API 기본 페이지 크기
+    private static final int CATALOG_FIRST_PAGE_SIZE = 20;
+
+    private final ConcertRepository concertRepository;
+    private final SeatRepository seatRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final ConcertCatalogCache concertCatalogCache;
+    private final DataSource dataSource;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 콘서트별 최근 예열 결과 (준비 상태 점검용)
+    private final Map<Long, WarmupReport> reports = new ConcurrentHashMap<>();
+
+    public PreSaleWarmupService(ConcertRepository concertRepository,
+                                SeatRepository seatRepository,
+                                SeatInventoryService seatInventoryService,
+                                ConcertCatalogCache concertCatalogCache,
+                                DataSource dataSource,
+                                RedisTemplate<String, String> redisTemplate) {
+        this.concertRepository = concertRepository;
+        this.seatRepository = seatRepository;
+        this.seatInventoryService = seatInventoryService;
+        this.concertCatalogCache = concertCatalogCache;
+        this.dataSource = dataSource;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 예약 시작까지 window 이내로 남은 콘서트 예열
+     * 이미 준비 완료된 콘서트는 건너뛰고, 준비 실패한 콘서트는 다음 실행에서 다시 시도한다.
+     *
+     * @return 이번에 예열한 결과
+     */
+    public List<WarmupReport> warmupUpcoming(Duration window) {
+        LocalDateTime now = LocalDateTime.now();
+        // 예약 시작 후 window가 지난 콘서트는 점검 대상에서 제외
+        reports.values().removeIf(report -> report.bookingStartTime().plus(window).isBefore(now));
+
+        List<WarmupReport> warmed = new ArrayList<>();
+        for (Concert concert : concertRepository.findByBookingStartTimeBetween(now, now.plus(window))) {
+            WarmupReport previous = reports.get(concert.getConcertId());
+            if (previous != null && previous.isReady()) {
+                continue;
+            }
+            warmed.add(warmup(concert));
+        }
+        return warmed;
+    }
+
+    /**
+     * 콘서트 한 건 예열
+     */
+    public WarmupReport warmup(Concert concert) {
+        long startedAt = System.currentTimeMillis();
+        Long concertId = concert.getConcertId();
+
+        int sections = 0;
+        long remainingSeats = 0;
+        boolean seatStateReady = false;
+        try {
+            Map<String, Long> remainingBySection = seatInventoryService.initializeFromDatabase(concertId);
+            sections = remainingBySection.size();
+            remainingSeats = remainingBySection.values().stream().mapToLong(Long::longValue).sum();
+            seatRepository.findByConcertIdAndSeatNumber(concertId, 1);
+            seatStateReady = true;
+        } catch (Exception e) {
+            log.warn("좌석 상태 예열 실패: concertId={}", concertId, e);
+        }
+
+        try {
+            concertCatalogCache.findConcert(concertId);
+            concertCatalogCache.findAvailablePage(0, CATALOG_FIRST_PAGE_SIZE);
+        } catch (Exception e) {
+            log.warn("콘서트 카탈로그 예열 실패: concertId={}", concertId, e);
+        }
+
+        int openedConnections = openConnections();
+        boolean redisReady = pingRedis();
+
+        WarmupReport report = new WarmupReport(concertId, concert.getBookingStartTime(), sections, remainingSeats,
+                seatStateReady, openedConnections, openedConnections > 0, redisReady,
+                System.currentTimeMillis() - startedAt, LocalDateTime.now());
+        reports.put(concertId, report);
+
+        if (seatStateReady && sections == 0) {
+            log.warn("좌석이 생성되지 않은 콘서트의 판매 시작이 임박했습니다: concertId={}, bookingStartTime={}",
+                    concertId, concert.getBookingStartTime());
+        }
+        log.info("판매 전 예열 완료: concertId={}, ready={}, sections={}, remainingSeats={}, connections={}, elapsed={}ms",
+                concertId, report.isReady(), sections, remainingSeats, openedConnections, report.elapsedMillis());
+        return report;
+    }
+
+    public Collection<WarmupReport> getReports() {
+        return List.copyOf(reports.values());
+    }
+
+    /**
+     * 최소 유휴 커넥션 수만큼 커넥션을 동시에 보유하여 검증 후 반납
+     * 예열 중에도 요청이 커넥션을 얻을 수 있도록 풀 최대 크기보다 적게 (최소 1개) 빌린다.
+     *
+     * @return 검증된 커넥션 수 (실패 시 0)
+     */
+    int openConnections() {
+        int target = dataSource instanceof HikariDataSource hikari
+                ? Math.max(1, Math.min(hikari.getMinimumIdle(), hikari.getMaximumPoolSize() - 1))
+                : 1;
+        List<Connection> held = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                Connection connection = dataSource.getConnection();
+                held.add(connection);
+                if (!connection.isValid(CONNECTION_VALIDATION_TIMEOUT_SECONDS)) {
+                    log.warn("유효하지 않은 DB 커넥션 감지");
+                    return 0;
+                }
+            }
+            return held.size();
+        } catch (SQLException e) {
+            log.warn("DB 커넥션 예열 실패: opened={}/{}", held.size(), target, e);
+            return 0;
+        } finally {
+            for (Connection connection : held) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.debug("DB 커넥션 반납 실패", e);
+                }
+            }
+        }
+    }
+
+    boolean pingRedis() {
+        try {
+            String pong = redisTemplate.execute((RedisCallback<String>) RedisConnection::ping);
+            return "PONG".equalsIgnoreCase(pong);
+        } catch (Exception e) {
+            log.warn("Redis 응답 확인 실패", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package kr.hhplus.be.server.concert.warmup;
+
+import java.time.LocalDateTime;
+
+/**
+ * 판매 전 예열 결과
+ *
+ * @param sections 예열된 구역 수 (0이면 좌석 미생성 - 경고만 하고 준비 완료로 본다)
+ * @param remainingSeats 잔여석 수 (DB 기준)
+ * @param seatStateReady 좌석 상태(잔여석 카운터, 좌석 조회) 예열이 예외 없이 끝났는지 여부
+ * @param openedConnections 미리 연 DB 커넥션 수
+ * @param databaseReady DB 커넥션 검증 성공 여부
+ * @param redisReady Redis 응답 여부
+ */
+public record WarmupReport(Long concertId,
+                           LocalDateTime bookingStartTime,
+                           int sections,
+                           long remainingSeats,
+                           boolean seatStateReady,
+                           int openedConnections,
+                           boolean databaseReady,
+                           boolean redisReady,
+                           long elapsedMillis,
+                           LocalDateTime warmedAt) {
+
+    public boolean isReady() {
+        return seatStateReady && databaseReady && redisReady;
+    }
+}
@@ -1,9 +1,14 @@
 package kr.hhplus.be.server.payment.domain;
 
+import kr.hhplus.be.server.common.id.TimeOrderedIds;
+import kr.hhplus.be.server.common.id.UuidBinaryConverter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -12,13 +17,16 @@ import java.util.UUID;
 @Table(name = "payments")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Payment {
+public class Payment implements Persistable<UUID> {
 
+    // 시간 순서 UUIDv7, BINARY(16) 저장 (API 경계에서는 문자열)
     @Id
-    @Column(name = "payment_id", length = 36)
-    private String paymentId;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "payment_id", columnDefinition = "BINARY(16)")
+    private UUID paymentId;
 
-    @Column(name = "reservation_id", nullable = false, length = 36)
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "reservation_id", nullable = false, columnDefinition = "BINARY(16)")
     private String reservationId;
 
     @Column(name = "user_id", nullable = false, length = 50)
@@ -38,6 +46,10 @@ public class Payment {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // ID를 직접 할당하므로 새 엔티티 여부를 따로 표시 (save 시 merge 조회 없이 바로 persist)
+    @Transient
+    private boolean isNew = true;
+
     public enum PaymentStatus {
         PENDING,      // 결제 대기
         COMPLETED,    // 결제 완료
@@ -50,9 +62,29 @@ public class Payment {
         BALANCE, CARD
     }
 
+    public String getPaymentId() {
+        return paymentId == null ? null : paymentId.toString();
+    }
+
+    @Override
+    public UUID getId() {
+        return paymentId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     /**
      * 결제 정보를 생성합니다.
-     * 결제 ID는 자동으로 UUID로 생성되며, 상태는 PENDING으로 초기화됩니다.
+     * 결제 ID는 자동으로 시간 순서 UUID(v7)로 생성되며, 상태는 PENDING으로 초기화됩니다.
      *
      * @param reservationId 예약 ID (필수, 36자 이하)
      * @param userId 사용자 ID (필수, 50자 이하)
@@ -63,7 +95,7 @@ public class Payment {
     public Payment(String reservationId, String userId, BigDecimal amount, PaymentMethod paymentMethod) {
         validatePaymentData(reservationId, userId, amount, paymentMethod);
 
-        this.paymentId = UUID.randomUUID().toString();
+        this.paymentId = TimeOrderedIds.newUuid();
         this.reservationId = reservationId;
         this.userId = userId;
         this.amount = amount;
@@ -84,7 +116,7 @@ public class Payment {
      */
     public static Payment createFailedPayment(String reservationId, String userId, BigDecimal amount, PaymentMethod paymentMethod) {
         Payment payment = new Payment();
-        payment.paymentId = UUID.randomUUID().toString();
+        payment.paymentId = TimeOrderedIds.newUuid();
         payment.reservationId = reservationId;
         payment.userId = userId;
         payment.amount = amount;
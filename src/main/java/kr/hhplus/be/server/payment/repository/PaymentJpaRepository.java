@@ -6,9 +6,10 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-public interface PaymentJpaRepository extends JpaRepository<Payment, String> {
+public interface PaymentJpaRepository extends JpaRepository<Payment, UUID> {
     List<Payment> findByUserId(String userId);
     Optional<Payment> findByReservationId(String reservationId);
 }
@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.payment.repository;
 
+import kr.hhplus.be.server.common.id.TimeOrderedIds;
 import kr.hhplus.be.server.payment.domain.Payment;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -20,7 +21,7 @@ public class PaymentRepositoryImpl implements PaymentRepository {
 
     @Override
     public Optional<Payment> findById(String paymentId) {
-        return paymentJpaRepository.findById(paymentId);
+        return TimeOrderedIds.parse(paymentId).flatMap(paymentJpaRepository::findById);
     }
 
     @Override
@@ -30,6 +31,9 @@ public class PaymentRepositoryImpl implements PaymentRepository {
 
     @Override
     public Optional<Payment> findByReservationId(String reservationId) {
+        if (TimeOrderedIds.parse(reservationId).isEmpty()) {
+            return Optional.empty();
+        }
         return paymentJpaRepository.findByReservationId(reservationId);
     }
 }
\ No newline at end of file
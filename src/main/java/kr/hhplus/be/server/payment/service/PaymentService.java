@@ -7,19 +7,28 @@ import kr.hhplus.be.server.payment.exception.InsufficientBalanceException;
 import kr.hhplus.be.server.payment.domain.Payment;
 import kr.hhplus.be.server.payment.repository.PaymentRepository;
 import kr.hhplus.be.server.balance.service.BalanceService;
-import kr.hhplus.be.server.balance.domain.Balance;
 import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.exception.ConcurrentReservationException;
 import kr.hhplus.be.server.reservation.repository.ReservationRepository;
+import kr.hhplus.be.server.reservation.repository.ReservationStatusView;
 import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.event.SeatConfirmedEvent;
+import kr.hhplus.be.server.seat.event.SeatReleasedEvent;
+import kr.hhplus.be.server.seat.lock.SeatLockingStrategy;
+import kr.hhplus.be.server.seat.lock.SeatLockingStrategyRegistry;
 import kr.hhplus.be.server.seat.repository.SeatRepository;
 import kr.hhplus.be.server.common.lock.DistributedLockService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -29,20 +38,49 @@ import java.util.UUID;
  *
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class PaymentService implements PaymentUseCase {
 
+    // 행 락 경합(분할 잔액 하위 행 경합, InnoDB 교착 희생)으로 롤백된 결제 트랜잭션의 최대 시도 횟수
+    private static final int LOCK_CONFLICT_MAX_ATTEMPTS = 3;
+
     private final PaymentRepository paymentRepository;
     private final BalanceService balanceService;
     private final ReservationRepository reservationRepository;
     private final SeatRepository seatRepository;
     private final DistributedLockService distributedLockService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SeatLockingStrategyRegistry seatLockingStrategyRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    public PaymentService(
+            PaymentRepository paymentRepository,
+            BalanceService balanceService,
+            ReservationRepository reservationRepository,
+            SeatRepository seatRepository,
+            DistributedLockService distributedLockService,
+            ApplicationEventPublisher eventPublisher,
+            SeatLockingStrategyRegistry seatLockingStrategyRegistry,
+            PlatformTransactionManager transactionManager) {
+        this.paymentRepository = paymentRepository;
+        this.balanceService = balanceService;
+        this.reservationRepository = reservationRepository;
+        this.seatRepository = seatRepository;
+        this.distributedLockService = distributedLockService;
+        this.eventPublisher = eventPublisher;
+        this.seatLockingStrategyRegistry = seatLockingStrategyRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * 결제를 처리
      *
-     * 분산락을 통해 중복 결제와 동시 잔액 차감을 방지하며,
+     * 예약 분산락으로 중복 결제를 방지하고,
+     * 잔액은 조건부 원자적 차감으로 처리하므로 사용자 단위 락 없이 동시 결제에도 음수가 되지 않는다.
+     * 결제 처리 전체는 락 안에서 하나의 트랜잭션으로 실행되고, 락은 커밋 이후에 해제된다.
+     * 좌석 확정도 좌석 쓰기이므로 좌석 잠금 전략(execute)으로 감싸 예약과 같은 쓰기 검증(펜싱 등)을 받는다.
+     * 좌석 락 키에 필요한 콘서트/좌석 번호는 예약 상태 조회 모델(캐시)에서 얻는다.
+     * 행 락 경합으로 트랜잭션이 롤백되면 락을 쥔 채 트랜잭션 전체를 새로 시작해 재시도한다.
      *
      * @param command 결제 처리 명령 객체 (예약ID, 사용자ID 포함)
      * @return 결제 처리 결과
@@ -57,7 +95,6 @@ public class PaymentService implements PaymentUseCase {
 
         // 1. 분산락 키 생성
         String reservationLockKey = generateReservationLockKey(command.getReservationId());
-        String balanceLockKey = generateBalanceLockKey(command.getUserId());
         String lockValue = generateLockValue(command.getUserId());
 
         // 2. 예약에 대한 분산락 획득 (중복 결제 방지)
@@ -66,38 +103,50 @@ public class PaymentService implements PaymentUseCase {
         }
 
         try {
-            // 3. 사용자 잔액에 대한 분산락 획득 (동시 잔액 차감 방지)
-            if (!distributedLockService.tryLock(balanceLockKey, lockValue, 10)) {
-                throw new IllegalArgumentException("사용자의 다른 결제가 진행 중입니다. 잠시 후 다시 시도해주세요.");
-            }
+            ReservationStatusView reservationView = reservationRepository.findStatusView(command.getReservationId())
+                    .orElseThrow(() -> new IllegalArgumentException("예약 정보를 찾을 수 없습니다."));
+            SeatLockingStrategy strategy = seatLockingStrategyRegistry.getActive();
 
-            try {
-                return processPaymentWithLock(command);
-            } finally {
-                distributedLockService.unlock(balanceLockKey, lockValue);
-            }
+            // 락 안에서 트랜잭션 시작 → 커밋 후 락 해제
+            return strategy.execute(reservationView.concertId(), reservationView.seatNumber(), lockValue,
+                    () -> executeWithLockConflictRetry(strategy, command));
         } finally {
             distributedLockService.unlock(reservationLockKey, lockValue);
         }
     }
 
+    private PaymentResult executeWithLockConflictRetry(SeatLockingStrategy strategy, PaymentCommand command) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> processPaymentInTransaction(strategy, command));
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= LOCK_CONFLICT_MAX_ATTEMPTS) {
+                    log.warn("결제 트랜잭션 락 경합 재시도 초과: reservationId={}, attempts={}",
+                            command.getReservationId(), attempt);
+                    throw new ConcurrentReservationException(1);
+                }
+                log.debug("결제 트랜잭션 락 경합으로 재시도: reservationId={}, attempt={}, cause={}",
+                        command.getReservationId(), attempt, e.getMessage());
+            }
+        }
+    }
+
     /**
-     * 분산락 내에서 실행되는 실제 결제 처리 로직
+     * 분산락 내에서 실행되는 실제 결제 처리 로직 (트랜잭션 안에서 실행)
      *
-     * 예약 확인, 잔액 검증, 결제 처리, 예약 확정, 좌석 확정
+     * 예약 확인, 잔액 차감, 결제 처리, 예약 확정, 좌석 확정
      * 전체 결제 프로세스를 순차적으로 처리
      *
+     * 실행 문장 수가 고정되도록 구성한다 (PaymentStatementCountTest에서 검증):
+     * 예약 조회, 잔액 조건부 차감 + 차감 후 잔액 조회, 거래 내역/집계 INSERT, 좌석 조회,
+     * 커밋 시 결제 INSERT + 예약/좌석 UPDATE
+     * 중간에 실패하면 트랜잭션 롤백으로 잔액 차감까지 함께 취소되므로 별도 보상 환불은 하지 않는다.
+     *
+     * @param strategy 좌석 락을 잡은 좌석 잠금 전략
      * @param command 결제 처리 명령 객체
      * @return 결제 처리 결과
      */
-    @Transactional
-    protected PaymentResult processPaymentWithLock(PaymentCommand command) {
-        log.info("결제 처리 시작: reservationId={}, userId={}",
-                command.getReservationId(), command.getUserId());
-
-        Payment payment = null;
-        boolean balanceDeducted = false;
-
+    private PaymentResult processPaymentInTransaction(SeatLockingStrategy strategy, PaymentCommand command) {
         try {
             // 1. 예약 정보 확인
             Reservation reservation = reservationRepository.findById(command.getReservationId())
@@ -108,38 +157,34 @@ public class PaymentService implements PaymentUseCase {
             // 2. 결제 금액 설정
             BigDecimal paymentAmount = reservation.getPrice();
 
-            // 3. 잔액 확인
-            if (!balanceService.hasEnoughBalance(command.getUserId(), paymentAmount)) {
-                BigDecimal currentBalance = balanceService.getBalanceAmount(command.getUserId());
-                throw new InsufficientBalanceException(currentBalance.longValue(), paymentAmount.longValue());
+            // 3. 잔액 사전 확인 (잔액 캐시만 조회, 미스면 차감 결과로 판단)
+            Optional<BigDecimal> cachedBalance = balanceService.getCachedBalanceAmount(command.getUserId());
+            if (cachedBalance.isPresent() && cachedBalance.get().compareTo(paymentAmount) < 0) {
+                throw new InsufficientBalanceException(cachedBalance.get().longValue(), paymentAmount.longValue());
             }
 
-            // 4. 결제 정보 생성 (PENDING 상태로 시작)
-            payment = new Payment(
-                    command.getReservationId(),
+            // 4. 잔액 차감 (잔액 확인과 차감을 한 문장으로 처리, 부족하면 아무것도 변경되지 않음)
+            BigDecimal balanceAfter = balanceService.deductBalanceWithCondition(
                     command.getUserId(),
                     paymentAmount,
-                    Payment.PaymentMethod.BALANCE
-            );
-            paymentRepository.save(payment);
+                    command.getReservationId()
+            ).orElseThrow(() -> insufficientBalance(command.getUserId(), paymentAmount));
 
-            // 5. 잔액 차감
-            Balance updatedBalance = balanceService.deductBalance(
+            // 5. 결제 정보 생성 및 완료 처리 (새 엔티티이므로 조회 없이 커밋 시 INSERT 한 번)
+            Payment payment = new Payment(
+                    command.getReservationId(),
                     command.getUserId(),
                     paymentAmount,
-                    command.getReservationId()
+                    Payment.PaymentMethod.BALANCE
             );
-            balanceDeducted = true;
-
-            // 6. 결제 완료 처리
             payment.markAsCompleted();
             paymentRepository.save(payment);
 
-            // 7. 예약 확정
+            // 6. 예약 확정
             reservation.confirm(LocalDateTime.now());
             reservationRepository.save(reservation);
 
-            // 8. 좌석 확정 (이미 선점된 좌석을 확정으로 변경)
+            // 7. 좌석 확정 (이미 선점된 좌석을 확정으로 변경)
             Seat seat = seatRepository.findById(reservation.getSeatId())
                     .orElseThrow(() -> new IllegalArgumentException("좌석 정보를 찾을 수 없습니다."));
 
@@ -149,11 +194,12 @@ public class PaymentService implements PaymentUseCase {
                 throw new IllegalArgumentException("좌석이 올바르게 선점되지 않았습니다.");
             }
 
-            seat.confirmReservation(LocalDateTime.now());
+            strategy.confirmSeat(seat, command.getUserId(), LocalDateTime.now());
             seatRepository.save(seat);
+            eventPublisher.publishEvent(SeatConfirmedEvent.of(seat));
 
             log.info("결제 처리 완료: paymentId={}, amount={}, balanceAfter={}",
-                    payment.getPaymentId(), payment.getAmount(), updatedBalance.getAmount());
+                    payment.getPaymentId(), payment.getAmount(), balanceAfter);
 
             return new PaymentResult(payment);
 
@@ -161,15 +207,11 @@ public class PaymentService implements PaymentUseCase {
             log.error("결제 처리 중 오류 발생: reservationId={}, userId={}",
                     command.getReservationId(), command.getUserId(), e);
 
-            // 롤백 처리
-            if (payment != null && balanceDeducted) {
-                rollbackPayment(payment, command.getUserId());
-            }
-
-            // 예외 재발생
+            // 예외 재발생 (런타임 예외이므로 트랜잭션 전체가 롤백됨)
             if (e instanceof InsufficientBalanceException ||
                     e instanceof PaymentNotFoundException ||
-                    e instanceof IllegalArgumentException) {
+                    e instanceof IllegalArgumentException ||
+                    e instanceof PessimisticLockingFailureException) {
                 throw e;
             }
             throw new RuntimeException("결제 처리 중 오류가 발생했습니다.", e);
@@ -199,6 +241,7 @@ public class PaymentService implements PaymentUseCase {
      *
      * 결제가 완료된 상태에서만 환불이 가능하며,
      * 환불 시 관련 예약과 좌석 상태를 변경하고 랭킹을 업데이트
+     * 좌석 해제도 좌석 쓰기이므로 결제 처리와 마찬가지로 좌석 잠금 전략 안에서 하나의 트랜잭션으로 실행한다.
      *
      * @param paymentId 환불할 결제 ID
      * @param reason 환불 사유
@@ -207,12 +250,26 @@ public class PaymentService implements PaymentUseCase {
      * @throws IllegalArgumentException 완료되지 않은 결제에 대해 환불을 요청한 경우
      * @throws RuntimeException 환불 처리 중 예상치 못한 오류가 발생한 경우
      */
-    @Transactional
     public PaymentResult refundPayment(String paymentId, String reason) {
         log.info("환불 처리 시작: paymentId={}, reason={}", paymentId, reason);
 
+        Payment target = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new PaymentNotFoundException(paymentId));
+        SeatLockingStrategy strategy = seatLockingStrategyRegistry.getActive();
+
+        Optional<ReservationStatusView> reservationView = reservationRepository.findStatusView(target.getReservationId());
+        if (reservationView.isEmpty()) {
+            // 예약이 없으면 해제할 좌석도 없음
+            return transactionTemplate.execute(status -> refundPaymentInTransaction(strategy, paymentId, reason));
+        }
+        return strategy.execute(reservationView.get().concertId(), reservationView.get().seatNumber(),
+                generateLockValue(target.getUserId()),
+                () -> transactionTemplate.execute(status -> refundPaymentInTransaction(strategy, paymentId, reason)));
+    }
+
+    private PaymentResult refundPaymentInTransaction(SeatLockingStrategy strategy, String paymentId, String reason) {
         try {
-            // 1. 결제 정보 조회
+            // 1. 결제 정보 조회 (락 안에서 다시 조회해 상태 확인)
             Payment payment = paymentRepository.findById(paymentId)
                     .orElseThrow(() -> new PaymentNotFoundException(paymentId));
 
@@ -232,7 +289,7 @@ public class PaymentService implements PaymentUseCase {
             paymentRepository.save(payment);
 
             // 5. 관련 예약 및 좌석 상태 변경
-            updateRelatedEntitiesForRefund(payment, reason);
+            updateRelatedEntitiesForRefund(strategy, payment, reason);
 
             log.info("환불 처리 완료: paymentId={}, amount={}", paymentId, payment.getAmount());
 
@@ -292,24 +349,29 @@ public class PaymentService implements PaymentUseCase {
     /**
      * 실패한 결제를 재시도
      *
+     * 재시도 표시는 짧은 트랜잭션으로 먼저 커밋하고, 결제는 {@link #processPayment}가 락 안에서 자체 트랜잭션으로 처리한다.
+     * 바깥 트랜잭션 안에서 호출하면 결제 트랜잭션이 합류하여 락이 실제 커밋보다 먼저 해제되고,
+     * 락 경합 재시도는 이미 롤백 표시된 트랜잭션에서 실행되므로 트랜잭션 없이 호출한다.
+     *
      * @param paymentId 재시도할 결제 ID
      * @return 재시도 결과
      * @throws PaymentNotFoundException 결제 정보를 찾을 수 없는 경우
      * @throws IllegalArgumentException 실패 상태가 아닌 결제에 대해 재시도를 요청한 경우
      */
-    @Transactional
     public PaymentResult retryPayment(String paymentId) {
         log.info("결제 재시도 시작: paymentId={}", paymentId);
 
-        Payment payment = paymentRepository.findById(paymentId)
-                .orElseThrow(() -> new PaymentNotFoundException(paymentId));
+        Payment payment = transactionTemplate.execute(status -> {
+            Payment failed = paymentRepository.findById(paymentId)
+                    .orElseThrow(() -> new PaymentNotFoundException(paymentId));
 
-        if (!payment.isFailed()) {
-            throw new IllegalArgumentException("실패한 결제만 재시도할 수 있습니다. 현재 상태: " + payment.getStatus());
-        }
+            if (!failed.isFailed()) {
+                throw new IllegalArgumentException("실패한 결제만 재시도할 수 있습니다. 현재 상태: " + failed.getStatus());
+            }
 
-        payment.retry();
-        paymentRepository.save(payment);
+            failed.retry();
+            return paymentRepository.save(failed);
+        });
 
         // 재시도를 위해 새로운 PaymentCommand 생성하여 다시 처리
         PaymentCommand retryCommand = new PaymentCommand(payment.getReservationId(), payment.getUserId());
@@ -341,27 +403,12 @@ public class PaymentService implements PaymentUseCase {
     }
 
     /**
-     * 결제 실패 시 롤백을 처리합니다.
-     *
-     * @param payment 롤백할 결제 정보
-     * @param userId 사용자 ID
+     * 잔액 부족 예외 생성 (차감 실패 시에만 현재 잔액을 조회)
      */
-    private void rollbackPayment(Payment payment, String userId) {
-        try {
-            // 잔액 복구
-            balanceService.refundBalance(
-                    userId,
-                    payment.getAmount(),
-                    "결제 처리 실패로 인한 환불"
-            );
-
-            // 결제 실패 처리
-            payment.markAsFailed();
-            paymentRepository.save(payment);
-
-        } catch (Exception rollbackException) {
-            log.error("결제 롤백 처리 중 오류 발생", rollbackException);
-        }
+    private InsufficientBalanceException insufficientBalance(String userId, BigDecimal paymentAmount) {
+        BigDecimal currentBalance = balanceService.getBalanceAmount(userId);
+        long current = currentBalance == null ? 0L : currentBalance.longValue();
+        return new InsufficientBalanceException(current, paymentAmount.longValue());
     }
 
     /**
@@ -399,10 +446,6 @@ public class PaymentService implements PaymentUseCase {
         return "payment:reservation:" + reservationId;
     }
 
-    private String generateBalanceLockKey(String userId) {
-        return "payment:balance:" + userId;
-    }
-
     private String generateLockValue(String userId) {
         return userId + "_" + UUID.randomUUID().toString();
     }
@@ -410,10 +453,11 @@ public class PaymentService implements PaymentUseCase {
     /**
      * 환불 시 관련 엔티티들의 상태를 업데이트
      *
+     * @param strategy 좌석 락을 잡은 좌석 잠금 전략
      * @param payment 환불된 결제 정보
      * @param reason 환불 사유
      */
-    private void updateRelatedEntitiesForRefund(Payment payment, String reason) {
+    private void updateRelatedEntitiesForRefund(SeatLockingStrategy strategy, Payment payment, String reason) {
         try {
             // 예약 상태를 취소로 변경
             Reservation reservation = reservationRepository.findById(payment.getReservationId())
@@ -423,12 +467,15 @@ public class PaymentService implements PaymentUseCase {
                 reservation.cancel();
                 reservationRepository.save(reservation);
 
-                // 좌석 상태는 환불 정책에 따라 처리
+                // 환불된 좌석은 다시 판매 (잔여석 카운터 복구 및 매진 해제 대상)
                 Seat seat = seatRepository.findById(reservation.getSeatId())
                         .orElse(null);
 
                 if (seat != null && seat.isReserved()) {
-                    log.info("환불된 좌석 정보: seatId={}, status={}", seat.getSeatId(), seat.getStatus());
+                    strategy.releaseReservedSeat(seat, payment.getUserId());
+                    seatRepository.save(seat);
+                    eventPublisher.publishEvent(SeatReleasedEvent.ofConfirmedSeat(seat));
+                    log.info("환불된 좌석 판매 재개: seatId={}, reason={}", seat.getSeatId(), reason);
                 }
             }
 
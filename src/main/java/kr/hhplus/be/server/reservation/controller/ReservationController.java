@@ -66,6 +66,7 @@ public class ReservationController {
                         "concertId", result.getConcertId(),
                         "seatNumber", result.getSeatNumber(),
                         "price", result.getPrice(),
+                        "status", result.getStatus(),
                         "remainingTimeSeconds", result.getRemainingTimeSeconds()
                 ),
                 "message", "예약 상태 조회 성공"
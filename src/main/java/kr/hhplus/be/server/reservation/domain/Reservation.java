@@ -1,6 +1,9 @@
 package kr.hhplus.be.server.reservation.domain;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.common.id.TimeOrderedIds;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -10,14 +13,20 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "reservations")
+@Table(name = "reservations",
+        indexes = {
+                // 만료 예약 일괄 해제 (status = TEMPORARILY_ASSIGNED AND expires_at < now ORDER BY expires_at)
+                @Index(name = "idx_reservation_status_expires_at", columnList = "status, expires_at")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Reservation {
 
+    // 시간 순서 UUIDv7, BINARY(16) 저장 (API 경계에서는 문자열)
     @Id
-    @Column(name = "reservation_id", length = 36)
-    private String reservationId;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "reservation_id", columnDefinition = "BINARY(16)")
+    private UUID reservationId;
 
     @Column(name = "user_id", nullable = false, length = 50)
     private String userId;
@@ -56,7 +65,7 @@ public class Reservation {
     public Reservation(String userId, Long concertId, Long seatId, BigDecimal price, LocalDateTime expiresAt) {
         validateReservationData(userId, concertId, seatId, price, expiresAt);
 
-        this.reservationId = UUID.randomUUID().toString();
+        this.reservationId = TimeOrderedIds.newUuid();
         this.userId = userId;
         this.concertId = concertId;
         this.seatId = seatId;
@@ -66,6 +75,24 @@ public class Reservation {
         this.expiresAt = expiresAt;
     }
 
+    // 보관 테이블에서 읽은 예약 복원용 (검증 없이 저장된 값을 그대로 사용)
+    Reservation(UUID reservationId, String userId, Long concertId, Long seatId, ReservationStatus status,
+                BigDecimal price, LocalDateTime createdAt, LocalDateTime expiresAt, LocalDateTime confirmedAt) {
+        this.reservationId = reservationId;
+        this.userId = userId;
+        this.concertId = concertId;
+        this.seatId = seatId;
+        this.status = status;
+        this.price = price;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+        this.confirmedAt = confirmedAt;
+    }
+
+    public String getReservationId() {
+        return reservationId == null ? null : reservationId.toString();
+    }
+
     // 비즈니스 로직 메소드
     public boolean isExpired() {
         return LocalDateTime.now().isAfter(expiresAt);
@@ -0,0 +1,79 @@
+package kr.hhplus.be.server.reservation.domain;
+
+import jakarta.persistence.*;
+import kr.hhplus.be.server.reservation.repository.ReservationStatusView;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 보관된 예약 (만료/취소 후 보관 기간이 지난 예약)
+ *
+ * 운영 테이블(reservations)에는 진행 중인 예약만 남기고, 종료된 예약은 압축 테이블로 옮겨
+ * 만료/통계 쿼리의 인덱스 범위를 작게 유지한다. 행은 아카이버가 SQL로만 기록하며 읽기 전용이다.
+ * 좌석 번호는 보관 시점에 함께 기록하여 조회 시 좌석 테이블 조인이 필요 없다.
+ */
+@Entity
+@Table(name = "reservations_archive",
+        indexes = {
+                @Index(name = "idx_reservation_archive_user", columnList = "user_id"),
+                @Index(name = "idx_reservation_archive_concert_status", columnList = "concert_id, status")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationArchive {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "reservation_id", columnDefinition = "BINARY(16)")
+    private UUID reservationId;
+
+    @Column(name = "user_id", nullable = false, length = 50)
+    private String userId;
+
+    @Column(name = "concert_id", nullable = false)
+    private Long concertId;
+
+    @Column(name = "seat_id", nullable = false)
+    private Long seatId;
+
+    @Column(name = "seat_number")
+    private Integer seatNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Reservation.ReservationStatus status;
+
+    @Column(name = "price", nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "confirmed_at")
+    private LocalDateTime confirmedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * 기존 예약 조회 API와의 호환을 위한 변환 (영속 상태가 아니므로 저장하지 않음)
+     */
+    public Reservation toReservation() {
+        return new Reservation(reservationId, userId, concertId, seatId, status, price,
+                createdAt, expiresAt, confirmedAt);
+    }
+
+    public ReservationStatusView toStatusView() {
+        return new ReservationStatusView(reservationId, userId, concertId, seatId, seatNumber, status, price, expiresAt);
+    }
+}
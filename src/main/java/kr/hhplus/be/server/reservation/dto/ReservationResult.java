@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.reservation.dto;
 
 import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.repository.ReservationStatusView;
 import lombok.Getter;
 
 import java.math.BigDecimal;
@@ -16,6 +17,7 @@ public class ReservationResult {
     private final BigDecimal price; // Integer → BigDecimal 변경
     private final LocalDateTime expiresAt;
     private final long remainingTimeSeconds;
+    private final Reservation.ReservationStatus status;
 
     public ReservationResult(Reservation reservation, Integer seatNumber) {
         this.reservationId = reservation.getReservationId();
@@ -26,6 +28,19 @@ public class ReservationResult {
         this.price = reservation.getPrice(); // BigDecimal 그대로 사용
         this.expiresAt = reservation.getExpiresAt();
         this.remainingTimeSeconds = reservation.getRemainingTimeSeconds();
+        this.status = reservation.getStatus();
+    }
+
+    public ReservationResult(ReservationStatusView view) {
+        this.reservationId = view.reservationId().toString();
+        this.seatId = view.seatId();
+        this.concertId = view.concertId();
+        this.seatNumber = view.seatNumber();
+        this.userId = view.userId();
+        this.price = view.price();
+        this.expiresAt = view.expiresAt();
+        this.remainingTimeSeconds = view.remainingTimeSeconds();
+        this.status = view.status();
     }
 
     // 호환성을 위한 Integer 반환 메서드 (필요시)
@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.reservation.repository;
+
+import kr.hhplus.be.server.reservation.domain.Reservation;
+
+/**
+ * 해제(만료/취소) 대상으로 잠근 예약과 좌석 정보
+ *
+ * @param seatHeld 좌석이 아직 이 예약 사용자에게 임시 배정되어 있는지 (false면 좌석은 이미 해제/재배정됨)
+ */
+public record ReleasableReservation(String reservationId,
+                                    String userId,
+                                    Reservation.ReservationStatus status,
+                                    Long seatId,
+                                    Long concertId,
+                                    Integer seatNumber,
+                                    boolean seatHeld) {
+}
@@ -0,0 +1,23 @@
+package kr.hhplus.be.server.reservation.repository;
+
+import kr.hhplus.be.server.reservation.domain.ReservationArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ReservationArchiveJpaRepository extends JpaRepository<ReservationArchive, UUID> {
+
+    List<ReservationArchive> findByUserId(String userId);
+
+    @Query("SELECT COUNT(r) FROM ReservationArchive r WHERE r.concertId = :concertId AND r.status = :status")
+    Long countByConcertIdAndStatus(@Param("concertId") Long concertId, @Param("status") String status);
+
+    @Query("SELECT MIN(r.createdAt) FROM ReservationArchive r WHERE r.concertId = :concertId")
+    LocalDateTime findFirstCreatedAtByConcertId(@Param("concertId") Long concertId);
+}
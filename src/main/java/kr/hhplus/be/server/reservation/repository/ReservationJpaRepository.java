@@ -8,9 +8,11 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-public interface ReservationJpaRepository extends JpaRepository<Reservation, String> {
+public interface ReservationJpaRepository extends JpaRepository<Reservation, UUID> {
 
     List<Reservation> findByUserId(String userId);
 
@@ -37,4 +39,15 @@ public interface ReservationJpaRepository extends JpaRepository<Reservation, Str
     @Query("SELECT r.concertId, COUNT(r) FROM Reservation r WHERE r.status = 'CONFIRMED' " +
             "GROUP BY r.concertId ORDER BY COUNT(r) DESC")
     List<Object[]> getReservationCountByConcer();
-}
\ No newline at end of file
+
+    /**
+     * 예약 상태 조회용 읽기 모델 (예약 PK 조회 + 좌석 PK 조인, 한 번의 왕복)
+     */
+    @Query("SELECT new kr.hhplus.be.server.reservation.repository.ReservationStatusView(" +
+            "r.reservationId, r.userId, r.concertId, r.seatId, s.seatNumber, r.status, r.price, r.expiresAt) " +
+            "FROM Reservation r JOIN Seat s ON s.seatId = r.seatId WHERE r.reservationId = :reservationId")
+    Optional<ReservationStatusView> findStatusViewById(@Param("reservationId") UUID reservationId);
+
+    @Query("SELECT MIN(r.createdAt) FROM Reservation r WHERE r.concertId = :concertId")
+    LocalDateTime findFirstCreatedAtByConcertId(@Param("concertId") Long concertId);
+}
@@ -10,6 +10,11 @@ public interface ReservationRepository {
     Reservation save(Reservation reservation);
     Optional<Reservation> findById(String reservationId);
     List<Reservation> findByUserId(String userId);
+
+    /**
+     * 예약 상태 읽기 모델 조회 (단기 캐시 우선, 미스 시 조인 쿼리 1회)
+     */
+    Optional<ReservationStatusView> findStatusView(String reservationId);
     List<Reservation> findExpiredReservations();
 
     List<Reservation> findByStatusAndExpiresAtBefore(
@@ -19,6 +24,30 @@ public interface ReservationRepository {
 
     void saveAll(List<Reservation> reservations);
 
+    /**
+     * 만료된 임시 배정 예약을 만료 시각 순으로 최대 limit건 잠금 (다른 트랜잭션이 잠근 행은 건너뜀)
+     */
+    List<ReleasableReservation> lockExpiredForRelease(int limit);
+
+    /**
+     * 예약 한 건과 좌석을 해제 대상으로 잠금
+     */
+    Optional<ReleasableReservation> lockForRelease(String reservationId);
+
+    /**
+     * 임시 배정 상태인 예약들의 상태를 한 번의 UPDATE로 변경
+     *
+     * @return 변경된 행 수
+     */
+    int updateStatusIfTemporarilyAssigned(List<String> reservationIds, Reservation.ReservationStatus status);
+
+    /**
+     * 보관 기간이 지난 종료(만료/취소) 예약을 보관 테이블로 이동 (최대 limit건, 다른 트랜잭션이 잠근 행은 건너뜀)
+     *
+     * @return 이동한 예약 수
+     */
+    int archiveTerminated(int retentionDays, int limit);
+
     /**
      * 콘서트별 확정된 예약 수 조회
      *
@@ -34,4 +63,12 @@ public interface ReservationRepository {
      * @return [콘서트ID, 예약수] 형태의 데이터 리스트
      */
     List<Object[]> getReservationCountByConcer();
+
+    /**
+     * 콘서트의 첫 예약 생성 시각 조회 (실제 판매 시작 시각)
+     *
+     * @param concertId 콘서트 ID
+     * @return 첫 예약 생성 시각, 예약이 없으면 empty
+     */
+    Optional<LocalDateTime> findFirstCreatedAtByConcertId(Long concertId);
 }
\ No newline at end of file
@@ -1,32 +1,115 @@
 package kr.hhplus.be.server.reservation.repository;
 
+import kr.hhplus.be.server.common.id.TimeOrderedIds;
 import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.ReservationArchive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class ReservationRepositoryImpl implements ReservationRepository {
 
+    // seat_held: 좌석이 아직 이 예약 사용자에게 임시 배정되어 있는지 (만료 후 다른 사용자에게 재배정되었으면 0)
+    private static final String RELEASABLE_SELECT_SQL =
+            "SELECT r.reservation_id, r.user_id, r.status, r.seat_id, s.concert_id, s.seat_number, " +
+            "(s.status = 'TEMPORARILY_ASSIGNED' AND s.assigned_user_id = r.user_id) AS seat_held " +
+            "FROM reservations r JOIN seats s ON s.seat_id = r.seat_id ";
+
+    // 만료 시각 비교는 DB 시계(UTC 저장 기준)로 수행하여 노드 간 시계 차이의 영향을 받지 않음
+    private static final String LOCK_EXPIRED_SQL = RELEASABLE_SELECT_SQL +
+            "WHERE r.status = 'TEMPORARILY_ASSIGNED' AND r.expires_at < UTC_TIMESTAMP(6) " +
+            "ORDER BY r.expires_at LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String LOCK_ONE_SQL = RELEASABLE_SELECT_SQL +
+            "WHERE r.reservation_id = ? FOR UPDATE";
+
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE reservations SET status = ? WHERE status = 'TEMPORARILY_ASSIGNED' AND reservation_id IN (%s)";
+
+    // 종료 후 보관 기간이 지난 예약 (만료 시각 기준, (status, expires_at) 인덱스 범위 스캔)
+    private static final String LOCK_TERMINATED_SQL =
+            "SELECT reservation_id FROM reservations " +
+            "WHERE status IN ('EXPIRED', 'CANCELLED') AND expires_at < UTC_TIMESTAMP(6) - INTERVAL ? DAY " +
+            "ORDER BY expires_at LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String ARCHIVE_INSERT_SQL =
+            "INSERT INTO reservations_archive (reservation_id, user_id, concert_id, seat_id, seat_number, status, " +
+            "price, created_at, expires_at, confirmed_at, archived_at) " +
+            "SELECT r.reservation_id, r.user_id, r.concert_id, r.seat_id, s.seat_number, r.status, " +
+            "r.price, r.created_at, r.expires_at, r.confirmed_at, UTC_TIMESTAMP(6) " +
+            "FROM reservations r LEFT JOIN seats s ON s.seat_id = r.seat_id WHERE r.reservation_id IN (%s)";
+
+    private static final String DELETE_SQL = "DELETE FROM reservations WHERE reservation_id IN (%s)";
+
+    // 보관 테이블로 옮겨 가는 종료 상태
+    private static final Set<String> ARCHIVED_STATUSES = Set.of(
+            Reservation.ReservationStatus.EXPIRED.name(), Reservation.ReservationStatus.CANCELLED.name());
+
+    private static final RowMapper<ReleasableReservation> RELEASABLE_ROW_MAPPER = (rs, rowNum) ->
+            new ReleasableReservation(
+                    TimeOrderedIds.fromBytes(rs.getBytes("reservation_id")).toString(),
+                    rs.getString("user_id"),
+                    Reservation.ReservationStatus.valueOf(rs.getString("status")),
+                    rs.getLong("seat_id"),
+                    rs.getLong("concert_id"),
+                    rs.getInt("seat_number"),
+                    rs.getBoolean("seat_held"));
+
     private final ReservationJpaRepository reservationJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReservationStatusCache reservationStatusCache;
+    private final ReservationArchiveJpaRepository reservationArchiveJpaRepository;
 
     @Override
     public Reservation save(Reservation reservation) {
-        return reservationJpaRepository.save(reservation);
+        Reservation saved = reservationJpaRepository.save(reservation);
+        reservationStatusCache.invalidate(saved.getReservationId());
+        return saved;
     }
 
     @Override
     public Optional<Reservation> findById(String reservationId) {
-        return reservationJpaRepository.findById(reservationId);
+        // 문자열 ID는 API 경계에서만 사용하고 조회는 BINARY(16) 키로 수행
+        // 운영 테이블에 없으면 보관 테이블에서 조회
+        return TimeOrderedIds.parse(reservationId).flatMap(id -> reservationJpaRepository.findById(id)
+                .or(() -> reservationArchiveJpaRepository.findById(id).map(ReservationArchive::toReservation)));
+    }
+
+    @Override
+    public Optional<ReservationStatusView> findStatusView(String reservationId) {
+        Optional<ReservationStatusView> cached = reservationStatusCache.get(reservationId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<ReservationStatusView> view = TimeOrderedIds.parse(reservationId)
+                .flatMap(id -> reservationJpaRepository.findStatusViewById(id)
+                        .or(() -> reservationArchiveJpaRepository.findById(id).map(ReservationArchive::toStatusView)));
+        view.ifPresent(found -> reservationStatusCache.put(reservationId, found));
+        return view;
     }
 
     @Override
     public List<Reservation> findByUserId(String userId) {
-        return reservationJpaRepository.findByUserId(userId);
+        List<Reservation> reservations = new ArrayList<>(reservationJpaRepository.findByUserId(userId));
+        reservationArchiveJpaRepository.findByUserId(userId).stream()
+                .map(ReservationArchive::toReservation)
+                .forEach(reservations::add);
+        return reservations;
     }
 
     @Override
@@ -45,15 +128,75 @@ public class ReservationRepositoryImpl implements ReservationRepository {
     @Override
     public void saveAll(List<Reservation> reservations) {
         reservationJpaRepository.saveAll(reservations);
+        reservationStatusCache.invalidate(reservations.stream().map(Reservation::getReservationId).toList());
+    }
+
+    @Override
+    public List<ReleasableReservation> lockExpiredForRelease(int limit) {
+        return jdbcTemplate.query(LOCK_EXPIRED_SQL, RELEASABLE_ROW_MAPPER, limit);
+    }
+
+    @Override
+    public Optional<ReleasableReservation> lockForRelease(String reservationId) {
+        Optional<UUID> id = TimeOrderedIds.parse(reservationId);
+        if (id.isEmpty()) {
+            return Optional.empty();
+        }
+        return jdbcTemplate.query(LOCK_ONE_SQL, RELEASABLE_ROW_MAPPER, (Object) TimeOrderedIds.toBytes(id.get()))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public int updateStatusIfTemporarilyAssigned(List<String> reservationIds, Reservation.ReservationStatus status) {
+        List<byte[]> ids = TimeOrderedIds.toBytes(reservationIds);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(status.name());
+        args.addAll(ids);
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        int updated = jdbcTemplate.update(String.format(UPDATE_STATUS_SQL, placeholders), args.toArray());
+        reservationStatusCache.invalidate(reservationIds);
+        return updated;
+    }
+
+    @Override
+    public int archiveTerminated(int retentionDays, int limit) {
+        List<byte[]> ids = jdbcTemplate.query(LOCK_TERMINATED_SQL,
+                (rs, rowNum) -> rs.getBytes("reservation_id"), retentionDays, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.update(String.format(ARCHIVE_INSERT_SQL, placeholders), ids.toArray());
+        return jdbcTemplate.update(String.format(DELETE_SQL, placeholders), ids.toArray());
     }
 
     @Override
     public Long countByConcertIdAndStatus(Long concertId, String status) {
-        return reservationJpaRepository.countByConcertIdAndStatus(concertId, status);
+        Long count = reservationJpaRepository.countByConcertIdAndStatus(concertId, status);
+        if (!ARCHIVED_STATUSES.contains(status)) {
+            return count;
+        }
+        Long archived = reservationArchiveJpaRepository.countByConcertIdAndStatus(concertId, status);
+        return (count == null ? 0L : count) + (archived == null ? 0L : archived);
     }
 
     @Override
     public List<Object[]> getReservationCountByConcer() {
         return reservationJpaRepository.getReservationCountByConcer();
     }
-}
\ No newline at end of file
+
+    @Override
+    public Optional<LocalDateTime> findFirstCreatedAtByConcertId(Long concertId) {
+        // 가장 이른 예약은 이미 만료되어 보관되었을 수 있으므로 두 테이블 중 빠른 값
+        return Stream.of(reservationJpaRepository.findFirstCreatedAtByConcertId(concertId),
+                        reservationArchiveJpaRepository.findFirstCreatedAtByConcertId(concertId))
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder());
+    }
+}
@@ -0,0 +1,87 @@
+package kr.hhplus.be.server.reservation.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 예약 상태 읽기 모델의 노드 로컬 단기 캐시
+ *
+ * 임시 배정 카운트다운을 폴링하는 클라이언트가 DB를 조회하지 않도록 짧은 TTL 동안 조회 결과를 보관한다.
+ * 같은 노드의 상태 전이(저장/상태 UPDATE)는 커밋 직후 무효화하고,
+ * 다른 노드에서 일어난 전이는 TTL 안에서만 늦게 보일 수 있다 (남은 시간은 조회 시점에 계산되므로 항상 정확).
+ */
+@Component
+public class ReservationStatusCache {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public ReservationStatusCache(@Value("${reservation.status-cache.ttl-ms:2000}") long ttlMillis,
+                                  @Value("${reservation.status-cache.max-entries:100000}") int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    public Optional<ReservationStatusView> get(String reservationId) {
+        Entry entry = entries.get(reservationId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAtMillis() < System.currentTimeMillis()) {
+            entries.remove(reservationId, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.view());
+    }
+
+    public void put(String reservationId, ReservationStatusView view) {
+        if (ttlMillis <= 0) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evictExpired();
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(reservationId, new Entry(view, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public void invalidate(String reservationId) {
+        invalidate(List.of(reservationId));
+    }
+
+    /**
+     * 상태 전이 무효화
+     * 즉시 제거하고, 트랜잭션 중이면 커밋 직후 한 번 더 제거하여 커밋 전 조회가 이전 상태를 다시 캐시하는 경우를 막는다.
+     */
+    public void invalidate(Collection<String> reservationIds) {
+        reservationIds.forEach(entries::remove);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<String> ids = List.copyOf(reservationIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.forEach(entries::remove);
+                }
+            });
+        }
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAtMillis() < now);
+    }
+
+    private record Entry(ReservationStatusView view, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.reservation.repository;
+
+import kr.hhplus.be.server.reservation.domain.Reservation;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 예약 상태 조회용 읽기 모델 (예약 + 좌석 번호를 한 번의 조인 쿼리로 조회)
+ */
+public record ReservationStatusView(UUID reservationId,
+                                    String userId,
+                                    Long concertId,
+                                    Long seatId,
+                                    Integer seatNumber,
+                                    Reservation.ReservationStatus status,
+                                    BigDecimal price,
+                                    LocalDateTime expiresAt) {
+
+    /**
+     * 남은 임시 배정 시간 (조회 시점 기준으로 계산하므로 캐시된 값도 카운트다운이 정확함)
+     */
+    public long remainingTimeSeconds() {
+        LocalDateTime now = LocalDateTime.now();
+        if (!now.isBefore(expiresAt)) {
+            return 0;
+        }
+        return Duration.between(now, expiresAt).getSeconds();
+    }
+}
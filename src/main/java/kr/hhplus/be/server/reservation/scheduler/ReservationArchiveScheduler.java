@@ -0,0 +1,40 @@
+package kr.hhplus.be.server.reservation.scheduler;
+
+import kr.hhplus.be.server.reservation.service.ReservationArchiveService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종료 예약 보관 스케줄러
+ * 대상 행을 SKIP LOCKED로 잠그므로 여러 노드가 동시에 실행해도 같은 행을 중복 처리하지 않는다.
+ */
+@Component
+public class ReservationArchiveScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationArchiveScheduler.class);
+
+    private final ReservationArchiveService reservationArchiveService;
+    private final boolean enabled;
+
+    public ReservationArchiveScheduler(ReservationArchiveService reservationArchiveService,
+                                       @Value("${reservation.archive.enabled:true}") boolean enabled) {
+        this.reservationArchiveService = reservationArchiveService;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.archive.interval-ms:600000}")
+    public void archiveTerminatedReservations() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            reservationArchiveService.archiveTerminatedReservations();
+        } catch (Exception e) {
+            logger.error("종료 예약 보관 중 오류 발생", e);
+        }
+    }
+}
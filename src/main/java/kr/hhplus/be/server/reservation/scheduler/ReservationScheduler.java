@@ -23,10 +23,10 @@ public class ReservationScheduler {
             logger.info("만료된 예약 해제 스케줄러 시작");
 
             long startTime = System.currentTimeMillis();
-            reserveSeatUseCase.releaseExpiredReservations();
+            int released = reserveSeatUseCase.releaseExpiredReservations();
             long endTime = System.currentTimeMillis();
 
-            logger.info("만료된 예약 해제 완료. 소요 시간: {}ms", endTime - startTime);
+            logger.info("만료된 예약 해제 완료. 해제 건수: {}, 소요 시간: {}ms", released, endTime - startTime);
 
         } catch (Exception e) {
             logger.error("만료된 예약 해제 중 오류 발생", e);
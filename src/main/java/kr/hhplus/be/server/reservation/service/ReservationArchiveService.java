@@ -0,0 +1,63 @@
+package kr.hhplus.be.server.reservation.service;
+
+import kr.hhplus.be.server.reservation.repository.ReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 종료된 예약 보관
+ *
+ * 만료/취소 후 보관 기간이 지난 예약을 배치 단위로 보관 테이블에 옮긴다.
+ * 배치마다 별도 트랜잭션으로 처리하여 잠금 범위와 undo 로그 크기를 배치 크기로 제한하고,
+ * 실행당 최대 배치 수로 한 번의 실행 시간을 제한한다. (남은 행은 다음 실행에서 이어서 처리)
+ */
+@Service
+public class ReservationArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationArchiveService.class);
+
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public ReservationArchiveService(ReservationRepository reservationRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${reservation.archive.retention-days:30}") int retentionDays,
+                                     @Value("${reservation.archive.batch-size:1000}") int batchSize,
+                                     @Value("${reservation.archive.max-batches-per-run:50}") int maxBatchesPerRun) {
+        this.reservationRepository = reservationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * @return 이번 실행에서 보관한 예약 수
+     */
+    public int archiveTerminatedReservations() {
+        int archived = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer moved = transactionTemplate.execute(
+                    status -> reservationRepository.archiveTerminated(retentionDays, batchSize));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            archived += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            log.info("종료 예약 보관 완료: archived={}, retentionDays={}", archived, retentionDays);
+        }
+        return archived;
+    }
+}
@@ -1,16 +1,25 @@
 package kr.hhplus.be.server.reservation.service;
 
-import kr.hhplus.be.server.common.lock.DistributedLockService;
 import kr.hhplus.be.server.reservation.command.ReserveSeatCommand;
 import kr.hhplus.be.server.reservation.domain.Reservation;
 import kr.hhplus.be.server.reservation.dto.ReservationResult;
 import kr.hhplus.be.server.reservation.event.ReservationCompletedEvent;
+import kr.hhplus.be.server.reservation.repository.ReleasableReservation;
 import kr.hhplus.be.server.reservation.repository.ReservationRepository;
 import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.event.SeatReleasedEvent;
+import kr.hhplus.be.server.seat.exception.SeatAlreadyAssignedException;
+import kr.hhplus.be.server.seat.lock.SeatLockingStrategy;
+import kr.hhplus.be.server.seat.lock.SeatLockingStrategyRegistry;
 import kr.hhplus.be.server.seat.repository.SeatRepository;
+import kr.hhplus.be.server.seat.service.SeatAvailabilityFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,129 +30,178 @@ public class ReservationService implements ReserveSeatUseCase {
 
     private final SeatRepository seatRepository;
     private final ReservationRepository reservationRepository;
-    private final DistributedLockService distributedLockService;
     private final ApplicationEventPublisher eventPublisher;
+    private final SeatAvailabilityFilter seatAvailabilityFilter;
+    private final SeatLockingStrategyRegistry seatLockingStrategyRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int expiryChunkSize;
+    private final int maxExpiryChunksPerRun;
 
     private static final int RESERVATION_TIMEOUT_MINUTES = 5;
 
     public ReservationService(
             SeatRepository seatRepository,
             ReservationRepository reservationRepository,
-            DistributedLockService distributedLockService,
-            ApplicationEventPublisher eventPublisher) {
+            ApplicationEventPublisher eventPublisher,
+            SeatAvailabilityFilter seatAvailabilityFilter,
+            SeatLockingStrategyRegistry seatLockingStrategyRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${reservation.expiry.chunk-size:500}") int expiryChunkSize,
+            @Value("${reservation.expiry.max-chunks-per-run:20}") int maxExpiryChunksPerRun) {
         this.seatRepository = seatRepository;
         this.reservationRepository = reservationRepository;
-        this.distributedLockService = distributedLockService;
         this.eventPublisher = eventPublisher;
+        this.seatAvailabilityFilter = seatAvailabilityFilter;
+        this.seatLockingStrategyRegistry = seatLockingStrategyRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.expiryChunkSize = expiryChunkSize;
+        this.maxExpiryChunksPerRun = maxExpiryChunksPerRun;
     }
 
+    /**
+     * 좌석 임시 배정
+     *
+     * 트랜잭션은 활성 동시성 제어 전략 안쪽에서 시작된다.
+     * (분산 락은 커밋 이후 해제되고, 낙관적 락 충돌 시에는 트랜잭션 전체를 다시 실행)
+     * 호출자 트랜잭션이 이미 있으면 그 트랜잭션에 참여한다.
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ReservationResult reserveSeat(ReserveSeatCommand command) {
-        String lockKey = generateSeatLockKey(command.getConcertId(), command.getSeatNumber());
-        String lockValue = command.getUserId();
-
-        if (!distributedLockService.tryLock(lockKey, lockValue, 10)) {
-            throw new RuntimeException("다른 사용자가 처리 중입니다. 잠시 후 재시도해주세요.");
+        // 이미 선점된 것으로 알려진 좌석은 Redis 락/DB 조회 없이 거절
+        if (seatAvailabilityFilter.isKnownTaken(command.getConcertId(), command.getSeatNumber())) {
+            throw new SeatAlreadyAssignedException(command.getConcertId(), command.getSeatNumber());
         }
 
-        try {
-            Seat seat = seatRepository.findByConcertIdAndSeatNumberWithLock(
-                    command.getConcertId(),
-                    command.getSeatNumber()
-            ).orElseThrow(() -> new RuntimeException("존재하지 않는 좌석입니다."));
-
-            if (!seat.isAvailable()) {
-                if (seat.isExpired()) {
-                    seat.releaseAssignment();
-                    seatRepository.save(seat);
-                } else {
-                    throw new RuntimeException("이미 다른 사용자가 선택한 좌석입니다.");
-                }
-            }
+        SeatLockingStrategy strategy = seatLockingStrategyRegistry.getActive();
 
-            LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(RESERVATION_TIMEOUT_MINUTES);
-            seat.assignTemporarily(command.getUserId(), expiresAt);
-            seatRepository.save(seat);
-
-            Reservation reservation = new Reservation(
-                    command.getUserId(),
-                    command.getConcertId(),
-                    seat.getSeatId(),
-                    seat.getPrice(),
-                    expiresAt
-            );
-            reservationRepository.save(reservation);
-
-            // 이벤트 발행 - 트랜잭션 커밋 후 처리됨
-            ReservationCompletedEvent event = new ReservationCompletedEvent(
-                    reservation.getReservationId(),
-                    reservation.getUserId(),
-                    reservation.getConcertId(),
-                    seat.getSeatId(),
-                    seat.getSeatNumber(),
-                    seat.getPrice(),
-                    LocalDateTime.now()
-            );
-            eventPublisher.publishEvent(event);
-
-            return new ReservationResult(reservation, seat.getSeatNumber());
-
-        } finally {
-            distributedLockService.unlock(lockKey, lockValue);
+        try {
+            return strategy.execute(command.getConcertId(), command.getSeatNumber(), command.getUserId(),
+                    () -> transactionTemplate.execute(status -> reserveSeatInTransaction(strategy, command)));
+        } catch (SeatAlreadyAssignedException e) {
+            seatAvailabilityFilter.markTaken(command.getConcertId(), command.getSeatNumber());
+            throw e;
         }
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public ReservationResult getReservationStatus(String reservationId) {
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new RuntimeException("존재하지 않는 예약입니다."));
+    private ReservationResult reserveSeatInTransaction(SeatLockingStrategy strategy, ReserveSeatCommand command) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(RESERVATION_TIMEOUT_MINUTES);
+        Seat seat = strategy.assignSeat(
+                command.getConcertId(),
+                command.getSeatNumber(),
+                command.getUserId(),
+                expiresAt
+        );
+
+        Reservation reservation = new Reservation(
+                command.getUserId(),
+                command.getConcertId(),
+                seat.getSeatId(),
+                seat.getPrice(),
+                expiresAt
+        );
+        reservationRepository.save(reservation);
 
-        Seat seat = seatRepository.findById(reservation.getSeatId())
-                .orElseThrow(() -> new RuntimeException("좌석 정보를 찾을 수 없습니다."));
+        // 이벤트 발행 - 트랜잭션 커밋 후 처리됨
+        ReservationCompletedEvent event = new ReservationCompletedEvent(
+                reservation.getReservationId(),
+                reservation.getUserId(),
+                reservation.getConcertId(),
+                seat.getSeatId(),
+                seat.getSeatNumber(),
+                seat.getPrice(),
+                LocalDateTime.now()
+        );
+        eventPublisher.publishEvent(event);
 
         return new ReservationResult(reservation, seat.getSeatNumber());
     }
 
+    /**
+     * 예약 상태 조회
+     * 카운트다운 폴링용 읽기 모델을 사용하므로 캐시 히트 시 DB 조회가 없고, 미스 시 조인 쿼리 1회로 끝난다.
+     * (엔티티를 로딩하지 않으므로 트랜잭션도 열지 않음)
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ReservationResult getReservationStatus(String reservationId) {
+        return reservationRepository.findStatusView(reservationId)
+                .map(ReservationResult::new)
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 예약입니다."));
+    }
+
+    /**
+     * 예약 취소
+     * 예약과 좌석 행을 잠근 뒤 엔티티 로딩 없이 예약 상태 변경과 좌석 해제를 각각 한 번의 UPDATE로 수행한다.
+     */
     @Override
     public void cancelReservation(String reservationId, String userId) {
-        Reservation reservation = reservationRepository.findById(reservationId)
+        ReleasableReservation target = reservationRepository.lockForRelease(reservationId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 예약입니다."));
 
-        if (!reservation.getUserId().equals(userId)) {
+        if (!target.userId().equals(userId)) {
             throw new RuntimeException("예약을 취소할 권한이 없습니다.");
         }
+        if (target.status() != Reservation.ReservationStatus.TEMPORARILY_ASSIGNED) {
+            throw new IllegalStateException("취소할 수 없는 상태입니다. 현재 상태: " + target.status());
+        }
 
-        Seat seat = seatRepository.findById(reservation.getSeatId())
-                .orElseThrow(() -> new RuntimeException("좌석 정보를 찾을 수 없습니다."));
-
-        reservation.cancel();
-        reservationRepository.save(reservation);
+        List<String> ids = List.of(target.reservationId());
+        seatRepository.releaseHeldSeatsByReservationIds(ids);
+        reservationRepository.updateStatusIfTemporarilyAssigned(ids, Reservation.ReservationStatus.CANCELLED);
 
-        seat.releaseAssignment();
-        seatRepository.save(seat);
+        publishSeatReleased(List.of(target));
     }
 
+    /**
+     * 만료된 임시 배정 일괄 해제
+     *
+     * 청크마다 별도 트랜잭션에서 만료 예약을 잠그고(SKIP LOCKED), 좌석 조인 UPDATE와 예약 상태 UPDATE를
+     * 각각 한 번씩 실행한다. 행 잠금은 청크 하나의 처리 시간 동안만 유지되며,
+     * 처리량은 행 수가 아닌 청크 수에 비례한 왕복으로 소화된다.
+     *
+     * @return 만료 처리된 예약 수
+     */
     @Override
-    public void releaseExpiredReservations() {
-        List<Reservation> expiredReservations = reservationRepository.findByStatusAndExpiresAtBefore(
-                Reservation.ReservationStatus.TEMPORARILY_ASSIGNED,
-                LocalDateTime.now()
-        );
-
-        for (Reservation reservation : expiredReservations) {
-            reservation.expire();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int releaseExpiredReservations() {
+        int released = 0;
+        for (int chunk = 0; chunk < maxExpiryChunksPerRun; chunk++) {
+            Integer expired = transactionTemplate.execute(status -> releaseExpiredChunk());
+            if (expired == null || expired == 0) {
+                break;
+            }
+            released += expired;
+            if (expired < expiryChunkSize) {
+                break;
+            }
+        }
+        return released;
+    }
 
-            Seat seat = seatRepository.findById(reservation.getSeatId())
-                    .orElseThrow(() -> new RuntimeException("좌석 정보를 찾을 수 없습니다."));
-            seat.releaseAssignment();
-            seatRepository.save(seat);
+    private int releaseExpiredChunk() {
+        List<ReleasableReservation> expired = reservationRepository.lockExpiredForRelease(expiryChunkSize);
+        if (expired.isEmpty()) {
+            return 0;
         }
 
-        reservationRepository.saveAll(expiredReservations);
+        List<String> ids = expired.stream().map(ReleasableReservation::reservationId).toList();
+        seatRepository.releaseHeldSeatsByReservationIds(ids);
+        reservationRepository.updateStatusIfTemporarilyAssigned(ids, Reservation.ReservationStatus.EXPIRED);
+
+        // 이벤트 발행 - 트랜잭션 커밋 후 처리됨
+        publishSeatReleased(expired);
+        return expired.size();
     }
 
-    private String generateSeatLockKey(Long concertId, Integer seatNumber) {
-        return String.format("seat_lock:%d:%d", concertId, seatNumber);
+    // 다른 사용자에게 이미 재배정된 좌석은 해제하지 않았으므로 이벤트도 발행하지 않음
+    private void publishSeatReleased(List<ReleasableReservation> released) {
+        for (ReleasableReservation reservation : released) {
+            if (reservation.seatHeld()) {
+                eventPublisher.publishEvent(SeatReleasedEvent.of(
+                        reservation.concertId(), reservation.seatId(), reservation.seatNumber()));
+            }
+        }
     }
 }
\ No newline at end of file
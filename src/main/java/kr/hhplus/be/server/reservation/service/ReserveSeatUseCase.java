@@ -7,5 +7,5 @@ public interface ReserveSeatUseCase {
     ReservationResult reserveSeat(ReserveSeatCommand command);
     ReservationResult getReservationStatus(String reservationId);
     void cancelReservation(String reservationId, String userId);
-    void releaseExpiredReservations();
+    int releaseExpiredReservations();
 }
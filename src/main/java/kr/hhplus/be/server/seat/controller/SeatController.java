@@ -2,6 +2,7 @@ package kr.hhplus.be.server.seat.controller;
 
 import kr.hhplus.be.server.common.ApiResponse;
 import kr.hhplus.be.server.seat.dto.SeatPageResponse;
+import kr.hhplus.be.server.seat.dto.SeatSectionResponse;
 import kr.hhplus.be.server.queue.service.QueueService;
 import kr.hhplus.be.server.seat.service.SeatService;
 import org.slf4j.Logger;
@@ -9,6 +10,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 좌석 조회 API 컨트롤러
  * 대기열 토큰 검증이 필요한 보호된 리소스
@@ -30,12 +33,109 @@ public class SeatController {
     /**
      * 좌석 정보 조회 (대기열 토큰 필요)
      * GET /api/concerts/{concertId}/seats
+     * GET /api/concerts/{concertId}/seats?section={section}&fromSeatNumber={seatNumber}&size=200
+     *
+     * section이 없으면 구역별 요약만, 있으면 해당 구역의 좌석 목록 한 페이지를 반환한다.
      */
     @GetMapping("/{concertId}/seats")
     public ResponseEntity<ApiResponse<SeatPageResponse>> getConcertSeats(
             @PathVariable Long concertId,
+            @RequestParam(required = false) String section,
+            @RequestParam(required = false) Integer fromSeatNumber,
+            @RequestParam(defaultValue = "200") int size,
+            @RequestHeader(value = "Authorization", required = false) String authHeader) {
+
+        ResponseEntity<ApiResponse<SeatPageResponse>> rejection = validateQueueToken(authHeader);
+        if (rejection != null) {
+            return rejection;
+        }
+        log.info("좌석 조회 API 호출: concertId={}", concertId);
+
+        SeatPageResponse seatInfo = section == null
+                ? seatService.getConcertSeats(concertId)
+                : seatService.getSectionSeats(concertId, section, fromSeatNumber, size);
+
+        log.info("좌석 조회 완료: concertId={}, totalSeats={}, availableSeats={}",
+                concertId, seatInfo.getSummary().getTotalSeats(), seatInfo.getSummary().getAvailableSeats());
+
+        return ResponseEntity.ok(
+                ApiResponse.success(seatInfo, "좌석 정보 조회 성공")
+        );
+    }
+
+    /**
+     * 구역별 좌석 현황 조회 (대기열 토큰 필요)
+     * GET /api/concerts/{concertId}/seats/sections
+     */
+    @GetMapping("/{concertId}/seats/sections")
+    public ResponseEntity<ApiResponse<List<SeatSectionResponse>>> getSeatSections(
+            @PathVariable Long concertId,
+            @RequestHeader(value = "Authorization", required = false) String authHeader) {
+
+        ResponseEntity<ApiResponse<List<SeatSectionResponse>>> rejection = validateQueueToken(authHeader);
+        if (rejection != null) {
+            return rejection;
+        }
+
+        List<SeatSectionResponse> sections = seatService.getSectionSummaries(concertId);
+        return ResponseEntity.ok(
+                ApiResponse.success(sections, "구역별 좌석 현황 조회 성공")
+        );
+    }
+
+    /**
+     * 구역 좌석 배치도 조회 (대기열 토큰 필요)
+     * GET /api/concerts/{concertId}/seats/sections/{section}?fromSeatNumber={seatNumber}&size=200
+     *
+     * 좌석 번호 순 한 페이지를 반환하며, 다음 페이지는 응답의 nextSeatNumber를 fromSeatNumber로 넘겨 조회한다.
+     */
+    @GetMapping("/{concertId}/seats/sections/{section}")
+    public ResponseEntity<ApiResponse<SeatPageResponse>> getSectionSeats(
+            @PathVariable Long concertId,
+            @PathVariable String section,
+            @RequestParam(required = false) Integer fromSeatNumber,
+            @RequestParam(defaultValue = "200") int size,
             @RequestHeader(value = "Authorization", required = false) String authHeader) {
 
+        ResponseEntity<ApiResponse<SeatPageResponse>> rejection = validateQueueToken(authHeader);
+        if (rejection != null) {
+            return rejection;
+        }
+
+        SeatPageResponse seatInfo = seatService.getSectionSeats(concertId, section, fromSeatNumber, size);
+        return ResponseEntity.ok(
+                ApiResponse.success(seatInfo, "구역 좌석 정보 조회 성공")
+        );
+    }
+
+    /**
+     * 구역 내 예약 가능 좌석 추천 (대기열 토큰 필요)
+     * GET /api/concerts/{concertId}/seats/sections/{section}/recommendations?count=2
+     */
+    @GetMapping("/{concertId}/seats/sections/{section}/recommendations")
+    public ResponseEntity<ApiResponse<List<Integer>>> recommendSeats(
+            @PathVariable Long concertId,
+            @PathVariable String section,
+            @RequestParam(defaultValue = "1") int count,
+            @RequestHeader(value = "Authorization", required = false) String authHeader) {
+
+        ResponseEntity<ApiResponse<List<Integer>>> rejection = validateQueueToken(authHeader);
+        if (rejection != null) {
+            return rejection;
+        }
+
+        List<Integer> seatNumbers = seatService.recommendAvailableSeats(concertId, section, count);
+        return ResponseEntity.ok(
+                ApiResponse.success(seatNumbers, "좌석 추천 성공")
+        );
+    }
+
+    /**
+     * 대기열 토큰 검증
+     *
+     * @return 검증 실패 시 에러 응답, 통과 시 null
+     */
+    private <T> ResponseEntity<ApiResponse<T>> validateQueueToken(String authHeader) {
         // Authorization 헤더 확인
         if (authHeader == null) {
             log.warn("Authorization 헤더가 누락되었습니다");
@@ -52,23 +152,13 @@ public class SeatController {
                     .body(ApiResponse.error(400, "INVALID_AUTH_FORMAT", "Bearer 토큰 형식이 아닙니다."));
         }
 
-        log.info("좌석 조회 API 호출: concertId={}, token={}", concertId, token);
-
         // 대기열 토큰 검증 추가!
         if (!queueService.validateActiveToken(token)) {
             log.warn("유효하지 않은 대기열 토큰: {}", token);
             return ResponseEntity.status(403)
                     .body(ApiResponse.error(403, "INVALID_TOKEN", "유효하지 않은 대기열 토큰입니다."));
         }
-
-        SeatPageResponse seatInfo = seatService.getConcertSeats(concertId);
-
-        log.info("좌석 조회 완료: concertId={}, totalSeats={}, availableSeats={}",
-                concertId, seatInfo.getSummary().getTotalSeats(), seatInfo.getSummary().getAvailableSeats());
-
-        return ResponseEntity.ok(
-                ApiResponse.success(seatInfo, "좌석 정보 조회 성공")
-        );
+        return null;
     }
 
     /**
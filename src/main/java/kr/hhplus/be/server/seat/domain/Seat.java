@@ -15,12 +15,23 @@ import java.time.LocalDateTime;
                         name = "uk_seat_temporary_assignment",
                         columnNames = {"concert_id", "seat_number", "status", "assigned_user_id"}
                 )
+        },
+        indexes = {
+                // 구역 단위 좌석 배치도/잔여석 집계/좌석 추천 조회용
+                @Index(name = "idx_seat_concert_section_status", columnList = "concert_id, section, status"),
+                // 구역 좌석 배치도 페이지 조회용 (좌석 번호 키셋)
+                @Index(name = "idx_seat_concert_section_number", columnList = "concert_id, section, seat_number"),
+                // 콘서트별 마지막 변경 시각(정합성 보정 워터마크) 조회용
+                @Index(name = "idx_seat_concert_updated_at", columnList = "concert_id, updated_at")
         }
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Seat {
 
+    // 구역 구분이 없는 소규모 공연장의 기본 구역
+    public static final String DEFAULT_SECTION = "GENERAL";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "seat_id")
@@ -29,6 +40,15 @@ public class Seat {
     @Column(name = "concert_id", nullable = false)
     private Long concertId;
 
+    // 구역 (예: VIP, R, FLOOR-A) - 잔여석 카운터/캐시 등 재고 상태의 분할 단위
+    @Column(name = "section", nullable = false, length = 20, columnDefinition = "varchar(20) default 'GENERAL'")
+    private String section;
+
+    // 구역 내 열 번호 (구역 구분이 없는 좌석은 null)
+    @Column(name = "seat_row")
+    private Integer rowNumber;
+
+    // 콘서트 전체에서 유일한 좌석 번호 (락/예약은 이 번호로 식별)
     @Column(name = "seat_number", nullable = false)
     private Integer seatNumber;
 
@@ -48,13 +68,33 @@ public class Seat {
     @Column(name = "reserved_at")
     private LocalDateTime reservedAt;
 
+    // 마지막으로 이 좌석을 변경한 분산 락의 펜싱 토큰
+    @Column(name = "lock_fencing_token")
+    private Long lockFencingToken;
+
+    // 마지막 변경 시각 - DB가 모든 INSERT/UPDATE(벌크/조건부 UPDATE 포함)에 DB 시계로 기록
+    @Column(name = "updated_at", insertable = false, updatable = false,
+            columnDefinition = "datetime(6) default current_timestamp(6) on update current_timestamp(6)")
+    private LocalDateTime updatedAt;
+
+    // 낙관적 락 전략용 버전 (다른 전략에서는 증가만 하고 검증에 쓰이지 않음)
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     public enum SeatStatus {
         AVAILABLE, TEMPORARILY_ASSIGNED, RESERVED
     }
 
     // 생성자
     public Seat(Long concertId, Integer seatNumber, BigDecimal price) {
+        this(concertId, DEFAULT_SECTION, null, seatNumber, price);
+    }
+
+    public Seat(Long concertId, String section, Integer rowNumber, Integer seatNumber, BigDecimal price) {
         this.concertId = concertId;
+        this.section = section != null ? section : DEFAULT_SECTION;
+        this.rowNumber = rowNumber;
         this.seatNumber = seatNumber;
         this.price = price;
         this.status = SeatStatus.AVAILABLE;
@@ -80,6 +120,20 @@ public class Seat {
         return assignedUntil != null && LocalDateTime.now().isAfter(assignedUntil);
     }
 
+    /**
+     * 분산 락 펜싱 토큰 검증 및 기록
+     * 이미 더 큰 토큰으로 변경된 좌석이면 (임대가 만료된 이전 보유자의 쓰기) 거부한다.
+     *
+     * @return 쓰기가 허용되면 true
+     */
+    public boolean applyFencingToken(long fencingToken) {
+        if (lockFencingToken != null && fencingToken < lockFencingToken) {
+            return false;
+        }
+        this.lockFencingToken = fencingToken;
+        return true;
+    }
+
     public void assignTemporarily(String userId, LocalDateTime expiresAt) {
         if (!isAvailable()) {
             throw new IllegalStateException("좌석이 이미 배정되었습니다.");
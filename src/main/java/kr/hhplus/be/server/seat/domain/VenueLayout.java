@@ -0,0 +1,93 @@
+package kr.hhplus.be.server.seat.domain;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 공연장 좌석 배치 템플릿
+ *
+ * 블록(구역명, 행 수 x 행당 좌석 수, 가격)의 목록으로 좌석 배치를 표현한다.
+ * 블록 이름이 좌석의 구역(section)이 되며, 좌석 번호는 콘서트 전체에서 유일하게 부여된다.
+ * {@link #seats()}는 좌석 명세를 지연 생성하는 스트림을 반환하므로
+ * 10만 석 규모에서도 전체 좌석 객체를 메모리에 올리지 않는다.
+ */
+public class VenueLayout {
+
+    private final List<Block> blocks;
+
+    private VenueLayout(List<Block> blocks) {
+        if (blocks == null || blocks.isEmpty()) {
+            throw new IllegalArgumentException("좌석 블록은 최소 1개 이상이어야 합니다.");
+        }
+        this.blocks = List.copyOf(blocks);
+    }
+
+    public static VenueLayout of(Block... blocks) {
+        return new VenueLayout(List.of(blocks));
+    }
+
+    /**
+     * 단일 가격, 단일 구역 배치
+     */
+    public static VenueLayout uniform(int totalSeats, BigDecimal price) {
+        return of(new Block(Seat.DEFAULT_SECTION, 1, totalSeats, price));
+    }
+
+    public int getTotalSeats() {
+        return blocks.stream().mapToInt(Block::seatCount).sum();
+    }
+
+    public List<Block> getBlocks() {
+        return blocks;
+    }
+
+    /**
+     * 좌석 명세 스트림 (좌석 번호는 블록 순서대로, 블록 내에서는 행 순서대로 1부터 연속 부여)
+     */
+    public Stream<SeatSpec> seats() {
+        List<Integer> offsets = new ArrayList<>(blocks.size());
+        int offset = 0;
+        for (Block block : blocks) {
+            offsets.add(offset);
+            offset += block.seatCount();
+        }
+
+        return IntStream.range(0, blocks.size()).boxed().flatMap(index -> {
+            Block block = blocks.get(index);
+            int start = offsets.get(index);
+            return IntStream.range(0, block.seatCount())
+                    .mapToObj(n -> new SeatSpec(block.name(), n / block.seatsPerRow() + 1,
+                            start + n + 1, block.price()));
+        });
+    }
+
+    /**
+     * 좌석 블록 (예: VIP 구역 10행 x 20석, 150,000원)
+     */
+    public record Block(String name, int rows, int seatsPerRow, BigDecimal price) {
+        public Block {
+            if (name == null || name.isBlank() || name.length() > 20) {
+                throw new IllegalArgumentException("구역명은 1~20자여야 합니다.");
+            }
+            if (rows <= 0 || seatsPerRow <= 0) {
+                throw new IllegalArgumentException("행 수와 행당 좌석 수는 0보다 커야 합니다.");
+            }
+            if (price == null || price.compareTo(BigDecimal.ZERO) <= 0) {
+                throw new IllegalArgumentException("좌석 가격은 0보다 커야 합니다.");
+            }
+        }
+
+        public int seatCount() {
+            return rows * seatsPerRow;
+        }
+    }
+
+    /**
+     * 생성할 좌석 한 개의 명세
+     */
+    public record SeatSpec(String section, int rowNumber, int seatNumber, BigDecimal price) {
+    }
+}
@@ -13,7 +13,12 @@ public class SeatPageResponse {
     private LocalDate concertDate;
     private LocalTime concertTime;
     private String venue;
+    private String section;
     private List<SeatResponseDto> seats;
+    // 구역 좌석 조회 시 다음 페이지 시작 좌석 번호 (마지막 페이지면 null)
+    private Integer nextSeatNumber;
+    // 전체 좌석 조회 시 구역별 요약 (좌석 목록은 구역 단위로 조회)
+    private List<SeatSectionResponse> sections;
     private SeatSummary summary;
 
     protected SeatPageResponse() {}
@@ -50,11 +55,26 @@ public class SeatPageResponse {
             return this;
         }
 
+        public Builder section(String section) {
+            response.section = section;
+            return this;
+        }
+
         public Builder seats(List<SeatResponseDto> seats) {
             response.seats = seats;
             return this;
         }
 
+        public Builder nextSeatNumber(Integer nextSeatNumber) {
+            response.nextSeatNumber = nextSeatNumber;
+            return this;
+        }
+
+        public Builder sections(List<SeatSectionResponse> sections) {
+            response.sections = sections;
+            return this;
+        }
+
         public Builder summary(SeatSummary summary) {
             response.summary = summary;
             return this;
@@ -71,7 +91,10 @@ public class SeatPageResponse {
     public LocalDate getConcertDate() { return concertDate; }
     public LocalTime getConcertTime() { return concertTime; }
     public String getVenue() { return venue; }
+    public String getSection() { return section; }
     public List<SeatResponseDto> getSeats() { return seats; }
+    public Integer getNextSeatNumber() { return nextSeatNumber; }
+    public List<SeatSectionResponse> getSections() { return sections; }
     public SeatSummary getSummary() { return summary; }
 
     /**
@@ -1,5 +1,7 @@
 package kr.hhplus.be.server.seat.dto;
 
+import kr.hhplus.be.server.seat.domain.Seat;
+
 import java.time.LocalDateTime;
 
 /**
@@ -7,6 +9,8 @@ import java.time.LocalDateTime;
  */
 public class SeatResponseDto {
     private Long seatId;
+    private String section;
+    private Integer rowNumber;
     private Integer seatNumber;
     private String status;
     private Integer price;
@@ -27,8 +31,18 @@ public class SeatResponseDto {
         return dto;
     }
 
+    public static SeatResponseDto from(Seat seat) {
+        SeatResponseDto dto = create(seat.getSeatId(), seat.getSeatNumber(), seat.getStatus().name(),
+                seat.getPrice().intValue(), seat.getAssignedUntil(), seat.getReservedAt());
+        dto.section = seat.getSection();
+        dto.rowNumber = seat.getRowNumber();
+        return dto;
+    }
+
     // Getters
     public Long getSeatId() { return seatId; }
+    public String getSection() { return section; }
+    public Integer getRowNumber() { return rowNumber; }
     public Integer getSeatNumber() { return seatNumber; }
     public String getStatus() { return status; }
     public Integer getPrice() { return price; }
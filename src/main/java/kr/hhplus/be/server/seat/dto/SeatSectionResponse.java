@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.seat.dto;
+
+/**
+ * 구역별 좌석 현황 응답 DTO
+ */
+public class SeatSectionResponse {
+    private String section;
+    private SeatPageResponse.SeatSummary summary;
+
+    protected SeatSectionResponse() {}
+
+    public SeatSectionResponse(String section, SeatPageResponse.SeatSummary summary) {
+        this.section = section;
+        this.summary = summary;
+    }
+
+    // Getters
+    public String getSection() { return section; }
+    public SeatPageResponse.SeatSummary getSummary() { return summary; }
+}
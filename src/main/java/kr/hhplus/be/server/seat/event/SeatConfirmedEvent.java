@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.seat.event;
+
+import kr.hhplus.be.server.seat.domain.Seat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좌석 확정 이벤트
+ * 결제 완료로 좌석이 예약 확정(판매) 상태가 되었을 때 발행
+ */
+@Getter
+@AllArgsConstructor
+public class SeatConfirmedEvent {
+    private final Long concertId;
+    private final Long seatId;
+    private final Integer seatNumber;
+    private final String section;
+    private final LocalDateTime confirmedAt;
+
+    public static SeatConfirmedEvent of(Seat seat) {
+        return new SeatConfirmedEvent(seat.getConcertId(), seat.getSeatId(), seat.getSeatNumber(),
+                seat.getSection(), seat.getReservedAt());
+    }
+}
@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.seat.event;
+
+import kr.hhplus.be.server.seat.domain.Seat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좌석 해제 이벤트
+ * 임시 배정 취소/만료 또는 확정 좌석 환불로 좌석이 다시 예약 가능 상태가 되었을 때 발행
+ */
+@Getter
+@AllArgsConstructor
+public class SeatReleasedEvent {
+    private final Long concertId;
+    private final Long seatId;
+    private final Integer seatNumber;
+    private final String section;
+    // 확정(결제 완료) 좌석의 해제 여부 - 잔여석 카운터 복구 대상
+    private final boolean confirmedRelease;
+    private final LocalDateTime releasedAt;
+
+    public static SeatReleasedEvent of(Long concertId, Long seatId, Integer seatNumber) {
+        return new SeatReleasedEvent(concertId, seatId, seatNumber, null, false, LocalDateTime.now());
+    }
+
+    public static SeatReleasedEvent ofConfirmedSeat(Seat seat) {
+        return new SeatReleasedEvent(seat.getConcertId(), seat.getSeatId(), seat.getSeatNumber(),
+                seat.getSection(), true, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.seat.exception;
+
+import kr.hhplus.be.server.reservation.exception.ReservationException;
+
+/**
+ * 다른 사용자가 이미 임시 배정/예약한 좌석에 대한 예약 시도 시 발생하는 예외
+ */
+public class SeatAlreadyAssignedException extends ReservationException {
+    private final Long concertId;
+    private final Integer seatNumber;
+
+    public SeatAlreadyAssignedException(Long concertId, Integer seatNumber) {
+        super("이미 다른 사용자가 선택한 좌석입니다.");
+        this.concertId = concertId;
+        this.seatNumber = seatNumber;
+    }
+
+    public Long getConcertId() { return concertId; }
+    public Integer getSeatNumber() { return seatNumber; }
+}
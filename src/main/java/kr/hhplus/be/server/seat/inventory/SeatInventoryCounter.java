@@ -0,0 +1,266 @@
+package kr.hhplus.be.server.seat.inventory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis 잔여석 카운터
+ *
+ * 콘서트/구역별 잔여(미판매) 좌석 수를 구역 단위 키로 분할하여 관리한다.
+ * 대규모 공연의 판매 트래픽이 콘서트 하나의 키에 몰리지 않도록,
+ * 콘서트 단위 키(열린 구역 수)는 구역이 매진/재오픈되는 순간에만 갱신된다.
+ *
+ * - seat:remaining:{concertId}:{section} : 구역 잔여석 수
+ * - seat:open-sections:{concertId}       : 잔여석이 남은 구역 수 (0이면 콘서트 매진)
+ *
+ * 감소/증가는 Lua 스크립트로 "초기화 여부 확인 + 경계 검사 + 변경"을 원자적으로 수행하므로
+ * 0 도달(매진)과 0→1(재오픈) 전이는 각각 정확히 한 호출자에게만 관측된다.
+ */
+@Component
+public class SeatInventoryCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatInventoryCounter.class);
+
+    // 초기화되지 않은 카운터
+    public static final long UNINITIALIZED = -1L;
+    // 이미 0인 카운터 (중복 확정 등 비정상 감소)
+    public static final long EXHAUSTED = -2L;
+
+    private static final String REMAINING_KEY = "seat:remaining:%d:%s";
+    private static final String OPEN_SECTIONS_KEY = "seat:open-sections:%d";
+    // MGET 한 번에 조회할 최대 키 수
+    private static final int MULTI_GET_CHUNK = 1000;
+
+    // 0보다 클 때만 감소, 감소 후 값 반환
+    private static final RedisScript<Long> DECREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('get', KEYS[1]) " +
+                    "if not current then return -1 end " +
+                    "if tonumber(current) <= 0 then return -2 end " +
+                    "return redis.call('decr', KEYS[1])", Long.class);
+
+    // 초기화된 카운터만 증가, 증가 후 값 반환
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then return -1 end " +
+                    "return redis.call('incr', KEYS[1])", Long.class);
+
+    // 구역 키와 열린 구역 수 키를 한 번에 설정, 열린 구역 수 키를 이번 호출이 설정했으면 1 반환
+    // KEYS[1]=열린 구역 수 키, KEYS[2..]=구역 키 / ARGV[1]=덮어쓰기 여부, ARGV[2]=열린 구역 수, ARGV[3..]=구역 잔여석
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = new DefaultRedisScript<>(
+            "local overwrite = ARGV[1] == '1' " +
+                    "for i = 2, #KEYS do " +
+                    "  if overwrite then redis.call('set', KEYS[i], ARGV[i + 1]) " +
+                    "  else redis.call('setnx', KEYS[i], ARGV[i + 1]) end " +
+                    "end " +
+                    "if overwrite then redis.call('set', KEYS[1], ARGV[2]) return 1 end " +
+                    "return redis.call('setnx', KEYS[1], ARGV[2])", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public SeatInventoryCounter(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 구역 잔여석 1 감소 (좌석 확정)
+     *
+     * @return 감소 후 잔여석 수, 미초기화 시 {@link #UNINITIALIZED}, 이미 0이면 {@link #EXHAUSTED}
+     */
+    public long decrementSection(Long concertId, String section) {
+        return execute(DECREMENT_SCRIPT, remainingKey(concertId, section));
+    }
+
+    /**
+     * 구역 잔여석 1 증가 (확정 좌석 해제)
+     *
+     * @return 증가 후 잔여석 수, 미초기화 시 {@link #UNINITIALIZED}
+     */
+    public long incrementSection(Long concertId, String section) {
+        return execute(INCREMENT_SCRIPT, remainingKey(concertId, section));
+    }
+
+    /**
+     * 열린 구역 수 1 감소 (구역 매진)
+     *
+     * @return 감소 후 열린 구역 수 (0이면 콘서트 매진 전이)
+     */
+    public long closeSection(Long concertId) {
+        return execute(DECREMENT_SCRIPT, openSectionsKey(concertId));
+    }
+
+    /**
+     * 열린 구역 수 1 증가 (구역 재오픈)
+     *
+     * @return 증가 후 열린 구역 수 (1이면 콘서트 매진 해제 전이)
+     */
+    public long reopenSection(Long concertId) {
+        return execute(INCREMENT_SCRIPT, openSectionsKey(concertId));
+    }
+
+    /**
+     * DB 집계로 카운터 초기화
+     *
+     * @param remainingBySection 구역별 잔여석 수
+     * @param overwrite true면 기존 값을 덮어쓰고(재계산), false면 없는 키만 설정
+     * @return 콘서트 카운터를 이번 호출이 설정했으면 true
+     */
+    public boolean initialize(Long concertId, Map<String, Long> remainingBySection, boolean overwrite) {
+        long openSections = remainingBySection.values().stream().filter(remaining -> remaining > 0).count();
+
+        // 구역 키와 열린 구역 수 키를 스크립트 하나로 설정해 중간 상태(일부 구역만 설정)가 관측되지 않게 한다
+        List<String> keys = new ArrayList<>(remainingBySection.size() + 1);
+        List<String> args = new ArrayList<>(remainingBySection.size() + 2);
+        keys.add(openSectionsKey(concertId));
+        args.add(overwrite ? "1" : "0");
+        args.add(String.valueOf(openSections));
+        remainingBySection.forEach((section, remaining) -> {
+            keys.add(remainingKey(concertId, section));
+            args.add(String.valueOf(remaining));
+        });
+
+        Long result = redisTemplate.execute(INITIALIZE_SCRIPT, keys, args.toArray());
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 구역 잔여석 조회
+     */
+    public Optional<Long> getRemaining(Long concertId, String section) {
+        return parse(redisTemplate.opsForValue().get(remainingKey(concertId, section)));
+    }
+
+    /**
+     * 여러 구역의 잔여석을 한 번의 MGET으로 조회 (키가 없는 구역은 결과에서 제외)
+     */
+    public Map<String, Long> getRemaining(Long concertId, Collection<String> sections) {
+        Map<String, Long> remainingBySection = new HashMap<>();
+        if (sections.isEmpty()) {
+            return remainingBySection;
+        }
+
+        List<String> sectionList = new ArrayList<>(sections);
+        List<String> keys = sectionList.stream().map(section -> remainingKey(concertId, section)).toList();
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return remainingBySection;
+        }
+
+        for (int i = 0; i < sectionList.size(); i++) {
+            String section = sectionList.get(i);
+            parse(values.get(i)).ifPresent(remaining -> remainingBySection.put(section, remaining));
+        }
+        return remainingBySection;
+    }
+
+    /**
+     * 여러 콘서트의 전체 잔여석(구역 합계)을 MGET으로 조회
+     * 구역 키가 하나라도 없는(초기화 전) 콘서트는 결과에서 제외한다.
+     *
+     * @param sectionsByConcert 콘서트 ID → 구역 목록
+     */
+    public Map<Long, Long> getTotalRemaining(Map<Long, ? extends Collection<String>> sectionsByConcert) {
+        Map<Long, Long> totals = new HashMap<>();
+        List<Long> concertIds = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        for (Map.Entry<Long, ? extends Collection<String>> entry : sectionsByConcert.entrySet()) {
+            for (String section : entry.getValue()) {
+                concertIds.add(entry.getKey());
+                keys.add(remainingKey(entry.getKey(), section));
+            }
+        }
+
+        Set<Long> uninitialized = new HashSet<>();
+        for (int from = 0; from < keys.size(); from += MULTI_GET_CHUNK) {
+            int to = Math.min(from + MULTI_GET_CHUNK, keys.size());
+            List<String> values = redisTemplate.opsForValue().multiGet(keys.subList(from, to));
+            for (int i = from; i < to; i++) {
+                Long concertId = concertIds.get(i);
+                Optional<Long> remaining = values == null ? Optional.empty() : parse(values.get(i - from));
+                if (remaining.isEmpty()) {
+                    uninitialized.add(concertId);
+                } else {
+                    totals.merge(concertId, Math.max(0L, remaining.get()), Long::sum);
+                }
+            }
+        }
+        totals.keySet().removeAll(uninitialized);
+        return totals;
+    }
+
+    /**
+     * 열린 구역 수 조회
+     */
+    public Optional<Long> getOpenSections(Long concertId) {
+        return parse(redisTemplate.opsForValue().get(openSectionsKey(concertId)));
+    }
+
+    /**
+     * 콘서트 매진 여부 (카운터가 초기화되어 있고 열린 구역이 없을 때만 true)
+     */
+    public boolean isSoldOut(Long concertId) {
+        return parse(redisTemplate.opsForValue().get(openSectionsKey(concertId)))
+                .map(open -> open == 0)
+                .orElse(false);
+    }
+
+    /**
+     * 여러 콘서트 중 매진된 콘서트 ID를 한 번의 MGET으로 조회
+     */
+    public Set<Long> findSoldOut(Collection<Long> concertIds) {
+        Set<Long> soldOut = new HashSet<>();
+        if (concertIds.isEmpty()) {
+            return soldOut;
+        }
+
+        List<Long> ids = new ArrayList<>(concertIds);
+        List<String> keys = ids.stream().map(SeatInventoryCounter::openSectionsKey).toList();
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return soldOut;
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            if ("0".equals(values.get(i))) {
+                soldOut.add(ids.get(i));
+            }
+        }
+        return soldOut;
+    }
+
+    private long execute(RedisScript<Long> script, String key) {
+        Long result = redisTemplate.execute(script, List.of(key));
+        return result != null ? result : UNINITIALIZED;
+    }
+
+    private Optional<Long> parse(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            log.warn("잔여석 카운터 값 파싱 실패: {}", value);
+            return Optional.empty();
+        }
+    }
+
+    static String remainingKey(Long concertId, String section) {
+        return String.format(REMAINING_KEY, concertId, section);
+    }
+
+    static String openSectionsKey(Long concertId) {
+        return String.format(OPEN_SECTIONS_KEY, concertId);
+    }
+}
@@ -0,0 +1,95 @@
+package kr.hhplus.be.server.seat.listener;
+
+import kr.hhplus.be.server.reservation.event.ReservationCompletedEvent;
+import kr.hhplus.be.server.seat.event.SeatReleasedEvent;
+import kr.hhplus.be.server.seat.service.SeatAvailabilityFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 좌석 상태 변경 이벤트를 로컬 선점 필터에 반영하는 리스너
+ *
+ * 트랜잭션 커밋 후 로컬 필터를 갱신하고, Redis Pub/Sub으로 다른 노드에도 전파한다.
+ * 메시지 형식: {concertId}:{seatNumber}:{TAKEN|RELEASED}
+ */
+@Component
+@Slf4j
+public class SeatAvailabilityEventListener implements MessageListener {
+
+    static final String CHANNEL = "seat:availability:events";
+    private static final String TAKEN = "TAKEN";
+    private static final String RELEASED = "RELEASED";
+
+    private final SeatAvailabilityFilter seatAvailabilityFilter;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public SeatAvailabilityEventListener(SeatAvailabilityFilter seatAvailabilityFilter,
+                                         RedisTemplate<String, String> redisTemplate,
+                                         RedisMessageListenerContainer listenerContainer) {
+        this.seatAvailabilityFilter = seatAvailabilityFilter;
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 좌석 임시 배정 완료 → 선점 비트 설정
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReservationCompleted(ReservationCompletedEvent event) {
+        seatAvailabilityFilter.markTaken(event.getConcertId(), event.getSeatNumber());
+        broadcast(event.getConcertId(), event.getSeatNumber(), TAKEN);
+    }
+
+    /**
+     * 좌석 해제(취소/만료) → 선점 비트 해제
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSeatReleased(SeatReleasedEvent event) {
+        seatAvailabilityFilter.markAvailable(event.getConcertId(), event.getSeatNumber());
+        broadcast(event.getConcertId(), event.getSeatNumber(), RELEASED);
+    }
+
+    /**
+     * 다른 노드에서 전파된 좌석 상태 변경 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", "");
+        String[] parts = body.split(":");
+        if (parts.length != 3) {
+            log.warn("알 수 없는 좌석 상태 메시지: {}", body);
+            return;
+        }
+
+        try {
+            Long concertId = Long.valueOf(parts[0]);
+            Integer seatNumber = Integer.valueOf(parts[1]);
+
+            if (TAKEN.equals(parts[2])) {
+                seatAvailabilityFilter.markTaken(concertId, seatNumber);
+            } else if (RELEASED.equals(parts[2])) {
+                seatAvailabilityFilter.markAvailable(concertId, seatNumber);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("좌석 상태 메시지 파싱 실패: {}", body);
+        }
+    }
+
+    private void broadcast(Long concertId, Integer seatNumber, String type) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, concertId + ":" + seatNumber + ":" + type);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드의 필터는 최대 유지 시간 경과 후 자연 복구됨
+            log.warn("좌석 상태 전파 실패: concertId={}, seatNumber={}, type={}", concertId, seatNumber, type, e);
+        }
+    }
+}
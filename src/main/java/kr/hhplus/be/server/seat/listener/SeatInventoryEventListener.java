@@ -0,0 +1,48 @@
+package kr.hhplus.be.server.seat.listener;
+
+import kr.hhplus.be.server.seat.event.SeatConfirmedEvent;
+import kr.hhplus.be.server.seat.event.SeatReleasedEvent;
+import kr.hhplus.be.server.seat.service.SeatInventoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 좌석 확정/해제 이벤트를 잔여석 카운터에 반영하는 리스너
+ *
+ * 커밋된 변경만 반영한다. 트랜잭션 밖에서 발행된 이벤트는(fallbackExecution) 이미 저장이 끝난 상태이므로 즉시 반영한다.
+ * 카운터 반영 실패는 주요 비즈니스 로직에 영향을 주지 않도록 로그만 남기며, 오차는 카운터 재계산으로 복구한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatInventoryEventListener {
+
+    private final SeatInventoryService seatInventoryService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSeatConfirmed(SeatConfirmedEvent event) {
+        try {
+            seatInventoryService.onSeatConfirmed(event.getConcertId(), event.getSection());
+        } catch (Exception e) {
+            log.error("잔여석 카운터 감소 실패: concertId={}, seatNumber={}",
+                    event.getConcertId(), event.getSeatNumber(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSeatReleased(SeatReleasedEvent event) {
+        // 임시 배정 해제는 판매 수량에 영향 없음
+        if (!event.isConfirmedRelease()) {
+            return;
+        }
+        try {
+            seatInventoryService.onSeatReleased(event.getConcertId(), event.getSection());
+        } catch (Exception e) {
+            log.error("잔여석 카운터 증가 실패: concertId={}, seatNumber={}",
+                    event.getConcertId(), event.getSeatNumber(), e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.seat.lock;
+
+import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.exception.SeatAlreadyAssignedException;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 단일 UPDATE 전략
+ *
+ * UPDATE seats SET status = 'TEMPORARILY_ASSIGNED' ... WHERE status = 'AVAILABLE' (또는 만료된 임시 배정)
+ * 한 문장으로 검사와 변경을 원자적으로 수행한다. 락 대기 없이 영향받은 행 수로 성공 여부를 판단한다.
+ */
+@Component
+public class ConditionalUpdateSeatLockingStrategy implements SeatLockingStrategy {
+
+    public static final String NAME = "conditional-update";
+
+    private final SeatRepository seatRepository;
+
+    public ConditionalUpdateSeatLockingStrategy(SeatRepository seatRepository) {
+        this.seatRepository = seatRepository;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Seat assignSeat(Long concertId, Integer seatNumber, String userId, LocalDateTime expiresAt) {
+        int updated = seatRepository.assignIfAvailable(concertId, seatNumber, userId, expiresAt, LocalDateTime.now());
+
+        Seat seat = seatRepository.findByConcertIdAndSeatNumber(concertId, seatNumber)
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 좌석입니다."));
+
+        if (updated == 0) {
+            throw new SeatAlreadyAssignedException(concertId, seatNumber);
+        }
+        return seat;
+    }
+}
@@ -0,0 +1,89 @@
+package kr.hhplus.be.server.seat.lock;
+
+import kr.hhplus.be.server.reservation.exception.ConcurrentReservationException;
+import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.exception.SeatAlreadyAssignedException;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락(@Version) + 재시도 전략
+ *
+ * 락 없이 좌석을 조회하고 커밋 시점의 버전 검증으로 충돌을 감지한다.
+ * 충돌 시 트랜잭션 전체를 새로 시작하여 최대 maxAttempts회 재시도한다.
+ */
+@Component
+@Slf4j
+public class OptimisticSeatLockingStrategy implements SeatLockingStrategy {
+
+    public static final String NAME = "optimistic";
+
+    private final SeatRepository seatRepository;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticSeatLockingStrategy(
+            SeatRepository seatRepository,
+            @Value("${seat.locking.optimistic.max-attempts:3}") int maxAttempts,
+            @Value("${seat.locking.optimistic.backoff-ms:20}") long backoffMillis) {
+        this.seatRepository = seatRepository;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public <T> T execute(Long concertId, Integer seatNumber, String owner, Supplier<T> transactionalWork) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionalWork.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("낙관적 락 재시도 초과: concertId={}, seatNumber={}, attempts={}",
+                            concertId, seatNumber, attempt);
+                    throw new ConcurrentReservationException(1);
+                }
+                log.debug("낙관적 락 충돌로 재시도: concertId={}, seatNumber={}, attempt={}",
+                        concertId, seatNumber, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    @Override
+    public Seat assignSeat(Long concertId, Integer seatNumber, String userId, LocalDateTime expiresAt) {
+        Seat seat = seatRepository.findByConcertIdAndSeatNumber(concertId, seatNumber)
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 좌석입니다."));
+
+        if (!seat.isAvailable()) {
+            if (!seat.isExpired()) {
+                throw new SeatAlreadyAssignedException(concertId, seatNumber);
+            }
+            seat.releaseAssignment();
+        }
+
+        // 버전 검증은 커밋 시 UPDATE ... WHERE version = ? 로 수행됨
+        seat.assignTemporarily(userId, expiresAt);
+        seatRepository.save(seat);
+        return seat;
+    }
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(backoffMillis * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentReservationException(1);
+        }
+    }
+}
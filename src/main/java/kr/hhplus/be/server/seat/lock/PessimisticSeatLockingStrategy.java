@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.seat.lock;
+
+import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.exception.SeatAlreadyAssignedException;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB 비관적 락(SELECT ... FOR UPDATE)만 사용하는 전략
+ */
+@Component
+public class PessimisticSeatLockingStrategy implements SeatLockingStrategy {
+
+    public static final String NAME = "pessimistic";
+
+    protected final SeatRepository seatRepository;
+
+    public PessimisticSeatLockingStrategy(SeatRepository seatRepository) {
+        this.seatRepository = seatRepository;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Seat assignSeat(Long concertId, Integer seatNumber, String userId, LocalDateTime expiresAt) {
+        Seat seat = seatRepository.findByConcertIdAndSeatNumberWithLock(concertId, seatNumber)
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 좌석입니다."));
+
+        verifyWritePermission(seat, userId);
+
+        if (!seat.isAvailable()) {
+            if (seat.isExpired()) {
+                seat.releaseAssignment();
+                seatRepository.save(seat);
+            } else {
+                throw new SeatAlreadyAssignedException(concertId, seatNumber);
+            }
+        }
+
+        seat.assignTemporarily(userId, expiresAt);
+        seatRepository.save(seat);
+        return seat;
+    }
+
+    @Override
+    public void confirmSeat(Seat seat, String userId, LocalDateTime confirmedAt) {
+        verifyWritePermission(seat, userId);
+        seat.confirmReservation(confirmedAt);
+    }
+
+    @Override
+    public void releaseReservedSeat(Seat seat, String userId) {
+        verifyWritePermission(seat, userId);
+        seat.releaseReservation();
+    }
+
+    /**
+     * 좌석 변경(배정/확정/해제) 직전에 호출되는 검증 지점
+     */
+    protected void verifyWritePermission(Seat seat, String userId) {
+    }
+}
@@ -0,0 +1,100 @@
+package kr.hhplus.be.server.seat.lock;
+
+import kr.hhplus.be.server.common.lock.DistributedLockService;
+import kr.hhplus.be.server.reservation.exception.ConcurrentReservationException;
+import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Redis 분산 락 + DB 비관적 락 전략 (기본값)
+ *
+ * 분산 락으로 같은 좌석에 대한 요청을 직렬화하고, DB 비관적 락으로 최종 정합성을 보장한다.
+ * 락이 잡혀 있으면 즉시 실패하지 않고 해제 알림을 최대 lock-wait-ms 동안 기다린다.
+ * 분산 락은 트랜잭션 커밋 이후에 해제되며, 좌석 쓰기 시 펜싱 토큰으로 만료된 보유자의 쓰기를 거부한다.
+ *
+ * 펜싱 토큰은 락을 획득한 직후 캡처해 작업 실행 동안 스레드에 묶어 두고, 배정/확정/해제 쓰기마다 검증한다.
+ * - 토큰이 없으면(execute 밖의 쓰기, 획득 직후 임대 유실) 거부
+ * - 워치독이 임대 유실을 감지해 보유 목록에서 뺀 뒤의 쓰기도 거부
+ * - 좌석에 더 큰 토큰이 이미 기록되어 있으면(새 보유자가 먼저 씀) 거부
+ */
+@Component
+public class RedisPessimisticSeatLockingStrategy extends PessimisticSeatLockingStrategy {
+
+    public static final String NAME = "redis-pessimistic";
+
+    private static final long LOCK_TIMEOUT_SECONDS = 10;
+
+    private final DistributedLockService distributedLockService;
+    private final long lockWaitMillis;
+
+    // execute 작업 실행 동안 획득한 락의 펜싱 토큰 (작업은 같은 스레드에서 실행됨)
+    private final ThreadLocal<SeatLease> currentLease = new ThreadLocal<>();
+
+    public RedisPessimisticSeatLockingStrategy(DistributedLockService distributedLockService,
+                                               SeatRepository seatRepository,
+                                               @Value("${seat.locking.lock-wait-ms:2000}") long lockWaitMillis) {
+        super(seatRepository);
+        this.distributedLockService = distributedLockService;
+        this.lockWaitMillis = lockWaitMillis;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public <T> T execute(Long concertId, Integer seatNumber, String owner, Supplier<T> transactionalWork) {
+        String lockKey = generateSeatLockKey(concertId, seatNumber);
+
+        if (!distributedLockService.tryLock(lockKey, owner, LOCK_TIMEOUT_SECONDS, lockWaitMillis)) {
+            throw new RuntimeException("다른 사용자가 처리 중입니다. 잠시 후 재시도해주세요.");
+        }
+
+        try {
+            Long fencingToken = distributedLockService.getFencingToken(lockKey, owner);
+            if (fencingToken == null) {
+                // 획득 직후 임대를 잃음
+                throw new ConcurrentReservationException(1);
+            }
+            currentLease.set(new SeatLease(lockKey, owner, fencingToken));
+            try {
+                return transactionalWork.get();
+            } finally {
+                currentLease.remove();
+            }
+        } finally {
+            distributedLockService.unlock(lockKey, owner);
+        }
+    }
+
+    @Override
+    protected void verifyWritePermission(Seat seat, String userId) {
+        String lockKey = generateSeatLockKey(seat.getConcertId(), seat.getSeatNumber());
+        SeatLease lease = currentLease.get();
+
+        if (lease == null || !lease.lockKey().equals(lockKey)) {
+            // 이 좌석의 락을 잡지 않은 쓰기
+            throw new ConcurrentReservationException(1);
+        }
+        if (!Long.valueOf(lease.fencingToken()).equals(distributedLockService.getFencingToken(lockKey, lease.owner()))) {
+            // 워치독이 임대 유실을 감지함
+            throw new ConcurrentReservationException(1);
+        }
+        if (!seat.applyFencingToken(lease.fencingToken())) {
+            // 임대가 만료되어 다른 보유자가 이미 좌석을 변경함
+            throw new ConcurrentReservationException(1);
+        }
+    }
+
+    private String generateSeatLockKey(Long concertId, Integer seatNumber) {
+        return String.format("seat_lock:%d:%d", concertId, seatNumber);
+    }
+
+    private record SeatLease(String lockKey, String owner, long fencingToken) {
+    }
+}
@@ -0,0 +1,77 @@
+package kr.hhplus.be.server.seat.lock;
+
+import kr.hhplus.be.server.seat.domain.Seat;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * 좌석 임시 배정 동시성 제어 전략
+ *
+ * 전략은 두 단계로 동작한다.
+ * 1. {@link #execute} - 트랜잭션 바깥에서 실행 (분산 락 획득/해제, 낙관적 락 재시도 등)
+ * 2. {@link #assignSeat}, {@link #confirmSeat}, {@link #releaseReservedSeat} - 트랜잭션 안에서 실행 (좌석 상태 변경)
+ *
+ * 좌석을 변경하는 쓰기는 모두 execute로 감싼 작업 안에서 2단계 메서드로 수행해야 전략의 쓰기 검증(펜싱 등)이 적용된다.
+ *
+ * 사용할 전략은 seat.locking.strategy 프로퍼티로 선택한다.
+ *
+ * @see SeatLockingStrategyRegistry
+ */
+public interface SeatLockingStrategy {
+
+    /**
+     * 전략 이름 (seat.locking.strategy 프로퍼티 값)
+     */
+    String getName();
+
+    /**
+     * 좌석 단위 트랜잭션 작업을 전략에 맞게 감싸서 실행
+     * 기본 구현은 추가 제어 없이 그대로 실행한다.
+     *
+     * @param concertId 콘서트 ID
+     * @param seatNumber 좌석 번호
+     * @param owner 락 소유자 식별값
+     * @param transactionalWork 좌석 배정을 포함하는 트랜잭션 작업
+     * @return 작업 결과
+     */
+    default <T> T execute(Long concertId, Integer seatNumber, String owner, Supplier<T> transactionalWork) {
+        return transactionalWork.get();
+    }
+
+    /**
+     * 좌석을 임시 배정 (호출자의 트랜잭션 안에서 실행)
+     *
+     * @param concertId 콘서트 ID
+     * @param seatNumber 좌석 번호
+     * @param userId 배정받을 사용자 ID
+     * @param expiresAt 임시 배정 만료 시간
+     * @return 임시 배정된 좌석
+     * @throws kr.hhplus.be.server.seat.exception.SeatAlreadyAssignedException 이미 선점된 좌석인 경우
+     * @throws RuntimeException 존재하지 않는 좌석인 경우
+     */
+    Seat assignSeat(Long concertId, Integer seatNumber, String userId, LocalDateTime expiresAt);
+
+    /**
+     * 임시 배정 좌석을 결제 확정 (호출자의 트랜잭션 안에서 실행)
+     * 기본 구현은 검증 없이 상태만 변경한다. (충돌은 좌석 버전으로 감지)
+     *
+     * @param seat 확정할 좌석 (호출자의 트랜잭션에서 조회한 엔티티)
+     * @param userId 결제한 사용자 ID
+     * @param confirmedAt 확정 시각
+     */
+    default void confirmSeat(Seat seat, String userId, LocalDateTime confirmedAt) {
+        seat.confirmReservation(confirmedAt);
+    }
+
+    /**
+     * 확정 좌석을 다시 판매 가능 상태로 해제 (환불, 호출자의 트랜잭션 안에서 실행)
+     * 기본 구현은 검증 없이 상태만 변경한다. (충돌은 좌석 버전으로 감지)
+     *
+     * @param seat 해제할 좌석 (호출자의 트랜잭션에서 조회한 엔티티)
+     * @param userId 좌석을 보유했던 사용자 ID
+     */
+    default void releaseReservedSeat(Seat seat, String userId) {
+        seat.releaseReservation();
+    }
+}
@@ -0,0 +1,58 @@
+package kr.hhplus.be.server.seat.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 좌석 동시성 제어 전략 레지스트리
+ * seat.locking.strategy 프로퍼티로 활성 전략을 선택한다.
+ */
+@Component
+@Slf4j
+public class SeatLockingStrategyRegistry {
+
+    private final Map<String, SeatLockingStrategy> strategies = new LinkedHashMap<>();
+    private final SeatLockingStrategy active;
+
+    public SeatLockingStrategyRegistry(
+            List<SeatLockingStrategy> strategies,
+            @Value("${seat.locking.strategy:" + RedisPessimisticSeatLockingStrategy.NAME + "}") String activeName) {
+        for (SeatLockingStrategy strategy : strategies) {
+            this.strategies.put(strategy.getName(), strategy);
+        }
+        this.active = get(activeName);
+        log.info("좌석 동시성 제어 전략: {} (사용 가능: {})", activeName, this.strategies.keySet());
+    }
+
+    /**
+     * 설정된 활성 전략
+     */
+    public SeatLockingStrategy getActive() {
+        return active;
+    }
+
+    /**
+     * 이름으로 전략 조회
+     *
+     * @throws IllegalArgumentException 존재하지 않는 전략 이름인 경우
+     */
+    public SeatLockingStrategy get(String name) {
+        SeatLockingStrategy strategy = strategies.get(name);
+        if (strategy == null) {
+            throw new IllegalArgumentException(
+                    "알 수 없는 좌석 동시성 제어 전략입니다: " + name + " (사용 가능: " + strategies.keySet() + ")");
+        }
+        return strategy;
+    }
+
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(strategies.keySet());
+    }
+}
@@ -2,13 +2,16 @@ package kr.hhplus.be.server.seat.repository;
 
 import jakarta.persistence.LockModeType;
 import kr.hhplus.be.server.seat.domain.Seat;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,13 +23,68 @@ public interface SeatJpaRepository extends JpaRepository<Seat, Long> {
     Optional<Seat> findByConcertIdAndSeatNumberWithLock(@Param("concertId") Long concertId,
                                                         @Param("seatNumber") Integer seatNumber);
 
+    Optional<Seat> findByConcertIdAndSeatNumber(Long concertId, Integer seatNumber);
+
+    // 조건부 임시 배정 - 검사와 변경을 단일 UPDATE로 수행
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Seat s SET s.status = :assigned, s.assignedUserId = :userId, s.assignedUntil = :assignedUntil, " +
+            "s.version = s.version + 1 " +
+            "WHERE s.concertId = :concertId AND s.seatNumber = :seatNumber " +
+            "AND (s.status = :available OR (s.status = :assigned AND s.assignedUntil < :now))")
+    int assignIfAvailable(@Param("concertId") Long concertId,
+                          @Param("seatNumber") Integer seatNumber,
+                          @Param("userId") String userId,
+                          @Param("assignedUntil") LocalDateTime assignedUntil,
+                          @Param("now") LocalDateTime now,
+                          @Param("available") Seat.SeatStatus available,
+                          @Param("assigned") Seat.SeatStatus assigned);
+
     List<Seat> findByConcertId(Long concertId);
 
+    @Query("SELECT s FROM Seat s " +
+            "WHERE s.concertId = :concertId AND s.section = :section AND s.seatNumber >= :fromSeatNumber " +
+            "ORDER BY s.seatNumber")
+    List<Seat> findSectionSeats(@Param("concertId") Long concertId,
+                                @Param("section") String section,
+                                @Param("fromSeatNumber") int fromSeatNumber,
+                                Pageable pageable);
+
+    /**
+     * 콘서트별 구역 목록 (idx_seat_concert_section_status 인덱스만으로 처리)
+     */
+    @Query("SELECT DISTINCT s.concertId, s.section FROM Seat s WHERE s.concertId IN :concertIds")
+    List<Object[]> findConcertSections(@Param("concertIds") Collection<Long> concertIds);
+
+    @Query("SELECT new kr.hhplus.be.server.seat.repository.SectionStatusCount(s.section, s.status, COUNT(s)) " +
+            "FROM Seat s WHERE s.concertId = :concertId GROUP BY s.section, s.status")
+    List<SectionStatusCount> countByConcertIdGroupBySectionAndStatus(@Param("concertId") Long concertId);
+
+    @Query("SELECT new kr.hhplus.be.server.seat.repository.SectionStatusCount(s.section, s.status, COUNT(s)) " +
+            "FROM Seat s WHERE s.concertId = :concertId AND s.section = :section GROUP BY s.section, s.status")
+    List<SectionStatusCount> countBySectionGroupByStatus(@Param("concertId") Long concertId,
+                                                         @Param("section") String section);
+
+    @Query("SELECT s.seatNumber FROM Seat s " +
+            "WHERE s.concertId = :concertId AND s.section = :section AND s.status = :status " +
+            "AND s.seatNumber >= :fromSeatNumber ORDER BY s.seatNumber")
+    List<Integer> findAvailableSeatNumbers(@Param("concertId") Long concertId,
+                                           @Param("section") String section,
+                                           @Param("fromSeatNumber") int fromSeatNumber,
+                                           @Param("status") Seat.SeatStatus status,
+                                           Pageable pageable);
+
+    @Query("SELECT new kr.hhplus.be.server.seat.repository.SeatNumberRange(MIN(s.seatNumber), MAX(s.seatNumber)) " +
+            "FROM Seat s WHERE s.concertId = :concertId AND s.section = :section")
+    SeatNumberRange findSeatNumberRange(@Param("concertId") Long concertId, @Param("section") String section);
+
     List<Seat> findByStatusAndAssignedUntilBefore(
             Seat.SeatStatus status,
             LocalDateTime assignedUntil
     );
 
+    @Query("SELECT MAX(s.updatedAt) FROM Seat s WHERE s.concertId = :concertId")
+    LocalDateTime findLastUpdatedAt(@Param("concertId") Long concertId);
+
     // 콘서트별 전체 좌석 수 카운트
     long countByConcertId(Long concertId);
 
@@ -0,0 +1,7 @@
+package kr.hhplus.be.server.seat.repository;
+
+/**
+ * 구역의 좌석 번호 범위 (구역 좌석은 연속 번호로 생성됨)
+ */
+public record SeatNumberRange(Integer minSeatNumber, Integer maxSeatNumber) {
+}
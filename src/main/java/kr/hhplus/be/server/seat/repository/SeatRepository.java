@@ -3,12 +3,17 @@ package kr.hhplus.be.server.seat.repository;
 
 import jakarta.persistence.LockModeType;
 import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.domain.VenueLayout;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface SeatRepository {
     Optional<Seat> findById(Long seatId);
@@ -17,11 +22,34 @@ public interface SeatRepository {
     @Query("SELECT s FROM Seat s WHERE s.concertId = :concertId AND s.seatNumber = :seatNumber")
     Optional<Seat> findByConcertIdAndSeatNumberWithLock(@Param("concertId") Long concertId,
                                                 @Param("seatNumber") Integer seatNumber);
+    // 락 없이 단건 조회 (낙관적 락/조건부 UPDATE 전략용)
+    Optional<Seat> findByConcertIdAndSeatNumber(Long concertId, Integer seatNumber);
+    // 예약 가능(또는 만료된 임시 배정) 좌석일 때만 임시 배정, 변경된 행 수 반환
+    int assignIfAvailable(Long concertId, Integer seatNumber, String userId,
+                          LocalDateTime assignedUntil, LocalDateTime now);
     List<Seat> findByConcertId(Long concertId);
+    // 구역 좌석 배치도 한 페이지 (fromSeatNumber 이상, 좌석 번호 순 최대 limit개)
+    List<Seat> findSectionSeats(Long concertId, String section, int fromSeatNumber, int limit);
+    // 구역/상태별 좌석 수 집계
+    List<SectionStatusCount> countByConcertIdGroupBySectionAndStatus(Long concertId);
+    // 한 구역의 상태별 좌석 수 집계
+    List<SectionStatusCount> countBySectionGroupByStatus(Long concertId, String section);
+    // 여러 콘서트의 구역 목록을 한 번에 조회 (콘서트 ID → 구역명)
+    Map<Long, List<String>> findSectionsByConcertIds(Collection<Long> concertIds);
+    // 구역 내 fromSeatNumber 이상의 예약 가능 좌석 번호 (최대 limit개)
+    List<Integer> findAvailableSeatNumbers(Long concertId, String section, int fromSeatNumber, int limit);
+    // 예약들이 아직 임시 배정 중인 좌석을 한 번의 조인 UPDATE로 해제 (다른 사용자에게 재배정된 좌석은 제외)
+    int releaseHeldSeatsByReservationIds(List<String> reservationIds);
+    // 콘서트 좌석의 마지막 변경 시각 (정합성 보정 워터마크)
+    Optional<LocalDateTime> findLastUpdatedAt(Long concertId);
+    // 구역의 좌석 번호 범위 (좌석이 없으면 empty)
+    Optional<SeatNumberRange> findSeatNumberRange(Long concertId, String section);
     Seat save(Seat seat);
     List<Seat> findExpiredTemporaryAssignments();
     long countByConcertId(Long concertId);
     void saveAll(List<Seat> seats);
+    // JDBC 배치로 좌석 일괄 INSERT, 생성된 좌석 수 반환
+    int bulkInsert(Long concertId, Stream<VenueLayout.SeatSpec> seats);
     // 콘서트별 특정 상태의 좌석 수 카운트
     long countByConcertIdAndStatus(Long concertId, Seat.SeatStatus status);
 }
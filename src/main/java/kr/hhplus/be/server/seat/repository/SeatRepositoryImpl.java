@@ -1,19 +1,47 @@
 package kr.hhplus.be.server.seat.repository;
 
+import kr.hhplus.be.server.common.id.TimeOrderedIds;
 import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.domain.VenueLayout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public class SeatRepositoryImpl implements SeatRepository {
 
+    private static final String BULK_INSERT_SQL =
+            "INSERT INTO seats (concert_id, section, seat_row, seat_number, price, status, version) " +
+            "VALUES (?, ?, ?, ?, ?, 'AVAILABLE', 0)";
+
+    private static final String RELEASE_HELD_BY_RESERVATIONS_SQL =
+            "UPDATE seats s JOIN reservations r ON r.seat_id = s.seat_id " +
+            "SET s.status = 'AVAILABLE', s.assigned_user_id = NULL, s.assigned_until = NULL, s.version = s.version + 1 " +
+            "WHERE s.status = 'TEMPORARILY_ASSIGNED' AND s.assigned_user_id = r.user_id " +
+            "AND r.reservation_id IN (%s)";
+
     private final SeatJpaRepository seatJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int bulkInsertBatchSize;
 
-    public SeatRepositoryImpl(SeatJpaRepository seatJpaRepository) {
+    public SeatRepositoryImpl(SeatJpaRepository seatJpaRepository,
+                              JdbcTemplate jdbcTemplate,
+                              @Value("${seat.provisioning.batch-size:1000}") int bulkInsertBatchSize) {
         this.seatJpaRepository = seatJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.bulkInsertBatchSize = bulkInsertBatchSize;
     }
 
     @Override
@@ -26,11 +54,77 @@ public class SeatRepositoryImpl implements SeatRepository {
         return seatJpaRepository.findByConcertIdAndSeatNumberWithLock(concertId, seatNumber);
     }
 
+    @Override
+    public Optional<Seat> findByConcertIdAndSeatNumber(Long concertId, Integer seatNumber) {
+        return seatJpaRepository.findByConcertIdAndSeatNumber(concertId, seatNumber);
+    }
+
+    @Override
+    public int assignIfAvailable(Long concertId, Integer seatNumber, String userId,
+                                 LocalDateTime assignedUntil, LocalDateTime now) {
+        return seatJpaRepository.assignIfAvailable(concertId, seatNumber, userId, assignedUntil, now,
+                Seat.SeatStatus.AVAILABLE, Seat.SeatStatus.TEMPORARILY_ASSIGNED);
+    }
+
     @Override
     public List<Seat> findByConcertId(Long concertId) {
         return seatJpaRepository.findByConcertId(concertId);
     }
 
+    @Override
+    public List<Seat> findSectionSeats(Long concertId, String section, int fromSeatNumber, int limit) {
+        return seatJpaRepository.findSectionSeats(concertId, section, fromSeatNumber, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<SectionStatusCount> countByConcertIdGroupBySectionAndStatus(Long concertId) {
+        return seatJpaRepository.countByConcertIdGroupBySectionAndStatus(concertId);
+    }
+
+    @Override
+    public List<SectionStatusCount> countBySectionGroupByStatus(Long concertId, String section) {
+        return seatJpaRepository.countBySectionGroupByStatus(concertId, section);
+    }
+
+    @Override
+    public Map<Long, List<String>> findSectionsByConcertIds(Collection<Long> concertIds) {
+        Map<Long, List<String>> sectionsByConcert = new HashMap<>();
+        if (concertIds.isEmpty()) {
+            return sectionsByConcert;
+        }
+        for (Object[] row : seatJpaRepository.findConcertSections(concertIds)) {
+            sectionsByConcert.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return sectionsByConcert;
+    }
+
+    @Override
+    public List<Integer> findAvailableSeatNumbers(Long concertId, String section, int fromSeatNumber, int limit) {
+        return seatJpaRepository.findAvailableSeatNumbers(concertId, section, fromSeatNumber,
+                Seat.SeatStatus.AVAILABLE, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public Optional<SeatNumberRange> findSeatNumberRange(Long concertId, String section) {
+        return Optional.ofNullable(seatJpaRepository.findSeatNumberRange(concertId, section))
+                .filter(range -> range.minSeatNumber() != null);
+    }
+
+    @Override
+    public int releaseHeldSeatsByReservationIds(List<String> reservationIds) {
+        List<byte[]> ids = TimeOrderedIds.toBytes(reservationIds);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update(String.format(RELEASE_HELD_BY_RESERVATIONS_SQL, placeholders), ids.toArray());
+    }
+
+    @Override
+    public Optional<LocalDateTime> findLastUpdatedAt(Long concertId) {
+        return Optional.ofNullable(seatJpaRepository.findLastUpdatedAt(concertId));
+    }
+
     @Override
     public Seat save(Seat seat) {
         return seatJpaRepository.save(seat);
@@ -53,6 +147,30 @@ public class SeatRepositoryImpl implements SeatRepository {
         seatJpaRepository.saveAll(seats);
     }
 
+    @Override
+    public int bulkInsert(Long concertId, Stream<VenueLayout.SeatSpec> seats) {
+        List<Object[]> batch = new ArrayList<>(bulkInsertBatchSize);
+        int inserted = 0;
+
+        Iterator<VenueLayout.SeatSpec> iterator = seats.iterator();
+        while (iterator.hasNext()) {
+            VenueLayout.SeatSpec spec = iterator.next();
+            batch.add(new Object[]{concertId, spec.section(), spec.rowNumber(), spec.seatNumber(), spec.price()});
+
+            if (batch.size() == bulkInsertBatchSize) {
+                jdbcTemplate.batchUpdate(BULK_INSERT_SQL, batch);
+                inserted += batch.size();
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(BULK_INSERT_SQL, batch);
+            inserted += batch.size();
+        }
+        return inserted;
+    }
+
     @Override
     public long countByConcertIdAndStatus(Long concertId, Seat.SeatStatus status) {
         return seatJpaRepository.countByConcertIdAndStatus(concertId, status);
@@ -0,0 +1,9 @@
+package kr.hhplus.be.server.seat.repository;
+
+import kr.hhplus.be.server.seat.domain.Seat;
+
+/**
+ * 구역/상태별 좌석 수 집계 결과
+ */
+public record SectionStatusCount(String section, Seat.SeatStatus status, Long count) {
+}
@@ -0,0 +1,57 @@
+package kr.hhplus.be.server.seat.scheduler;
+
+import kr.hhplus.be.server.common.lock.DistributedLockService;
+import kr.hhplus.be.server.seat.service.SeatStateReconciler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 좌석 상태 정합성 보정 스케줄러
+ * 여러 노드 중 분산 락을 획득한 한 노드만 실행한다.
+ */
+@Component
+public class SeatStateReconcileScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatStateReconcileScheduler.class);
+
+    private static final String LEADER_LOCK_KEY = "seat:reconciliation:leader";
+    private static final long LEADER_LEASE_SECONDS = 30;
+
+    private final SeatStateReconciler seatStateReconciler;
+    private final DistributedLockService distributedLockService;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public SeatStateReconcileScheduler(SeatStateReconciler seatStateReconciler,
+                                       DistributedLockService distributedLockService,
+                                       @Value("${seat.reconciliation.enabled:true}") boolean enabled) {
+        this.seatStateReconciler = seatStateReconciler;
+        this.distributedLockService = distributedLockService;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(fixedDelayString = "${seat.reconciliation.interval-ms:10000}")
+    public void reconcileSeatState() {
+        if (!enabled || !distributedLockService.tryLock(LEADER_LOCK_KEY, nodeId, LEADER_LEASE_SECONDS)) {
+            return;
+        }
+
+        try {
+            SeatStateReconciler.ReconcileResult result = seatStateReconciler.reconcile();
+            if (result.repaired() > 0 || result.budgetExhausted()) {
+                logger.info("좌석 상태 정합성 점검: 일치={}건, 보정={}건, 변경중={}건, DB읽기={}행, 예산소진={}",
+                        result.matched(), result.repaired(), result.inFlight(), result.dbRowsRead(),
+                        result.budgetExhausted());
+            }
+        } catch (Exception e) {
+            logger.error("좌석 상태 정합성 점검 중 오류 발생", e);
+        } finally {
+            distributedLockService.unlock(LEADER_LOCK_KEY, nodeId);
+        }
+    }
+}
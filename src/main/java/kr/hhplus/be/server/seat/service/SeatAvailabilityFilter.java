@@ -0,0 +1,170 @@
+package kr.hhplus.be.server.seat.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드 로컬 좌석 선점 여부 필터
+ *
+ * 콘서트별 비트셋에 "이미 선점된 것으로 알려진" 좌석을 기록하여,
+ * 선점된 좌석에 대한 예약 시도를 Redis 락/DB 조회 전에 거절한다.
+ *
+ * - 비트가 켜져 있으면: 선점된 좌석으로 보고 즉시 거절 (약간 오래된 정보일 수 있음)
+ * - 비트가 꺼져 있으면: 아무것도 보장하지 않으며 반드시 분산 락 + DB 검증을 거친다
+ *
+ * 즉 필터는 "가능" 판정으로 권위 있는 검증을 생략하지 않는다.
+ * 해제 이벤트 유실 등으로 인한 오탐은 콘서트 비트셋의 최대 유지 시간(maxStalenessMillis)으로 제한된다.
+ */
+@Component
+public class SeatAvailabilityFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatAvailabilityFilter.class);
+
+    private final Map<Long, ConcertSeatBits> concertSeats = new ConcurrentHashMap<>();
+    private final AtomicLong skippedRemoteCalls = new AtomicLong();
+    private final long maxStalenessMillis;
+    private final boolean enabled;
+
+    public SeatAvailabilityFilter(
+            @Value("${seat.availability-filter.max-staleness-ms:30000}") long maxStalenessMillis,
+            @Value("${seat.availability-filter.enabled:true}") boolean enabled) {
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 선점된 것으로 알려진 좌석인지 확인
+     * true를 반환하면 호출자는 Redis/DB 작업 없이 요청을 거절한다.
+     *
+     * @param concertId 콘서트 ID
+     * @param seatNumber 좌석 번호
+     * @return 선점된 것으로 알려져 있으면 true, 알 수 없으면 false
+     */
+    public boolean isKnownTaken(Long concertId, Integer seatNumber) {
+        if (!isMarkedTaken(concertId, seatNumber)) {
+            return false;
+        }
+
+        long skipped = skippedRemoteCalls.incrementAndGet();
+        log.debug("로컬 필터로 선점 좌석 거절: concertId={}, seatNumber={}, 누적 절감 호출={}",
+                concertId, seatNumber, skipped);
+        return true;
+    }
+
+    /**
+     * 선점된 것으로 알려진 좌석인지 확인 (절감 호출 수에 집계하지 않음)
+     * 좌석 추천처럼 원격 호출을 대신하지 않는 조회에 사용한다.
+     */
+    public boolean isMarkedTaken(Long concertId, Integer seatNumber) {
+        if (!enabled || concertId == null || seatNumber == null) {
+            return false;
+        }
+        ConcertSeatBits bits = currentBits(concertId, false);
+        return bits != null && bits.isTaken(seatNumber);
+    }
+
+    /**
+     * 좌석 선점 사실을 기록 (임시 배정 이벤트 또는 DB 검증 결과로부터)
+     */
+    public void markTaken(Long concertId, Integer seatNumber) {
+        if (!enabled || concertId == null || seatNumber == null) {
+            return;
+        }
+        currentBits(concertId, true).set(seatNumber, true);
+    }
+
+    /**
+     * 좌석 해제 사실을 기록 (취소/만료 이벤트로부터)
+     */
+    public void markAvailable(Long concertId, Integer seatNumber) {
+        if (concertId == null || seatNumber == null) {
+            return;
+        }
+        ConcertSeatBits bits = concertSeats.get(concertId);
+        if (bits != null) {
+            bits.set(seatNumber, false);
+        }
+    }
+
+    /**
+     * 콘서트의 로컬 상태 전체 폐기
+     */
+    public void evict(Long concertId) {
+        concertSeats.remove(concertId);
+    }
+
+    /**
+     * 로컬 필터가 거절하여 절감한 원격 호출(Redis 락 + DB 조회) 수
+     */
+    public long getSkippedRemoteCalls() {
+        return skippedRemoteCalls.get();
+    }
+
+    private ConcertSeatBits currentBits(Long concertId, boolean createIfAbsent) {
+        long now = System.currentTimeMillis();
+        ConcertSeatBits bits = concertSeats.get(concertId);
+
+        if (bits != null && now - bits.createdAtMillis > maxStalenessMillis) {
+            // 오래된 비트셋은 버리고 권위 있는 검증으로부터 다시 학습
+            concertSeats.remove(concertId, bits);
+            bits = null;
+        }
+
+        if (bits == null && createIfAbsent) {
+            bits = concertSeats.computeIfAbsent(concertId, id -> new ConcertSeatBits(now));
+        }
+        return bits;
+    }
+
+    /**
+     * 콘서트 단위 좌석 비트셋
+     *
+     * 대규모 공연장(수만 석)에서 모든 좌석 갱신이 하나의 모니터에 몰리지 않도록
+     * 좌석 번호 구간(SEGMENT_SIZE) 단위로 비트셋을 분할하고 구간별로 동기화한다.
+     */
+    private static final class ConcertSeatBits {
+        private static final int SEGMENT_SIZE = 1024;
+
+        private final Map<Integer, BitSet> segments = new ConcurrentHashMap<>();
+        private final long createdAtMillis;
+
+        private ConcertSeatBits(long createdAtMillis) {
+            this.createdAtMillis = createdAtMillis;
+        }
+
+        boolean isTaken(int seatNumber) {
+            if (seatNumber < 0) {
+                return false;
+            }
+            BitSet segment = segments.get(seatNumber / SEGMENT_SIZE);
+            if (segment == null) {
+                return false;
+            }
+            synchronized (segment) {
+                return segment.get(seatNumber % SEGMENT_SIZE);
+            }
+        }
+
+        void set(int seatNumber, boolean value) {
+            if (seatNumber < 0) {
+                return;
+            }
+            BitSet segment = value
+                    ? segments.computeIfAbsent(seatNumber / SEGMENT_SIZE, index -> new BitSet(SEGMENT_SIZE))
+                    : segments.get(seatNumber / SEGMENT_SIZE);
+            if (segment == null) {
+                return;
+            }
+            synchronized (segment) {
+                segment.set(seatNumber % SEGMENT_SIZE, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package kr.hhplus.be.server.seat.service;
+
+import kr.hhplus.be.server.concert.service.ConcertSoldOutService;
+import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.inventory.SeatInventoryCounter;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import kr.hhplus.be.server.seat.repository.SectionStatusCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 잔여석 카운터 기반 매진 감지
+ *
+ * 좌석 확정/해제 시 구역 잔여석 카운터를 갱신하고,
+ * 카운터가 콘서트 매진(열린 구역 0) 또는 매진 해제(열린 구역 0→1)를 알리면 전이를 수행한다.
+ * 카운터가 없으면 DB 집계로 초기화하며, 이때 DB 집계에는 이미 이번 변경이 반영되어 있으므로 추가 증감하지 않는다.
+ */
+@Service
+public class SeatInventoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatInventoryService.class);
+
+    private final SeatInventoryCounter seatInventoryCounter;
+    private final SeatRepository seatRepository;
+    private final ConcertSoldOutService concertSoldOutService;
+
+    public SeatInventoryService(SeatInventoryCounter seatInventoryCounter,
+                                SeatRepository seatRepository,
+                                ConcertSoldOutService concertSoldOutService) {
+        this.seatInventoryCounter = seatInventoryCounter;
+        this.seatRepository = seatRepository;
+        this.concertSoldOutService = concertSoldOutService;
+    }
+
+    /**
+     * 좌석 확정 반영 (구역 잔여석 감소 → 구역 매진 시 열린 구역 감소 → 0이면 콘서트 매진)
+     */
+    public void onSeatConfirmed(Long concertId, String section) {
+        long remaining = seatInventoryCounter.decrementSection(concertId, section);
+
+        if (remaining == SeatInventoryCounter.UNINITIALIZED) {
+            initializeFromDatabase(concertId);
+            return;
+        }
+        if (remaining == SeatInventoryCounter.EXHAUSTED) {
+            log.warn("잔여석 카운터가 이미 0입니다 (재계산 필요): concertId={}, section={}", concertId, section);
+            return;
+        }
+        if (remaining > 0) {
+            return;
+        }
+
+        long openSections = seatInventoryCounter.closeSection(concertId);
+        log.info("구역 매진: concertId={}, section={}, openSections={}", concertId, section, openSections);
+        if (openSections == 0) {
+            concertSoldOutService.markSoldOut(concertId);
+        }
+    }
+
+    /**
+     * 확정 좌석 해제 반영 (구역 잔여석 증가 → 0→1이면 열린 구역 증가 → 0→1이면 콘서트 매진 해제)
+     */
+    public void onSeatReleased(Long concertId, String section) {
+        long remaining = seatInventoryCounter.incrementSection(concertId, section);
+
+        if (remaining == SeatInventoryCounter.UNINITIALIZED) {
+            initializeFromDatabase(concertId);
+            return;
+        }
+        if (remaining != 1) {
+            return;
+        }
+
+        long openSections = seatInventoryCounter.reopenSection(concertId);
+        log.info("구역 판매 재개: concertId={}, section={}, openSections={}", concertId, section, openSections);
+        if (openSections == 1) {
+            concertSoldOutService.cancelSoldOut(concertId);
+        }
+    }
+
+    /**
+     * 카운터가 없을 때만 DB 집계로 초기화 (다른 노드가 먼저 초기화했으면 유지)
+     *
+     * @return DB 기준 구역별 잔여석 수 (좌석이 없으면 빈 맵)
+     */
+    public Map<String, Long> initializeFromDatabase(Long concertId) {
+        Map<String, Long> remainingBySection = countRemainingBySection(concertId);
+        if (remainingBySection.isEmpty()) {
+            return remainingBySection;
+        }
+
+        if (seatInventoryCounter.initialize(concertId, remainingBySection, false)) {
+            log.info("잔여석 카운터 초기화: concertId={}, sections={}", concertId, remainingBySection.size());
+            if (seatInventoryCounter.isSoldOut(concertId)) {
+                concertSoldOutService.markSoldOut(concertId);
+            }
+        }
+        return remainingBySection;
+    }
+
+    /**
+     * DB 집계로 카운터를 덮어쓰고 콘서트 매진 상태를 맞춤
+     */
+    public void rebuild(Long concertId) {
+        repair(concertId, countRemainingBySection(concertId));
+    }
+
+    /**
+     * 이미 집계된 DB 기준 잔여석으로 카운터를 덮어쓰고 콘서트 매진 상태를 맞춤 (정합성 보정용)
+     */
+    public void repair(Long concertId, Map<String, Long> remainingBySection) {
+        if (remainingBySection.isEmpty()) {
+            return;
+        }
+
+        seatInventoryCounter.initialize(concertId, remainingBySection, true);
+        if (seatInventoryCounter.isSoldOut(concertId)) {
+            concertSoldOutService.markSoldOut(concertId);
+        } else {
+            concertSoldOutService.cancelSoldOut(concertId);
+        }
+    }
+
+    /**
+     * 카운터 기준 콘서트 매진 여부 (카운터가 없으면 false)
+     */
+    public boolean isSoldOut(Long concertId) {
+        return seatInventoryCounter.isSoldOut(concertId);
+    }
+
+    /**
+     * 구역별 잔여석 수 (전체 - 확정) DB 집계
+     */
+    public Map<String, Long> countRemainingBySection(Long concertId) {
+        Map<String, Long> remainingBySection = new HashMap<>();
+        for (SectionStatusCount count : seatRepository.countByConcertIdGroupBySectionAndStatus(concertId)) {
+            long unsold = count.status() == Seat.SeatStatus.RESERVED ? 0L : count.count();
+            remainingBySection.merge(count.section(), unsold, Long::sum);
+        }
+        return remainingBySection;
+    }
+}
@@ -0,0 +1,61 @@
+package kr.hhplus.be.server.seat.service;
+
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.exception.ConcertNotFoundException;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.seat.domain.VenueLayout;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 콘서트 좌석 일괄 생성 서비스
+ *
+ * Seat 엔티티는 IDENTITY 전략이라 Hibernate 배치 INSERT가 비활성화되므로,
+ * 좌석 생성은 JDBC 배치(rewriteBatchedStatements로 multi-row INSERT로 재작성)로 수행한다.
+ * 좌석 ID는 DB auto-increment가 부여하며, 생성 직후 ID가 필요하지 않으므로 미리 할당하지 않는다.
+ * 콘서트 등록({@link kr.hhplus.be.server.concert.service.ConcertRegistrationService})에서 콘서트 저장과 같은 트랜잭션으로 호출된다.
+ */
+@Service
+@Slf4j
+public class SeatProvisioningService {
+
+    private final SeatRepository seatRepository;
+    private final ConcertRepository concertRepository;
+
+    public SeatProvisioningService(SeatRepository seatRepository, ConcertRepository concertRepository) {
+        this.seatRepository = seatRepository;
+        this.concertRepository = concertRepository;
+    }
+
+    /**
+     * 배치 템플릿으로 콘서트 좌석 생성 (전체가 하나의 트랜잭션)
+     *
+     * @param concertId 콘서트 ID
+     * @param layout 공연장 좌석 배치
+     * @return 생성된 좌석 수
+     * @throws ConcertNotFoundException 콘서트가 존재하지 않는 경우
+     * @throws IllegalArgumentException 배치의 좌석 수가 콘서트 총 좌석 수와 다른 경우
+     * @throws IllegalStateException 이미 좌석이 생성된 콘서트인 경우
+     */
+    @Transactional
+    public int provisionSeats(Long concertId, VenueLayout layout) {
+        Concert concert = concertRepository.findById(concertId)
+                .orElseThrow(() -> new ConcertNotFoundException("콘서트를 찾을 수 없습니다: " + concertId));
+        if (layout.getTotalSeats() != concert.getTotalSeats()) {
+            throw new IllegalArgumentException("좌석 배치 수가 콘서트 총 좌석 수와 다릅니다. concertId=" + concertId
+                    + ", layoutSeats=" + layout.getTotalSeats() + ", totalSeats=" + concert.getTotalSeats());
+        }
+        if (seatRepository.countByConcertId(concertId) > 0) {
+            throw new IllegalStateException("이미 좌석이 생성된 콘서트입니다. concertId=" + concertId);
+        }
+
+        long start = System.currentTimeMillis();
+        int created = seatRepository.bulkInsert(concertId, layout.seats());
+
+        log.info("좌석 일괄 생성 완료: concertId={}, seats={}, elapsed={}ms",
+                concertId, created, System.currentTimeMillis() - start);
+        return created;
+    }
+}
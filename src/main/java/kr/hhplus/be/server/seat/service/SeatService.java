@@ -1,18 +1,31 @@
 package kr.hhplus.be.server.seat.service;
 
 
-import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.cache.ConcertCatalogCache;
+import kr.hhplus.be.server.concert.dto.ConcertResponseDto;
 import kr.hhplus.be.server.concert.exception.ConcertNotFoundException;
-import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.seat.domain.Seat;
 import kr.hhplus.be.server.seat.dto.SeatPageResponse;
 import kr.hhplus.be.server.seat.dto.SeatResponseDto;
+import kr.hhplus.be.server.seat.dto.SeatSectionResponse;
+import kr.hhplus.be.server.seat.inventory.SeatInventoryCounter;
+import kr.hhplus.be.server.seat.repository.SeatNumberRange;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import kr.hhplus.be.server.seat.repository.SectionStatusCount;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 좌석 관리 서비스
@@ -23,61 +36,219 @@ public class SeatService {
 
     private static final Logger log = LoggerFactory.getLogger(SeatService.class);
 
-    private final ConcertRepository concertRepository;
+    // 추천 시 로컬 필터로 걸러질 좌석을 고려한 추가 조회 배수
+    private static final int RECOMMEND_OVERFETCH_FACTOR = 2;
+    // 구역 좌석 배치도 한 페이지의 최대 좌석 수
+    static final int MAX_SECTION_PAGE_SIZE = 500;
 
-    public SeatService(ConcertRepository concertRepository) {
-        this.concertRepository = concertRepository;
+    private final ConcertCatalogCache concertCatalogCache;
+    private final SeatRepository seatRepository;
+    private final SeatAvailabilityFilter seatAvailabilityFilter;
+    private final SeatInventoryCounter seatInventoryCounter;
+
+    public SeatService(ConcertCatalogCache concertCatalogCache,
+                       SeatRepository seatRepository,
+                       SeatAvailabilityFilter seatAvailabilityFilter,
+                       SeatInventoryCounter seatInventoryCounter) {
+        this.concertCatalogCache = concertCatalogCache;
+        this.seatRepository = seatRepository;
+        this.seatAvailabilityFilter = seatAvailabilityFilter;
+        this.seatInventoryCounter = seatInventoryCounter;
     }
 
     /**
      * 콘서트 좌석 정보 조회
+     * 수만 석 공연장에서 전체 좌석 목록을 한 번에 내려주지 않도록 구역별 요약만 반환하며,
+     * 좌석 목록은 {@link #getSectionSeats}로 구역 단위로 조회한다.
+     *
      * @param concertId 콘서트 ID
-     * @return 좌석 정보와 요약
+     * @return 구역별 요약과 전체 요약 (seats는 비어 있음)
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public SeatPageResponse getConcertSeats(Long concertId) {
         log.info("콘서트 좌석 조회 시작: concertId={}", concertId);
 
-        // 콘서트 정보 조회
-        Concert concert = concertRepository.findById(concertId)
-                .orElseThrow(() -> new ConcertNotFoundException("콘서트를 찾을 수 없습니다: " + concertId));
+        // 콘서트 정보 조회 (카탈로그 캐시)
+        ConcertResponseDto concert = findConcert(concertId);
 
-        log.info("콘서트 정보 조회 완료: title={}, totalSeats={}", concert.getTitle(), concert.getTotalSeats());
-
-        // 좌석 정보 생성 (현재는 모든 좌석이 예약 가능한 상태로 생성)
-        List<SeatResponseDto> seats = new ArrayList<>();
-        int totalSeats = concert.getTotalSeats();
-
-        for (int seatNumber = 1; seatNumber <= totalSeats; seatNumber++) {
-            SeatResponseDto seat = SeatResponseDto.create(
-                    (long) seatNumber,  // seatId (임시)
-                    seatNumber,         // seatNumber
-                    "AVAILABLE",        // status
-                    50000,              // price (임시)
-                    null,               // assignedUntil
-                    null                // reservedAt
-            );
-            seats.add(seat);
+        // 잔여석 카운터상 매진이면 DB 집계 없이 반환
+        if (seatInventoryCounter.isSoldOut(concertId)) {
+            log.info("매진된 콘서트 좌석 조회: concertId={}", concertId);
+            int totalSeats = concert.getTotalSeats();
+            return seatPage(concert)
+                    .seats(List.of())
+                    .sections(List.of())
+                    .summary(new SeatPageResponse.SeatSummary(totalSeats, 0, 0, totalSeats))
+                    .build();
         }
 
-        // 좌석 요약 정보 생성
-        SeatPageResponse.SeatSummary summary = new SeatPageResponse.SeatSummary(
-                totalSeats,     // totalSeats
-                totalSeats,     // availableSeats (현재는 모두 예약 가능)
-                0,              // temporarilyAssignedSeats
-                0               // reservedSeats
-        );
+        Map<String, Map<Seat.SeatStatus, Long>> countsBySection = countBySection(concertId);
+        Map<Seat.SeatStatus, Long> totals = new EnumMap<>(Seat.SeatStatus.class);
+        countsBySection.values().forEach(counts -> counts.forEach((status, count) -> totals.merge(status, count, Long::sum)));
+
+        SeatPageResponse response = seatPage(concert)
+                .seats(List.of())
+                .sections(toSections(countsBySection))
+                .summary(toSummary(totals))
+                .build();
+
+        log.info("콘서트 좌석 조회 완료: concertId={}, sections={}, totalSeats={}",
+                concertId, countsBySection.size(), response.getSummary().getTotalSeats());
+        return response;
+    }
 
-        SeatPageResponse response = SeatPageResponse.builder()
+    /**
+     * 구역별 좌석 현황 조회
+     * 대규모 공연장에서 전체 좌석 목록 대신 구역 단위 요약을 먼저 제공한다.
+     *
+     * @param concertId 콘서트 ID
+     * @return 구역명 순으로 정렬된 구역별 좌석 요약
+     */
+    public List<SeatSectionResponse> getSectionSummaries(Long concertId) {
+        findConcert(concertId);
+
+        List<SeatSectionResponse> sections = toSections(countBySection(concertId));
+
+        log.info("구역별 좌석 현황 조회 완료: concertId={}, sections={}", concertId, sections.size());
+        return sections;
+    }
+
+    /**
+     * 구역 좌석 배치도 조회 (좌석 번호 키셋 페이지)
+     *
+     * 기본 구역 하나에 모든 좌석이 들어가는 공연장도 있으므로 구역 좌석을 한 번에 읽지 않고
+     * (concert_id, section, seat_number) 인덱스 범위로 최대 {@value #MAX_SECTION_PAGE_SIZE}석씩 읽는다.
+     * 요약은 구역/상태 인덱스 집계로 구역 전체 기준이다.
+     *
+     * @param concertId 콘서트 ID
+     * @param section 구역명
+     * @param fromSeatNumber 이 좌석 번호부터 조회 (null이면 구역 처음부터)
+     * @param size 페이지 크기 (최대 {@value #MAX_SECTION_PAGE_SIZE}로 제한)
+     * @return 구역 좌석 목록, 다음 페이지 시작 좌석 번호(마지막 페이지면 null)와 구역 요약
+     * @throws IllegalArgumentException 좌석이 없는 구역이거나 페이지 크기가 0 이하인 경우
+     */
+    public SeatPageResponse getSectionSeats(Long concertId, String section, Integer fromSeatNumber, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("페이지 크기는 0보다 커야 합니다.");
+        }
+        ConcertResponseDto concert = findConcert(concertId);
+
+        Map<Seat.SeatStatus, Long> counts = new EnumMap<>(Seat.SeatStatus.class);
+        for (SectionStatusCount count : seatRepository.countBySectionGroupByStatus(concertId, section)) {
+            counts.merge(count.status(), count.count(), Long::sum);
+        }
+        if (counts.isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않는 구역입니다: " + section);
+        }
+
+        int pageSize = Math.min(size, MAX_SECTION_PAGE_SIZE);
+        // 다음 페이지 시작 좌석을 알기 위해 한 건 더 조회
+        List<Seat> seats = seatRepository.findSectionSeats(
+                concertId, section, fromSeatNumber == null ? 0 : fromSeatNumber, pageSize + 1);
+        Integer nextSeatNumber = seats.size() > pageSize ? seats.get(pageSize).getSeatNumber() : null;
+
+        List<SeatResponseDto> seatDtos = new ArrayList<>(Math.min(seats.size(), pageSize));
+        for (Seat seat : seats.subList(0, Math.min(seats.size(), pageSize))) {
+            seatDtos.add(SeatResponseDto.from(seat));
+        }
+
+        return seatPage(concert)
+                .section(section)
+                .seats(seatDtos)
+                .nextSeatNumber(nextSeatNumber)
+                .summary(toSummary(counts))
+                .build();
+    }
+
+    /**
+     * 구역 내 예약 가능 좌석 추천
+     *
+     * 모든 사용자가 구역의 첫 좌석부터 시도하면 같은 좌석 락에 경합이 몰리므로,
+     * 구역 좌석 번호 범위 내 임의 위치부터 탐색하고 끝에 도달하면 처음으로 돌아간다.
+     * 로컬 필터에 선점으로 알려진 좌석은 제외한다. (최종 확정은 예약 시 분산 락 + DB 검증)
+     * 추천은 원격 호출을 대신하지 않으므로 필터의 절감 호출 수에 집계하지 않는다.
+     * 잔여석 카운터상 매진된 구역은 DB를 조회하지 않는다.
+     *
+     * @param concertId 콘서트 ID
+     * @param section 구역명
+     * @param count 추천 좌석 수
+     * @return 추천 좌석 번호 (예약 가능 좌석이 부족하면 count보다 적을 수 있음)
+     */
+    public List<Integer> recommendAvailableSeats(Long concertId, String section, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("추천 좌석 수는 0보다 커야 합니다.");
+        }
+
+        // 잔여석 카운터상 구역 매진이면 DB 조회 없이 반환
+        if (seatInventoryCounter.getRemaining(concertId, section).filter(remaining -> remaining <= 0).isPresent()) {
+            return List.of();
+        }
+
+        SeatNumberRange range = seatRepository.findSeatNumberRange(concertId, section)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 구역입니다: " + section));
+
+        int start = ThreadLocalRandom.current().nextInt(range.minSeatNumber(), range.maxSeatNumber() + 1);
+        int fetchSize = count * RECOMMEND_OVERFETCH_FACTOR;
+
+        Set<Integer> recommended = new LinkedHashSet<>();
+        collectAvailable(concertId, section, start, fetchSize, count, recommended);
+        if (recommended.size() < count && start > range.minSeatNumber()) {
+            collectAvailable(concertId, section, range.minSeatNumber(), fetchSize, count, recommended);
+        }
+
+        log.debug("좌석 추천: concertId={}, section={}, start={}, recommended={}",
+                concertId, section, start, recommended.size());
+        return List.copyOf(recommended);
+    }
+
+    private void collectAvailable(Long concertId, String section, int fromSeatNumber,
+                                  int fetchSize, int count, Set<Integer> recommended) {
+        for (Integer seatNumber : seatRepository.findAvailableSeatNumbers(concertId, section, fromSeatNumber, fetchSize)) {
+            if (recommended.size() >= count) {
+                return;
+            }
+            if (!seatAvailabilityFilter.isMarkedTaken(concertId, seatNumber)) {
+                recommended.add(seatNumber);
+            }
+        }
+    }
+
+    private ConcertResponseDto findConcert(Long concertId) {
+        return concertCatalogCache.findConcert(concertId)
+                .orElseThrow(() -> new ConcertNotFoundException("콘서트를 찾을 수 없습니다: " + concertId));
+    }
+
+    private SeatPageResponse.Builder seatPage(ConcertResponseDto concert) {
+        return SeatPageResponse.builder()
                 .concertId(concert.getConcertId())
                 .concertTitle(concert.getTitle())
                 .concertDate(concert.getConcertDate())
                 .concertTime(concert.getConcertTime())
-                .venue(concert.getVenue())
-                .seats(seats)
-                .summary(summary)
-                .build();
+                .venue(concert.getVenue());
+    }
 
-        log.info("콘서트 좌석 조회 완료: concertId={}, totalSeats={}", concertId, totalSeats);
-        return response;
+    /**
+     * 구역/상태별 좌석 수 (구역명 순)
+     */
+    private Map<String, Map<Seat.SeatStatus, Long>> countBySection(Long concertId) {
+        Map<String, Map<Seat.SeatStatus, Long>> countsBySection = new TreeMap<>();
+        for (SectionStatusCount count : seatRepository.countByConcertIdGroupBySectionAndStatus(concertId)) {
+            countsBySection.computeIfAbsent(count.section(), section -> new EnumMap<>(Seat.SeatStatus.class))
+                    .merge(count.status(), count.count(), Long::sum);
+        }
+        return countsBySection;
+    }
+
+    private List<SeatSectionResponse> toSections(Map<String, Map<Seat.SeatStatus, Long>> countsBySection) {
+        List<SeatSectionResponse> sections = new ArrayList<>(countsBySection.size());
+        countsBySection.forEach((section, counts) -> sections.add(new SeatSectionResponse(section, toSummary(counts))));
+        return sections;
+    }
+
+    private SeatPageResponse.SeatSummary toSummary(Map<Seat.SeatStatus, Long> counts) {
+        int available = counts.getOrDefault(Seat.SeatStatus.AVAILABLE, 0L).intValue();
+        int assigned = counts.getOrDefault(Seat.SeatStatus.TEMPORARILY_ASSIGNED, 0L).intValue();
+        int reserved = counts.getOrDefault(Seat.SeatStatus.RESERVED, 0L).intValue();
+        return new SeatPageResponse.SeatSummary(available + assigned + reserved, available, assigned, reserved);
     }
-}
\ No newline at end of file
+}
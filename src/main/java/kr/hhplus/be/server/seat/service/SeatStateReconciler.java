@@ -0,0 +1,268 @@
+package kr.hhplus.be.server.seat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.seat.inventory.SeatInventoryCounter;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis ↔ MySQL 좌석 상태 정합성 보정
+ *
+ * Redis 잔여석 카운터가 DB(원본)와 어긋났는지 콘서트 단위로 점검하고, 어긋나면 DB 기준으로 덮어쓴다.
+ * 전체 좌석을 매번 집계하지 않도록 콘서트별 워터마크(seats.updated_at 최댓값, DB 시계 기준)를 체크포인트로 둔다.
+ *
+ * - 워터마크가 직전 실행과 다르면 변경 진행 중 → 이번에는 건너뜀 (커밋 후 이벤트로 반영 중인 카운터를 오판하지 않도록)
+ * - 워터마크가 검증된 체크포인트와 같으면 DB는 그대로 → 집계 없이 체크포인트 값으로 Redis만 비교
+ * - 워터마크가 달라졌고 안정되었으면 구역/상태 집계 1회 후 비교 → 체크포인트 갱신
+ * - 불일치로 보정하기 직전 워터마크를 한 번 더 확인하여, 그 사이 변경이 있었으면 보정하지 않고 다음 실행으로 미룸
+ *
+ * 실행당 DB 읽기량(집계 대상 좌석 행 수 + 워터마크 조회)은 예산으로 제한하며,
+ * 예산이 소진되면 다음 실행이 같은 위치부터 이어서 순회한다.
+ * 카운터가 아직 초기화되지 않은 콘서트는 지연 초기화 대상이므로 보정하지 않는다.
+ */
+@Service
+public class SeatStateReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatStateReconciler.class);
+
+    private final ConcertRepository concertRepository;
+    private final SeatRepository seatRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final SeatInventoryCounter seatInventoryCounter;
+    private final long readBudgetRows;
+    private final int pageSize;
+
+    private final Counter matchedCounter;
+    private final Counter repairedCounter;
+    private final Counter inFlightCounter;
+    private final Counter uninitializedCounter;
+    private final Counter dbRowsCounter;
+    private final Counter budgetExhaustedCounter;
+    private final Timer runTimer;
+
+    // 직전 실행에서 관측한 워터마크 (변경 진행 여부 판단)
+    private final Map<Long, LocalDateTime> observedWatermarks = new ConcurrentHashMap<>();
+    // DB 집계로 검증된 체크포인트
+    private final Map<Long, Checkpoint> checkpoints = new ConcurrentHashMap<>();
+    // 이번 순회에서 방문한 콘서트 (순회 종료 시 지난 콘서트의 체크포인트 정리)
+    private final Set<Long> visitedInSweep = ConcurrentHashMap.newKeySet();
+    private volatile int pageCursor = 0;
+
+    public SeatStateReconciler(ConcertRepository concertRepository,
+                               SeatRepository seatRepository,
+                               SeatInventoryService seatInventoryService,
+                               SeatInventoryCounter seatInventoryCounter,
+                               MeterRegistry meterRegistry,
+                               @Value("${seat.reconciliation.read-budget-rows:200000}") long readBudgetRows,
+                               @Value("${seat.reconciliation.page-size:50}") int pageSize) {
+        this.concertRepository = concertRepository;
+        this.seatRepository = seatRepository;
+        this.seatInventoryService = seatInventoryService;
+        this.seatInventoryCounter = seatInventoryCounter;
+        this.readBudgetRows = readBudgetRows;
+        this.pageSize = pageSize;
+
+        this.matchedCounter = resultCounter(meterRegistry, "matched");
+        this.repairedCounter = resultCounter(meterRegistry, "repaired");
+        this.inFlightCounter = resultCounter(meterRegistry, "in_flight");
+        this.uninitializedCounter = resultCounter(meterRegistry, "uninitialized");
+        this.dbRowsCounter = meterRegistry.counter("seat.reconciliation.db.rows");
+        this.budgetExhaustedCounter = meterRegistry.counter("seat.reconciliation.budget.exhausted");
+        this.runTimer = meterRegistry.timer("seat.reconciliation.run");
+        meterRegistry.gaugeMapSize("seat.reconciliation.checkpoints", List.of(), checkpoints);
+    }
+
+    /**
+     * 예산 안에서 콘서트를 순회하며 점검/보정 (단일 노드에서만 호출되어야 함)
+     */
+    public ReconcileResult reconcile() {
+        return runTimer.record(this::reconcileWithinBudget);
+    }
+
+    private ReconcileResult reconcileWithinBudget() {
+        Budget budget = new Budget(readBudgetRows);
+        Tally result = new Tally();
+
+        while (!budget.exhausted) {
+            Page<Concert> page = concertRepository.findAvailableConcerts(PageRequest.of(pageCursor, pageSize));
+            for (Concert concert : page.getContent()) {
+                if (!reconcileConcert(concert, budget, result)) {
+                    budget.exhausted = true;
+                    budgetExhaustedCounter.increment();
+                    break;
+                }
+            }
+            if (budget.exhausted) {
+                break;
+            }
+
+            if (page.hasNext()) {
+                pageCursor++;
+            } else {
+                finishSweep();
+                break;
+            }
+        }
+
+        dbRowsCounter.increment(budget.used);
+        return new ReconcileResult(result.matched, result.repaired, result.inFlight, result.uninitialized,
+                budget.used, budget.exhausted);
+    }
+
+    /**
+     * @return 예산 부족으로 점검하지 못했으면 false
+     */
+    private boolean reconcileConcert(Concert concert, Budget budget, Tally result) {
+        Long concertId = concert.getConcertId();
+        if (!budget.canAfford(1)) {
+            return false;
+        }
+        visitedInSweep.add(concertId);
+
+        Optional<LocalDateTime> watermark = seatRepository.findLastUpdatedAt(concertId);
+        budget.charge(1);
+        if (watermark.isEmpty()) {
+            return true;
+        }
+
+        LocalDateTime previous = observedWatermarks.put(concertId, watermark.get());
+        if (!watermark.get().equals(previous)) {
+            inFlightCounter.increment();
+            result.inFlight++;
+            return true;
+        }
+
+        Checkpoint checkpoint = checkpoints.get(concertId);
+        if (checkpoint == null || !checkpoint.watermark().equals(watermark.get())) {
+            // 실행당 최소 1건은 집계하여 예산보다 큰 콘서트도 점검되도록 함
+            if (budget.aggregated > 0 && !budget.canAfford(concert.getTotalSeats())) {
+                return false;
+            }
+            Map<String, Long> expected = seatInventoryService.countRemainingBySection(concertId);
+            budget.charge(concert.getTotalSeats());
+            budget.aggregated++;
+
+            // 집계 중 변경이 있었으면 체크포인트로 쓰지 않음
+            Optional<LocalDateTime> after = seatRepository.findLastUpdatedAt(concertId);
+            budget.charge(1);
+            if (!watermark.equals(after)) {
+                after.ifPresent(latest -> observedWatermarks.put(concertId, latest));
+                inFlightCounter.increment();
+                result.inFlight++;
+                return true;
+            }
+            checkpoint = new Checkpoint(watermark.get(), Map.copyOf(expected));
+            checkpoints.put(concertId, checkpoint);
+        }
+
+        compareAndRepair(concertId, checkpoint, budget, result);
+        return true;
+    }
+
+    private void compareAndRepair(Long concertId, Checkpoint checkpoint, Budget budget, Tally result) {
+        Map<String, Long> expected = checkpoint.remainingBySection();
+        Map<String, Long> actual = seatInventoryCounter.getRemaining(concertId, expected.keySet());
+        Optional<Long> openSections = seatInventoryCounter.getOpenSections(concertId);
+
+        if (actual.isEmpty() && openSections.isEmpty()) {
+            uninitializedCounter.increment();
+            result.uninitialized++;
+            return;
+        }
+
+        long expectedOpen = expected.values().stream().filter(remaining -> remaining > 0).count();
+        if (actual.equals(expected) && Objects.equals(openSections.orElse(null), expectedOpen)) {
+            matchedCounter.increment();
+            result.matched++;
+            return;
+        }
+
+        // 비교 이후 확정/해제가 커밋되었으면 체크포인트가 낡았으므로, 덮어쓰기 직전에 워터마크를 다시 확인
+        Optional<LocalDateTime> latest = seatRepository.findLastUpdatedAt(concertId);
+        budget.charge(1);
+        if (!latest.equals(Optional.of(checkpoint.watermark()))) {
+            latest.ifPresent(moved -> observedWatermarks.put(concertId, moved));
+            inFlightCounter.increment();
+            result.inFlight++;
+            return;
+        }
+
+        log.warn("잔여석 카운터 불일치 보정: concertId={}, expected={}, actual={}, expectedOpen={}, actualOpen={}",
+                concertId, expected, actual, expectedOpen, openSections.orElse(null));
+        seatInventoryService.repair(concertId, expected);
+        repairedCounter.increment();
+        result.repaired++;
+    }
+
+    private void finishSweep() {
+        pageCursor = 0;
+        Set<Long> visited = new HashSet<>(visitedInSweep);
+        observedWatermarks.keySet().retainAll(visited);
+        checkpoints.keySet().retainAll(visited);
+        visitedInSweep.clear();
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return meterRegistry.counter("seat.reconciliation.concerts", "result", result);
+    }
+
+    /**
+     * DB 집계로 검증된 콘서트 상태
+     */
+    record Checkpoint(LocalDateTime watermark, Map<String, Long> remainingBySection) {
+    }
+
+    /**
+     * 실행 결과
+     */
+    public record ReconcileResult(int matched, int repaired, int inFlight, int uninitialized,
+                                  long dbRowsRead, boolean budgetExhausted) {
+    }
+
+    private static final class Tally {
+        private int matched;
+        private int repaired;
+        private int inFlight;
+        private int uninitialized;
+    }
+
+    /**
+     * 실행당 DB 읽기 예산 (행 수)
+     */
+    private static final class Budget {
+        private final long limit;
+        private long used;
+        private int aggregated;
+        private boolean exhausted;
+
+        private Budget(long limit) {
+            this.limit = limit;
+        }
+
+        private boolean canAfford(long rows) {
+            return used + rows <= limit;
+        }
+
+        private void charge(long rows) {
+            used += rows;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package kr.hhplus.be.server.benchmark;
+
+import kr.hhplus.be.server.balance.domain.Balance;
+import kr.hhplus.be.server.balance.repository.BalanceRepository;
+import kr.hhplus.be.server.balance.service.BalanceService;
+import kr.hhplus.be.server.common.lock.DistributedLockService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 잔액 차감 방식 비교 벤치마크
+ *
+ * - LOCKED: 기존 결제 경로 (사용자 잔액 분산락 + 잔액 확인 쿼리 + SELECT ... FOR UPDATE 차감)
+ * - ATOMIC: 조건부 원자적 차감 (UPDATE ... WHERE amount >= ?)
+ *
+ * 방식 x 경합 프로파일(한 사용자 집중 / Zipf 분포)마다 처리량, p50/p99 지연 시간,
+ * 실패율(정상 거절인 "잔액 부족" 제외)을 측정하고, 차감 합계와 잔액 변화가 일치하며 음수 잔액이 없는지 검증한다.
+ *
+ * 실행: ./gradlew benchmark -Dbenchmark.threads=32 -Dbenchmark.attempts=2000
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+class BalanceDeductionBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceDeductionBenchmark.class);
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 32);
+    private static final int ATTEMPTS = Integer.getInteger("benchmark.attempts", 2000);
+    private static final int USERS = Integer.getInteger("benchmark.users", 50);
+    private static final BigDecimal PRICE = BigDecimal.valueOf(1000);
+    // 사용자당 초기 잔액 (결제 가능 횟수) - 한 사용자 집중 시 일부는 잔액 부족으로 거절된다
+    private static final int PAYMENTS_PER_USER = Integer.getInteger("benchmark.paymentsPerUser", ATTEMPTS / 2);
+
+    private static final String SUCCESS = "success";
+    private static final String INSUFFICIENT = "insufficient";
+    private static final String LOCK_BUSY = "lockBusy";
+    private static final String ERROR = "error";
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Autowired
+    private BalanceRepository balanceRepository;
+
+    @Autowired
+    private DistributedLockService distributedLockService;
+
+    enum DeductionMode {
+        LOCKED, ATOMIC
+    }
+
+    enum ContentionProfile {
+        SAME_USER, ZIPFIAN
+    }
+
+    @Test
+    @DisplayName("차감 방식별/경합 프로파일별 처리량, 지연 시간, 실패율 비교")
+    void compareDeductionModes() throws InterruptedException {
+        List<BenchmarkReport> reports = new ArrayList<>();
+
+        for (DeductionMode mode : DeductionMode.values()) {
+            for (ContentionProfile profile : ContentionProfile.values()) {
+                reports.add(run(mode, profile));
+            }
+        }
+
+        log.info("=== 잔액 차감 방식 벤치마크 (threads={}, attempts={}, users={}) ===", THREADS, ATTEMPTS, USERS);
+        for (BenchmarkReport report : reports) {
+            log.info("{}  failureRate={}%", report.summary(),
+                    String.format("%.2f", report.rate(LOCK_BUSY, ERROR) * 100));
+        }
+    }
+
+    private BenchmarkReport run(DeductionMode mode, ContentionProfile profile) throws InterruptedException {
+        String prefix = "bench-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        BigDecimal initialAmount = PRICE.multiply(BigDecimal.valueOf(PAYMENTS_PER_USER));
+        List<Balance> balances = new ArrayList<>();
+        for (int user = 0; user < USERS; user++) {
+            balances.add(new Balance(prefix + user, initialAmount));
+        }
+        balanceRepository.saveAll(balances);
+
+        BenchmarkReport report = new BenchmarkReport(mode + "/" + profile, SUCCESS, INSUFFICIENT, LOCK_BUSY, ERROR);
+        ZipfianGenerator zipfian = new ZipfianGenerator(USERS, 1.1);
+        AtomicInteger issued = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    Random random = ThreadLocalRandom.current();
+                    int attempt;
+                    while ((attempt = issued.getAndIncrement()) < ATTEMPTS) {
+                        int user = switch (profile) {
+                            case SAME_USER -> 0;
+                            case ZIPFIAN -> zipfian.next(random) - 1;
+                        };
+                        String userId = prefix + user;
+
+                        long begin = System.nanoTime();
+                        String outcome = deduct(mode, userId, "bench-res-" + attempt);
+                        report.record(outcome, System.nanoTime() - begin);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await(10, TimeUnit.MINUTES);
+        report.finish(System.nanoTime() - begin);
+        executor.shutdown();
+
+        // 정합성 검증: 음수 잔액 없음, 잔액 감소 합계 = 성공 횟수 x 결제 금액
+        BigDecimal deducted = BigDecimal.ZERO;
+        for (int user = 0; user < USERS; user++) {
+            BigDecimal amount = balanceRepository.getAmountByUserId(prefix + user);
+            assertThat(amount).isGreaterThanOrEqualTo(BigDecimal.ZERO);
+            deducted = deducted.add(initialAmount.subtract(amount));
+        }
+        assertThat(deducted).isEqualByComparingTo(PRICE.multiply(BigDecimal.valueOf(report.count(SUCCESS))));
+        return report;
+    }
+
+    private String deduct(DeductionMode mode, String userId, String reservationId) {
+        try {
+            return switch (mode) {
+                case LOCKED -> deductWithLocks(userId, reservationId);
+                case ATOMIC -> balanceService.deductBalanceWithCondition(userId, PRICE, reservationId).isPresent()
+                        ? SUCCESS : INSUFFICIENT;
+            };
+        } catch (IllegalArgumentException e) {
+            return e.getMessage() != null && e.getMessage().contains("잔액이 부족합니다") ? INSUFFICIENT : ERROR;
+        } catch (RuntimeException e) {
+            log.debug("벤치마크 차감 오류: {}", e.getMessage());
+            return ERROR;
+        }
+    }
+
+    // 기존 결제 경로와 같은 순서: 사용자 잔액 분산락 -> 잔액 확인 -> 비관적 락 차감
+    private String deductWithLocks(String userId, String reservationId) {
+        String lockKey = "payment:balance:" + userId;
+        String lockValue = userId + "_" + UUID.randomUUID();
+        if (!distributedLockService.tryLock(lockKey, lockValue, 10)) {
+            return LOCK_BUSY;
+        }
+        try {
+            if (!balanceService.hasEnoughBalance(userId, PRICE)) {
+                return INSUFFICIENT;
+            }
+            balanceService.deductBalance(userId, PRICE, reservationId);
+            return SUCCESS;
+        } finally {
+            distributedLockService.unlock(lockKey, lockValue);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package kr.hhplus.be.server.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크 측정값 수집 및 요약 출력
+ * 스레드 안전하게 지연 시간과 결과 종류별 횟수를 기록한다.
+ */
+public class BenchmarkReport {
+
+    private final String name;
+    private final ConcurrentLinkedQueue<Long> latenciesNanos = new ConcurrentLinkedQueue<>();
+    private final Map<String, AtomicLong> outcomes = new LinkedHashMap<>();
+    private long elapsedNanos;
+
+    public BenchmarkReport(String name, String... outcomeNames) {
+        this.name = name;
+        for (String outcome : outcomeNames) {
+            outcomes.put(outcome, new AtomicLong());
+        }
+    }
+
+    public void record(String outcome, long latencyNanos) {
+        latenciesNanos.add(latencyNanos);
+        outcomes.get(outcome).incrementAndGet();
+    }
+
+    public void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long count(String outcome) {
+        return outcomes.get(outcome).get();
+    }
+
+    public long total() {
+        return latenciesNanos.size();
+    }
+
+    public double throughputPerSecond() {
+        return elapsedNanos == 0 ? 0 : total() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * 지연 시간 백분위 (밀리초)
+     */
+    public double percentileMillis(double percentile) {
+        long[] sorted = latenciesNanos.stream().mapToLong(Long::longValue).toArray();
+        if (sorted.length == 0) {
+            return 0;
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    public double rate(String... outcomeNames) {
+        long sum = 0;
+        for (String outcome : outcomeNames) {
+            sum += count(outcome);
+        }
+        return total() == 0 ? 0 : (double) sum / total();
+    }
+
+    public String summary() {
+        List<String> counts = new ArrayList<>();
+        outcomes.forEach((outcome, count) -> counts.add(outcome + "=" + count.get()));
+        return String.format("%-40s ops=%6d  throughput=%9.1f/s  p50=%8.2fms  p99=%8.2fms  %s",
+                name, total(), throughputPerSecond(), percentileMillis(50), percentileMillis(99),
+                String.join(" ", counts));
+    }
+}
@@ -0,0 +1,106 @@
+package kr.hhplus.be.server.benchmark;
+
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.dto.ConcertResponseDto;
+import kr.hhplus.be.server.concert.search.ConcertSearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 콘서트 검색 색인 지연 시간 벤치마크 (기본 100만 건)
+ *
+ * 제목/공연장에 흔한 단어("콘서트", "Tour", "홀")가 반복되는 색인에서 한 글자(입력 중), 두 글자, 단어, 드문 검색어의
+ * 조회 지연 시간을 측정한다. 목표: p99 5ms 미만 (-Dbenchmark.search.target-ms로 조정)
+ *
+ * 실행: ./gradlew benchmark --tests '*ConcertSearchBenchmark' -Dbenchmark.concerts=1000000
+ */
+@Tag("benchmark")
+class ConcertSearchBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcertSearchBenchmark.class);
+
+    private static final int CONCERTS = Integer.getInteger("benchmark.concerts", 1_000_000);
+    private static final int QUERIES = Integer.getInteger("benchmark.search.queries", 2_000);
+    private static final int WARMUP = Integer.getInteger("benchmark.search.warmup", 10_000);
+    private static final double TARGET_MILLIS = Double.parseDouble(System.getProperty("benchmark.search.target-ms", "5"));
+    private static final int LIMIT = 20;
+
+    private static final String[] ARTIST_SYLLABLES = {"아", "이", "유", "방", "탄", "소", "년", "단", "블", "랙", "핑", "크"};
+    private static final String[] TITLE_WORDS = {"콘서트", "Tour", "Live", "팬미팅", "World", "앙코르", "Festival"};
+    private static final String[] VENUES = {"올림픽홀", "체조경기장", "잠실주경기장", "고척돔", "블루스퀘어", "KSPO DOME"};
+
+    private static final String[] SINGLE = {"a", "o", "콘", "홀", "아", "t"};
+    private static final String[] DOUBLE = {"콘서", "to", "li", "경기", "아이", "방탄"};
+    private static final String[] WORDS = {"콘서트", "tour", "올림픽홀", "festival", "아이유", "팬미팅"};
+    private static final String[] RARE = {"artist-777", "아이유방탄", "nomatch", "zzz"};
+
+    @Test
+    @DisplayName("100만 건 색인에서 검색어 유형별 조회 지연 시간 측정")
+    void measureSearchLatency() {
+        ConcertSearchIndex index = new ConcertSearchIndex();
+        long buildStart = System.nanoTime();
+        index.replace(generate(CONCERTS), index.markRebuildStart());
+        log.info("색인 생성: concerts={}, elapsed={}ms", index.size(), (System.nanoTime() - buildStart) / 1_000_000);
+
+        List<BenchmarkReport> reports = List.of(
+                run(index, "single-char", SINGLE),
+                run(index, "two-chars", DOUBLE),
+                run(index, "word", WORDS),
+                run(index, "rare", RARE));
+
+        log.info("=== 콘서트 검색 벤치마크 (concerts={}, limit={}) ===", CONCERTS, LIMIT);
+        reports.forEach(report -> log.info(report.summary()));
+        reports.forEach(report -> assertThat(report.percentileMillis(99))
+                .as(report.getName() + " p99")
+                .isLessThan(TARGET_MILLIS));
+    }
+
+    private BenchmarkReport run(ConcertSearchIndex index, String name, String[] queries) {
+        BenchmarkReport report = new BenchmarkReport(name, "hit", "empty");
+        // 워밍업 (JIT 컴파일이 측정 중에 끼어들지 않도록 검색어마다 충분히 반복)
+        for (int i = 0; i < WARMUP; i++) {
+            index.search(queries[i % queries.length], LIMIT);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            long queryStart = System.nanoTime();
+            List<ConcertResponseDto> result = index.search(queries[i % queries.length], LIMIT).orElseThrow();
+            report.record(result.isEmpty() ? "empty" : "hit", System.nanoTime() - queryStart);
+        }
+        report.finish(System.nanoTime() - start);
+        return report;
+    }
+
+    private static List<ConcertResponseDto> generate(int count) {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        List<ConcertResponseDto> concerts = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            String artist = i % 1000 == 777
+                    ? "artist-" + (i % 10_000)
+                    : ARTIST_SYLLABLES[random.nextInt(ARTIST_SYLLABLES.length)]
+                            + ARTIST_SYLLABLES[random.nextInt(ARTIST_SYLLABLES.length)]
+                            + ARTIST_SYLLABLES[random.nextInt(ARTIST_SYLLABLES.length)];
+            String title = artist + " " + TITLE_WORDS[random.nextInt(TITLE_WORDS.length)]
+                    + " " + (2026 + random.nextInt(3));
+            Concert concert = new Concert(title, artist, VENUES[random.nextInt(VENUES.length)],
+                    today.plusDays(1 + random.nextInt(365)), LocalTime.of(18 + random.nextInt(3), 0), 100);
+            ReflectionTestUtils.setField(concert, "concertId", (long) i);
+            concerts.add(ConcertResponseDto.from(concert));
+        }
+        return concerts;
+    }
+}
@@ -0,0 +1,133 @@
+package kr.hhplus.be.server.benchmark;
+
+import kr.hhplus.be.server.common.id.TimeOrderedIds;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 예약 ID 형식별 삽입 처리량 벤치마크
+ *
+ * reservations와 같은 구조(보조 인덱스 포함)의 임시 테이블 두 개에 같은 행 수를 삽입한다.
+ * - varchar_v4: VARCHAR(36) 랜덤 UUID 문자열 PK (기존 방식)
+ * - binary_v7 : BINARY(16) UUIDv7 PK (현재 방식)
+ *
+ * 행 수가 버퍼 풀을 넘어서면 랜덤 PK는 페이지 분할과 디스크 읽기로 처리량이 급격히 떨어진다.
+ * 100만 행 구간별 처리량과 최종 데이터/인덱스 크기를 출력한다.
+ *
+ * 실행: ./gradlew benchmark --tests '*ReservationIdInsertBenchmark' -Dbenchmark.rows=10000000
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+class ReservationIdInsertBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationIdInsertBenchmark.class);
+
+    private static final long ROWS = Long.getLong("benchmark.rows", 10_000_000L);
+    private static final int ROWS_PER_STATEMENT = 1_000;
+    private static final long REPORT_WINDOW = 1_000_000L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void dropTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_reservations_varchar_v4");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_reservations_binary_v7");
+    }
+
+    @Test
+    @DisplayName("VARCHAR(36) 랜덤 UUID vs BINARY(16) UUIDv7 삽입 처리량 비교")
+    void compareInsertThroughput() {
+        createTable("bench_reservations_varchar_v4", "VARCHAR(36)");
+        createTable("bench_reservations_binary_v7", "BINARY(16)");
+
+        insertRows("bench_reservations_varchar_v4", () -> UUID.randomUUID().toString());
+        insertRows("bench_reservations_binary_v7", () -> TimeOrderedIds.toBytes(TimeOrderedIds.newUuid()));
+
+        for (String table : List.of("bench_reservations_varchar_v4", "bench_reservations_binary_v7")) {
+            jdbcTemplate.execute("ANALYZE TABLE " + table);
+            Map<String, Object> size = jdbcTemplate.queryForMap(
+                    "SELECT data_length, index_length FROM information_schema.tables " +
+                            "WHERE table_schema = DATABASE() AND table_name = ?", table);
+            log.info("{}: data={}MB, secondaryIndexes={}MB", table,
+                    toMegabytes(size.get("data_length")), toMegabytes(size.get("index_length")));
+        }
+    }
+
+    private void createTable(String table, String idType) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        jdbcTemplate.execute("CREATE TABLE " + table + " (" +
+                "reservation_id " + idType + " NOT NULL PRIMARY KEY, " +
+                "user_id VARCHAR(50) NOT NULL, " +
+                "concert_id BIGINT NOT NULL, " +
+                "seat_id BIGINT NOT NULL, " +
+                "status VARCHAR(30) NOT NULL, " +
+                "price DECIMAL(10,2) NOT NULL, " +
+                "created_at DATETIME(6) NOT NULL, " +
+                "expires_at DATETIME(6) NOT NULL, " +
+                "KEY idx_user (user_id), " +
+                "KEY idx_concert_status (concert_id, status)" +
+                ") ENGINE=InnoDB");
+    }
+
+    private void insertRows(String table, Supplier<Object> idSupplier) {
+        String placeholders = "(?, ?, ?, ?, 'TEMPORARILY_ASSIGNED', 50000, ?, ?)";
+        StringBuilder sql = new StringBuilder("INSERT INTO " + table +
+                " (reservation_id, user_id, concert_id, seat_id, status, price, created_at, expires_at) VALUES ");
+        for (int i = 0; i < ROWS_PER_STATEMENT; i++) {
+            sql.append(i == 0 ? "" : ",").append(placeholders);
+        }
+        String statement = sql.toString();
+
+        long windowStart = System.nanoTime();
+        long totalStart = windowStart;
+        for (long inserted = 0; inserted < ROWS; inserted += ROWS_PER_STATEMENT) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            Timestamp expiresAt = Timestamp.valueOf(LocalDateTime.now().plusMinutes(5));
+            List<Object> args = new ArrayList<>(ROWS_PER_STATEMENT * 6);
+            for (int i = 0; i < ROWS_PER_STATEMENT; i++) {
+                args.add(idSupplier.get());
+                args.add("user-" + ThreadLocalRandom.current().nextInt(1_000_000));
+                args.add((long) ThreadLocalRandom.current().nextInt(1_000));
+                args.add((long) ThreadLocalRandom.current().nextInt(100_000));
+                args.add(now);
+                args.add(expiresAt);
+            }
+            jdbcTemplate.update(statement, args.toArray());
+
+            long done = inserted + ROWS_PER_STATEMENT;
+            if (done % REPORT_WINDOW == 0) {
+                long windowNanos = System.nanoTime() - windowStart;
+                log.info("{}: rows={} windowThroughput={}/s", table, done,
+                        String.format("%.0f", REPORT_WINDOW * 1_000_000_000.0 / windowNanos));
+                windowStart = System.nanoTime();
+            }
+        }
+
+        long totalNanos = System.nanoTime() - totalStart;
+        log.info("{}: total rows={} averageThroughput={}/s", table, ROWS,
+                String.format("%.0f", ROWS * 1_000_000_000.0 / totalNanos));
+    }
+
+    private static String toMegabytes(Object bytes) {
+        return String.format("%.1f", ((Number) bytes).longValue() / 1024.0 / 1024.0);
+    }
+}
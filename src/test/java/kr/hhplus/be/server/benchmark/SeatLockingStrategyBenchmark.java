@@ -0,0 +1,186 @@
+package kr.hhplus.be.server.benchmark;
+
+import kr.hhplus.be.server.reservation.command.ReserveSeatCommand;
+import kr.hhplus.be.server.reservation.exception.ConcurrentReservationException;
+import kr.hhplus.be.server.reservation.repository.ReservationRepository;
+import kr.hhplus.be.server.reservation.service.ReservationService;
+import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.exception.SeatAlreadyAssignedException;
+import kr.hhplus.be.server.seat.lock.SeatLockingStrategyRegistry;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import kr.hhplus.be.server.seat.service.SeatAvailabilityFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 동시성 제어 전략 비교 벤치마크
+ *
+ * 전략 x 경합 프로파일(동일 좌석 / 균등 분포 / Zipf 분포)마다 처리량, p50/p99 지연 시간,
+ * 실패율(정상 거절인 "이미 선점" 제외)을 측정하고, 좌석 중복 배정이 없는지 검증한다.
+ *
+ * 실행: ./gradlew benchmark -Dbenchmark.threads=32 -Dbenchmark.attempts=2000
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+class SeatLockingStrategyBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatLockingStrategyBenchmark.class);
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 32);
+    private static final int ATTEMPTS = Integer.getInteger("benchmark.attempts", 2000);
+    private static final int SEATS = Integer.getInteger("benchmark.seats", 200);
+
+    private static final String SUCCESS = "success";
+    private static final String TAKEN = "taken";
+    private static final String LOCK_BUSY = "lockBusy";
+    private static final String CONFLICT = "conflict";
+    private static final String ERROR = "error";
+
+    private static final AtomicLong CONCERT_SEQUENCE = new AtomicLong(System.currentTimeMillis() % 1_000_000 * 1_000);
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SeatLockingStrategyRegistry strategyRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    enum ContentionProfile {
+        SAME_SEAT, UNIFORM, ZIPFIAN
+    }
+
+    @Test
+    @DisplayName("전략별/경합 프로파일별 처리량, 지연 시간, 실패율 비교")
+    void compareStrategies() throws InterruptedException {
+        List<BenchmarkReport> reports = new ArrayList<>();
+
+        for (String strategyName : strategyRegistry.getNames()) {
+            for (ContentionProfile profile : ContentionProfile.values()) {
+                reports.add(run(strategyName, profile));
+            }
+        }
+
+        log.info("=== 좌석 동시성 제어 전략 벤치마크 (threads={}, attempts={}, seats={}) ===", THREADS, ATTEMPTS, SEATS);
+        for (BenchmarkReport report : reports) {
+            log.info("{}  failureRate={}%", report.summary(),
+                    String.format("%.2f", report.rate(LOCK_BUSY, CONFLICT, ERROR) * 100));
+        }
+    }
+
+    private BenchmarkReport run(String strategyName, ContentionProfile profile) throws InterruptedException {
+        Long concertId = CONCERT_SEQUENCE.incrementAndGet();
+        List<Seat> seats = new ArrayList<>();
+        for (int seatNumber = 1; seatNumber <= SEATS; seatNumber++) {
+            seats.add(new Seat(concertId, seatNumber, BigDecimal.valueOf(50000)));
+        }
+        seatRepository.saveAll(seats);
+
+        // 로컬 선점 필터는 끄고 전략 자체의 비용만 측정
+        ReservationService service = new ReservationService(
+                seatRepository, reservationRepository, eventPublisher,
+                new SeatAvailabilityFilter(0, false),
+                new SeatLockingStrategyRegistry(List.of(strategyRegistry.get(strategyName)), strategyName),
+                transactionManager, 500, 20);
+
+        BenchmarkReport report = new BenchmarkReport(strategyName + "/" + profile,
+                SUCCESS, TAKEN, LOCK_BUSY, CONFLICT, ERROR);
+        Map<Integer, AtomicInteger> successesBySeat = new ConcurrentHashMap<>();
+        ZipfianGenerator zipfian = new ZipfianGenerator(SEATS, 1.1);
+        AtomicInteger issued = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    Random random = ThreadLocalRandom.current();
+                    int attempt;
+                    while ((attempt = issued.getAndIncrement()) < ATTEMPTS) {
+                        int seatNumber = switch (profile) {
+                            case SAME_SEAT -> 1;
+                            case UNIFORM -> random.nextInt(SEATS) + 1;
+                            case ZIPFIAN -> zipfian.next(random);
+                        };
+                        ReserveSeatCommand command = new ReserveSeatCommand("bench-" + attempt, concertId, seatNumber);
+
+                        long begin = System.nanoTime();
+                        String outcome = reserve(service, command);
+                        report.record(outcome, System.nanoTime() - begin);
+
+                        if (SUCCESS.equals(outcome)) {
+                            successesBySeat.computeIfAbsent(seatNumber, k -> new AtomicInteger()).incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await(10, TimeUnit.MINUTES);
+        report.finish(System.nanoTime() - begin);
+        executor.shutdown();
+
+        // 정합성 검증: 좌석당 성공은 최대 1회, DB의 임시 배정 좌석 수와 성공 수가 일치
+        assertThat(successesBySeat.values()).allSatisfy(count -> assertThat(count.get()).isLessThanOrEqualTo(1));
+        assertThat(seatRepository.countByConcertIdAndStatus(concertId, Seat.SeatStatus.TEMPORARILY_ASSIGNED))
+                .isEqualTo(report.count(SUCCESS));
+        return report;
+    }
+
+    private String reserve(ReservationService service, ReserveSeatCommand command) {
+        try {
+            service.reserveSeat(command);
+            return SUCCESS;
+        } catch (SeatAlreadyAssignedException e) {
+            return TAKEN;
+        } catch (ConcurrentReservationException e) {
+            return CONFLICT;
+        } catch (RuntimeException e) {
+            if ("다른 사용자가 처리 중입니다. 잠시 후 재시도해주세요.".equals(e.getMessage())) {
+                return LOCK_BUSY;
+            }
+            log.debug("벤치마크 예약 오류: {}", e.getMessage());
+            return ERROR;
+        }
+    }
+}
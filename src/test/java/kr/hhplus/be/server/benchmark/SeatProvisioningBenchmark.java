@@ -0,0 +1,93 @@
+package kr.hhplus.be.server.benchmark;
+
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.service.ConcertRegistrationService;
+import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.domain.VenueLayout;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 일괄 생성 벤치마크
+ *
+ * - JPA saveAll (IDENTITY → 좌석당 INSERT 1회): 기본 1만 석
+ * - 콘서트 등록 → SeatProvisioningService (JDBC 배치 + rewriteBatchedStatements): 기본 10만 석
+ * 초당 생성 좌석 수로 비교한다.
+ *
+ * 실행: ./gradlew benchmark --tests '*SeatProvisioningBenchmark' -Dbenchmark.seats=100000
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+class SeatProvisioningBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatProvisioningBenchmark.class);
+
+    private static final int BULK_SEATS = Integer.getInteger("benchmark.seats", 100_000);
+    private static final int JPA_SEATS = Integer.getInteger("benchmark.jpa-seats", 10_000);
+
+    @Autowired
+    private ConcertRegistrationService concertRegistrationService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("JPA saveAll vs JDBC 배치 좌석 생성 처리량 비교")
+    void compareProvisioning() {
+        long concertBase = System.currentTimeMillis() % 1_000_000 * 1_000;
+        BigDecimal price = BigDecimal.valueOf(50000);
+
+        // JPA saveAll (IDENTITY)
+        Long jpaConcertId = concertBase + 1;
+        long jpaStart = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Seat> seats = new ArrayList<>(JPA_SEATS);
+            for (int seatNumber = 1; seatNumber <= JPA_SEATS; seatNumber++) {
+                seats.add(new Seat(jpaConcertId, seatNumber, price));
+            }
+            seatRepository.saveAll(seats);
+        });
+        long jpaNanos = System.nanoTime() - jpaStart;
+
+        // JDBC 배치 (콘서트 등록 경로, 배치 템플릿 스트리밍)
+        VenueLayout layout = VenueLayout.of(
+                new VenueLayout.Block("VIP", 100, BULK_SEATS / 1000, BigDecimal.valueOf(150000)),
+                new VenueLayout.Block("R", 900, BULK_SEATS / 1000, price)
+        );
+        long bulkStart = System.nanoTime();
+        Long bulkConcertId = concertRegistrationService.registerConcert(
+                new Concert("벤치마크 콘서트", "벤치마크", "벤치마크 홀",
+                        LocalDate.now().plusDays(30), LocalTime.of(19, 0), layout.getTotalSeats()),
+                layout).getConcertId();
+        long bulkNanos = System.nanoTime() - bulkStart;
+        long created = seatRepository.countByConcertId(bulkConcertId);
+
+        log.info("=== 좌석 일괄 생성 벤치마크 ===");
+        log.info("JPA saveAll : seats={} elapsed={}ms throughput={}/s",
+                JPA_SEATS, jpaNanos / 1_000_000, String.format("%.0f", JPA_SEATS * 1e9 / jpaNanos));
+        log.info("JDBC batch  : seats={} elapsed={}ms throughput={}/s",
+                created, bulkNanos / 1_000_000, String.format("%.0f", created * 1e9 / bulkNanos));
+
+        assertThat(created).isEqualTo(layout.getTotalSeats());
+    }
+}
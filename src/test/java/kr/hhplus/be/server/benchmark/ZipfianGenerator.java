@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.benchmark;
+
+import java.util.Random;
+
+/**
+ * 1..n 범위의 Zipf 분포 난수 생성기 (누적 분포 + 이진 탐색)
+ * 소수의 인기 좌석에 요청이 몰리는 상황을 재현한다.
+ */
+public class ZipfianGenerator {
+
+    private final double[] cumulative;
+
+    public ZipfianGenerator(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int i = 1; i <= n; i++) {
+            sum += 1.0 / Math.pow(i, exponent);
+            cumulative[i - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    public int next(Random random) {
+        double value = random.nextDouble();
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low + 1;
+    }
+}
@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedIdsTest {
+
+    @Test
+    @DisplayName("UUIDv7 형식(버전 7, RFC 4122 variant)으로 생성된다")
+    void whenGenerated_ThenShouldBeVersion7() {
+        UUID uuid = TimeOrderedIds.newUuid();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.toString()).matches("^[0-9a-f]{8}-[0-9a-f]{4}-7[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$");
+    }
+
+    @Test
+    @DisplayName("연속 생성된 ID의 바이트 표현은 단조 증가한다 (같은 밀리초 포함)")
+    void whenGeneratedInSequence_ThenBytesShouldBeIncreasing() {
+        byte[] previous = TimeOrderedIds.toBytes(TimeOrderedIds.newUuid());
+
+        for (int i = 0; i < 10_000; i++) {
+            byte[] current = TimeOrderedIds.toBytes(TimeOrderedIds.newUuid());
+            assertThat(Arrays.compareUnsigned(current, previous)).isPositive();
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("BINARY(16) 변환은 왕복 시 원래 값과 같다")
+    void whenConvertedToBytesAndBack_ThenShouldBeEqual() {
+        UUID uuid = TimeOrderedIds.newUuid();
+        UuidBinaryConverter converter = new UuidBinaryConverter();
+
+        assertThat(TimeOrderedIds.fromBytes(TimeOrderedIds.toBytes(uuid))).isEqualTo(uuid);
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(uuid.toString())))
+                .isEqualTo(uuid.toString());
+    }
+
+    @Test
+    @DisplayName("UUID 형식이 아닌 문자열 ID는 파싱되지 않는다")
+    void whenIdIsNotUuid_ThenParseShouldBeEmpty() {
+        assertThat(TimeOrderedIds.parse("reservation-123")).isEmpty();
+        assertThat(TimeOrderedIds.parse(null)).isEmpty();
+        assertThat(TimeOrderedIds.parse(TimeOrderedIds.newId())).isPresent();
+    }
+}
@@ -0,0 +1,228 @@
+package kr.hhplus.be.server.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    private IdempotencyFilter idempotencyFilter;
+    private MockHttpServletRequest request;
+    private final AtomicInteger executions = new AtomicInteger();
+    private final AtomicReference<String> receivedBody = new AtomicReference<>();
+
+    private static final String BODY = "{\"reservationId\":\"res-1\",\"userId\":\"user-1\"}";
+
+    @BeforeEach
+    void setUp() {
+        idempotencyFilter = new IdempotencyFilter(idempotencyStore, new ObjectMapper(), true, 30, 24);
+        request = paymentRequest(BODY);
+    }
+
+    @Test
+    @DisplayName("첫 요청은 실행 후 응답을 저장한다")
+    void whenFirstRequest_ThenShouldExecuteAndStoreResponse() throws Exception {
+        // given
+        given(idempotencyStore.tryBegin(anyString(), anyString(), anyString(), any())).willReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyFilter.doFilter(request, response, chainWriting(200, "{\"paymentId\":\"p-1\"}"));
+
+        // then
+        ArgumentCaptor<StoredResponse> captor = ArgumentCaptor.forClass(StoredResponse.class);
+        verify(idempotencyStore).complete(anyString(), eq(fingerprintOf(BODY)), anyString(), captor.capture(), any());
+        assertThat(captor.getValue().status()).isEqualTo(200);
+        assertThat(captor.getValue().body()).isEqualTo("{\"paymentId\":\"p-1\"}");
+        assertThat(captor.getValue().fingerprint()).isEqualTo(fingerprintOf(BODY));
+        assertThat(response.getContentAsString()).isEqualTo("{\"paymentId\":\"p-1\"}");
+        assertThat(executions).hasValue(1);
+        // 지문 계산에 읽은 본문을 컨트롤러도 그대로 받는다
+        assertThat(receivedBody).hasValue(BODY);
+    }
+
+    @Test
+    @DisplayName("완료된 키로 재시도하면 실행 없이 저장된 응답을 반환한다")
+    void whenCompletedKeyRetried_ThenShouldReplayWithoutExecuting() throws Exception {
+        // given
+        given(idempotencyStore.tryBegin(anyString(), anyString(), anyString(), any())).willReturn(false);
+        given(idempotencyStore.find(anyString())).willReturn(Optional.of(new IdempotencyRecord(fingerprintOf(BODY),
+                new StoredResponse(200, "application/json", "{\"paymentId\":\"p-1\"}", fingerprintOf(BODY)))));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyFilter.doFilter(request, response, chainWriting(200, "{}"));
+
+        // then
+        assertThat(executions).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("{\"paymentId\":\"p-1\"}");
+    }
+
+    @Test
+    @DisplayName("첫 요청이 처리 중이면 409로 거절한다")
+    void whenKeyInFlight_ThenShouldRejectWithConflict() throws Exception {
+        // given
+        given(idempotencyStore.tryBegin(anyString(), anyString(), anyString(), any())).willReturn(false);
+        given(idempotencyStore.find(anyString()))
+                .willReturn(Optional.of(new IdempotencyRecord(fingerprintOf(BODY), null)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyFilter.doFilter(request, response, chainWriting(200, "{}"));
+
+        // then
+        assertThat(executions).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_CONFLICT);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("서버 오류 응답은 저장하지 않고 처리 중 표시를 해제한다")
+    void whenServerError_ThenShouldAbandonKey() throws Exception {
+        // given
+        given(idempotencyStore.tryBegin(anyString(), anyString(), anyString(), any())).willReturn(true);
+
+        // when
+        idempotencyFilter.doFilter(request, new MockHttpServletResponse(), chainWriting(500, "{}"));
+
+        // then
+        verify(idempotencyStore).abandon(anyString(), anyString(), anyString());
+        verify(idempotencyStore, never()).complete(anyString(), anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("락 경합 409 같은 일시적 실패는 저장하지 않아 재시도가 다시 실행된다")
+    void whenTransientConflict_ThenShouldAbandonKey() throws Exception {
+        // given
+        given(idempotencyStore.tryBegin(anyString(), anyString(), anyString(), any())).willReturn(true);
+
+        // when
+        idempotencyFilter.doFilter(request, new MockHttpServletResponse(), chainWriting(409, "{}"));
+
+        // then
+        verify(idempotencyStore).abandon(anyString(), anyString(), anyString());
+        verify(idempotencyStore, never()).complete(anyString(), anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 키라도 본문의 사용자가 다르면 다른 범위로 저장한다")
+    void whenDifferentUsersUseSameKey_ThenShouldUseDifferentScopes() throws Exception {
+        // given
+        given(idempotencyStore.tryBegin(anyString(), anyString(), anyString(), any())).willReturn(true);
+        MockHttpServletRequest otherUser = paymentRequest("{\"reservationId\":\"res-1\",\"userId\":\"user-2\"}");
+
+        // when
+        idempotencyFilter.doFilter(request, new MockHttpServletResponse(), chainWriting(200, "{}"));
+        idempotencyFilter.doFilter(otherUser, new MockHttpServletResponse(), chainWriting(200, "{}"));
+
+        // then
+        ArgumentCaptor<String> scopes = ArgumentCaptor.forClass(String.class);
+        verify(idempotencyStore, times(2)).tryBegin(scopes.capture(), anyString(), anyString(), any());
+        assertThat(scopes.getAllValues().get(0)).isNotEqualTo(scopes.getAllValues().get(1));
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("같은 키에 다른 본문이 오면 이전 응답을 재사용하지 않고 422로 거절한다")
+    void whenKeyReusedWithDifferentBody_ThenShouldRejectWithUnprocessableEntity() throws Exception {
+        // given
+        given(idempotencyStore.tryBegin(anyString(), anyString(), anyString(), any())).willReturn(false);
+        given(idempotencyStore.find(anyString())).willReturn(Optional.of(new IdempotencyRecord("other-body",
+                new StoredResponse(200, "application/json", "{\"paymentId\":\"p-1\"}", "other-body"))));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyFilter.doFilter(request, response, chainWriting(200, "{}"));
+
+        // then
+        assertThat(executions).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("멱등 키 저장소 오류 시 멱등 처리 없이 그대로 실행한다")
+    void whenStoreUnavailable_ThenShouldExecuteWithoutIdempotency() throws Exception {
+        // given
+        given(idempotencyStore.tryBegin(anyString(), anyString(), anyString(), any()))
+                .willThrow(new IllegalStateException("redis down"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        idempotencyFilter.doFilter(request, response, chainWriting(200, "{\"paymentId\":\"p-1\"}"));
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(receivedBody).hasValue(BODY);
+        verify(idempotencyStore, never()).complete(anyString(), anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("헤더가 없거나 대상이 아닌 API는 그대로 통과한다")
+    void whenNoHeaderOrOtherPath_ThenShouldPassThrough() throws Exception {
+        MockHttpServletRequest withoutKey = new MockHttpServletRequest("POST", "/api/payments");
+        MockHttpServletRequest otherPath = new MockHttpServletRequest("POST", "/api/queue/token");
+        otherPath.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "retry-1");
+
+        idempotencyFilter.doFilter(withoutKey, new MockHttpServletResponse(), chainWriting(200, "{}"));
+        idempotencyFilter.doFilter(otherPath, new MockHttpServletResponse(), chainWriting(200, "{}"));
+
+        assertThat(executions).hasValue(2);
+        verifyNoInteractions(idempotencyStore);
+    }
+
+    private MockHttpServletRequest paymentRequest(String body) {
+        MockHttpServletRequest paymentRequest = new MockHttpServletRequest("POST", "/api/payments");
+        paymentRequest.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "retry-1");
+        paymentRequest.setContentType("application/json");
+        paymentRequest.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return paymentRequest;
+    }
+
+    private static String fingerprintOf(String body) throws Exception {
+        return HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private MockFilterChain chainWriting(int status, String body) {
+        return new MockFilterChain(new jakarta.servlet.http.HttpServlet() {
+            @Override
+            protected void service(jakarta.servlet.http.HttpServletRequest req, HttpServletResponse res)
+                    throws java.io.IOException {
+                executions.incrementAndGet();
+                receivedBody.set(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+                res.setStatus(status);
+                res.setContentType("application/json");
+                res.getWriter().write(body);
+            }
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package kr.hhplus.be.server.common.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalLockCoalescerTest {
+
+    @Test
+    @DisplayName("같은 키의 두 번째 로컬 경쟁자는 Redis 호출 없이 즉시 실패한다")
+    void whenKeyHeldLocally_ThenSecondContenderShouldFailFast() throws InterruptedException {
+        LocalLockCoalescer coalescer = new LocalLockCoalescer(true);
+
+        assertThat(coalescer.acquire("seat_lock:1:15", "user-1", 0)).isTrue();
+        assertThat(coalescer.acquire("seat_lock:1:15", "user-2", 0)).isFalse();
+        assertThat(coalescer.acquire("seat_lock:1:16", "user-2", 0)).isTrue();
+
+        assertThat(coalescer.getCoalescedRequests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 중인 로컬 경쟁자는 대표가 반납하면 진행한다")
+    void whenHolderReleases_ThenWaiterShouldProceed() throws Exception {
+        LocalLockCoalescer coalescer = new LocalLockCoalescer(true);
+        coalescer.acquire("seat_lock:1:15", "user-1", 0);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Boolean> waiter = executor.submit(() -> coalescer.acquire("seat_lock:1:15", "user-2", 3000));
+
+        Thread.sleep(100);
+        coalescer.release("seat_lock:1:15", "user-1");
+
+        assertThat(waiter.get(1, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("권한이 없는 소유자의 반납은 무시되고, 사용이 끝난 키는 정리된다")
+    void whenReleasedByNonHolder_ThenShouldBeIgnored() throws InterruptedException {
+        LocalLockCoalescer coalescer = new LocalLockCoalescer(true);
+        coalescer.acquire("seat_lock:1:15", "user-1", 0);
+
+        coalescer.release("seat_lock:1:15", "user-2");
+        assertThat(coalescer.acquire("seat_lock:1:15", "user-3", 0)).isFalse();
+
+        coalescer.release("seat_lock:1:15", "user-1");
+        assertThat(coalescer.activeKeyCount()).isZero();
+    }
+}
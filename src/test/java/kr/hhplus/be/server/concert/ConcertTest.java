@@ -242,11 +242,28 @@ public class ConcertTest {
         log.info("=== 좌석 수 유효성 검증 시작 ===");
         boolean hasValidSeatCount = concert.hasValidSeatCount();
         log.info("hasValidSeatCount() 결과: {}", hasValidSeatCount);
-        log.info("좌석 수: {} (유효 범위: 1~100)", concert.getTotalSeats());
+        log.info("좌석 수: {} (유효 범위: 1~{})", concert.getTotalSeats(), Concert.MAX_TOTAL_SEATS);
 
         assertThat(hasValidSeatCount).isTrue();
         log.info("✓ 유효한 좌석 수 범위 검증 통과");
 
         log.info("=== 테스트 완료: 좌석 수가 유효한 범위에 있음 ===");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("스타디움 규모의 좌석 수는 허용되고 최대치를 넘으면 거부된다")
+    void hasValidSeatCount_StadiumSeats_ShouldBeAllowedUpToMax() {
+        // given
+        Concert stadium = new Concert(
+                "BTS World Tour", "BTS", "Jamsil Olympic Stadium",
+                LocalDate.now().plusDays(30), LocalTime.of(19, 0), 60_000
+        );
+
+        // when & then
+        assertThat(stadium.hasValidSeatCount()).isTrue();
+        assertThatThrownBy(() -> new Concert(
+                "BTS World Tour", "BTS", "Jamsil Olympic Stadium",
+                LocalDate.now().plusDays(30), LocalTime.of(19, 0), Concert.MAX_TOTAL_SEATS + 1
+        )).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,171 @@
+package kr.hhplus.be.server.concert.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.dto.ConcertResponseDto;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcertCatalogCacheTest {
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    private static final List<String> CONCERT_1_READ = List.of("concert:catalog:concert:1", "concert:catalog:generation");
+    private static final List<String> CONCERT_1_WRITE = List.of(
+            "concert:catalog:concert:1", "concert:catalog:generation", "concert:catalog:listing-keys");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private ConcertCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        // 기본: 항목 없음, 세대 키 없음
+        lenient().when(valueOperations.multiGet(anyCollection())).thenReturn(Arrays.asList(null, null));
+        cache = new ConcertCatalogCache(concertRepository, redisTemplate, objectMapper, true, 60_000, 300, 100);
+    }
+
+    @Test
+    @DisplayName("동시에 캐시 미스가 나도 DB 조회는 한 번만 수행한다")
+    void whenConcurrentMisses_ThenShouldLoadOnce() throws Exception {
+        // given - 첫 로딩이 끝나기 전에 나머지 요청이 도착하도록 DB 조회를 지연
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(concertRepository.findById(1L)).willAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(concert());
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<ConcertResponseDto>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.findConcert(1L)));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> cache.findConcert(1L)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            for (Future<Optional<ConcertResponseDto>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).get()
+                        .extracting(ConcertResponseDto::getTitle).isEqualTo("Stadium Tour");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(concertRepository, times(1)).findById(1L);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(CONCERT_1_WRITE),
+                eq("0"), anyString(), eq("300000"), eq("0"));
+    }
+
+    @Test
+    @DisplayName("Redis에 있으면 DB를 조회하지 않고, 이후 조회는 로컬 캐시에서 처리한다")
+    void whenRedisHit_ThenShouldSkipDbAndCacheLocally() throws Exception {
+        // given
+        String json = objectMapper.writeValueAsString(ConcertResponseDto.from(concert()));
+        given(valueOperations.multiGet(CONCERT_1_READ)).willReturn(Arrays.asList(json, "3"));
+
+        // when
+        cache.findConcert(1L);
+        Optional<ConcertResponseDto> result = cache.findConcert(1L);
+
+        // then
+        assertThat(result).get().extracting(ConcertResponseDto::getConcertTime).isEqualTo(LocalTime.of(19, 0));
+        verify(valueOperations, times(1)).multiGet(CONCERT_1_READ);
+        verifyNoInteractions(concertRepository);
+    }
+
+    @Test
+    @DisplayName("Redis 기록은 로딩 시작 시 읽은 세대를 조건으로 한다 (그사이 무효화되면 Lua에서 거부)")
+    void whenLoadedFromDb_ThenShouldWriteConditionedOnGenerationReadBeforeLoad() {
+        // given - 조회 시점 세대 7
+        given(valueOperations.multiGet(CONCERT_1_READ)).willReturn(Arrays.asList(null, "7"));
+        given(concertRepository.findById(1L)).willReturn(Optional.of(concert()));
+
+        // when
+        cache.findConcert(1L);
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(CONCERT_1_WRITE),
+                eq("7"), anyString(), eq("300000"), eq("0"));
+        verify(valueOperations, never()).set(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("변경 이벤트로 무효화하면 로컬/Redis 항목과 목록 키를 삭제하고 다시 로딩한다")
+    void whenInvalidated_ThenShouldEvictAndReload() {
+        // given
+        given(concertRepository.findById(1L)).willReturn(Optional.of(concert()));
+        given(setOperations.members("concert:catalog:listing-keys"))
+                .willReturn(Set.of("concert:catalog:available:0:20"));
+        cache.findConcert(1L);
+
+        // when
+        cache.invalidate(1L);
+        cache.findConcert(1L);
+
+        // then - 세대를 올린 뒤 삭제
+        verify(valueOperations).increment("concert:catalog:generation");
+        verify(redisTemplate).delete(argThat((Collection<String> keys) ->
+                keys.containsAll(List.of("concert:catalog:concert:1", "concert:catalog:listing-keys",
+                        "concert:catalog:available:0:20"))));
+        verify(concertRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 DB에서 조회한다")
+    void whenRedisUnavailable_ThenShouldFallBackToDb() {
+        given(valueOperations.multiGet(anyCollection())).willThrow(new IllegalStateException("connection refused"));
+        given(concertRepository.findById(1L)).willReturn(Optional.of(concert()));
+
+        assertThat(cache.findConcert(1L)).isPresent();
+    }
+
+    private Concert concert() {
+        return new Concert("Stadium Tour", "IU", "Jamsil Olympic Stadium",
+                LocalDate.now().plusDays(30), LocalTime.of(19, 0), 60_000);
+    }
+}
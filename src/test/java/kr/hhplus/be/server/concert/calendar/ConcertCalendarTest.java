@@ -0,0 +1,114 @@
+package kr.hhplus.be.server.concert.calendar;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.concert.calendar.ConcertCalendar.CalendarEntry;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.dto.ConcertCursor;
+import kr.hhplus.be.server.concert.dto.ConcertResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcertCalendarTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ConcertCalendar calendar = new ConcertCalendar(objectMapper);
+
+    private final LocalDate day1 = LocalDate.now().plusDays(1);
+    private final LocalDate day2 = LocalDate.now().plusDays(2);
+
+    @Test
+    @DisplayName("준비 전에는 empty, 재구성 후에는 날짜별 JSON을 시간순으로 반환하고 콘서트 없는 날짜는 빈 배열")
+    void whenReplaced_ThenShouldServeDateBuckets() throws Exception {
+        assertThat(calendar.findByDate(day1)).isEmpty();
+
+        calendar.replaceAll(List.of(
+                entry(2L, day1, LocalTime.of(20, 0), 100L),
+                entry(1L, day1, LocalTime.of(18, 0), 40L)
+        ), calendar.markRebuildStart());
+
+        JsonNode concerts = objectMapper.readTree(calendar.findByDate(day1).orElseThrow().json());
+        assertThat(concerts).hasSize(2);
+        assertThat(concerts.get(0).get("concertId").asLong()).isEqualTo(1L);
+        assertThat(concerts.get(0).get("availableSeats").asInt()).isEqualTo(40);
+        assertThat(calendar.findByDate(day2).orElseThrow().json()).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("잔여석이 바뀐 콘서트의 날짜만 다시 만들고, 잔여석 0이면 매진으로 표시한다")
+    void whenRemainingChanged_ThenShouldRenderOnlyChangedDates() throws Exception {
+        calendar.replaceAll(List.of(
+                entry(1L, day1, LocalTime.of(18, 0), 40L),
+                entry(2L, day2, LocalTime.of(18, 0), 10L)
+        ), calendar.markRebuildStart());
+
+        int rendered = calendar.applyRemaining(Map.of(1L, 40L, 2L, 0L));
+
+        assertThat(rendered).isEqualTo(1);
+        JsonNode concert = objectMapper.readTree(calendar.findByDate(day2).orElseThrow().json()).get(0);
+        assertThat(concert.get("availableSeats").asInt()).isZero();
+        assertThat(concert.get("soldOut").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커서 이후 콘서트를 날짜/시간/ID 순으로 이어서 반환한다")
+    void whenFindAfter_ThenShouldContinueFromCursor() {
+        calendar.replaceAll(List.of(
+                entry(1L, day1, LocalTime.of(18, 0), null),
+                entry(2L, day1, LocalTime.of(20, 0), null),
+                entry(3L, day2, LocalTime.of(18, 0), null)
+        ), calendar.markRebuildStart());
+
+        List<ConcertResponseDto> first = calendar.findAfter(ConcertCursor.first(LocalDate.now()), 2).orElseThrow();
+        List<ConcertResponseDto> next = calendar.findAfter(ConcertCursor.of(first.get(1)), 2).orElseThrow();
+
+        assertThat(first).extracting(ConcertResponseDto::getConcertId).containsExactly(1L, 2L);
+        assertThat(next).extracting(ConcertResponseDto::getConcertId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("공연 날짜가 바뀐 콘서트는 이전 날짜 버킷에서 빠지고 새 날짜에 추가된다")
+    void whenUpsertMovesDate_ThenShouldUpdateBothBuckets() {
+        calendar.replaceAll(List.of(entry(1L, day1, LocalTime.of(18, 0), null)), calendar.markRebuildStart());
+
+        calendar.upsert(entry(1L, day2, LocalTime.of(18, 0), null));
+
+        assertThat(calendar.findByDate(day1).orElseThrow().json()).isEqualTo("[]");
+        assertThat(calendar.findByDate(day2).orElseThrow().json()).contains("\"concertId\":1");
+    }
+
+    @Test
+    @DisplayName("재구성 중 추가/제거된 콘서트는 재구성 결과로 덮어쓰지 않는다")
+    void whenChangedDuringRebuild_ThenShouldKeepChanges() {
+        calendar.replaceAll(List.of(entry(1L, day1, LocalTime.of(18, 0), null)), calendar.markRebuildStart());
+
+        // 재구성이 스냅샷을 읽는 동안 콘서트 2가 추가되고 콘서트 1이 제거됨
+        long rebuildStart = calendar.markRebuildStart();
+        List<CalendarEntry> snapshot = List.of(entry(1L, day1, LocalTime.of(18, 0), null));
+        calendar.upsert(entry(2L, day2, LocalTime.of(18, 0), null));
+        calendar.remove(1L);
+        calendar.replaceAll(snapshot, rebuildStart);
+
+        assertThat(calendar.findByDate(day1).orElseThrow().json()).isEqualTo("[]");
+        assertThat(calendar.findByDate(day2).orElseThrow().json()).contains("\"concertId\":2");
+
+        // 다음 재구성에서는 스냅샷이 기준이 된다
+        calendar.replaceAll(List.of(entry(1L, day1, LocalTime.of(18, 0), null)), calendar.markRebuildStart());
+        assertThat(calendar.findByDate(day1).orElseThrow().json()).contains("\"concertId\":1");
+        assertThat(calendar.findByDate(day2).orElseThrow().json()).isEqualTo("[]");
+    }
+
+    private CalendarEntry entry(Long id, LocalDate date, LocalTime time, Long remaining) {
+        Concert concert = new Concert("Concert " + id, "IU", "Hall", date, time, 100);
+        ReflectionTestUtils.setField(concert, "concertId", id);
+        return new CalendarEntry(ConcertResponseDto.from(concert), List.of("GENERAL"), remaining);
+    }
+}
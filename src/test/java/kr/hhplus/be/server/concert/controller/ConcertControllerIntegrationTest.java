@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.concert.controller;
 
 import kr.hhplus.be.server.concert.dto.ConcertResponseDto;
+import kr.hhplus.be.server.concert.dto.ConcertSlice;
 import kr.hhplus.be.server.concert.service.ConcertService;
 import kr.hhplus.be.server.queue.service.QueueService;
 import org.junit.jupiter.api.DisplayName;
@@ -67,6 +68,39 @@ class ConcertControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.concerts[0].title").value("Concert 1"));
     }
 
+    @Test
+    @DisplayName("page 없이 조회하면 오프셋 방식 첫 페이지와 페이징 정보를 반환한다")
+    void getAvailableConcerts_WithoutPage_ShouldUseOffsetPaging() throws Exception {
+        // given
+        Page<ConcertResponseDto> concertPage = new PageImpl<>(
+                List.of(createTestConcertDto(1L, "Concert 1", "Artist 1")), PageRequest.of(0, 20), 1);
+        when(concertService.getAvailableConcerts(0, 20)).thenReturn(concertPage);
+
+        // when & then
+        mockMvc.perform(get("/api/concerts/available-dates")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.concerts[0].concertId").value(1))
+                .andExpect(jsonPath("$.data.pagination.totalElements").value(1));
+    }
+
+    @Test
+    @DisplayName("cursor를 지정하면 커서 방식으로 조회하고 다음 페이지 커서를 반환한다")
+    void getAvailableConcerts_WithCursor_ShouldUseKeysetPaging() throws Exception {
+        // given
+        when(concertService.getAvailableConcertsAfter("", 20)).thenReturn(
+                new ConcertSlice(List.of(createTestConcertDto(1L, "Concert 1", "Artist 1")), "next"));
+
+        // when & then
+        mockMvc.perform(get("/api/concerts/available-dates")
+                        .param("cursor", "")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.concerts[0].concertId").value(1))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.pagination").doesNotExist());
+    }
+
     @Test
     @DisplayName("콘서트 상세 조회 API 테스트")
     void getConcertById_ShouldReturnConcertDetails() throws Exception {
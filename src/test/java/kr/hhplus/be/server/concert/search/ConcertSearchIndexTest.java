@@ -0,0 +1,119 @@
+package kr.hhplus.be.server.concert.search;
+
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.dto.ConcertResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcertSearchIndexTest {
+
+    private final ConcertSearchIndex index = new ConcertSearchIndex();
+
+    @Test
+    @DisplayName("색인이 만들어지기 전에는 empty를 반환한다")
+    void whenNotBuilt_ThenShouldReturnEmpty() {
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.search("IU", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중간 포함 검색을 지원하고 아티스트 일치 > 아티스트 접두 > 제목 포함 순으로 정렬한다")
+    void whenSearch_ThenShouldMatchInfixAndRank() {
+        // given
+        index.replace(List.of(
+                concert(1L, "봄 콘서트", "아이유앤프렌즈", "올림픽홀"),
+                concert(2L, "아이유 팬미팅", "게스트", "체조경기장"),
+                concert(3L, "Golden Hour", "아이유", "잠실주경기장"),
+                concert(4L, "Jazz Night", "Trio", "블루노트")
+        ), index.markRebuildStart());
+
+        // when
+        List<ConcertResponseDto> result = index.search("아이 유", 10).orElseThrow();
+
+        // then
+        assertThat(result).extracting(ConcertResponseDto::getConcertId).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색과 대소문자/HTML 이스케이프 차이를 정규화해 찾는다")
+    void whenSingleCharOrEscapedText_ThenShouldNormalize() {
+        index.replace(List.of(
+                concert(1L, "Rock & Roll", "Band", "Hall"),
+                concert(2L, "Ballad", "IU", "Arena")
+        ), index.markRebuildStart());
+
+        assertThat(index.search("rock & roll", 10).orElseThrow())
+                .extracting(ConcertResponseDto::getConcertId).containsExactly(1L);
+        assertThat(index.search("i", 10).orElseThrow())
+                .extracting(ConcertResponseDto::getConcertId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("결과 수를 limit으로 제한한다")
+    void whenMoreMatchesThanLimit_ThenShouldTruncate() {
+        index.replace(List.of(
+                concert(1L, "Tour 1", "IU", "A"),
+                concert(2L, "Tour 2", "IU", "B"),
+                concert(3L, "Tour 3", "IU", "C")
+        ), index.markRebuildStart());
+
+        assertThat(index.search("tour", 2).orElseThrow()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("limit에서 멈춰도 필드/일치 구간 순위와 공연일 순서는 전체 점수 정렬과 같다")
+    void whenLimited_ThenShouldKeepRankingAcrossTiers() {
+        index.replace(List.of(
+                concert(1L, "A Tour", "Band", "Hall"),
+                concert(2L, "Tour Live", "B", "Hall"),
+                concert(3L, "X", "Tourists", "Hall"),
+                concert(4L, "Y", "C", "Tour Hall"),
+                concert(5L, "Z", "Tour", "Hall"),
+                concert(6L, "Tour", "D", "Hall")
+        ), index.markRebuildStart());
+
+        assertThat(index.search("tour", 4).orElseThrow())
+                .extracting(ConcertResponseDto::getConcertId).containsExactly(5L, 3L, 6L, 2L);
+        assertThat(index.search("tour", 10).orElseThrow())
+                .extracting(ConcertResponseDto::getConcertId).containsExactly(5L, 3L, 6L, 2L, 1L, 4L);
+        assertThat(index.search("t", 2).orElseThrow())
+                .extracting(ConcertResponseDto::getConcertId).containsExactly(3L, 5L);
+    }
+
+    @Test
+    @DisplayName("증분 반영된 콘서트는 스냅샷 대신 델타 기준으로 검색되고, 재색인 후에도 이후 반영분은 유지된다")
+    void whenUpsertedOrRemoved_ThenShouldOverrideSnapshot() {
+        // given
+        index.replace(List.of(concert(1L, "Old Title", "IU", "Hall")), index.markRebuildStart());
+
+        // when
+        long rebuildStart = index.markRebuildStart();
+        index.upsert(concert(1L, "New Title", "IU", "Hall"));
+        index.upsert(concert(2L, "Extra Show", "IU", "Hall"));
+
+        // then
+        assertThat(index.search("old", 10).orElseThrow()).isEmpty();
+        assertThat(index.search("new", 10).orElseThrow())
+                .extracting(ConcertResponseDto::getConcertId).containsExactly(1L);
+
+        // 재색인 시작 이후의 변경은 재색인 결과(이전 데이터)로 덮어쓰지 않음
+        index.replace(List.of(concert(1L, "Old Title", "IU", "Hall")), rebuildStart);
+        assertThat(index.search("new", 10).orElseThrow()).hasSize(1);
+
+        index.remove(1L);
+        assertThat(index.search("title", 10).orElseThrow()).isEmpty();
+    }
+
+    private ConcertResponseDto concert(Long id, String title, String artist, String venue) {
+        Concert concert = new Concert(title, artist, venue, LocalDate.now().plusDays(id), LocalTime.of(19, 0), 100);
+        ReflectionTestUtils.setField(concert, "concertId", id);
+        return ConcertResponseDto.from(concert);
+    }
+}
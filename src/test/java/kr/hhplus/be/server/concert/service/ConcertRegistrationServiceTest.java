@@ -0,0 +1,76 @@
+package kr.hhplus.be.server.concert.service;
+
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.event.ConcertChangedEvent;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.seat.domain.VenueLayout;
+import kr.hhplus.be.server.seat.service.SeatProvisioningService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcertRegistrationServiceTest {
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Mock
+    private SeatProvisioningService seatProvisioningService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ConcertRegistrationService concertRegistrationService;
+
+    @Test
+    @DisplayName("콘서트 등록 시 저장된 콘서트에 좌석을 생성하고 변경 이벤트를 발행한다")
+    void whenRegisterConcert_ThenShouldProvisionSeatsAndPublish() {
+        // given
+        Concert concert = spy(new Concert("Concert", "Artist", "Hall",
+                LocalDate.now().plusDays(30), LocalTime.of(19, 0), 50));
+        given(concert.getConcertId()).willReturn(7L);
+        VenueLayout layout = VenueLayout.uniform(50, BigDecimal.valueOf(50000));
+        given(concertRepository.save(concert)).willReturn(concert);
+        given(seatProvisioningService.provisionSeats(7L, layout)).willReturn(50);
+
+        // when
+        concertRegistrationService.registerConcert(concert, layout);
+
+        // then
+        verify(seatProvisioningService).provisionSeats(7L, layout);
+        verify(eventPublisher).publishEvent(any(ConcertChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("좌석 생성이 실패하면 변경 이벤트를 발행하지 않는다")
+    void whenProvisioningFails_ThenShouldNotPublish() {
+        // given
+        Concert concert = spy(new Concert("Concert", "Artist", "Hall",
+                LocalDate.now().plusDays(30), LocalTime.of(19, 0), 50));
+        given(concert.getConcertId()).willReturn(7L);
+        VenueLayout layout = VenueLayout.uniform(40, BigDecimal.valueOf(50000));
+        given(concertRepository.save(concert)).willReturn(concert);
+        given(seatProvisioningService.provisionSeats(7L, layout))
+                .willThrow(new IllegalArgumentException("좌석 배치 수가 콘서트 총 좌석 수와 다릅니다."));
+
+        // when & then
+        assertThatThrownBy(() -> concertRegistrationService.registerConcert(concert, layout))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -1,9 +1,16 @@
 package kr.hhplus.be.server.concert.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.concert.cache.ConcertCatalogCache;
+import kr.hhplus.be.server.concert.calendar.ConcertCalendar;
 import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.dto.ConcertCursor;
 import kr.hhplus.be.server.concert.dto.ConcertResponseDto;
+import kr.hhplus.be.server.concert.dto.ConcertSlice;
 import kr.hhplus.be.server.concert.exception.ConcertNotFoundException;
 import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.concert.search.ConcertSearchIndex;
+import kr.hhplus.be.server.seat.inventory.SeatInventoryCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +21,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,6 +30,7 @@ import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -35,12 +44,22 @@ class ConcertServiceTest {
     @Mock
     private ConcertRepository concertRepository;
 
+    @Mock
+    private SeatInventoryCounter seatInventoryCounter;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
     private ConcertService concertService;
 
     @BeforeEach
     void setUp() {
         log.info("=== 테스트 준비: ConcertService 초기화 ===");
-        concertService = new ConcertService(concertRepository);
+        // 캐시 비활성화 - 서비스 로직만 검증 (캐시 동작은 ConcertCatalogCacheTest)
+        ConcertCatalogCache concertCatalogCache = new ConcertCatalogCache(
+                concertRepository, redisTemplate, new ObjectMapper(), false, 0, 0, 0);
+        concertService = new ConcertService(concertRepository, seatInventoryCounter, concertCatalogCache,
+                new ConcertSearchIndex(), new ConcertCalendar(new ObjectMapper()));
         log.info("ConcertService 인스턴스 생성 완료");
     }
 
@@ -91,6 +110,81 @@ class ConcertServiceTest {
         log.info("=== 테스트 완료: 모든 검증 통과 ===");
     }
 
+    @Test
+    @DisplayName("잔여석 카운터상 매진된 콘서트는 목록에서 매진으로 표시된다")
+    void getAvailableConcerts_SoldOutByCounter_ShouldMarkSoldOut() {
+        // given
+        Concert concert1 = createTestConcert(1L, "Concert 1", "Artist 1");
+        Concert concert2 = createTestConcert(2L, "Concert 2", "Artist 2");
+        when(concertRepository.findAvailableConcerts(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(Arrays.asList(concert1, concert2), PageRequest.of(0, 20), 2));
+        when(seatInventoryCounter.findSoldOut(List.of(1L, 2L))).thenReturn(Set.of(2L));
+
+        // when
+        Page<ConcertResponseDto> result = concertService.getAvailableConcerts(0, 20);
+
+        // then
+        assertThat(result.getContent().get(0).isSoldOut()).isFalse();
+        assertThat(result.getContent().get(1).isSoldOut()).isTrue();
+        assertThat(result.getContent().get(1).getAvailableSeats()).isZero();
+    }
+
+    @Test
+    @DisplayName("키셋 조회는 한 건 더 읽어 다음 페이지 커서를 만들고, 커서로 다음 페이지를 이어서 조회한다")
+    void getAvailableConcertsAfter_ShouldReturnNextCursor() {
+        // given
+        Concert concert1 = createTestConcert(1L, "Concert 1", "Artist 1");
+        Concert concert2 = createTestConcert(2L, "Concert 2", "Artist 2");
+        Concert concert3 = createTestConcert(3L, "Concert 3", "Artist 3");
+        when(concertRepository.findAvailableConcertsAfter(ConcertCursor.first(LocalDate.now()), 3))
+                .thenReturn(List.of(concert1, concert2, concert3));
+        ConcertCursor afterSecond = new ConcertCursor(concert2.getConcertDate(), concert2.getConcertTime(), 2L);
+        when(concertRepository.findAvailableConcertsAfter(afterSecond, 3))
+                .thenReturn(List.of(concert3));
+
+        // when
+        ConcertSlice first = concertService.getAvailableConcertsAfter(null, 2);
+        ConcertSlice second = concertService.getAvailableConcertsAfter(first.nextCursor(), 2);
+
+        // then
+        assertThat(first.concerts()).extracting(ConcertResponseDto::getConcertId).containsExactly(1L, 2L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(ConcertCursor.decode(first.nextCursor())).isEqualTo(afterSecond);
+        assertThat(second.concerts()).extracting(ConcertResponseDto::getConcertId).containsExactly(3L);
+        assertThat(second.hasNext()).isFalse();
+        verify(concertRepository, never()).findAvailableConcerts(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 0 이하이면 1로, 최대값을 넘으면 최대값으로 조정한다")
+    void getAvailableConcertsAfter_OutOfRangeSize_ShouldClamp() {
+        // given
+        Concert concert1 = createTestConcert(1L, "Concert 1", "Artist 1");
+        Concert concert2 = createTestConcert(2L, "Concert 2", "Artist 2");
+        when(concertRepository.findAvailableConcertsAfter(ConcertCursor.first(LocalDate.now()), 2))
+                .thenReturn(List.of(concert1, concert2));
+        when(concertRepository.findAvailableConcerts(PageRequest.of(0, ConcertService.MAX_PAGE_SIZE)))
+                .thenReturn(new PageImpl<>(List.of(concert1), PageRequest.of(0, ConcertService.MAX_PAGE_SIZE), 1));
+
+        // when
+        ConcertSlice slice = concertService.getAvailableConcertsAfter(null, 0);
+        Page<ConcertResponseDto> page = concertService.getAvailableConcerts(-1, 10_000);
+
+        // then
+        assertThat(slice.concerts()).extracting(ConcertResponseDto::getConcertId).containsExactly(1L);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(page.getSize()).isEqualTo(ConcertService.MAX_PAGE_SIZE);
+        assertThat(page.getNumber()).isZero();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 IllegalArgumentException을 던진다")
+    void getAvailableConcertsAfter_InvalidCursor_ShouldThrow() {
+        assertThatThrownBy(() -> concertService.getAvailableConcertsAfter("not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(concertRepository);
+    }
+
     @Test
     @DisplayName("콘서트 ID로 조회 시 존재하는 콘서트를 반환한다")
     void getConcertById_ExistingConcert_ShouldReturnConcert() {
@@ -204,8 +298,8 @@ class ConcertServiceTest {
     }
 
     @Test
-    @DisplayName("아티스트명으로 콘서트를 검색한다")
-    void searchConcertsByArtist_ShouldReturnMatchingConcerts() {
+    @DisplayName("검색 색인이 준비되기 전에는 아티스트명 DB 조회로 검색한다")
+    void searchConcerts_IndexNotReady_ShouldFallBackToArtistQuery() {
         // given
         log.info("=== 테스트 시작: 아티스트명으로 콘서트 검색 ===");
 
@@ -222,8 +316,8 @@ class ConcertServiceTest {
         log.info("Mock Repository 설정 완료: findByArtistContaining('{}') 호출 시 {}개 콘서트 반환", artistName, concerts.size());
 
         // when
-        log.info("서비스 메서드 호출: concertService.searchConcertsByArtist('{}')", artistName);
-        List<ConcertResponseDto> result = concertService.searchConcertsByArtist(artistName);
+        log.info("서비스 메서드 호출: concertService.searchConcerts('{}', 20)", artistName);
+        List<ConcertResponseDto> result = concertService.searchConcerts(artistName, 20);
         log.info("서비스 메서드 호출 완료");
 
         // then
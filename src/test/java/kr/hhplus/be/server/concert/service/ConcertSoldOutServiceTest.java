@@ -0,0 +1,73 @@
+package kr.hhplus.be.server.concert.service;
+
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.event.ConcertSoldOutEvent;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcertSoldOutServiceTest {
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ConcertSoldOutService concertSoldOutService;
+
+    @Test
+    @DisplayName("이미 매진된 콘서트는 이벤트를 다시 발행하지 않는다")
+    void whenAlreadySoldOut_ThenShouldNotPublishAgain() {
+        given(concertRepository.markSoldOutIfOnSale(eq(1L), any())).willReturn(0);
+
+        boolean transitioned = concertSoldOutService.markSoldOut(1L);
+
+        assertThat(transitioned).isFalse();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("예약 시작 전 매진되면 실제 첫 예약 시각 기준으로 매진 소요 시간을 계산한다")
+    void whenSoldOutBeforeConfiguredBookingStart_ThenShouldUseFirstReservationTime() {
+        // given - 기본 예약 시작 시각(공연 2시간 전)은 아직 미래
+        Concert concert = new Concert("Stadium Tour", "IU", "Jamsil Olympic Stadium",
+                LocalDate.now().plusDays(30), LocalTime.of(19, 0), 60_000);
+        given(concertRepository.markSoldOutIfOnSale(eq(1L), any())).willReturn(1);
+        given(concertRepository.findById(1L)).willReturn(Optional.of(concert));
+        given(reservationRepository.findFirstCreatedAtByConcertId(any()))
+                .willReturn(Optional.of(LocalDateTime.now().minusMinutes(42)));
+
+        // when
+        boolean transitioned = concertSoldOutService.markSoldOut(1L);
+
+        // then
+        ArgumentCaptor<ConcertSoldOutEvent> captor = ArgumentCaptor.forClass(ConcertSoldOutEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(transitioned).isTrue();
+        assertThat(captor.getValue().getSoldOutDurationMinutes()).isBetween(41L, 42L);
+        assertThat(captor.getValue().getTotalSeats()).isEqualTo(60_000);
+    }
+}
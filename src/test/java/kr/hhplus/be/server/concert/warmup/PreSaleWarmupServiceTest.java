@@ -0,0 +1,180 @@
+package kr.hhplus.be.server.concert.warmup;
+
+import com.zaxxer.hikari.HikariDataSource;
+import kr.hhplus.be.server.concert.cache.ConcertCatalogCache;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import kr.hhplus.be.server.seat.service.SeatInventoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PreSaleWarmupServiceTest {
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private SeatInventoryService seatInventoryService;
+
+    @Mock
+    private ConcertCatalogCache concertCatalogCache;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private PreSaleWarmupService preSaleWarmupService;
+    private Concert concert;
+
+    @BeforeEach
+    void setUp() {
+        preSaleWarmupService = new PreSaleWarmupService(
+                concertRepository, seatRepository, seatInventoryService, concertCatalogCache, dataSource, redisTemplate);
+
+        concert = new Concert("Stadium Tour", "IU", "Jamsil Olympic Stadium",
+                LocalDate.now().plusDays(1), LocalTime.of(19, 0), 60_000);
+        concert.setBookingPeriod(LocalDateTime.now().plusMinutes(5), LocalDateTime.now().plusDays(1));
+    }
+
+    @Test
+    @DisplayName("판매 임박 콘서트의 카운터/커넥션/Redis를 예열하고 준비 완료된 콘서트는 다시 예열하지 않는다")
+    void whenWarmupUpcoming_ThenShouldWarmOnceWhenReady() throws Exception {
+        // given
+        given(concertRepository.findByBookingStartTimeBetween(any(), any())).willReturn(List.of(concert));
+        given(seatInventoryService.initializeFromDatabase(any())).willReturn(Map.of("VIP", 1000L, "R", 59_000L));
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.isValid(anyInt())).willReturn(true);
+        given(redisTemplate.execute(any(RedisCallback.class))).willReturn("PONG");
+
+        // when
+        List<WarmupReport> first = preSaleWarmupService.warmupUpcoming(Duration.ofMinutes(10));
+        List<WarmupReport> second = preSaleWarmupService.warmupUpcoming(Duration.ofMinutes(10));
+
+        // then
+        assertThat(first).singleElement().satisfies(report -> {
+            assertThat(report.isReady()).isTrue();
+            assertThat(report.sections()).isEqualTo(2);
+            assertThat(report.remainingSeats()).isEqualTo(60_000L);
+        });
+        assertThat(second).isEmpty();
+        verify(seatInventoryService, times(1)).initializeFromDatabase(any());
+        verify(concertCatalogCache, times(1)).findConcert(concert.getConcertId());
+        verify(concertCatalogCache, times(1)).findAvailablePage(0, 20);
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Redis가 응답하지 않으면 준비 실패로 기록하고 다음 실행에서 다시 예열한다")
+    void whenRedisUnavailable_ThenShouldReportNotReadyAndRetry() throws Exception {
+        // given
+        given(concertRepository.findByBookingStartTimeBetween(any(), any())).willReturn(List.of(concert));
+        given(seatInventoryService.initializeFromDatabase(any())).willReturn(Map.of());
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.isValid(anyInt())).willReturn(true);
+        given(redisTemplate.execute(any(RedisCallback.class))).willThrow(new IllegalStateException("connection refused"));
+
+        // when
+        preSaleWarmupService.warmupUpcoming(Duration.ofMinutes(10));
+        List<WarmupReport> retried = preSaleWarmupService.warmupUpcoming(Duration.ofMinutes(10));
+
+        // then
+        assertThat(retried).singleElement().satisfies(report -> assertThat(report.isReady()).isFalse());
+        assertThat(preSaleWarmupService.getReports()).allMatch(report -> !report.isReady());
+    }
+
+    @Test
+    @DisplayName("잔여석 카운터 초기화가 실패하면 준비 실패로 기록하고 다음 실행에서 다시 예열한다")
+    void whenSeatStateWarmupFails_ThenShouldReportNotReadyAndRetry() throws Exception {
+        // given
+        given(concertRepository.findByBookingStartTimeBetween(any(), any())).willReturn(List.of(concert));
+        given(seatInventoryService.initializeFromDatabase(any()))
+                .willThrow(new IllegalStateException("redis timeout"))
+                .willReturn(Map.of("VIP", 1000L));
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.isValid(anyInt())).willReturn(true);
+        given(redisTemplate.execute(any(RedisCallback.class))).willReturn("PONG");
+
+        // when
+        List<WarmupReport> failed = preSaleWarmupService.warmupUpcoming(Duration.ofMinutes(10));
+        List<WarmupReport> retried = preSaleWarmupService.warmupUpcoming(Duration.ofMinutes(10));
+
+        // then
+        assertThat(failed).singleElement().satisfies(report -> {
+            assertThat(report.seatStateReady()).isFalse();
+            assertThat(report.isReady()).isFalse();
+        });
+        assertThat(retried).singleElement().satisfies(report -> {
+            assertThat(report.isReady()).isTrue();
+            assertThat(report.sections()).isEqualTo(1);
+        });
+        verify(seatInventoryService, times(2)).initializeFromDatabase(any());
+    }
+
+    @Test
+    @DisplayName("좌석이 없는 콘서트는 경고만 남기고 준비 완료로 본다")
+    void whenNoSeats_ThenShouldReportReady() throws Exception {
+        // given
+        given(seatInventoryService.initializeFromDatabase(any())).willReturn(Map.of());
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.isValid(anyInt())).willReturn(true);
+        given(redisTemplate.execute(any(RedisCallback.class))).willReturn("PONG");
+
+        // when
+        WarmupReport report = preSaleWarmupService.warmup(concert);
+
+        // then
+        assertThat(report.sections()).isZero();
+        assertThat(report.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("커넥션 예열은 요청 처리용 커넥션을 남기도록 풀 최대 크기보다 적게 빌린다")
+    void whenOpenConnections_ThenShouldLeaveConnectionForRequests() throws Exception {
+        // given
+        HikariDataSource hikari = mock(HikariDataSource.class);
+        given(hikari.getMaximumPoolSize()).willReturn(3);
+        given(hikari.getMinimumIdle()).willReturn(3);
+        given(hikari.getConnection()).willReturn(connection);
+        given(connection.isValid(anyInt())).willReturn(true);
+        PreSaleWarmupService service = new PreSaleWarmupService(
+                concertRepository, seatRepository, seatInventoryService, concertCatalogCache, hikari, redisTemplate);
+
+        // when
+        int opened = service.openConnections();
+
+        // then
+        assertThat(opened).isEqualTo(2);
+        verify(hikari, times(2)).getConnection();
+        verify(connection, times(2)).close();
+    }
+}
@@ -8,18 +8,25 @@ import kr.hhplus.be.server.reservation.exception.ReservationNotFoundException;
 import kr.hhplus.be.server.payment.domain.Payment;
 import kr.hhplus.be.server.payment.repository.PaymentRepository;
 import kr.hhplus.be.server.balance.service.BalanceService;
-import kr.hhplus.be.server.balance.domain.Balance;
 import kr.hhplus.be.server.reservation.domain.Reservation;
 import kr.hhplus.be.server.reservation.repository.ReservationRepository;
+import kr.hhplus.be.server.reservation.repository.ReservationStatusView;
 import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.event.SeatConfirmedEvent;
+import kr.hhplus.be.server.seat.lock.PessimisticSeatLockingStrategy;
+import kr.hhplus.be.server.seat.lock.SeatLockingStrategyRegistry;
 import kr.hhplus.be.server.seat.repository.SeatRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -43,13 +50,18 @@ class PaymentServiceTest {
     private SeatRepository seatRepository;
     @Mock
     private DistributedLockService distributedLockService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private SeatLockingStrategyRegistry seatLockingStrategyRegistry;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private PaymentService paymentService;
 
     private PaymentCommand command;
     private Reservation reservation;
-    private Balance balance;
     private Seat seat;
 
     @BeforeEach
@@ -62,10 +74,17 @@ class PaymentServiceTest {
                 BigDecimal.valueOf(50000),
                 LocalDateTime.now().plusMinutes(5)
         );
-        balance = new Balance("user-123", BigDecimal.valueOf(100000));
         seat = new Seat(1L, 15, BigDecimal.valueOf(50000));
         seat.assignTemporarily("user-123", LocalDateTime.now().plusMinutes(5));
 
+        // 좌석 락 좌표 조회와 좌석 잠금 전략 (락 실패 테스트에서는 사용되지 않음)
+        lenient().when(reservationRepository.findStatusView("res-123")).thenReturn(Optional.of(
+                new ReservationStatusView(null, "user-123", 1L, 1L, 15,
+                        Reservation.ReservationStatus.TEMPORARILY_ASSIGNED, BigDecimal.valueOf(50000),
+                        LocalDateTime.now().plusMinutes(5))));
+        lenient().when(seatLockingStrategyRegistry.getActive())
+                .thenReturn(new PessimisticSeatLockingStrategy(seatRepository));
+
         // setUp에서는 객체 생성만, stubbing은 각 테스트에서 개별 설정
     }
 
@@ -77,8 +96,8 @@ class PaymentServiceTest {
         willDoNothing().given(distributedLockService).unlock(anyString(), anyString());
 
         given(reservationRepository.findById("res-123")).willReturn(Optional.of(reservation));
-        given(balanceService.hasEnoughBalance("user-123", BigDecimal.valueOf(50000))).willReturn(true);
-        given(balanceService.deductBalance("user-123", BigDecimal.valueOf(50000), "res-123")).willReturn(balance);
+        given(balanceService.deductBalanceWithCondition("user-123", BigDecimal.valueOf(50000), "res-123"))
+                .willReturn(Optional.of(BigDecimal.valueOf(50000)));
         given(seatRepository.findById(1L)).willReturn(Optional.of(seat));
         given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
         given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
@@ -94,10 +113,64 @@ class PaymentServiceTest {
         assertThat(result.getAmount()).isEqualTo(BigDecimal.valueOf(50000));
         assertThat(result.getStatus()).isEqualTo("COMPLETED");
 
-        // 검증: 핵심 비즈니스 로직만 검증
-        verify(balanceService).hasEnoughBalance("user-123", BigDecimal.valueOf(50000));
-        verify(balanceService).deductBalance("user-123", BigDecimal.valueOf(50000), "res-123");
-        verify(paymentRepository, times(2)).save(any(Payment.class));
+        // 검증: 사전 잔액 조회/비관적 락/사용자 잔액 락 없이 원자적 차감만 사용
+        verify(balanceService).deductBalanceWithCondition("user-123", BigDecimal.valueOf(50000), "res-123");
+        verify(balanceService, never()).hasEnoughBalance(any(), any());
+        verify(balanceService, never()).deductBalance(any(), any(), any());
+        verify(distributedLockService, times(1)).tryLock(anyString(), anyString(), anyLong());
+        verify(paymentRepository, times(1)).save(any(Payment.class));
+        verify(eventPublisher).publishEvent(any(SeatConfirmedEvent.class));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("차감 이후 단계에서 실패하면 보상 환불 없이 트랜잭션을 롤백한다")
+    void whenFailAfterDeduction_ThenShouldRollbackWithoutRefund() {
+        // given
+        given(distributedLockService.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+        willDoNothing().given(distributedLockService).unlock(anyString(), anyString());
+
+        given(reservationRepository.findById("res-123")).willReturn(Optional.of(reservation));
+        given(balanceService.deductBalanceWithCondition("user-123", BigDecimal.valueOf(50000), "res-123"))
+                .willReturn(Optional.of(BigDecimal.valueOf(50000)));
+        given(seatRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.processPayment(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("좌석 정보를 찾을 수 없습니다");
+
+        // 검증: 차감은 트랜잭션 롤백으로 취소되고, 락은 롤백 이후 해제됨
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(balanceService, never()).refundBalance(any(), any(), any());
+        verify(distributedLockService).unlock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("행 락 경합으로 롤백되면 트랜잭션 전체를 새로 시작해 재시도한다")
+    void whenLockConflict_ThenShouldRetryWholeTransaction() {
+        // given
+        given(distributedLockService.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+        willDoNothing().given(distributedLockService).unlock(anyString(), anyString());
+
+        given(reservationRepository.findById("res-123")).willReturn(Optional.of(reservation));
+        given(balanceService.deductBalanceWithCondition("user-123", BigDecimal.valueOf(50000), "res-123"))
+                .willThrow(new CannotAcquireLockException("분할 잔액 하위 행 경합"))
+                .willReturn(Optional.of(BigDecimal.valueOf(50000)));
+        given(seatRepository.findById(1L)).willReturn(Optional.of(seat));
+        given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(seatRepository.save(any(Seat.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        PaymentResult result = paymentService.processPayment(command);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(balanceService, times(2)).deductBalanceWithCondition("user-123", BigDecimal.valueOf(50000), "res-123");
     }
 
     @Test
@@ -108,15 +181,82 @@ class PaymentServiceTest {
         willDoNothing().given(distributedLockService).unlock(anyString(), anyString());
 
         given(reservationRepository.findById("res-123")).willReturn(Optional.of(reservation));
-        given(balanceService.hasEnoughBalance("user-123", BigDecimal.valueOf(50000))).willReturn(false);
+        given(balanceService.deductBalanceWithCondition("user-123", BigDecimal.valueOf(50000), "res-123"))
+                .willReturn(Optional.empty());
         given(balanceService.getBalanceAmount("user-123")).willReturn(BigDecimal.valueOf(30000));
 
         // when & then
         assertThatThrownBy(() -> paymentService.processPayment(command))
                 .isInstanceOf(InsufficientBalanceException.class);
 
-        // 검증: 잔액 차감이 호출되지 않음
-        verify(balanceService, never()).deductBalance(any(), any(), any());
+        // 검증: 차감되지 않았으므로 결제 저장도 환불도 없음
+        verify(paymentRepository, never()).save(any(Payment.class));
+        verify(balanceService, never()).refundBalance(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시된 잔액이 부족하면 차감을 시도하지 않고 바로 실패한다")
+    void whenCachedBalanceInsufficient_ThenShouldFailWithoutDeduction() {
+        // given
+        given(distributedLockService.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+        willDoNothing().given(distributedLockService).unlock(anyString(), anyString());
+
+        given(reservationRepository.findById("res-123")).willReturn(Optional.of(reservation));
+        given(balanceService.getCachedBalanceAmount("user-123")).willReturn(Optional.of(BigDecimal.valueOf(30000)));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.processPayment(command))
+                .isInstanceOf(InsufficientBalanceException.class);
+
+        verify(balanceService, never()).deductBalanceWithCondition(any(), any(), any());
+        verify(paymentRepository, never()).save(any(Payment.class));
+    }
+
+    @Test
+    @DisplayName("결제 재시도는 재시도 표시를 먼저 커밋한 뒤 락 안에서 별도 트랜잭션으로 결제한다")
+    void whenRetryPayment_ThenShouldCommitRetryBeforeProcessingInOwnTransaction() {
+        // given
+        Payment failed = Payment.createFailedPayment("res-123", "user-123", BigDecimal.valueOf(50000),
+                Payment.PaymentMethod.BALANCE);
+        given(paymentRepository.findById(failed.getPaymentId())).willReturn(Optional.of(failed));
+        given(distributedLockService.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+        willDoNothing().given(distributedLockService).unlock(anyString(), anyString());
+
+        given(reservationRepository.findById("res-123")).willReturn(Optional.of(reservation));
+        given(balanceService.deductBalanceWithCondition("user-123", BigDecimal.valueOf(50000), "res-123"))
+                .willReturn(Optional.of(BigDecimal.valueOf(50000)));
+        given(seatRepository.findById(1L)).willReturn(Optional.of(seat));
+        given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(seatRepository.save(any(Seat.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        PaymentResult result = paymentService.retryPayment(failed.getPaymentId());
+
+        // then - 재시도 표시 커밋 → 락 획득 → 결제 커밋 → 락 해제
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        InOrder inOrder = inOrder(transactionManager, distributedLockService);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(distributedLockService).tryLock(anyString(), anyString(), anyLong());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(distributedLockService).unlock(anyString(), anyString());
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    @DisplayName("실패하지 않은 결제는 재시도하지 않고 결제 처리도 시작하지 않는다")
+    void whenRetryNonFailedPayment_ThenShouldThrowWithoutProcessing() {
+        // given
+        Payment pending = new Payment("res-123", "user-123", BigDecimal.valueOf(50000), Payment.PaymentMethod.BALANCE);
+        given(paymentRepository.findById(pending.getPaymentId())).willReturn(Optional.of(pending));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.retryPayment(pending.getPaymentId()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("실패한 결제만 재시도할 수 있습니다");
+
+        verify(transactionManager).rollback(any());
+        verify(distributedLockService, never()).tryLock(anyString(), anyString(), anyLong());
         verify(paymentRepository, never()).save(any(Payment.class));
     }
 
@@ -135,7 +275,7 @@ class PaymentServiceTest {
         verify(distributedLockService, times(1)).tryLock(anyString(), anyString(), anyLong());
         verify(distributedLockService, never()).unlock(anyString(), anyString());
         verify(reservationRepository, never()).findById(any());
-        verify(balanceService, never()).hasEnoughBalance(any(), any());
+        verify(balanceService, never()).deductBalanceWithCondition(any(), any(), any());
     }
 
     @Test
@@ -145,16 +285,18 @@ class PaymentServiceTest {
         given(distributedLockService.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
         willDoNothing().given(distributedLockService).unlock(anyString(), anyString());
 
-        given(reservationRepository.findById("res-123")).willReturn(Optional.empty());
+        given(reservationRepository.findStatusView("res-123")).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> paymentService.processPayment(command))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("예약 정보를 찾을 수 없습니다");
 
-        // 검증: 예약 조회까지만 실행됨
-        verify(reservationRepository).findById("res-123");
-        verify(balanceService, never()).hasEnoughBalance(any(), any());
+        // 검증: 예약 조회까지만 실행됨 (좌석 락/트랜잭션 시작 전)
+        verify(reservationRepository).findStatusView("res-123");
+        verify(reservationRepository, never()).findById(any());
+        verify(transactionManager, never()).getTransaction(any());
+        verify(balanceService, never()).deductBalanceWithCondition(any(), any(), any());
     }
 
     @Test
@@ -184,6 +326,6 @@ class PaymentServiceTest {
 
         // 검증: 예약 검증까지만 실행됨
         verify(reservationRepository).findById("res-123");
-        verify(balanceService, never()).hasEnoughBalance(any(), any());
+        verify(balanceService, never()).deductBalanceWithCondition(any(), any(), any());
     }
 }
\ No newline at end of file
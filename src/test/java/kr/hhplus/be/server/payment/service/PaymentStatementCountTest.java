@@ -0,0 +1,240 @@
+package kr.hhplus.be.server.payment.service;
+
+import kr.hhplus.be.server.balance.domain.Balance;
+import kr.hhplus.be.server.balance.repository.BalanceRepository;
+import kr.hhplus.be.server.payment.command.PaymentCommand;
+import kr.hhplus.be.server.payment.dto.PaymentResult;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.repository.ReservationRepository;
+import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import kr.hhplus.be.server.seat.service.SeatInventoryService;
+import kr.hhplus.be.server.user.domain.User;
+import kr.hhplus.be.server.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 처리 문장 수 회귀 테스트
+ *
+ * 결제 한 건은 트랜잭션 하나에서 고정된 문장 수로 처리되어야 한다.
+ * 예약 조회, 잔액 조건부 차감, 차감 후 잔액 조회, 거래 내역 스테이징 INSERT, 잔액 집계 INSERT, 좌석 조회,
+ * 커밋 시 결제 INSERT, 예약 UPDATE, 좌석 UPDATE = 9
+ *
+ * 테스트 스레드에서 커밋 전까지 실행된 문장만 센다. (커밋 이후 리스너/캐시 기록과 다른 스레드의 스케줄러는 제외)
+ * 좌석 락 좌표를 얻는 예약 상태 조회는 캐시에서 응답하므로 문장에 포함되지 않는다.
+ * 자체 트랜잭션이 커밋되어야 flush 문장까지 세어지므로 테스트 클래스에 @Transactional을 붙이지 않는다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(PaymentStatementCountTest.StatementCountingConfig.class)
+class PaymentStatementCountTest {
+
+    private static final int EXPECTED_STATEMENTS = 9;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BalanceRepository balanceRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+
+    private String userId;
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        // 다른 테스트 데이터와 겹치지 않도록 콘서트/사용자를 매번 새로 만든다
+        long concertId = ThreadLocalRandom.current().nextLong(1_000_000L, 2_000_000L);
+        userId = "stmt-" + concertId;
+        BigDecimal price = BigDecimal.valueOf(50000);
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(5);
+
+        userRepository.save(new User(userId));
+        balanceRepository.save(new Balance(userId, BigDecimal.valueOf(100000)));
+
+        Seat seat = new Seat(concertId, 1, price);
+        seat.assignTemporarily(userId, expiresAt);
+        seat = seatRepository.save(seat);
+
+        reservation = reservationRepository.save(
+                new Reservation(userId, concertId, seat.getSeatId(), price, expiresAt));
+
+        // 잔여석 카운터를 미리 채워 커밋 후 리스너가 DB를 다시 읽지 않게 한다
+        seatInventoryService.initializeFromDatabase(concertId);
+        // 좌석 락 키는 트랜잭션 전에 예약 상태 캐시에서 얻으므로 캐시를 미리 채운다
+        reservationRepository.findStatusView(reservation.getReservationId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        StatementCounter.stop();
+    }
+
+    @Test
+    @DisplayName("결제 한 건은 트랜잭션 하나에서 고정된 수의 문장으로 처리된다")
+    void whenProcessPayment_ThenShouldRunFixedStatementsInSingleTransaction() {
+        // given
+        PaymentCommand command = new PaymentCommand(reservation.getReservationId(), userId);
+
+        // when
+        StatementCounter.start();
+        PaymentResult result = paymentService.processPayment(command);
+        StatementCounter.Recording recording = StatementCounter.stop();
+
+        // then
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(recording.commits()).isEqualTo(1);
+        assertThat(recording.statementsBeforeCommit()).isEqualTo(EXPECTED_STATEMENTS);
+    }
+
+    /**
+     * 테스트 스레드 단위 문장/커밋 카운터
+     */
+    static final class StatementCounter {
+
+        private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+        static void start() {
+            CURRENT.set(new Recording());
+        }
+
+        static Recording stop() {
+            Recording recording = CURRENT.get();
+            CURRENT.remove();
+            return recording;
+        }
+
+        static void onExecute() {
+            Recording recording = CURRENT.get();
+            if (recording != null && recording.commits == 0) {
+                recording.statementsBeforeCommit++;
+            }
+        }
+
+        static void onCommit() {
+            Recording recording = CURRENT.get();
+            if (recording != null) {
+                recording.commits++;
+            }
+        }
+
+        static final class Recording {
+            private int statementsBeforeCommit;
+            private int commits;
+
+            int statementsBeforeCommit() {
+                return statementsBeforeCommit;
+            }
+
+            int commits() {
+                return commits;
+            }
+        }
+    }
+
+    /**
+     * DataSource를 감싸 문장 실행(execute*)과 커밋을 센다 (별도 의존성 없이 JDK 프록시 사용)
+     */
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+                        return new CountingDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    static class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return countingConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return countingConnection(super.getConnection(username, password));
+        }
+
+        private static Connection countingConnection(Connection target) {
+            return (Connection) Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("commit")) {
+                            StatementCounter.onCommit();
+                        }
+                        Object result = invoke(target, method, args);
+                        if (result instanceof Statement statement
+                                && method.getReturnType().isInterface()
+                                && Statement.class.isAssignableFrom(method.getReturnType())) {
+                            return countingStatement(statement, method.getReturnType());
+                        }
+                        return result;
+                    });
+        }
+
+        private static Object countingStatement(Statement target, Class<?> statementType) {
+            return Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+                    new Class<?>[]{statementType}, (proxy, method, args) -> {
+                        if (method.getName().startsWith("execute")) {
+                            StatementCounter.onExecute();
+                        }
+                        return invoke(target, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
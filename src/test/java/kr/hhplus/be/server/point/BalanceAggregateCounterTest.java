@@ -0,0 +1,148 @@
+package kr.hhplus.be.server.point;
+
+import kr.hhplus.be.server.balance.aggregate.BalanceAggregateCounter;
+import kr.hhplus.be.server.balance.repository.BalanceAggregateRepository;
+import kr.hhplus.be.server.balance.stripe.StripedBalanceAccounts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceAggregateCounterTest {
+
+    @Mock
+    private BalanceAggregateRepository balanceAggregateRepository;
+
+    @Mock
+    private StripedBalanceAccounts stripedBalanceAccounts;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BalanceAggregateCounter balanceAggregateCounter;
+
+    @BeforeEach
+    void setUp() {
+        balanceAggregateCounter = new BalanceAggregateCounter(balanceAggregateRepository, stripedBalanceAccounts, transactionManager, true, 4,
+                List.of(BigDecimal.valueOf(10000), BigDecimal.valueOf(50000)));
+    }
+
+    @Test
+    @DisplayName("잔액 변경 시 총액 변화량과 기준 금액을 넘나든 경우만 계정 수 변화로 반영한다")
+    void whenBalanceChanged_ThenShouldIncrementCrossedThresholds() {
+        balanceAggregateCounter.recordChange(BigDecimal.valueOf(60000), BigDecimal.valueOf(20000));
+
+        Map<String, BigDecimal> deltas = captureIncrement();
+        assertThat(deltas).containsOnlyKeys("total_amount", "min_balance:50000");
+        assertThat(deltas.get("total_amount")).isEqualByComparingTo("-40000");
+        assertThat(deltas.get("min_balance:50000")).isEqualByComparingTo("-1");
+    }
+
+    @Test
+    @DisplayName("새 계정은 계정 수와 해당하는 기준 금액 이상 계정 수를 1씩 늘린다")
+    void whenAccountCreated_ThenShouldCountAccount() {
+        balanceAggregateCounter.recordCreated(BigDecimal.valueOf(10000));
+
+        Map<String, BigDecimal> deltas = captureIncrement();
+        assertThat(deltas).containsOnlyKeys("account_count", "total_amount", "min_balance:10000");
+        assertThat(deltas.get("account_count")).isEqualByComparingTo("1");
+    }
+
+    @Test
+    @DisplayName("유지하지 않는 기준 금액은 empty를 반환해 호출자가 직접 세도록 한다")
+    void whenThresholdNotMaintained_ThenShouldReturnEmpty() {
+        given(balanceAggregateRepository.isRecomputed()).willReturn(true);
+        given(balanceAggregateRepository.sum("min_balance:50000")).willReturn(BigDecimal.valueOf(3));
+        given(stripedBalanceAccounts.countWithMin(BigDecimal.valueOf(50000))).willReturn(1L);
+
+        // 분할 모드 계정은 조회 시점에 세어 더한다
+        assertThat(balanceAggregateCounter.countAccountsWithMin(BigDecimal.valueOf(50000))).contains(4L);
+        assertThat(balanceAggregateCounter.countAccountsWithMin(BigDecimal.valueOf(30000))).isEmpty();
+        verify(balanceAggregateRepository, never()).sum(eq("min_balance:30000"));
+    }
+
+    @Test
+    @DisplayName("재계산은 같은 스냅샷의 잔액 합계와 집계 차이만 보정한다")
+    void whenRecompute_ThenShouldApplyDriftOnly() {
+        given(balanceAggregateRepository.sumByMetric()).willReturn(Map.of(
+                "total_amount", BigDecimal.valueOf(90000),
+                "account_count", BigDecimal.valueOf(3),
+                "min_balance:10000", BigDecimal.valueOf(2),
+                "min_balance:50000", BigDecimal.ONE));
+        given(balanceAggregateRepository.computeFromBalances(List.of(BigDecimal.valueOf(10000), BigDecimal.valueOf(50000)), Set.of("corp-1")))
+                .willReturn(List.of(BigDecimal.valueOf(100000), BigDecimal.valueOf(3), BigDecimal.valueOf(2), BigDecimal.ONE));
+
+        given(stripedBalanceAccounts.stripedAccounts()).willReturn(Set.of("corp-1"));
+
+        int corrected = balanceAggregateCounter.recompute();
+
+        assertThat(corrected).isEqualTo(1);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, BigDecimal>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(balanceAggregateRepository).increment(eq(0), captor.capture());
+        assertThat(captor.getValue()).containsOnlyKeys("total_amount");
+        assertThat(captor.getValue().get("total_amount")).isEqualByComparingTo("10000");
+    }
+
+    @Test
+    @DisplayName("재계산이 한 번도 성공하지 않았으면 집계를 읽지 않고 empty를 반환해 직접 집계로 대체한다")
+    void whenNeverRecomputed_ThenShouldFallBackToDirectQuery() {
+        given(balanceAggregateRepository.isRecomputed()).willReturn(false);
+
+        assertThat(balanceAggregateCounter.getTotalAmount()).isEmpty();
+        assertThat(balanceAggregateCounter.countAccountsWithMin(BigDecimal.valueOf(10000))).isEmpty();
+        verify(balanceAggregateRepository, never()).sum(anyString());
+    }
+
+    @Test
+    @DisplayName("재계산이 성공하면 완료 표시를 남기고 이후 집계 조회를 사용한다")
+    void whenRecomputeSucceeded_ThenShouldMarkAndServeAggregates() {
+        given(balanceAggregateRepository.sumByMetric()).willReturn(Map.of());
+        given(balanceAggregateRepository.computeFromBalances(List.of(BigDecimal.valueOf(10000), BigDecimal.valueOf(50000)), Set.of("corp-1")))
+                .willReturn(List.of(BigDecimal.valueOf(100000), BigDecimal.valueOf(3), BigDecimal.valueOf(2), BigDecimal.ONE));
+        given(balanceAggregateRepository.sum("total_amount")).willReturn(BigDecimal.valueOf(100000));
+        given(stripedBalanceAccounts.stripedAccounts()).willReturn(Set.of("corp-1"));
+
+        balanceAggregateCounter.recompute();
+
+        verify(balanceAggregateRepository).markRecomputed();
+        assertThat(balanceAggregateCounter.getTotalAmount()).hasValueSatisfying(
+                total -> assertThat(total).isEqualByComparingTo("100000"));
+        verify(balanceAggregateRepository, never()).isRecomputed();
+    }
+
+    @Test
+    @DisplayName("분할 모드 계정의 잔액 변경은 총 잔액 변화량만 기록한다")
+    void whenStripedAmountChanged_ThenShouldRecordTotalOnly() {
+        balanceAggregateCounter.recordAmountChange(BigDecimal.valueOf(-40000));
+
+        Map<String, BigDecimal> deltas = captureIncrement();
+        assertThat(deltas).containsOnlyKeys("total_amount");
+        assertThat(deltas.get("total_amount")).isEqualByComparingTo("-40000");
+    }
+
+    private Map<String, BigDecimal> captureIncrement() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, BigDecimal>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(balanceAggregateRepository).increment(anyInt(), captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,190 @@
+package kr.hhplus.be.server.point;
+
+import kr.hhplus.be.server.balance.domain.BalanceTransaction;
+import kr.hhplus.be.server.balance.dto.BalanceHistoryCursor;
+import kr.hhplus.be.server.balance.repository.BalanceTransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 잔액 원장 압축 통합 테스트 (MySQL)
+ *
+ * 스테이징 → 원장 이동(SELECT ... FOR UPDATE SKIP LOCKED → INSERT ... SELECT → DELETE)과
+ * 원장/스테이징을 합치는 키셋 조회가 실제 InnoDB에서 압축 경계를 넘나들 때도 내역을 한 번씩만 보여 주는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BalanceLedgerCompactionIntegrationTest {
+
+    private static final int PAGE_SIZE = 7;
+    private static final int BATCH_SIZE = 5;
+
+    @Autowired
+    private BalanceTransactionRepository balanceTransactionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("페이지 사이에 압축이 끼어들어도 키셋 페이지에 중복이나 누락이 없고 모든 내역이 원장에 한 번씩 옮겨진다")
+    void whenCompactBetweenPages_ThenShouldPageWithoutDuplicatesOrGaps() {
+        // given
+        String userId = "compaction-user-" + UUID.randomUUID();
+        List<String> expected = stage(userId, 40);
+
+        // when - 한 페이지 읽을 때마다 배치 하나씩 압축
+        List<String> paged = new ArrayList<>();
+        BalanceHistoryCursor cursor = null;
+        while (true) {
+            List<BalanceTransaction> page = balanceTransactionRepository.findByUserIdBefore(userId, cursor, PAGE_SIZE);
+            page.forEach(transaction -> paged.add(transaction.getTransactionId()));
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            cursor = BalanceHistoryCursor.of(page.get(page.size() - 1));
+            compactBatch();
+        }
+        compactAll(userId);
+
+        // then
+        assertThat(paged).containsExactlyElementsOf(expected);
+        assertMovedExactlyOnce(userId, expected);
+    }
+
+    @Test
+    @DisplayName("여러 압축기가 동시에 옮기는 동안 반복 조회한 내역 목록이 항상 전체 내역과 같다")
+    void whenConcurrentCompaction_ThenEveryHistoryReadShouldBeComplete() throws Exception {
+        // given
+        String userId = "compaction-user-" + UUID.randomUUID();
+        List<String> expected = stage(userId, 200);
+
+        int compactors = 3;
+        ExecutorService executorService = Executors.newFixedThreadPool(compactors + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean compacting = new AtomicBoolean(true);
+        Queue<List<String>> reads = new ConcurrentLinkedQueue<>();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        // when - 압축기들이 SKIP LOCKED로 배치를 나눠 옮기는 동안 처음부터 끝까지 키셋 조회를 반복
+        for (int i = 0; i < compactors; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    start.await();
+                    while (remainingStaged(userId) > 0) {
+                        compactBatch();
+                    }
+                } catch (Exception e) {
+                    failures.add(e);
+                }
+            }, executorService));
+        }
+        CompletableFuture<Void> reader = CompletableFuture.runAsync(() -> {
+            try {
+                start.await();
+                while (compacting.get()) {
+                    reads.add(readAll(userId));
+                }
+                reads.add(readAll(userId));
+            } catch (Exception e) {
+                failures.add(e);
+            }
+        }, executorService);
+
+        start.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+        compacting.set(false);
+        reader.get(60, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(failures).isEmpty();
+        assertThat(reads).isNotEmpty();
+        assertThat(reads).allSatisfy(read -> assertThat(read).containsExactlyElementsOf(expected));
+        assertMovedExactlyOnce(userId, expected);
+    }
+
+    /**
+     * 거래 내역을 스테이징에 쌓고 최신순 거래 ID 목록을 돌려준다
+     */
+    private List<String> stage(String userId, int count) {
+        List<BalanceTransaction> staged = new ArrayList<>();
+        BigDecimal balance = BigDecimal.ZERO;
+        for (int i = 0; i < count; i++) {
+            balance = balance.add(BigDecimal.valueOf(1000));
+            staged.add(balanceTransactionRepository.save(
+                    BalanceTransaction.charge(userId, BigDecimal.valueOf(1000), balance)));
+        }
+        assertThat(remainingStaged(userId)).isEqualTo(count);
+
+        return staged.stream()
+                .sorted(Comparator.comparing(BalanceTransaction::getCreatedAt)
+                        .thenComparing(BalanceTransaction::getTransactionId)
+                        .reversed())
+                .map(BalanceTransaction::getTransactionId)
+                .toList();
+    }
+
+    private List<String> readAll(String userId) {
+        List<String> ids = new ArrayList<>();
+        BalanceHistoryCursor cursor = null;
+        while (true) {
+            List<BalanceTransaction> page = balanceTransactionRepository.findByUserIdBefore(userId, cursor, PAGE_SIZE);
+            page.forEach(transaction -> ids.add(transaction.getTransactionId()));
+            if (page.size() < PAGE_SIZE) {
+                return ids;
+            }
+            cursor = BalanceHistoryCursor.of(page.get(page.size() - 1));
+        }
+    }
+
+    private void compactBatch() {
+        new TransactionTemplate(transactionManager).execute(
+                status -> balanceTransactionRepository.compactStaged(BATCH_SIZE));
+    }
+
+    private void compactAll(String userId) {
+        while (remainingStaged(userId) > 0) {
+            compactBatch();
+        }
+    }
+
+    private void assertMovedExactlyOnce(String userId, List<String> expected) {
+        assertThat(remainingStaged(userId)).isZero();
+        List<String> ledger = jdbcTemplate.queryForList(
+                "SELECT BIN_TO_UUID(transaction_id) FROM balance_transactions WHERE user_id = ?", String.class, userId);
+        assertThat(ledger).doesNotHaveDuplicates();
+        assertThat(ledger).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    private int remainingStaged(String userId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM balance_transaction_staging WHERE user_id = ?", Integer.class, userId);
+        return count == null ? 0 : count;
+    }
+}
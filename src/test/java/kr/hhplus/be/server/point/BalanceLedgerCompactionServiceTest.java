@@ -0,0 +1,55 @@
+package kr.hhplus.be.server.point;
+
+import kr.hhplus.be.server.balance.repository.BalanceTransactionRepository;
+import kr.hhplus.be.server.balance.service.BalanceLedgerCompactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceLedgerCompactionServiceTest {
+
+    @Mock
+    private BalanceTransactionRepository balanceTransactionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BalanceLedgerCompactionService balanceLedgerCompactionService;
+
+    @BeforeEach
+    void setUp() {
+        balanceLedgerCompactionService = new BalanceLedgerCompactionService(balanceTransactionRepository, transactionManager, 100, 3);
+    }
+
+    @Test
+    @DisplayName("스테이징된 내역을 배치마다 별도 트랜잭션으로 옮기고, 배치가 가득 차지 않으면 멈춘다")
+    void whenPartialBatch_ThenShouldStop() {
+        given(balanceTransactionRepository.compactStaged(100)).willReturn(100, 7);
+
+        int compacted = balanceLedgerCompactionService.compact();
+
+        assertThat(compacted).isEqualTo(107);
+        verify(balanceTransactionRepository, times(2)).compactStaged(100);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("실행당 최대 배치 수까지만 처리하고 나머지는 다음 실행으로 넘긴다")
+    void whenBacklogExceedsRunLimit_ThenShouldStopAtMaxBatches() {
+        given(balanceTransactionRepository.compactStaged(100)).willReturn(100);
+
+        int compacted = balanceLedgerCompactionService.compact();
+
+        assertThat(compacted).isEqualTo(300);
+        verify(balanceTransactionRepository, times(3)).compactStaged(100);
+    }
+}
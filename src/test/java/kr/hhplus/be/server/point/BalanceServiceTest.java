@@ -1,12 +1,19 @@
 package kr.hhplus.be.server.point;
 
+import kr.hhplus.be.server.balance.aggregate.BalanceAggregateCounter;
+import kr.hhplus.be.server.balance.cache.BalanceCache;
 import kr.hhplus.be.server.balance.command.BalanceChargeCommand;
 import kr.hhplus.be.server.balance.domain.Balance;
 import kr.hhplus.be.server.balance.domain.BalanceTransaction;
+import kr.hhplus.be.server.balance.dto.BalanceHistoryCursor;
+import kr.hhplus.be.server.balance.dto.BalanceHistoryPage;
 import kr.hhplus.be.server.balance.dto.BalanceResult;
+import kr.hhplus.be.server.balance.dto.BalanceSnapshot;
+import kr.hhplus.be.server.balance.dto.BalanceTransactionResult;
 import kr.hhplus.be.server.balance.repository.BalanceRepository;
 import kr.hhplus.be.server.balance.repository.BalanceTransactionRepository;
 import kr.hhplus.be.server.balance.service.BalanceService;
+import kr.hhplus.be.server.balance.stripe.StripedBalanceAccounts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +23,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -31,6 +41,15 @@ class BalanceServiceTest {
     @Mock
     private BalanceTransactionRepository balanceTransactionRepository;
 
+    @Mock
+    private BalanceAggregateCounter balanceAggregateCounter;
+
+    @Mock
+    private BalanceCache balanceCache;
+
+    @Mock
+    private StripedBalanceAccounts stripedBalanceAccounts;
+
     @InjectMocks
     private BalanceService balanceService;
 
@@ -96,10 +115,11 @@ class BalanceServiceTest {
     }
 
     @Test
-    @DisplayName("사용자 잔액 조회가 성공한다")
+    @DisplayName("사용자 잔액 조회가 성공한다 (캐시 미스면 DB 스냅샷으로 캐시를 채운다)")
     void whenGetBalance_ThenShouldReturnCorrectBalance() {
         // given
-        given(balanceRepository.findByUserId("user-123")).willReturn(Optional.of(existingBalance));
+        BalanceSnapshot snapshot = BalanceSnapshot.from(existingBalance);
+        given(balanceRepository.findSnapshotByUserId("user-123")).willReturn(Optional.of(snapshot));
 
         // when
         BalanceResult result = balanceService.getBalance("user-123");
@@ -108,13 +128,30 @@ class BalanceServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getUserId()).isEqualTo("user-123");
         assertThat(result.getCurrentBalance()).isEqualTo(BigDecimal.valueOf(50000));
+        verify(balanceCache).put(snapshot);
+    }
+
+    @Test
+    @DisplayName("잔액 캐시에 있으면 DB를 조회하지 않는다")
+    void whenBalanceCached_ThenShouldNotQueryDatabase() {
+        // given
+        given(balanceCache.get("user-123")).willReturn(Optional.of(
+                new BalanceSnapshot("user-123", BigDecimal.valueOf(70000), 4L, LocalDateTime.now())));
+
+        // when
+        BalanceResult result = balanceService.getBalance("user-123");
+
+        // then
+        assertThat(result.getCurrentBalance()).isEqualTo(BigDecimal.valueOf(70000));
+        assertThat(balanceService.hasEnoughBalance("user-123", BigDecimal.valueOf(80000))).isFalse();
+        verifyNoInteractions(balanceRepository);
     }
 
     @Test
     @DisplayName("존재하지 않는 사용자 조회 시 잔액 0으로 반환한다")
     void whenGetBalanceForNonExistentUser_ThenShouldReturnZeroBalance() {
         // given
-        given(balanceRepository.findByUserId("user-123")).willReturn(Optional.empty());
+        given(balanceRepository.findSnapshotByUserId("user-123")).willReturn(Optional.empty());
 
         // when
         BalanceResult result = balanceService.getBalance("user-123");
@@ -175,6 +212,43 @@ class BalanceServiceTest {
         verify(balanceTransactionRepository, never()).save(any(BalanceTransaction.class));
     }
 
+    @Test
+    @DisplayName("원자적 차감은 락 없이 조건부 업데이트로 차감하고 차감 후 잔액을 반환한다")
+    void whenDeductBalanceWithCondition_ThenShouldReturnBalanceAfter() {
+        // given
+        BigDecimal deductAmount = BigDecimal.valueOf(30000);
+        given(balanceRepository.deductAmountByUserId("user-123", deductAmount)).willReturn(1);
+        BalanceSnapshot snapshot = new BalanceSnapshot("user-123", BigDecimal.valueOf(20000), 3L, LocalDateTime.now());
+        given(balanceRepository.findSnapshotByUserId("user-123")).willReturn(Optional.of(snapshot));
+
+        // when
+        Optional<BigDecimal> balanceAfter = balanceService.deductBalanceWithCondition("user-123", deductAmount, "res-123");
+
+        // then
+        assertThat(balanceAfter).contains(BigDecimal.valueOf(20000));
+        verify(balanceRepository, never()).findByUserIdWithLock(any());
+        verify(balanceCache).putAfterCommit(snapshot);
+        verify(balanceTransactionRepository).save(argThat(transaction ->
+                transaction.getTransactionType() == BalanceTransaction.TransactionType.PAYMENT &&
+                        transaction.getBalanceAfter().equals(BigDecimal.valueOf(20000))
+        ));
+    }
+
+    @Test
+    @DisplayName("원자적 차감 대상 행이 없으면(잔액 부족) empty를 반환하고 거래 내역을 남기지 않는다")
+    void whenDeductBalanceWithConditionInsufficient_ThenShouldReturnEmpty() {
+        // given
+        BigDecimal deductAmount = BigDecimal.valueOf(60000);
+        given(balanceRepository.deductAmountByUserId("user-123", deductAmount)).willReturn(0);
+
+        // when
+        Optional<BigDecimal> balanceAfter = balanceService.deductBalanceWithCondition("user-123", deductAmount, "res-123");
+
+        // then
+        assertThat(balanceAfter).isEmpty();
+        verify(balanceTransactionRepository, never()).save(any(BalanceTransaction.class));
+    }
+
     @Test
     @DisplayName("환불 처리가 성공한다")
     void whenRefundBalance_ThenShouldSucceed() {
@@ -206,6 +280,27 @@ class BalanceServiceTest {
         ));
     }
 
+    @Test
+    @DisplayName("분할 모드 계정의 충전은 잔액 행을 잠그지 않고 하위 행에 더한다")
+    void whenChargeStripedAccount_ThenShouldCreditStripe() {
+        // given
+        BigDecimal chargeAmount = BigDecimal.valueOf(100000);
+        given(stripedBalanceAccounts.isStriped("user-123")).willReturn(true);
+        given(stripedBalanceAccounts.credit("user-123", chargeAmount)).willReturn(
+                new BalanceSnapshot("user-123", BigDecimal.valueOf(150000), 1L, LocalDateTime.now()));
+
+        // when
+        BalanceResult result = balanceService.chargeBalance(command);
+
+        // then
+        assertThat(result.getCurrentBalance()).isEqualTo(BigDecimal.valueOf(150000));
+        verify(balanceRepository, never()).findByUserIdWithLock(any());
+        // 기준 금액 통과는 기록하지 않고 총 잔액 변화량만 기록
+        verify(balanceAggregateCounter).recordAmountChange(chargeAmount);
+        verify(balanceAggregateCounter, never()).recordChange(any(), any());
+        verify(balanceCache, never()).putAfterCommit(any());
+    }
+
     @Test
     @DisplayName("잔액 충분성 확인이 정확히 동작한다")
     void whenHasEnoughBalance_ThenShouldReturnCorrectResult() {
@@ -213,11 +308,56 @@ class BalanceServiceTest {
         BigDecimal requiredAmount1 = BigDecimal.valueOf(30000); // 충분함
         BigDecimal requiredAmount2 = BigDecimal.valueOf(60000); // 부족함
 
-        given(balanceRepository.hasEnoughAmount("user-123", requiredAmount1)).willReturn(Optional.of(true));
-        given(balanceRepository.hasEnoughAmount("user-123", requiredAmount2)).willReturn(Optional.of(false));
+        given(balanceRepository.findSnapshotByUserId("user-123"))
+                .willReturn(Optional.of(BalanceSnapshot.from(existingBalance)));
 
         // when & then
         assertThat(balanceService.hasEnoughBalance("user-123", requiredAmount1)).isTrue();
         assertThat(balanceService.hasEnoughBalance("user-123", requiredAmount2)).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("거래 내역은 한 건 더 조회해 다음 페이지 여부를 판단하고, 마지막 항목 위치를 다음 커서로 반환한다")
+    void whenGetTransactionHistory_ThenShouldReturnKeysetPage() {
+        // given
+        List<BalanceTransaction> rows = List.of(
+                BalanceTransaction.charge("user-123", BigDecimal.valueOf(30000), BigDecimal.valueOf(80000)),
+                BalanceTransaction.charge("user-123", BigDecimal.valueOf(20000), BigDecimal.valueOf(50000)),
+                BalanceTransaction.charge("user-123", BigDecimal.valueOf(30000), BigDecimal.valueOf(30000))
+        );
+        given(balanceTransactionRepository.findByUserIdBefore("user-123", null, 3)).willReturn(rows);
+
+        // when
+        BalanceHistoryPage page = balanceService.getTransactionHistory("user-123", null, 2);
+
+        // then
+        assertThat(page.transactions()).hasSize(2);
+        assertThat(page.hasNext()).isTrue();
+        BalanceHistoryCursor next = BalanceHistoryCursor.decode(page.nextCursor());
+        assertThat(next.transactionId()).isEqualTo(rows.get(1).getTransactionId());
+        assertThat(next.createdAt()).isEqualTo(rows.get(1).getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("전체 내보내기는 배치 단위로 읽으며 마지막 항목 이후부터 이어서 조회한다")
+    void whenExportTransactionHistory_ThenShouldReadInKeysetBatches() {
+        // given
+        List<BalanceTransaction> fullBatch = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            fullBatch.add(BalanceTransaction.charge("user-123", BigDecimal.valueOf(10000), BigDecimal.valueOf(10000)));
+        }
+        BalanceTransaction last = BalanceTransaction.charge("user-123", BigDecimal.valueOf(10000), BigDecimal.valueOf(10000));
+        given(balanceTransactionRepository.findByUserIdBefore("user-123", null, 1000)).willReturn(fullBatch);
+        given(balanceTransactionRepository.findByUserIdBefore("user-123", BalanceHistoryCursor.of(fullBatch.get(999)), 1000))
+                .willReturn(List.of(last));
+        List<BalanceTransactionResult> exported = new ArrayList<>();
+
+        // when
+        long count = balanceService.exportTransactionHistory("user-123", exported::add);
+
+        // then
+        assertThat(count).isEqualTo(1001);
+        assertThat(exported).hasSize(1001);
+        assertThat(exported.get(1000).getTransactionId()).isEqualTo(last.getTransactionId());
+    }
+}
@@ -0,0 +1,165 @@
+package kr.hhplus.be.server.point;
+
+import kr.hhplus.be.server.balance.domain.Balance;
+import kr.hhplus.be.server.balance.dto.BalanceSnapshot;
+import kr.hhplus.be.server.balance.repository.BalanceRepository;
+import kr.hhplus.be.server.balance.repository.BalanceStripeRepository;
+import kr.hhplus.be.server.balance.stripe.StripedBalanceAccounts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StripedBalanceAccountsTest {
+
+    @Mock
+    private BalanceStripeRepository balanceStripeRepository;
+
+    @Mock
+    private BalanceRepository balanceRepository;
+
+    private StripedBalanceAccounts stripedBalanceAccounts;
+
+    @BeforeEach
+    void setUp() {
+        stripedBalanceAccounts = new StripedBalanceAccounts(balanceStripeRepository, balanceRepository, true, 4,
+                List.of("corp-1", " corp-2 "));
+    }
+
+    @Test
+    @DisplayName("설정한 계정만 분할 모드로 본다")
+    void whenAccountConfigured_ThenShouldBeStriped() {
+        assertThat(stripedBalanceAccounts.isStriped("corp-2")).isTrue();
+        assertThat(stripedBalanceAccounts.isStriped("user-123")).isFalse();
+    }
+
+    @Test
+    @DisplayName("기준 금액 이상 분할 모드 계정 수는 설정 계정의 합계 잔액으로 센다")
+    void whenCountWithMin_ThenShouldCountConfiguredAccountsByTotal() {
+        given(balanceStripeRepository.findTotalSnapshot("corp-1")).willReturn(Optional.of(
+                new BalanceSnapshot("corp-1", BigDecimal.valueOf(60000), 0L, LocalDateTime.now())));
+        given(balanceStripeRepository.findTotalSnapshot("corp-2")).willReturn(Optional.of(
+                new BalanceSnapshot("corp-2", BigDecimal.valueOf(40000), 0L, LocalDateTime.now())));
+
+        assertThat(stripedBalanceAccounts.countWithMin(BigDecimal.valueOf(50000))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잔액이 충분한 하위 행이 있으면 그 행 하나에서만 차감한다")
+    void whenStripeHasEnough_ThenShouldDebitSingleStripe() {
+        // given
+        BigDecimal amount = BigDecimal.valueOf(30000);
+        given(balanceStripeRepository.findAll("corp-1")).willReturn(Map.of(
+                0, BigDecimal.valueOf(10000),
+                2, BigDecimal.valueOf(50000)));
+        given(balanceStripeRepository.debit("corp-1", 2, amount)).willReturn(true);
+        given(balanceStripeRepository.findTotalSnapshot("corp-1")).willReturn(Optional.of(
+                new BalanceSnapshot("corp-1", BigDecimal.valueOf(30000), 0L, LocalDateTime.now())));
+
+        // when
+        Optional<BigDecimal> balanceAfter = stripedBalanceAccounts.debit("corp-1", amount);
+
+        // then
+        assertThat(balanceAfter).contains(BigDecimal.valueOf(30000));
+        verify(balanceRepository, never()).findByUserIdWithLock(any());
+        verify(balanceStripeRepository, never()).lockAll(any());
+    }
+
+    @Test
+    @DisplayName("한 하위 행으로 부족하면 전체를 잠그고 잔액 행 잔액까지 합쳐 큰 행부터 차감한다")
+    void whenNoStripeHasEnough_ThenShouldMergeAndDebit() {
+        // given
+        BigDecimal amount = BigDecimal.valueOf(50000);
+        Balance balance = new Balance("corp-1", BigDecimal.valueOf(10000));
+        given(balanceStripeRepository.findAll("corp-1")).willReturn(Map.of(
+                0, BigDecimal.valueOf(20000),
+                1, BigDecimal.valueOf(30000)));
+        given(balanceRepository.findByUserIdWithLock("corp-1")).willReturn(Optional.of(balance));
+        given(balanceStripeRepository.lockAll("corp-1")).willReturn(Map.of(
+                0, BigDecimal.valueOf(20000),
+                1, BigDecimal.valueOf(40000)));
+
+        // when
+        Optional<BigDecimal> balanceAfter = stripedBalanceAccounts.debit("corp-1", amount);
+
+        // then
+        assertThat(balanceAfter).contains(BigDecimal.valueOf(10000));
+        assertThat(balance.getAmount()).isEqualByComparingTo("0");
+        verify(balanceStripeRepository).credit(eq("corp-1"), anyInt(), eq(BigDecimal.valueOf(10000)));
+        verify(balanceStripeRepository).replaceAmounts("corp-1", Map.of(
+                1, BigDecimal.ZERO,
+                0, BigDecimal.valueOf(10000)));
+    }
+
+    @Test
+    @DisplayName("빠른 경로가 다른 차감에 밀리면 하위 행 락을 쥔 채 병합하지 않고 재시도를 요청하며, 재시도는 바로 병합한다")
+    void whenFastPathLosesRace_ThenShouldAbortAndMergeOnRetry() {
+        // given
+        BigDecimal amount = BigDecimal.valueOf(30000);
+        given(balanceStripeRepository.findAll("corp-1")).willReturn(Map.of(2, BigDecimal.valueOf(50000)));
+        given(balanceStripeRepository.debit("corp-1", 2, amount)).willReturn(false);
+        given(balanceRepository.findByUserIdWithLock("corp-1"))
+                .willReturn(Optional.of(new Balance("corp-1", BigDecimal.ZERO)));
+        given(balanceStripeRepository.lockAll("corp-1")).willReturn(Map.of(2, BigDecimal.valueOf(40000)));
+
+        // when & then - 첫 시도는 잔액 행을 잠그지 않고 실패
+        assertThatThrownBy(() -> stripedBalanceAccounts.debit("corp-1", amount))
+                .isInstanceOf(CannotAcquireLockException.class);
+        verify(balanceRepository, never()).findByUserIdWithLock(any());
+
+        // 재시도는 빠른 경로 없이 병합
+        Optional<BigDecimal> balanceAfter = stripedBalanceAccounts.debit("corp-1", amount);
+
+        assertThat(balanceAfter).contains(BigDecimal.valueOf(10000));
+        verify(balanceStripeRepository, times(1)).debit("corp-1", 2, amount);
+        verify(balanceStripeRepository).replaceAmounts("corp-1", Map.of(2, BigDecimal.valueOf(10000)));
+    }
+
+    @Test
+    @DisplayName("병합해도 전체 잔액이 부족하면 empty를 반환하고 하위 행을 바꾸지 않는다")
+    void whenTotalInsufficient_ThenShouldReturnEmpty() {
+        // given
+        given(balanceStripeRepository.findAll("corp-1")).willReturn(Map.of(0, BigDecimal.valueOf(20000)));
+        given(balanceRepository.findByUserIdWithLock("corp-1"))
+                .willReturn(Optional.of(new Balance("corp-1", BigDecimal.ZERO)));
+        given(balanceStripeRepository.lockAll("corp-1")).willReturn(Map.of(0, BigDecimal.valueOf(20000)));
+
+        // when
+        Optional<BigDecimal> balanceAfter = stripedBalanceAccounts.debit("corp-1", BigDecimal.valueOf(50000));
+
+        // then
+        assertThat(balanceAfter).isEmpty();
+        verify(balanceStripeRepository, never()).replaceAmounts(any(), anyMap());
+    }
+
+    @Test
+    @DisplayName("잔액 계정이 없으면 충전을 거부한다 (트랜잭션 롤백으로 하위 행 변경도 취소)")
+    void whenCreditWithoutAccount_ThenShouldThrow() {
+        given(balanceStripeRepository.findTotalSnapshot("corp-1")).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> stripedBalanceAccounts.credit("corp-1", BigDecimal.valueOf(10000)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("사용자 잔액 정보가 없습니다");
+    }
+}
@@ -0,0 +1,194 @@
+package kr.hhplus.be.server.point;
+
+import kr.hhplus.be.server.balance.command.BalanceChargeCommand;
+import kr.hhplus.be.server.balance.domain.Balance;
+import kr.hhplus.be.server.balance.repository.BalanceRepository;
+import kr.hhplus.be.server.balance.service.BalanceService;
+import kr.hhplus.be.server.payment.command.PaymentCommand;
+import kr.hhplus.be.server.payment.service.PaymentService;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.repository.ReservationRepository;
+import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import kr.hhplus.be.server.user.domain.User;
+import kr.hhplus.be.server.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 분할 잔액 계정 동시성 테스트 (MySQL)
+ *
+ * 한 분할 모드 계정에 충전과 결제를 동시에 보내 하위 행 upsert, 조건부 차감, 병합(잔액 행 → 하위 행 FOR UPDATE),
+ * 빠른 경로 경합 시 트랜잭션 재시도가 실제 InnoDB 잠금에서 초과 차감이나 교착 없이 동작하는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "balance.striping.enabled=true",
+        "balance.striping.stripes=4",
+        "balance.striping.accounts=striped-concurrency-user"
+})
+class StripedBalanceConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StripedBalanceConcurrencyTest.class);
+
+    private static final String USER_ID = "striped-concurrency-user";
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BalanceRepository balanceRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("분할 계정에 충전과 결제가 동시에 몰려도 초과 차감 없이 하위 행 합계가 원장과 같고 교착이 새어 나오지 않는다")
+    void concurrentChargesAndPayments_OnStripedAccount_ShouldKeepLedgerConsistent() throws Exception {
+        // given - 분할 모드 전환 전 잔액(잔액 행)이 남아 있어 첫 병합에서 하위 행으로 옮겨진다
+        BigDecimal initialBalance = BigDecimal.valueOf(100000);
+        BigDecimal price = BigDecimal.valueOf(30000);
+        BigDecimal chargeAmount = BigDecimal.valueOf(10000);
+        int paymentCount = 10;
+        int chargeCount = 10;
+
+        userRepository.save(new User(USER_ID));
+        balanceRepository.save(new Balance(USER_ID, initialBalance));
+
+        // 다른 테스트 데이터와 겹치지 않는 콘서트
+        long concertId = ThreadLocalRandom.current().nextLong(3_000_000L, 4_000_000L);
+        List<String> reservationIds = new ArrayList<>();
+        for (int i = 0; i < paymentCount; i++) {
+            LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(5);
+            Seat seat = new Seat(concertId, i + 1, price);
+            seat.assignTemporarily(USER_ID, expiresAt);
+            seat = seatRepository.save(seat);
+            reservationIds.add(reservationRepository.save(
+                    new Reservation(USER_ID, concertId, seat.getSeatId(), price, expiresAt)).getReservationId());
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(paymentCount + chargeCount);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger paid = new AtomicInteger();
+        AtomicInteger charged = new AtomicInteger();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        // when - 결제와 충전을 번갈아 동시에 시작
+        for (int i = 0; i < paymentCount; i++) {
+            String reservationId = reservationIds.get(i);
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    start.await();
+                    paymentService.processPayment(new PaymentCommand(reservationId, USER_ID));
+                    paid.incrementAndGet();
+                } catch (Exception e) {
+                    failures.add(e);
+                }
+            }, executorService));
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    start.await();
+                    balanceService.chargeBalance(new BalanceChargeCommand(USER_ID, chargeAmount.longValue()));
+                    charged.incrementAndGet();
+                } catch (Exception e) {
+                    failures.add(e);
+                }
+            }, executorService));
+        }
+        start.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        log.info("분할 계정 동시성: paid={}, charged={}, failures={}", paid.get(), charged.get(),
+                failures.stream().map(Throwable::getMessage).toList());
+
+        // 교착/잠금 실패는 결제 재시도 안에서 처리되어 호출자에게 새어 나오지 않는다
+        assertThat(failures).noneMatch(StripedBalanceConcurrencyTest::isLockFailure);
+        assertThat(charged.get()).isEqualTo(chargeCount);
+
+        BigDecimal balanceRow = jdbcTemplate.queryForObject(
+                "SELECT amount FROM balance WHERE user_id = ?", BigDecimal.class, USER_ID);
+        List<BigDecimal> stripes = jdbcTemplate.queryForList(
+                "SELECT amount FROM balance_stripes WHERE user_id = ?", BigDecimal.class, USER_ID);
+        BigDecimal total = stripes.stream().reduce(balanceRow, BigDecimal::add);
+
+        // 초과 차감 없음: 잔액 행/하위 행 모두 0 이상
+        assertThat(balanceRow).isGreaterThanOrEqualTo(BigDecimal.ZERO);
+        assertThat(stripes).allSatisfy(amount -> assertThat(amount).isGreaterThanOrEqualTo(BigDecimal.ZERO));
+
+        // 잔액 행 + 하위 행 합계 = 초기 잔액 + 원장(스테이징 포함)
+        BigDecimal expected = initialBalance
+                .add(chargeAmount.multiply(BigDecimal.valueOf(charged.get())))
+                .subtract(price.multiply(BigDecimal.valueOf(paid.get())));
+        assertThat(total).isEqualByComparingTo(expected);
+        assertThat(total).isEqualByComparingTo(initialBalance.add(ledgerDelta()));
+        assertThat(countPayments()).isEqualTo(paid.get());
+    }
+
+    private BigDecimal ledgerDelta() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(CASE transaction_type WHEN 'PAYMENT' THEN -amount ELSE amount END), 0) FROM (" +
+                "SELECT transaction_type, amount FROM balance_transactions WHERE user_id = ? " +
+                "UNION ALL SELECT transaction_type, amount FROM balance_transaction_staging WHERE user_id = ?) ledger",
+                BigDecimal.class, USER_ID, USER_ID);
+    }
+
+    private int countPayments() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (" +
+                "SELECT transaction_type FROM balance_transactions WHERE user_id = ? " +
+                "UNION ALL SELECT transaction_type FROM balance_transaction_staging WHERE user_id = ?) ledger " +
+                "WHERE transaction_type = 'PAYMENT'",
+                Integer.class, USER_ID, USER_ID);
+        return count == null ? 0 : count;
+    }
+
+    private static boolean isLockFailure(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PessimisticLockingFailureException
+                    || String.valueOf(cause.getMessage()).contains("Deadlock")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
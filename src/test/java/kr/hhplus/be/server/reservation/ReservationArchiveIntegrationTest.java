@@ -0,0 +1,116 @@
+package kr.hhplus.be.server.reservation;
+
+import kr.hhplus.be.server.common.id.TimeOrderedIds;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.repository.ReservationRepository;
+import kr.hhplus.be.server.reservation.service.ReservationArchiveService;
+import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 종료 예약 보관 통합 테스트 (MySQL)
+ *
+ * 보관 기간이 지난 만료/취소 예약이 좌석 번호와 함께 reservations_archive로 옮겨지고,
+ * 옮겨진 뒤에도 단건 조회와 상태별 집계가 보관 테이블을 함께 읽는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationArchiveIntegrationTest {
+
+    private static final String USER_ID = "archive-user";
+    private static final BigDecimal PRICE = BigDecimal.valueOf(50000);
+
+    @Autowired
+    private ReservationArchiveService reservationArchiveService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("보관 기간이 지난 만료/취소 예약은 좌석 번호와 함께 보관 테이블로 옮겨지고 조회와 집계에 계속 포함된다")
+    void whenArchiveTerminated_ThenShouldMoveOldReservationsAndKeepThemReadable() {
+        // given - 다른 테스트 데이터와 겹치지 않는 콘서트
+        long concertId = ThreadLocalRandom.current().nextLong(4_000_000L, 5_000_000L);
+        Reservation oldExpired = reserve(concertId, 11);
+        Reservation oldCancelled = reserve(concertId, 12);
+        Reservation recentExpired = reserve(concertId, 13);
+        terminate(oldExpired, Reservation.ReservationStatus.EXPIRED, 31);
+        terminate(oldCancelled, Reservation.ReservationStatus.CANCELLED, 45);
+        terminate(recentExpired, Reservation.ReservationStatus.EXPIRED, 1);
+
+        // when
+        int archived = reservationArchiveService.archiveTerminatedReservations();
+
+        // then - 운영 테이블에서는 보관 기간이 지난 예약만 빠진다
+        assertThat(archived).isGreaterThanOrEqualTo(2);
+        assertThat(countRows("reservations", oldExpired)).isZero();
+        assertThat(countRows("reservations", oldCancelled)).isZero();
+        assertThat(countRows("reservations", recentExpired)).isEqualTo(1);
+
+        // 보관 테이블에는 좌석 번호와 함께 기록된다
+        assertThat(archivedSeatNumber(oldExpired)).isEqualTo(11);
+        assertThat(archivedSeatNumber(oldCancelled)).isEqualTo(12);
+        assertThat(countRows("reservations_archive", recentExpired)).isZero();
+
+        // 보관 후에도 단건 조회와 상태별 집계에 포함된다
+        assertThat(reservationRepository.findById(oldExpired.getReservationId())).hasValueSatisfying(found -> {
+            assertThat(found.getStatus()).isEqualTo(Reservation.ReservationStatus.EXPIRED);
+            assertThat(found.getSeatId()).isEqualTo(oldExpired.getSeatId());
+            assertThat(found.getConcertId()).isEqualTo(concertId);
+        });
+        assertThat(reservationRepository.findById(oldCancelled.getReservationId()))
+                .hasValueSatisfying(found -> assertThat(found.getStatus())
+                        .isEqualTo(Reservation.ReservationStatus.CANCELLED));
+        assertThat(reservationRepository.countByConcertIdAndStatus(concertId, "EXPIRED")).isEqualTo(2L);
+        assertThat(reservationRepository.countByConcertIdAndStatus(concertId, "CANCELLED")).isEqualTo(1L);
+    }
+
+    private Reservation reserve(long concertId, int seatNumber) {
+        Seat seat = seatRepository.save(new Seat(concertId, seatNumber, PRICE));
+        return reservationRepository.save(
+                new Reservation(USER_ID, concertId, seat.getSeatId(), PRICE, LocalDateTime.now().plusMinutes(5)));
+    }
+
+    // 종료 상태로 바꾸고 만료 시각을 DB 시계 기준 daysAgo일 전으로 옮긴다
+    private void terminate(Reservation reservation, Reservation.ReservationStatus status, int daysAgo) {
+        jdbcTemplate.update(
+                "UPDATE reservations SET status = ?, expires_at = UTC_TIMESTAMP(6) - INTERVAL ? DAY " +
+                "WHERE reservation_id = ?",
+                status.name(), daysAgo, idBytes(reservation));
+    }
+
+    private int countRows(String table, Reservation reservation) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE reservation_id = ?", Integer.class, idBytes(reservation));
+        return count == null ? 0 : count;
+    }
+
+    private Integer archivedSeatNumber(Reservation reservation) {
+        return jdbcTemplate.queryForObject(
+                "SELECT seat_number FROM reservations_archive WHERE reservation_id = ?",
+                Integer.class, idBytes(reservation));
+    }
+
+    private static byte[] idBytes(Reservation reservation) {
+        return TimeOrderedIds.toBytes(UUID.fromString(reservation.getReservationId()));
+    }
+}
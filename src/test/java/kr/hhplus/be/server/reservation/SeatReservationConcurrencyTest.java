@@ -8,9 +8,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 public class SeatReservationConcurrencyTest {
@@ -188,4 +193,42 @@ public class SeatReservationConcurrencyTest {
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void 대기_락은_해제_알림으로_획득된다() throws Exception {
+        String lockKey = "test:lock:blocking:" + System.currentTimeMillis();
+
+        assertTrue(distributedLockService.tryLock(lockKey, "holder", 10));
+        Long holderToken = distributedLockService.getFencingToken(lockKey, "holder");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Boolean> waiter = executor.submit(() -> distributedLockService.tryLock(lockKey, "waiter", 10, 5000));
+
+        Thread.sleep(200);
+        long releasedAt = System.currentTimeMillis();
+        distributedLockService.unlock(lockKey, "holder");
+
+        // 임대 만료(10초)를 기다리지 않고 해제 알림으로 곧바로 획득
+        assertTrue(waiter.get(3, TimeUnit.SECONDS));
+        assertTrue(System.currentTimeMillis() - releasedAt < 3000);
+
+        // 펜싱 토큰은 획득마다 단조 증가
+        assertTrue(distributedLockService.getFencingToken(lockKey, "waiter") > holderToken);
+
+        distributedLockService.unlock(lockKey, "waiter");
+        executor.shutdown();
+    }
+
+    @Test
+    public void 대기_시간_내_해제되지_않으면_실패한다() {
+        String lockKey = "test:lock:timeout:" + System.currentTimeMillis();
+
+        assertTrue(distributedLockService.tryLock(lockKey, "holder", 10));
+        try {
+            assertFalse(distributedLockService.tryLock(lockKey, "waiter", 10, 300));
+            assertNull(distributedLockService.getFencingToken(lockKey, "waiter"));
+        } finally {
+            distributedLockService.unlock(lockKey, "holder");
+        }
+    }
+}
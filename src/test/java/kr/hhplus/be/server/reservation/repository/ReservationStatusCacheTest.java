@@ -0,0 +1,59 @@
+package kr.hhplus.be.server.reservation.repository;
+
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReservationStatusCacheTest {
+
+    private final ReservationStatusCache cache = new ReservationStatusCache(60_000, 10);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 무효화하면 커밋 전에 다시 캐시된 이전 상태도 커밋 직후 제거된다")
+    void whenInvalidatedInTransaction_ThenShouldEvictAgainAfterCommit() {
+        // given
+        ReservationStatusView view = view();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when - 무효화 후 커밋 전에 다른 조회가 이전 상태를 다시 캐시
+        cache.invalidate("reservation-1");
+        cache.put("reservation-1", view);
+        assertThat(cache.get("reservation-1")).isPresent();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertThat(cache.get("reservation-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 반환하지 않는다")
+    void whenTtlElapsed_ThenShouldMiss() {
+        ReservationStatusCache shortLived = new ReservationStatusCache(-1, 10);
+
+        shortLived.put("reservation-1", view());
+
+        assertThat(shortLived.get("reservation-1")).isEmpty();
+    }
+
+    private ReservationStatusView view() {
+        return new ReservationStatusView(UUID.randomUUID(), "user-123", 1L, 1L, 15,
+                Reservation.ReservationStatus.TEMPORARILY_ASSIGNED, BigDecimal.valueOf(50000),
+                LocalDateTime.now().plusMinutes(5));
+    }
+}
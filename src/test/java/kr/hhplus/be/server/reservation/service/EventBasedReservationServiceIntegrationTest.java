@@ -60,7 +60,7 @@ class EventBasedReservationServiceIntegrationTest {
         Reservation mockReservation = createMockReservation(userId, concertId, seatId, price);
 
         // Mock 설정
-        given(distributedLockService.tryLock(any(), any(), anyLong())).willReturn(true);
+        given(distributedLockService.tryLock(any(), any(), anyLong(), anyLong())).willReturn(true);
         given(seatRepository.findByConcertIdAndSeatNumberWithLock(concertId, seatNumber))
                 .willReturn(Optional.of(mockSeat));
         given(seatRepository.save(any(Seat.class))).willReturn(mockSeat);
@@ -101,7 +101,7 @@ class EventBasedReservationServiceIntegrationTest {
         given(mockSeat.isAvailable()).willReturn(false); // 이미 배정된 상태
         given(mockSeat.isExpired()).willReturn(false);   // 만료되지 않은 상태
 
-        given(distributedLockService.tryLock(any(), any(), anyLong())).willReturn(true);
+        given(distributedLockService.tryLock(any(), any(), anyLong(), anyLong())).willReturn(true);
         given(seatRepository.findByConcertIdAndSeatNumberWithLock(concertId, seatNumber))
                 .willReturn(Optional.of(mockSeat));
 
@@ -127,7 +127,7 @@ class EventBasedReservationServiceIntegrationTest {
         Integer seatNumber = 10;
 
         // 락 획득 실패 시뮬레이션
-        given(distributedLockService.tryLock(any(), any(), anyLong())).willReturn(false);
+        given(distributedLockService.tryLock(any(), any(), anyLong(), anyLong())).willReturn(false);
 
         // When & Then
         ReserveSeatCommand command = new ReserveSeatCommand(userId, concertId, seatNumber);
@@ -158,7 +158,7 @@ class EventBasedReservationServiceIntegrationTest {
         Seat mockSeat = createMockSeat(seatId, concertId, seatNumber, price);
         Reservation mockReservation = createMockReservation(userId, concertId, seatId, price);
 
-        given(distributedLockService.tryLock(any(), any(), anyLong())).willReturn(true);
+        given(distributedLockService.tryLock(any(), any(), anyLong(), anyLong())).willReturn(true);
         given(seatRepository.findByConcertIdAndSeatNumberWithLock(concertId, seatNumber))
                 .willReturn(Optional.of(mockSeat));
         given(seatRepository.save(any(Seat.class))).willReturn(mockSeat);
@@ -202,7 +202,7 @@ class EventBasedReservationServiceIntegrationTest {
 
         Reservation mockReservation = createMockReservation(userId, concertId, seatId, price);
 
-        given(distributedLockService.tryLock(any(), any(), anyLong())).willReturn(true);
+        given(distributedLockService.tryLock(any(), any(), anyLong(), anyLong())).willReturn(true);
         given(seatRepository.findByConcertIdAndSeatNumberWithLock(concertId, seatNumber))
                 .willReturn(Optional.of(mockSeat));
         given(seatRepository.save(any(Seat.class))).willReturn(mockSeat);
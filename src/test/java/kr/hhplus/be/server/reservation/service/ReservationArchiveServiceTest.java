@@ -0,0 +1,54 @@
+package kr.hhplus.be.server.reservation.service;
+
+import kr.hhplus.be.server.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationArchiveServiceTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReservationArchiveService reservationArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        reservationArchiveService = new ReservationArchiveService(reservationRepository, transactionManager, 30, 100, 3);
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차지 않으면 남은 대상이 없으므로 실행을 마친다")
+    void whenPartialBatch_ThenShouldStop() {
+        given(reservationRepository.archiveTerminated(30, 100)).willReturn(100, 40);
+
+        int archived = reservationArchiveService.archiveTerminatedReservations();
+
+        assertThat(archived).isEqualTo(140);
+        verify(reservationRepository, times(2)).archiveTerminated(30, 100);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("실행당 최대 배치 수까지만 처리하고 나머지는 다음 실행으로 넘긴다")
+    void whenBacklogExceedsRunLimit_ThenShouldStopAtMaxBatches() {
+        given(reservationRepository.archiveTerminated(30, 100)).willReturn(100);
+
+        int archived = reservationArchiveService.archiveTerminatedReservations();
+
+        assertThat(archived).isEqualTo(300);
+        verify(reservationRepository, times(3)).archiveTerminated(30, 100);
+    }
+}
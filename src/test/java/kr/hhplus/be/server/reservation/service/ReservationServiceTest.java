@@ -4,8 +4,14 @@ import kr.hhplus.be.server.reservation.command.ReserveSeatCommand;
 import kr.hhplus.be.server.reservation.domain.Reservation;
 import kr.hhplus.be.server.reservation.event.ReservationCompletedEvent;
 import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.event.SeatReleasedEvent;
+import kr.hhplus.be.server.seat.lock.RedisPessimisticSeatLockingStrategy;
+import kr.hhplus.be.server.seat.lock.SeatLockingStrategyRegistry;
+import kr.hhplus.be.server.seat.service.SeatAvailabilityFilter;
 import kr.hhplus.be.server.reservation.dto.ReservationResult;
+import kr.hhplus.be.server.reservation.repository.ReleasableReservation;
 import kr.hhplus.be.server.reservation.repository.ReservationRepository;
+import kr.hhplus.be.server.reservation.repository.ReservationStatusView;
 import kr.hhplus.be.server.seat.repository.SeatRepository;
 import kr.hhplus.be.server.common.lock.DistributedLockService;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,16 +19,17 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -43,7 +50,12 @@ class ReservationServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher; // 이벤트 퍼블리셔 추가
 
-    @InjectMocks
+    @Mock
+    private SeatAvailabilityFilter seatAvailabilityFilter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private ReservationService reservationService;
 
     private ReserveSeatCommand command;
@@ -52,6 +64,12 @@ class ReservationServiceTest {
 
     @BeforeEach
     void setUp() {
+        SeatLockingStrategyRegistry strategyRegistry = new SeatLockingStrategyRegistry(
+                List.of(new RedisPessimisticSeatLockingStrategy(distributedLockService, seatRepository, 0L)),
+                RedisPessimisticSeatLockingStrategy.NAME);
+        reservationService = new ReservationService(seatRepository, reservationRepository,
+                eventPublisher, seatAvailabilityFilter, strategyRegistry, transactionManager, 2, 3);
+
         command = new ReserveSeatCommand("user-123", 1L, 15);
         availableSeat = new Seat(1L, 15, BigDecimal.valueOf(50000));
 
@@ -84,7 +102,7 @@ class ReservationServiceTest {
     @DisplayName("정상적인 좌석 예약 요청 시 임시 배정이 성공하고 이벤트가 발행된다")
     void whenReserveSeatWithValidRequest_ThenShouldSucceedAndPublishEvent() {
         // given
-        given(distributedLockService.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+        given(distributedLockService.tryLock(anyString(), anyString(), anyLong(), anyLong())).willReturn(true);
         given(seatRepository.findByConcertIdAndSeatNumberWithLock(1L, 15)).willReturn(Optional.of(availableSeat));
         given(seatRepository.save(any(Seat.class))).willReturn(availableSeat);
         given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
@@ -131,7 +149,7 @@ class ReservationServiceTest {
     @DisplayName("분산 락 획득에 실패하면 예외가 발생하고 이벤트는 발행되지 않는다")
     void whenFailToAcquireLock_ThenShouldThrowExceptionAndNotPublishEvent() {
         // given
-        given(distributedLockService.tryLock(anyString(), anyString(), anyLong())).willReturn(false);
+        given(distributedLockService.tryLock(anyString(), anyString(), anyLong(), anyLong())).willReturn(false);
 
         // when & then
         assertThatThrownBy(() -> reservationService.reserveSeat(command))
@@ -145,11 +163,26 @@ class ReservationServiceTest {
         verify(eventPublisher, never()).publishEvent(any(ReservationCompletedEvent.class));
     }
 
+    @Test
+    @DisplayName("로컬 필터에 선점된 것으로 알려진 좌석은 락/DB 조회 없이 거절된다")
+    void whenSeatKnownTakenLocally_ThenShouldRejectWithoutLockOrDb() {
+        // given
+        given(seatAvailabilityFilter.isKnownTaken(1L, 15)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.reserveSeat(command))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("이미 다른 사용자가 선택한 좌석입니다.");
+
+        verify(distributedLockService, never()).tryLock(anyString(), anyString(), anyLong(), anyLong());
+        verify(seatRepository, never()).findByConcertIdAndSeatNumberWithLock(anyLong(), anyInt());
+    }
+
     @Test
     @DisplayName("존재하지 않는 좌석을 예약하려고 하면 예외가 발생하고 이벤트는 발행되지 않는다")
     void whenReserveNonExistentSeat_ThenShouldThrowExceptionAndNotPublishEvent() {
         // given
-        given(distributedLockService.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+        given(distributedLockService.tryLock(anyString(), anyString(), anyLong(), anyLong())).willReturn(true);
         given(seatRepository.findByConcertIdAndSeatNumberWithLock(1L, 15)).willReturn(Optional.empty());
 
         // when & then
@@ -171,7 +204,7 @@ class ReservationServiceTest {
         Seat reservedSeat = new Seat(1L, 15, seatPrice);
         reservedSeat.assignTemporarily("other-user", LocalDateTime.now().plusMinutes(5));
 
-        given(distributedLockService.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+        given(distributedLockService.tryLock(anyString(), anyString(), anyLong(), anyLong())).willReturn(true);
         given(seatRepository.findByConcertIdAndSeatNumberWithLock(1L, 15)).willReturn(Optional.of(reservedSeat));
 
         // when & then
@@ -179,6 +212,9 @@ class ReservationServiceTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("이미 다른 사용자가 선택한 좌석입니다.");
 
+        // 검증: DB 검증 결과가 로컬 필터에 기록되었는지 확인
+        verify(seatAvailabilityFilter).markTaken(1L, 15);
+
         // 검증: 락이 해제되었는지 확인
         verify(distributedLockService).unlock(anyString(), anyString());
 
@@ -198,7 +234,7 @@ class ReservationServiceTest {
         LocalDateTime pastTime = LocalDateTime.now().minusMinutes(1);
         expiredSeat.assignTemporarily("other-user", pastTime);
 
-        given(distributedLockService.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+        given(distributedLockService.tryLock(anyString(), anyString(), anyLong(), anyLong())).willReturn(true);
         given(seatRepository.findByConcertIdAndSeatNumberWithLock(1L, 15)).willReturn(Optional.of(expiredSeat));
         given(seatRepository.save(any(Seat.class))).willReturn(expiredSeat);
         given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
@@ -223,9 +259,10 @@ class ReservationServiceTest {
         // given
         String reservationId = "reservation-123";
         Reservation reservation = new Reservation("user-123", 1L, 1L, seatPrice, LocalDateTime.now().plusMinutes(5));
+        ReservationStatusView view = new ReservationStatusView(UUID.fromString(reservation.getReservationId()),
+                "user-123", 1L, 1L, 15, reservation.getStatus(), seatPrice, reservation.getExpiresAt());
 
-        given(reservationRepository.findById(reservationId)).willReturn(Optional.of(reservation));
-        given(seatRepository.findById(1L)).willReturn(Optional.of(availableSeat));
+        given(reservationRepository.findStatusView(reservationId)).willReturn(Optional.of(view));
 
         // when
         ReservationResult result = reservationService.getReservationStatus(reservationId);
@@ -235,6 +272,12 @@ class ReservationServiceTest {
         assertThat(result.getReservationId()).isEqualTo(reservation.getReservationId());
         assertThat(result.getUserId()).isEqualTo("user-123");
         assertThat(result.getSeatNumber()).isEqualTo(15);
+        assertThat(result.getStatus()).isEqualTo(Reservation.ReservationStatus.TEMPORARILY_ASSIGNED);
+        assertThat(result.getRemainingTimeSeconds()).isBetween(298L, 300L);
+
+        // 읽기 모델 한 번으로 조회 (예약/좌석 엔티티 개별 조회 없음)
+        verify(reservationRepository, never()).findById(any());
+        verify(seatRepository, never()).findById(any());
 
         // 조회는 이벤트 발행하지 않음
         verify(eventPublisher, never()).publishEvent(any());
@@ -245,7 +288,7 @@ class ReservationServiceTest {
     void whenGetNonExistentReservation_ThenShouldThrowException() {
         // given
         String reservationId = "non-existent";
-        given(reservationRepository.findById(reservationId)).willReturn(Optional.empty());
+        given(reservationRepository.findStatusView(reservationId)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> reservationService.getReservationStatus(reservationId))
@@ -257,32 +300,27 @@ class ReservationServiceTest {
     }
 
     @Test
-    @DisplayName("예약 취소가 정상적으로 동작한다")
+    @DisplayName("예약 취소는 엔티티 로딩 없이 좌석 해제와 예약 상태 변경을 UPDATE로 수행한다")
     void whenCancelReservation_ThenShouldSucceed() {
         // given
         String reservationId = "reservation-123";
         String userId = "user-123";
 
-        Reservation reservation = new Reservation(userId, 1L, 1L, seatPrice, LocalDateTime.now().plusMinutes(5));
-        Seat seat = new Seat(1L, 15, seatPrice);
-        seat.assignTemporarily(userId, LocalDateTime.now().plusMinutes(5));
-
-        given(reservationRepository.findById(reservationId)).willReturn(Optional.of(reservation));
-        given(seatRepository.findById(1L)).willReturn(Optional.of(seat));
+        given(reservationRepository.lockForRelease(reservationId)).willReturn(Optional.of(new ReleasableReservation(
+                reservationId, userId, Reservation.ReservationStatus.TEMPORARILY_ASSIGNED, 1L, 1L, 15, true)));
 
         // when
         reservationService.cancelReservation(reservationId, userId);
 
         // then
-        verify(reservationRepository).save(argThat(r ->
-                r.getStatus() == Reservation.ReservationStatus.CANCELLED
-        ));
-        verify(seatRepository).save(argThat(s ->
-                s.getStatus() == Seat.SeatStatus.AVAILABLE
-        ));
+        verify(seatRepository).releaseHeldSeatsByReservationIds(List.of(reservationId));
+        verify(reservationRepository).updateStatusIfTemporarilyAssigned(
+                List.of(reservationId), Reservation.ReservationStatus.CANCELLED);
+        verify(seatRepository, never()).findById(any());
 
-        // 취소는 별도 이벤트 없음 (필요시 CancellationEvent 추가 가능)
-        verify(eventPublisher, never()).publishEvent(any());
+        // 취소 시 좌석 해제 이벤트만 발행
+        verify(eventPublisher).publishEvent(any(SeatReleasedEvent.class));
+        verify(eventPublisher, never()).publishEvent(any(ReservationCompletedEvent.class));
     }
 
     @Test
@@ -293,8 +331,8 @@ class ReservationServiceTest {
         String reservationOwner = "user-123";
         String unauthorizedUser = "user-456";
 
-        Reservation reservation = new Reservation(reservationOwner, 1L, 1L, seatPrice, LocalDateTime.now().plusMinutes(5));
-        given(reservationRepository.findById(reservationId)).willReturn(Optional.of(reservation));
+        given(reservationRepository.lockForRelease(reservationId)).willReturn(Optional.of(new ReleasableReservation(
+                reservationId, reservationOwner, Reservation.ReservationStatus.TEMPORARILY_ASSIGNED, 1L, 1L, 15, true)));
 
         // when & then
         assertThatThrownBy(() -> reservationService.cancelReservation(reservationId, unauthorizedUser))
@@ -306,52 +344,45 @@ class ReservationServiceTest {
     }
 
     @Test
-    @DisplayName("만료된 예약들을 일괄 해제한다")
+    @DisplayName("만료된 예약들을 청크 단위 UPDATE로 일괄 해제한다")
     void whenReleaseExpiredReservations_ThenShouldProcessAllExpiredReservations() {
-        // given - 실제 사용되는 것만 stubbing
-        Reservation expiredReservation1 = mock(Reservation.class);
-        Reservation expiredReservation2 = mock(Reservation.class);
-
-        // 실제로 서비스에서 호출되는 메서드들만 설정
-        when(expiredReservation1.getSeatId()).thenReturn(1L);
-        when(expiredReservation2.getSeatId()).thenReturn(2L);
-
-        Seat seat1 = new Seat(1L, 15, seatPrice);
-        Seat seat2 = new Seat(1L, 16, seatPrice);
-        setSeatId(seat1, 1L);
-        setSeatId(seat2, 2L);
-
-        seat1.assignTemporarily("user-123", LocalDateTime.now().minusMinutes(1));
-        seat2.assignTemporarily("user-456", LocalDateTime.now().minusMinutes(2));
-
-        given(reservationRepository.findByStatusAndExpiresAtBefore(
-                eq(Reservation.ReservationStatus.TEMPORARILY_ASSIGNED),
-                any(LocalDateTime.class)))
-                .willReturn(Arrays.asList(expiredReservation1, expiredReservation2));
-
-        given(seatRepository.findById(1L)).willReturn(Optional.of(seat1));
-        given(seatRepository.findById(2L)).willReturn(Optional.of(seat2));
+        // given - 청크 크기 2: 가득 찬 청크 뒤에 남은 1건 청크
+        ReleasableReservation expired1 = new ReleasableReservation(
+                "reservation-1", "user-123", Reservation.ReservationStatus.TEMPORARILY_ASSIGNED, 1L, 1L, 15, true);
+        ReleasableReservation expired2 = new ReleasableReservation(
+                "reservation-2", "user-456", Reservation.ReservationStatus.TEMPORARILY_ASSIGNED, 2L, 1L, 16, true);
+        // 만료 후 다른 사용자에게 재배정된 좌석
+        ReleasableReservation expired3 = new ReleasableReservation(
+                "reservation-3", "user-789", Reservation.ReservationStatus.TEMPORARILY_ASSIGNED, 3L, 1L, 17, false);
+
+        given(reservationRepository.lockExpiredForRelease(2))
+                .willReturn(List.of(expired1, expired2))
+                .willReturn(List.of(expired3));
 
         // when
-        reservationService.releaseExpiredReservations();
+        int released = reservationService.releaseExpiredReservations();
 
         // then
-        verify(reservationRepository).findByStatusAndExpiresAtBefore(
-                eq(Reservation.ReservationStatus.TEMPORARILY_ASSIGNED),
-                any(LocalDateTime.class));
-        verify(seatRepository, times(2)).findById(any());
-        verify(seatRepository, times(2)).save(any(Seat.class));
-        verify(reservationRepository).saveAll(any());
-
-        // 만료 처리는 별도 이벤트 없음 (필요시 ExpirationEvent 추가 가능)
-        verify(eventPublisher, never()).publishEvent(any());
+        assertThat(released).isEqualTo(3);
+        verify(reservationRepository, times(2)).lockExpiredForRelease(2);
+        verify(seatRepository).releaseHeldSeatsByReservationIds(List.of("reservation-1", "reservation-2"));
+        verify(reservationRepository).updateStatusIfTemporarilyAssigned(
+                List.of("reservation-1", "reservation-2"), Reservation.ReservationStatus.EXPIRED);
+        verify(reservationRepository).updateStatusIfTemporarilyAssigned(
+                List.of("reservation-3"), Reservation.ReservationStatus.EXPIRED);
+        verify(seatRepository, never()).findById(any());
+        verify(seatRepository, never()).save(any(Seat.class));
+
+        // 실제로 해제된 좌석만 이벤트 발행
+        verify(eventPublisher, times(2)).publishEvent(any(SeatReleasedEvent.class));
+        verify(eventPublisher, never()).publishEvent(any(ReservationCompletedEvent.class));
     }
 
     @Test
     @DisplayName("이벤트 발행 시 올바른 데이터가 포함되어야 한다")
     void whenPublishEvent_ThenShouldContainCorrectData() {
         // given
-        given(distributedLockService.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+        given(distributedLockService.tryLock(anyString(), anyString(), anyLong(), anyLong())).willReturn(true);
         given(seatRepository.findByConcertIdAndSeatNumberWithLock(1L, 15)).willReturn(Optional.of(availableSeat));
         given(seatRepository.save(any(Seat.class))).willReturn(availableSeat);
 
@@ -5,6 +5,8 @@ import kr.hhplus.be.server.concert.domain.Concert;
 import kr.hhplus.be.server.queue.domain.QueueStatus;
 import kr.hhplus.be.server.queue.domain.QueueToken;
 import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
 import kr.hhplus.be.server.queue.service.QueueService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +22,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -44,6 +47,9 @@ class SeatControllerIntegrationTest {
     @Autowired
     private ConcertRepository concertRepository;
 
+    @Autowired
+    private SeatRepository seatRepository;
+
     @MockitoBean
     private QueueService queueService; // 대기열 서비스는 Mock 처리
 
@@ -102,9 +108,17 @@ class SeatControllerIntegrationTest {
         when(queueService.getQueueStatus(validToken)).thenReturn(mockQueueToken);
         log.info("Mock 대기열 서비스 설정 완료: 유효한 활성 토큰");
 
-        // 저장된 콘서트 조회
+        // 저장된 콘서트 조회 + 구역 두 곳에 좌석 생성 (VIP 2석 중 1석 예약 완료, R 3석)
         Concert savedConcert = concertRepository.findAll().get(0);
         Long concertId = savedConcert.getConcertId();
+        Seat reservedSeat = new Seat(concertId, "VIP", 1, 1, BigDecimal.valueOf(150000));
+        reservedSeat.assignTemporarily("test-user", LocalDateTime.now().plusMinutes(5));
+        reservedSeat.confirmReservation(LocalDateTime.now());
+        seatRepository.save(reservedSeat);
+        seatRepository.save(new Seat(concertId, "VIP", 1, 2, BigDecimal.valueOf(150000)));
+        for (int seatNumber = 3; seatNumber <= 5; seatNumber++) {
+            seatRepository.save(new Seat(concertId, "R", 2, seatNumber, BigDecimal.valueOf(90000)));
+        }
         log.info("저장된 콘서트 정보: ID={}, Title={}, TotalSeats={}",
                 concertId, savedConcert.getTitle(), savedConcert.getTotalSeats());
 
@@ -121,10 +135,23 @@ class SeatControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.concertId").value(concertId))
                 .andExpect(jsonPath("$.data.concertTitle").value(savedConcert.getTitle()))
                 .andExpect(jsonPath("$.data.venue").value(savedConcert.getVenue()))
-                .andExpect(jsonPath("$.data.seats").isArray())
-                .andExpect(jsonPath("$.data.seats.length()").value(savedConcert.getTotalSeats()))
-                .andExpect(jsonPath("$.data.summary.totalSeats").value(savedConcert.getTotalSeats()))
-                .andExpect(jsonPath("$.data.summary.availableSeats").value(savedConcert.getTotalSeats()));
+                .andExpect(jsonPath("$.data.seats").isEmpty())
+                .andExpect(jsonPath("$.data.sections.length()").value(2))
+                .andExpect(jsonPath("$.data.sections[0].section").value("R"))
+                .andExpect(jsonPath("$.data.sections[1].section").value("VIP"))
+                .andExpect(jsonPath("$.data.sections[1].summary.reservedSeats").value(1))
+                .andExpect(jsonPath("$.data.summary.totalSeats").value(5))
+                .andExpect(jsonPath("$.data.summary.availableSeats").value(4));
+
+        // 구역을 지정하면 해당 구역의 실제 좌석 목록을 반환한다
+        mockMvc.perform(get("/api/concerts/{concertId}/seats", concertId)
+                        .param("section", "VIP")
+                        .header("Authorization", "Bearer " + validToken)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.section").value("VIP"))
+                .andExpect(jsonPath("$.data.seats.length()").value(2))
+                .andExpect(jsonPath("$.data.summary.reservedSeats").value(1));
 
         log.info("✓ 통합 테스트 검증 완료");
         log.info("=== 통합 테스트 완료: 실제 DB 좌석 조회 성공 ===");
@@ -1,14 +1,16 @@
 package kr.hhplus.be.server.seat;
 
 import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.domain.VenueLayout;
 import kr.hhplus.be.server.seat.repository.SeatJpaRepository;
 import kr.hhplus.be.server.seat.repository.SeatRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -25,9 +27,16 @@ class SeatRepositoryImplTest {
     @Mock
     private SeatJpaRepository seatJpaRepository;
 
-    @InjectMocks
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     private SeatRepositoryImpl seatRepository;
 
+    @BeforeEach
+    void setUp() {
+        seatRepository = new SeatRepositoryImpl(seatJpaRepository, jdbcTemplate, 2);
+    }
+
     @Test
     @DisplayName("콘서트 ID와 좌석 번호로 좌석 조회")
     void whenFindByConcertIdAndSeatNumber_ThenShouldReturnSeat() {
@@ -74,4 +83,18 @@ class SeatRepositoryImplTest {
                 any(LocalDateTime.class)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("좌석 일괄 생성은 배치 크기 단위로 JDBC 배치 INSERT를 수행한다")
+    void whenBulkInsert_ThenShouldInsertInBatches() {
+        // given
+        VenueLayout layout = VenueLayout.uniform(5, BigDecimal.valueOf(50000));
+
+        // when
+        int inserted = seatRepository.bulkInsert(1L, layout.seats());
+
+        // then - 배치 크기 2: 2 + 2 + 1
+        assertThat(inserted).isEqualTo(5);
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), anyList());
+    }
+}
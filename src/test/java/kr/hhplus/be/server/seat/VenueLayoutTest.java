@@ -0,0 +1,58 @@
+package kr.hhplus.be.server.seat;
+
+import kr.hhplus.be.server.seat.domain.VenueLayout;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class VenueLayoutTest {
+
+    @Test
+    @DisplayName("블록 순서대로 좌석 번호가 1부터 연속 부여되고 블록의 구역/열/가격이 적용된다")
+    void whenStreamSeats_ThenShouldNumberSequentiallyWithBlockPrice() {
+        // given
+        VenueLayout layout = VenueLayout.of(
+                new VenueLayout.Block("VIP", 2, 3, BigDecimal.valueOf(150000)),
+                new VenueLayout.Block("R", 1, 4, BigDecimal.valueOf(100000))
+        );
+
+        // when
+        List<VenueLayout.SeatSpec> seats = layout.seats().toList();
+
+        // then
+        assertThat(layout.getTotalSeats()).isEqualTo(10);
+        assertThat(seats).extracting(VenueLayout.SeatSpec::seatNumber)
+                .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(seats.get(5).price()).isEqualByComparingTo("150000");
+        assertThat(seats.get(6).price()).isEqualByComparingTo("100000");
+        assertThat(seats).extracting(VenueLayout.SeatSpec::section)
+                .containsExactly("VIP", "VIP", "VIP", "VIP", "VIP", "VIP", "R", "R", "R", "R");
+        assertThat(seats).extracting(VenueLayout.SeatSpec::rowNumber)
+                .containsExactly(1, 1, 1, 2, 2, 2, 1, 1, 1, 1);
+    }
+
+    @Test
+    @DisplayName("대규모 배치도 필요한 만큼만 지연 생성된다")
+    void whenLargeLayout_ThenShouldGenerateLazily() {
+        VenueLayout layout = VenueLayout.uniform(100_000, BigDecimal.valueOf(50000));
+
+        assertThat(layout.getTotalSeats()).isEqualTo(100_000);
+        assertThat(layout.seats().skip(99_999).findFirst()).get()
+                .extracting(VenueLayout.SeatSpec::seatNumber).isEqualTo(100_000);
+    }
+
+    @Test
+    @DisplayName("잘못된 블록 정의는 거부된다")
+    void whenInvalidBlock_ThenShouldThrow() {
+        assertThatThrownBy(() -> new VenueLayout.Block("VIP", 0, 10, BigDecimal.valueOf(1000)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new VenueLayout.Block(" ", 1, 10, BigDecimal.valueOf(1000)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> VenueLayout.of())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -3,6 +3,7 @@ package kr.hhplus.be.server.seat.controller;
 import kr.hhplus.be.server.common.GlobalExceptionHandler;
 import kr.hhplus.be.server.seat.dto.SeatPageResponse;
 import kr.hhplus.be.server.seat.dto.SeatResponseDto;
+import kr.hhplus.be.server.seat.dto.SeatSectionResponse;
 import kr.hhplus.be.server.concert.exception.ConcertNotFoundException;
 import kr.hhplus.be.server.queue.service.QueueService;
 import kr.hhplus.be.server.seat.service.SeatService;
@@ -263,6 +264,74 @@ class SeatControllerTest {
         log.info("=== 테스트 완료: 다양한 콘서트 좌석 조회 검증 통과 ===");
     }
 
+    @Test
+    @DisplayName("유효한 토큰으로 구역별 좌석 현황을 조회한다")
+    void getSeatSections_WithValidToken_ShouldReturnSectionSummaries() throws Exception {
+        // given
+        Long concertId = 1L;
+        String validToken = "valid-queue-token-123";
+        when(queueService.validateActiveToken(validToken)).thenReturn(true);
+        when(seatService.getSectionSummaries(concertId)).thenReturn(List.of(
+                new SeatSectionResponse("FLOOR-A", new SeatPageResponse.SeatSummary(5000, 4200, 300, 500)),
+                new SeatSectionResponse("VIP", new SeatPageResponse.SeatSummary(1000, 0, 0, 1000))
+        ));
+
+        // when & then
+        mockMvc.perform(get("/api/concerts/{concertId}/seats/sections", concertId)
+                        .header("Authorization", "Bearer " + validToken)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].section").value("FLOOR-A"))
+                .andExpect(jsonPath("$.data[0].summary.availableSeats").value(4200))
+                .andExpect(jsonPath("$.data[1].summary.availableSeats").value(0));
+
+        verify(seatService).getSectionSummaries(concertId);
+    }
+
+    @Test
+    @DisplayName("구역 좌석 조회는 시작 좌석 번호와 페이지 크기를 서비스에 전달하고 다음 좌석 번호를 응답한다")
+    void getSectionSeats_WithPageParams_ShouldReturnOnePage() throws Exception {
+        // given
+        Long concertId = 1L;
+        String validToken = "valid-queue-token-123";
+        when(queueService.validateActiveToken(validToken)).thenReturn(true);
+        SeatPageResponse page = SeatPageResponse.builder()
+                .concertId(concertId)
+                .section("VIP")
+                .seats(List.of())
+                .nextSeatNumber(301)
+                .summary(new SeatPageResponse.SeatSummary(1000, 1000, 0, 0))
+                .build();
+        when(seatService.getSectionSeats(concertId, "VIP", 201, 100)).thenReturn(page);
+
+        // when & then
+        mockMvc.perform(get("/api/concerts/{concertId}/seats/sections/{section}", concertId, "VIP")
+                        .param("fromSeatNumber", "201")
+                        .param("size", "100")
+                        .header("Authorization", "Bearer " + validToken)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nextSeatNumber").value(301));
+
+        verify(seatService).getSectionSeats(concertId, "VIP", 201, 100);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰으로 구역 좌석 조회 시 403 에러를 반환한다")
+    void getSectionSeats_WithInvalidToken_ShouldReturn403() throws Exception {
+        // given
+        String invalidToken = "invalid-token-123";
+        when(queueService.validateActiveToken(invalidToken)).thenReturn(false);
+
+        // when & then
+        mockMvc.perform(get("/api/concerts/{concertId}/seats/sections/{section}", 1L, "VIP")
+                        .header("Authorization", "Bearer " + invalidToken)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden());
+
+        verify(seatService, never()).getSectionSeats(any(), any(), any(), anyInt());
+    }
+
     /**
      * Mock SeatPageResponse 생성 (기본 설정)
      */
@@ -0,0 +1,76 @@
+package kr.hhplus.be.server.seat.inventory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatInventoryCounterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @InjectMocks
+    private SeatInventoryCounter seatInventoryCounter;
+
+    @Test
+    @DisplayName("초기화는 구역 키와 열린 구역 수 키를 스크립트 한 번으로 설정한다")
+    void whenInitialize_ThenShouldSetAllKeysInSingleScript() {
+        // given
+        Map<String, Long> remainingBySection = new LinkedHashMap<>();
+        remainingBySection.put("VIP", 10L);
+        remainingBySection.put("R", 0L);
+        List<String> keys = List.of("seat:open-sections:1", "seat:remaining:1:VIP", "seat:remaining:1:R");
+        given(redisTemplate.execute(any(RedisScript.class), eq(keys), eq("0"), eq("1"), eq("10"), eq("0")))
+                .willReturn(1L);
+
+        // when
+        boolean initialized = seatInventoryCounter.initialize(1L, remainingBySection, false);
+
+        // then
+        assertThat(initialized).isTrue();
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("이미 초기화된 콘서트는 이번 호출이 설정한 것으로 보지 않는다")
+    void whenAlreadyInitialized_ThenShouldReturnFalse() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), eq("0"), eq("1"), eq("10"))).willReturn(0L);
+
+        // when
+        boolean initialized = seatInventoryCounter.initialize(1L, Map.of("VIP", 10L), false);
+
+        // then
+        assertThat(initialized).isFalse();
+    }
+
+    @Test
+    @DisplayName("재계산(덮어쓰기)은 덮어쓰기 플래그로 스크립트를 실행한다")
+    void whenOverwrite_ThenShouldPassOverwriteFlag() {
+        // given
+        List<String> keys = List.of("seat:open-sections:1", "seat:remaining:1:VIP");
+        given(redisTemplate.execute(any(RedisScript.class), eq(keys), eq("1"), eq("1"), eq("3")))
+                .willReturn(1L);
+
+        // when
+        boolean initialized = seatInventoryCounter.initialize(1L, Map.of("VIP", 3L), true);
+
+        // then
+        assertThat(initialized).isTrue();
+    }
+}
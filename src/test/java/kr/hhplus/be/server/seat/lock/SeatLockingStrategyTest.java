@@ -0,0 +1,82 @@
+package kr.hhplus.be.server.seat.lock;
+
+import kr.hhplus.be.server.reservation.exception.ConcurrentReservationException;
+import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.exception.SeatAlreadyAssignedException;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatLockingStrategyTest {
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Test
+    @DisplayName("낙관적 락 충돌 시 트랜잭션 작업을 다시 실행한다")
+    void whenOptimisticConflict_ThenShouldRetryWholeWork() {
+        OptimisticSeatLockingStrategy strategy = new OptimisticSeatLockingStrategy(seatRepository, 3, 0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = strategy.execute(1L, 15, "user-123", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException(Seat.class, 1L);
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("낙관적 락 재시도 횟수를 넘기면 동시 예약 충돌 예외가 발생한다")
+    void whenOptimisticRetryExhausted_ThenShouldThrowConcurrentReservationException() {
+        OptimisticSeatLockingStrategy strategy = new OptimisticSeatLockingStrategy(seatRepository, 2, 0);
+
+        assertThatThrownBy(() -> strategy.execute(1L, 15, "user-123", () -> {
+            throw new ObjectOptimisticLockingFailureException(Seat.class, 1L);
+        })).isInstanceOf(ConcurrentReservationException.class);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE가 영향을 주지 못하면 이미 선점된 좌석으로 거절한다")
+    void whenConditionalUpdateMisses_ThenShouldRejectAsTaken() {
+        ConditionalUpdateSeatLockingStrategy strategy = new ConditionalUpdateSeatLockingStrategy(seatRepository);
+        Seat takenSeat = new Seat(1L, 15, BigDecimal.valueOf(50000));
+        takenSeat.assignTemporarily("other-user", LocalDateTime.now().plusMinutes(5));
+
+        given(seatRepository.assignIfAvailable(eq(1L), eq(15), eq("user-123"), any(), any())).willReturn(0);
+        given(seatRepository.findByConcertIdAndSeatNumber(1L, 15)).willReturn(Optional.of(takenSeat));
+
+        assertThatThrownBy(() -> strategy.assignSeat(1L, 15, "user-123", LocalDateTime.now().plusMinutes(5)))
+                .isInstanceOf(SeatAlreadyAssignedException.class)
+                .hasMessage("이미 다른 사용자가 선택한 좌석입니다.");
+    }
+
+    @Test
+    @DisplayName("알 수 없는 전략 이름은 시작 시점에 거절한다")
+    void whenUnknownStrategyName_ThenShouldFailFast() {
+        List<SeatLockingStrategy> strategies = List.of(new PessimisticSeatLockingStrategy(seatRepository));
+
+        assertThatThrownBy(() -> new SeatLockingStrategyRegistry(strategies, "unknown"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new SeatLockingStrategyRegistry(strategies, PessimisticSeatLockingStrategy.NAME).getActive())
+                .isInstanceOf(PessimisticSeatLockingStrategy.class);
+    }
+}
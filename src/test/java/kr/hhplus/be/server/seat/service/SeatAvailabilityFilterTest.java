@@ -0,0 +1,63 @@
+package kr.hhplus.be.server.seat.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatAvailabilityFilterTest {
+
+    @Test
+    @DisplayName("알려지지 않은 좌석은 선점으로 판정하지 않는다")
+    void whenSeatUnknown_ThenShouldNotBeTaken() {
+        SeatAvailabilityFilter filter = new SeatAvailabilityFilter(30000, true);
+
+        assertThat(filter.isKnownTaken(1L, 15)).isFalse();
+        assertThat(filter.getSkippedRemoteCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("선점 기록된 좌석은 거절되고 절감 호출 수가 집계된다")
+    void whenSeatMarkedTaken_ThenShouldRejectAndCountSkippedCalls() {
+        SeatAvailabilityFilter filter = new SeatAvailabilityFilter(30000, true);
+        filter.markTaken(1L, 15);
+
+        for (int i = 0; i < 99; i++) {
+            assertThat(filter.isKnownTaken(1L, 15)).isTrue();
+        }
+
+        assertThat(filter.isKnownTaken(1L, 16)).isFalse();
+        assertThat(filter.isKnownTaken(2L, 15)).isFalse();
+        assertThat(filter.getSkippedRemoteCalls()).isEqualTo(99);
+    }
+
+    @Test
+    @DisplayName("해제 기록된 좌석은 다시 권위 있는 검증 대상이 된다")
+    void whenSeatMarkedAvailable_ThenShouldNotBeTaken() {
+        SeatAvailabilityFilter filter = new SeatAvailabilityFilter(30000, true);
+        filter.markTaken(1L, 15);
+        filter.markAvailable(1L, 15);
+
+        assertThat(filter.isKnownTaken(1L, 15)).isFalse();
+    }
+
+    @Test
+    @DisplayName("최대 유지 시간이 지난 정보는 폐기된다")
+    void whenBitsAreStale_ThenShouldBeDiscarded() throws InterruptedException {
+        SeatAvailabilityFilter filter = new SeatAvailabilityFilter(10, true);
+        filter.markTaken(1L, 15);
+
+        Thread.sleep(30);
+
+        assertThat(filter.isKnownTaken(1L, 15)).isFalse();
+    }
+
+    @Test
+    @DisplayName("비활성화 시 모든 좌석을 권위 있는 검증으로 넘긴다")
+    void whenDisabled_ThenShouldNeverReject() {
+        SeatAvailabilityFilter filter = new SeatAvailabilityFilter(30000, false);
+        filter.markTaken(1L, 15);
+
+        assertThat(filter.isKnownTaken(1L, 15)).isFalse();
+    }
+}
@@ -0,0 +1,109 @@
+package kr.hhplus.be.server.seat.service;
+
+import kr.hhplus.be.server.concert.service.ConcertSoldOutService;
+import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.inventory.SeatInventoryCounter;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import kr.hhplus.be.server.seat.repository.SectionStatusCount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatInventoryServiceTest {
+
+    @Mock
+    private SeatInventoryCounter seatInventoryCounter;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private ConcertSoldOutService concertSoldOutService;
+
+    @InjectMocks
+    private SeatInventoryService seatInventoryService;
+
+    @Test
+    @DisplayName("구역 잔여석이 남아 있으면 콘서트 카운터를 건드리지 않는다")
+    void whenSectionStillHasSeats_ThenShouldNotTouchConcertCounter() {
+        given(seatInventoryCounter.decrementSection(1L, "VIP")).willReturn(3L);
+
+        seatInventoryService.onSeatConfirmed(1L, "VIP");
+
+        verify(seatInventoryCounter, never()).closeSection(anyLong());
+        verifyNoInteractions(concertSoldOutService);
+    }
+
+    @Test
+    @DisplayName("마지막 구역이 매진되면 콘서트 매진 전이를 수행한다")
+    void whenLastSectionClosed_ThenShouldMarkConcertSoldOut() {
+        given(seatInventoryCounter.decrementSection(1L, "VIP")).willReturn(0L);
+        given(seatInventoryCounter.closeSection(1L)).willReturn(0L);
+
+        seatInventoryService.onSeatConfirmed(1L, "VIP");
+
+        verify(concertSoldOutService).markSoldOut(1L);
+    }
+
+    @Test
+    @DisplayName("다른 구역이 열려 있으면 구역 매진만 기록한다")
+    void whenOtherSectionsOpen_ThenShouldNotMarkConcertSoldOut() {
+        given(seatInventoryCounter.decrementSection(1L, "VIP")).willReturn(0L);
+        given(seatInventoryCounter.closeSection(1L)).willReturn(2L);
+
+        seatInventoryService.onSeatConfirmed(1L, "VIP");
+
+        verify(concertSoldOutService, never()).markSoldOut(anyLong());
+    }
+
+    @Test
+    @DisplayName("매진 구역에 좌석이 돌아와 첫 구역이 재오픈되면 매진 해제 전이를 수행한다")
+    void whenFirstSectionReopened_ThenShouldCancelSoldOut() {
+        given(seatInventoryCounter.incrementSection(1L, "VIP")).willReturn(1L);
+        given(seatInventoryCounter.reopenSection(1L)).willReturn(1L);
+
+        seatInventoryService.onSeatReleased(1L, "VIP");
+
+        verify(concertSoldOutService).cancelSoldOut(1L);
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 DB 집계로 초기화하고 추가 감소하지 않는다")
+    void whenCounterMissing_ThenShouldInitializeFromDatabase() {
+        given(seatInventoryCounter.decrementSection(1L, "VIP")).willReturn(SeatInventoryCounter.UNINITIALIZED);
+        given(seatRepository.countByConcertIdGroupBySectionAndStatus(1L)).willReturn(List.of(
+                new SectionStatusCount("VIP", Seat.SeatStatus.RESERVED, 10L),
+                new SectionStatusCount("R", Seat.SeatStatus.AVAILABLE, 5L),
+                new SectionStatusCount("R", Seat.SeatStatus.RESERVED, 5L)
+        ));
+        given(seatInventoryCounter.initialize(eq(1L), anyMap(), eq(false))).willReturn(true);
+
+        seatInventoryService.onSeatConfirmed(1L, "VIP");
+
+        verify(seatInventoryCounter).initialize(1L, Map.of("VIP", 0L, "R", 5L), false);
+        verify(seatInventoryCounter, never()).closeSection(anyLong());
+    }
+
+    @Test
+    @DisplayName("좌석 행이 없는 콘서트는 카운터를 만들지 않는다 (매진 오판 방지)")
+    void whenNoSeatRows_ThenShouldNotInitialize() {
+        given(seatRepository.countByConcertIdGroupBySectionAndStatus(1L)).willReturn(List.of());
+
+        seatInventoryService.initializeFromDatabase(1L);
+
+        verify(seatInventoryCounter, never()).initialize(anyLong(), anyMap(), anyBoolean());
+        assertThat(seatInventoryService.countRemainingBySection(1L)).isEmpty();
+    }
+}
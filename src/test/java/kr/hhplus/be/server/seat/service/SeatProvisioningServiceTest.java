@@ -0,0 +1,93 @@
+package kr.hhplus.be.server.seat.service;
+
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.exception.ConcertNotFoundException;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.seat.domain.VenueLayout;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatProvisioningServiceTest {
+
+    private static final Long CONCERT_ID = 1L;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @InjectMocks
+    private SeatProvisioningService seatProvisioningService;
+
+    @Test
+    @DisplayName("존재하지 않는 콘서트에는 좌석을 생성하지 않는다")
+    void whenConcertNotFound_ThenShouldThrowWithoutInsert() {
+        given(concertRepository.findById(CONCERT_ID)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> seatProvisioningService.provisionSeats(CONCERT_ID, layout(50)))
+                .isInstanceOf(ConcertNotFoundException.class);
+        verify(seatRepository, never()).bulkInsert(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("배치의 좌석 수가 콘서트 총 좌석 수와 다르면 좌석을 생성하지 않는다")
+    void whenLayoutTotalMismatch_ThenShouldThrowWithoutInsert() {
+        given(concertRepository.findById(CONCERT_ID)).willReturn(Optional.of(concert(50)));
+
+        assertThatThrownBy(() -> seatProvisioningService.provisionSeats(CONCERT_ID, layout(40)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(seatRepository, never()).bulkInsert(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("이미 좌석이 있는 콘서트에는 다시 생성하지 않는다")
+    void whenAlreadyProvisioned_ThenShouldThrowWithoutInsert() {
+        given(concertRepository.findById(CONCERT_ID)).willReturn(Optional.of(concert(50)));
+        given(seatRepository.countByConcertId(CONCERT_ID)).willReturn(50L);
+
+        assertThatThrownBy(() -> seatProvisioningService.provisionSeats(CONCERT_ID, layout(50)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(seatRepository, never()).bulkInsert(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("총 좌석 수가 맞으면 배치대로 좌석을 일괄 생성한다")
+    void whenLayoutMatches_ThenShouldBulkInsert() {
+        VenueLayout layout = layout(50);
+        given(concertRepository.findById(CONCERT_ID)).willReturn(Optional.of(concert(50)));
+        given(seatRepository.countByConcertId(CONCERT_ID)).willReturn(0L);
+        given(seatRepository.bulkInsert(eq(CONCERT_ID), any())).willReturn(50);
+
+        int created = seatProvisioningService.provisionSeats(CONCERT_ID, layout);
+
+        assertThat(created).isEqualTo(50);
+        verify(seatRepository).bulkInsert(eq(CONCERT_ID), any());
+    }
+
+    private static Concert concert(int totalSeats) {
+        return new Concert("Concert", "Artist", "Hall",
+                LocalDate.now().plusDays(30), LocalTime.of(19, 0), totalSeats);
+    }
+
+    private static VenueLayout layout(int totalSeats) {
+        return VenueLayout.uniform(totalSeats, BigDecimal.valueOf(50000));
+    }
+}
@@ -0,0 +1,213 @@
+package kr.hhplus.be.server.seat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.concert.cache.ConcertCatalogCache;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.dto.SeatPageResponse;
+import kr.hhplus.be.server.seat.dto.SeatSectionResponse;
+import kr.hhplus.be.server.seat.inventory.SeatInventoryCounter;
+import kr.hhplus.be.server.seat.repository.SeatNumberRange;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import kr.hhplus.be.server.seat.repository.SectionStatusCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SeatServiceTest {
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private SeatInventoryCounter seatInventoryCounter;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private SeatAvailabilityFilter seatAvailabilityFilter;
+    private SeatService seatService;
+
+    @BeforeEach
+    void setUp() {
+        seatAvailabilityFilter = new SeatAvailabilityFilter(30000, true);
+        ConcertCatalogCache concertCatalogCache = new ConcertCatalogCache(
+                concertRepository, redisTemplate, new ObjectMapper(), false, 0, 0, 0);
+        seatService = new SeatService(concertCatalogCache, seatRepository, seatAvailabilityFilter, seatInventoryCounter);
+    }
+
+    @Test
+    @DisplayName("구역/상태별 집계를 구역 단위 요약으로 변환한다")
+    void whenGetSectionSummaries_ThenShouldAggregatePerSection() {
+        // given
+        Concert concert = new Concert("Stadium Tour", "IU", "Jamsil Olympic Stadium",
+                LocalDate.now().plusDays(30), LocalTime.of(19, 0), 60_000);
+        given(concertRepository.findById(1L)).willReturn(Optional.of(concert));
+        given(seatRepository.countByConcertIdGroupBySectionAndStatus(1L)).willReturn(List.of(
+                new SectionStatusCount("VIP", Seat.SeatStatus.RESERVED, 900L),
+                new SectionStatusCount("VIP", Seat.SeatStatus.AVAILABLE, 100L),
+                new SectionStatusCount("FLOOR-A", Seat.SeatStatus.AVAILABLE, 4000L),
+                new SectionStatusCount("FLOOR-A", Seat.SeatStatus.TEMPORARILY_ASSIGNED, 1000L)
+        ));
+
+        // when
+        List<SeatSectionResponse> sections = seatService.getSectionSummaries(1L);
+
+        // then
+        assertThat(sections).extracting(SeatSectionResponse::getSection).containsExactly("FLOOR-A", "VIP");
+        assertThat(sections.get(0).getSummary().getTotalSeats()).isEqualTo(5000);
+        assertThat(sections.get(0).getSummary().getTemporarilyAssignedSeats()).isEqualTo(1000);
+        assertThat(sections.get(1).getSummary().getAvailableSeats()).isEqualTo(100);
+        assertThat(sections.get(1).getSummary().getReservedSeats()).isEqualTo(900);
+    }
+
+    @Test
+    @DisplayName("구역 좌석 배치도는 좌석 번호 키셋으로 최대 크기만큼만 읽고 다음 페이지 시작 좌석 번호를 돌려준다")
+    void whenGetSectionSeats_ThenShouldReadOnePageWithinCap() {
+        // given
+        Concert concert = new Concert("Stadium Tour", "IU", "Jamsil Olympic Stadium",
+                LocalDate.now().plusDays(30), LocalTime.of(19, 0), 60_000);
+        given(concertRepository.findById(1L)).willReturn(Optional.of(concert));
+        given(seatRepository.countBySectionGroupByStatus(1L, Seat.DEFAULT_SECTION)).willReturn(List.of(
+                new SectionStatusCount(Seat.DEFAULT_SECTION, Seat.SeatStatus.AVAILABLE, 59_000L),
+                new SectionStatusCount(Seat.DEFAULT_SECTION, Seat.SeatStatus.RESERVED, 1_000L)));
+        int pageSize = SeatService.MAX_SECTION_PAGE_SIZE;
+        List<Seat> seats = IntStream.rangeClosed(1001, 1001 + pageSize)
+                .mapToObj(number -> new Seat(1L, number, BigDecimal.valueOf(50000)))
+                .toList();
+        given(seatRepository.findSectionSeats(1L, Seat.DEFAULT_SECTION, 1001, pageSize + 1)).willReturn(seats);
+
+        // when - 최대 크기보다 큰 페이지를 요청해도 최대 크기로 제한
+        SeatPageResponse response = seatService.getSectionSeats(1L, Seat.DEFAULT_SECTION, 1001, 10_000);
+
+        // then
+        assertThat(response.getSeats()).hasSize(pageSize);
+        assertThat(response.getSeats().get(0).getSeatNumber()).isEqualTo(1001);
+        assertThat(response.getNextSeatNumber()).isEqualTo(1001 + pageSize);
+        assertThat(response.getSummary().getTotalSeats()).isEqualTo(60_000);
+        assertThat(response.getSummary().getReservedSeats()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("구역 좌석 배치도의 마지막 페이지는 다음 좌석 번호가 없다")
+    void whenGetLastSectionPage_ThenShouldHaveNoNextSeatNumber() {
+        // given
+        Concert concert = new Concert("Club Live", "IU", "Rolling Hall",
+                LocalDate.now().plusDays(30), LocalTime.of(19, 0), 3);
+        given(concertRepository.findById(1L)).willReturn(Optional.of(concert));
+        given(seatRepository.countBySectionGroupByStatus(1L, "VIP")).willReturn(List.of(
+                new SectionStatusCount("VIP", Seat.SeatStatus.AVAILABLE, 3L)));
+        given(seatRepository.findSectionSeats(1L, "VIP", 0, 11)).willReturn(List.of(
+                new Seat(1L, 1, BigDecimal.valueOf(50000)),
+                new Seat(1L, 2, BigDecimal.valueOf(50000)),
+                new Seat(1L, 3, BigDecimal.valueOf(50000))));
+
+        // when
+        SeatPageResponse response = seatService.getSectionSeats(1L, "VIP", null, 10);
+
+        // then
+        assertThat(response.getSeats()).extracting("seatNumber").containsExactly(1, 2, 3);
+        assertThat(response.getNextSeatNumber()).isNull();
+    }
+
+    @Test
+    @DisplayName("좌석이 없는 구역의 배치도를 조회하면 좌석을 읽지 않고 예외가 발생한다")
+    void whenGetUnknownSection_ThenShouldThrow() {
+        // given
+        Concert concert = new Concert("Stadium Tour", "IU", "Jamsil Olympic Stadium",
+                LocalDate.now().plusDays(30), LocalTime.of(19, 0), 60_000);
+        given(concertRepository.findById(1L)).willReturn(Optional.of(concert));
+        given(seatRepository.countBySectionGroupByStatus(1L, "NOPE")).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> seatService.getSectionSeats(1L, "NOPE", null, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(seatRepository, never()).findSectionSeats(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("콘서트 좌석 조회는 실제 좌석 집계로 구역별 요약과 전체 요약을 만들고 좌석 목록은 내려주지 않는다")
+    void whenGetConcertSeats_ThenShouldSummarizeRealSeatsPerSection() {
+        // given
+        Concert concert = new Concert("Stadium Tour", "IU", "Jamsil Olympic Stadium",
+                LocalDate.now().plusDays(30), LocalTime.of(19, 0), 60_000);
+        given(concertRepository.findById(1L)).willReturn(Optional.of(concert));
+        given(seatInventoryCounter.isSoldOut(1L)).willReturn(false);
+        given(seatRepository.countByConcertIdGroupBySectionAndStatus(1L)).willReturn(List.of(
+                new SectionStatusCount("VIP", Seat.SeatStatus.RESERVED, 900L),
+                new SectionStatusCount("VIP", Seat.SeatStatus.AVAILABLE, 100L),
+                new SectionStatusCount("FLOOR-A", Seat.SeatStatus.AVAILABLE, 4000L)
+        ));
+
+        // when
+        SeatPageResponse response = seatService.getConcertSeats(1L);
+
+        // then
+        assertThat(response.getSeats()).isEmpty();
+        assertThat(response.getSections()).extracting(SeatSectionResponse::getSection).containsExactly("FLOOR-A", "VIP");
+        assertThat(response.getSummary().getTotalSeats()).isEqualTo(5000);
+        assertThat(response.getSummary().getAvailableSeats()).isEqualTo(4100);
+        assertThat(response.getSummary().getReservedSeats()).isEqualTo(900);
+    }
+
+    @Test
+    @DisplayName("좌석 추천은 예약 가능 좌석 중 선점으로 알려진 좌석을 제외한다")
+    void whenRecommendSeats_ThenShouldSkipKnownTaken() {
+        // given - 구역 좌석 번호 범위가 한 좌석뿐이면 시작 위치가 결정적
+        given(seatRepository.findSeatNumberRange(1L, "R")).willReturn(Optional.of(new SeatNumberRange(101, 101)));
+        given(seatRepository.findAvailableSeatNumbers(eq(1L), eq("R"), eq(101), anyInt()))
+                .willReturn(List.of(101, 102, 103));
+        seatAvailabilityFilter.markTaken(1L, 102);
+
+        // when
+        List<Integer> recommended = seatService.recommendAvailableSeats(1L, "R", 2);
+
+        // then
+        assertThat(recommended).containsExactly(101, 103);
+        // 추천은 원격 호출을 대신하지 않으므로 절감 호출 수에 집계하지 않는다
+        assertThat(seatAvailabilityFilter.getSkippedRemoteCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("잔여석 카운터상 매진된 구역은 DB 조회 없이 빈 추천을 반환한다")
+    void whenSectionSoldOutByCounter_ThenShouldSkipDatabase() {
+        given(seatInventoryCounter.getRemaining(1L, "VIP")).willReturn(Optional.of(0L));
+
+        List<Integer> recommended = seatService.recommendAvailableSeats(1L, "VIP", 2);
+
+        assertThat(recommended).isEmpty();
+        verifyNoInteractions(seatRepository);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 구역의 좌석 추천은 거부된다")
+    void whenRecommendSeatsInUnknownSection_ThenShouldThrow() {
+        given(seatRepository.findSeatNumberRange(1L, "Z")).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> seatService.recommendAvailableSeats(1L, "Z", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,140 @@
+package kr.hhplus.be.server.seat.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.concert.domain.Concert;
+import kr.hhplus.be.server.concert.repository.ConcertRepository;
+import kr.hhplus.be.server.seat.inventory.SeatInventoryCounter;
+import kr.hhplus.be.server.seat.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatStateReconcilerTest {
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private SeatInventoryService seatInventoryService;
+
+    @Mock
+    private SeatInventoryCounter seatInventoryCounter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SeatStateReconciler seatStateReconciler;
+    private Concert concert;
+    private final LocalDateTime watermark = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        seatStateReconciler = new SeatStateReconciler(concertRepository, seatRepository, seatInventoryService,
+                seatInventoryCounter, meterRegistry, 100_000, 50);
+
+        concert = new Concert("Stadium Tour", "IU", "Jamsil Olympic Stadium",
+                LocalDate.now().plusDays(1), LocalTime.of(19, 0), 60_000);
+        ReflectionTestUtils.setField(concert, "concertId", 1L);
+        given(concertRepository.findAvailableConcerts(any())).willReturn(new PageImpl<>(List.of(concert)));
+        given(seatRepository.findLastUpdatedAt(1L)).willReturn(Optional.of(watermark));
+    }
+
+    @Test
+    @DisplayName("직전 실행 이후 변경된 콘서트는 집계하지 않고 다음 실행으로 미룬다")
+    void whenWatermarkMoved_ThenShouldDeferCheck() {
+        SeatStateReconciler.ReconcileResult result = seatStateReconciler.reconcile();
+
+        assertThat(result.inFlight()).isEqualTo(1);
+        verify(seatInventoryService, never()).countRemainingBySection(any());
+    }
+
+    @Test
+    @DisplayName("카운터가 DB와 다르면 DB 기준으로 보정하고, 이후 DB 변경이 없으면 집계 없이 점검한다")
+    void whenCounterDiverged_ThenShouldRepairAndReuseCheckpoint() {
+        // given
+        Map<String, Long> expected = Map.of("VIP", 0L, "R", 5L);
+        given(seatInventoryService.countRemainingBySection(1L)).willReturn(expected);
+        given(seatInventoryCounter.getRemaining(eq(1L), anyCollection()))
+                .willReturn(Map.of("VIP", 0L, "R", 7L))
+                .willReturn(expected);
+        given(seatInventoryCounter.getOpenSections(1L)).willReturn(Optional.of(1L));
+
+        // when
+        seatStateReconciler.reconcile();
+        SeatStateReconciler.ReconcileResult repaired = seatStateReconciler.reconcile();
+        SeatStateReconciler.ReconcileResult matched = seatStateReconciler.reconcile();
+
+        // then
+        assertThat(repaired.repaired()).isEqualTo(1);
+        assertThat(matched.matched()).isEqualTo(1);
+        assertThat(matched.dbRowsRead()).isEqualTo(1);
+        verify(seatInventoryService).repair(1L, expected);
+        verify(seatInventoryService, times(1)).countRemainingBySection(1L);
+        assertThat(meterRegistry.counter("seat.reconciliation.concerts", "result", "repaired").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비교 후 보정 직전에 좌석이 변경되었으면 보정하지 않고 다음 실행으로 미룬다")
+    void whenWatermarkMovedBeforeRepair_ThenShouldNotRepair() {
+        // given - 관측, 재확인, 집계 후 확인까지는 같고 보정 직전 확인에서 변경됨
+        Map<String, Long> expected = Map.of("VIP", 0L, "R", 5L);
+        given(seatRepository.findLastUpdatedAt(1L))
+                .willReturn(Optional.of(watermark), Optional.of(watermark), Optional.of(watermark),
+                        Optional.of(watermark.plusSeconds(1)));
+        given(seatInventoryService.countRemainingBySection(1L)).willReturn(expected);
+        given(seatInventoryCounter.getRemaining(eq(1L), anyCollection())).willReturn(Map.of("VIP", 0L, "R", 4L));
+        given(seatInventoryCounter.getOpenSections(1L)).willReturn(Optional.of(1L));
+
+        // when
+        seatStateReconciler.reconcile();
+        SeatStateReconciler.ReconcileResult result = seatStateReconciler.reconcile();
+
+        // then
+        assertThat(result.inFlight()).isEqualTo(1);
+        assertThat(result.repaired()).isZero();
+        verify(seatInventoryService, never()).repair(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("한 실행의 읽기 예산을 넘는 두 번째 집계는 다음 실행으로 미룬다")
+    void whenBudgetExceeded_ThenShouldStopAndResumeNextRun() {
+        // given
+        Concert another = new Concert("Arena Tour", "BTS", "Gocheok Dome",
+                LocalDate.now().plusDays(2), LocalTime.of(18, 0), 60_000);
+        ReflectionTestUtils.setField(another, "concertId", 2L);
+        given(concertRepository.findAvailableConcerts(any())).willReturn(new PageImpl<>(List.of(concert, another)));
+        given(seatRepository.findLastUpdatedAt(2L)).willReturn(Optional.of(watermark));
+        given(seatInventoryService.countRemainingBySection(anyLong())).willReturn(Map.of("R", 5L));
+        given(seatInventoryCounter.getRemaining(anyLong(), anyCollection())).willReturn(Map.of("R", 5L));
+        given(seatInventoryCounter.getOpenSections(anyLong())).willReturn(Optional.of(1L));
+        seatStateReconciler.reconcile();
+
+        // when
+        SeatStateReconciler.ReconcileResult result = seatStateReconciler.reconcile();
+
+        // then
+        assertThat(result.budgetExhausted()).isTrue();
+        assertThat(result.matched()).isEqualTo(1);
+        verify(seatInventoryService, never()).countRemainingBySection(2L);
+    }
+}